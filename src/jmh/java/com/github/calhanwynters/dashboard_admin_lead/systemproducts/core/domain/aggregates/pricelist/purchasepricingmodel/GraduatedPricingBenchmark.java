@@ -0,0 +1,64 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingFixtures.ModelKind;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingFixtures.QuantityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graduated tier models across tier count, quantity magnitude and integer vs fractional quantities.
+ * No precision axis: graduated totals accumulate from Money.zero, so only precision-2 rates are valid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GraduatedPricingBenchmark {
+
+    @Param({"INTEGER", "FRACTIONAL"})
+    public QuantityType quantityType;
+
+    @Param({"1", "8", "64"})
+    public int tierCount;
+
+    @Param({"10", "10000", "10000000"})
+    public int magnitude;
+
+    private PurchasePricing model;
+    private BigDecimal[] quantities;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ModelKind kind = quantityType == QuantityType.INTEGER ? ModelKind.INT_TIERED_GRAD : ModelKind.FRACT_TIERED_GRAD;
+        model = PricingFixtures.model(kind, tierCount, magnitude, 2);
+        quantities = PricingFixtures.quantities(quantityType, magnitude);
+    }
+
+    @Benchmark
+    public Money calculate() {
+        return model.calculate(quantities[cursor++ & (PricingFixtures.QUANTITY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PricingFixtures.QUANTITY_COUNT)
+    public void calculateAll(Blackhole bh) {
+        bh.consume(model.calculateAll(quantities));
+    }
+}
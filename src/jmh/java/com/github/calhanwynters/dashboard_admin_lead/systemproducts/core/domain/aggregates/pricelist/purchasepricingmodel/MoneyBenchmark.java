@@ -0,0 +1,95 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw Money arithmetic, the building block of every quote, across precisions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    @Param({"0", "2", "4", "8"})
+    public int precision;
+
+    private Money[] amounts;
+    private BigDecimal[] factors;
+    private int[] multipliers;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(PricingFixtures.SEED);
+        int n = PricingFixtures.QUANTITY_COUNT;
+        amounts = new Money[n];
+        factors = new BigDecimal[n];
+        multipliers = new int[n];
+        for (int i = 0; i < n; i++) {
+            amounts[i] = new Money(BigDecimal.valueOf(rnd.nextLong(1_000_000_000L), 4),
+                    PricingFixtures.EUR, precision, RoundingMode.HALF_UP);
+            factors[i] = BigDecimal.valueOf(rnd.nextInt(200_000), 5);
+            multipliers[i] = rnd.nextInt(10_000);
+        }
+    }
+
+    private int next() {
+        return cursor++ & (PricingFixtures.QUANTITY_COUNT - 1);
+    }
+
+    @Benchmark
+    public Money add() {
+        int i = next();
+        return amounts[i].add(amounts[(i + 1) & (PricingFixtures.QUANTITY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        int i = next();
+        return amounts[i].subtract(amounts[(i + 1) & (PricingFixtures.QUANTITY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Money multiplyInt() {
+        int i = next();
+        return amounts[i].multiply(multipliers[i]);
+    }
+
+    @Benchmark
+    public Money multiplyFraction() {
+        int i = next();
+        return amounts[i].multiply(factors[i]);
+    }
+
+    @Benchmark
+    public Money divide() {
+        int i = next();
+        return amounts[i].divide(multipliers[i] + 1);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        int i = next();
+        return amounts[i].compareTo(amounts[(i + 1) & (PricingFixtures.QUANTITY_COUNT - 1)]);
+    }
+}
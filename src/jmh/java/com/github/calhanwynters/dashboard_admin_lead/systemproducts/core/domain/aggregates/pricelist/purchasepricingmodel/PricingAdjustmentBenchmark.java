@@ -0,0 +1,57 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingFixtures.ModelKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * adjustedBy (bulk price changes) and isMoreExpensiveThan (increase/decrease event detection) for every model.
+ * Tiered models rebuild their compiled tier tables on adjustment, so tier count matters here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PricingAdjustmentBenchmark {
+
+    @Param({"FIXED", "NONE", "INT_SCALED", "FRACT_SCALED",
+            "INT_TIERED_VOL", "FRACT_TIERED_VOL", "INT_TIERED_GRAD", "FRACT_TIERED_GRAD"})
+    public ModelKind kind;
+
+    @Param({"1", "8", "64"})
+    public int tierCount;
+
+    private PurchasePricing model;
+    private PurchasePricing increased;
+
+    @Setup
+    public void setUp() {
+        model = PricingFixtures.model(kind, tierCount, 10_000, 2);
+        increased = model.adjustedBy(1.05);
+    }
+
+    @Benchmark
+    public PurchasePricing adjustedBy() {
+        return model.adjustedBy(1.05);
+    }
+
+    @Benchmark
+    public boolean isMoreExpensiveThan() {
+        return increased.isMoreExpensiveThan(model);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceEntryEmbeddable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-entry cost of hydrating and writing price_list_entries strategy columns: the previous generic Map
+ * round-trip (convertValue) against the typed JSON and binary codecs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PricingCodecBenchmark {
+
+    @Param({"FIXED", "INT_SCALED", "INT_TIERED_VOL", "FRACT_TIERED_GRAD"})
+    public PricingFixtures.ModelKind kind;
+
+    private ObjectMapper legacyMapper;
+    private PurchasePricingCodec jsonCodec;
+    private PurchasePricingCodec binaryCodec;
+    private Class<? extends PurchasePricing> modelClass;
+
+    private PurchasePricing model;
+    private Map<String, Object> legacyDetails;
+    private PriceEntryEmbeddable jsonEntry;
+    private PriceEntryEmbeddable binaryEntry;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+        legacyMapper = jsonMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        jsonCodec = new PurchasePricingCodec(jsonMapper, PurchasePricingCodec.Format.JSON);
+        binaryCodec = new PurchasePricingCodec(jsonMapper, PurchasePricingCodec.Format.BINARY);
+
+        model = PricingFixtures.model(kind, 8, 1_000, 2);
+        modelClass = PurchasePricingCodec.modelClass(PricingStrategyType.of(model));
+        legacyDetails = legacyMapper.convertValue(model, new TypeReference<>() {});
+        jsonEntry = new PriceEntryEmbeddable();
+        jsonCodec.encode(model, jsonEntry);
+        binaryEntry = new PriceEntryEmbeddable();
+        binaryCodec.encode(model, binaryEntry);
+    }
+
+    @Benchmark
+    public PurchasePricing decodeLegacyMap() {
+        return legacyMapper.convertValue(legacyDetails, modelClass);
+    }
+
+    @Benchmark
+    public PurchasePricing decodeJson() {
+        return jsonCodec.decode(jsonEntry);
+    }
+
+    @Benchmark
+    public PurchasePricing decodeBinary() {
+        return binaryCodec.decode(binaryEntry);
+    }
+
+    @Benchmark
+    public Map<String, Object> encodeLegacyMap() {
+        return legacyMapper.convertValue(model, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public PriceEntryEmbeddable encodeJson() {
+        PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+        jsonCodec.encode(model, entry);
+        return entry;
+    }
+
+    @Benchmark
+    public PriceEntryEmbeddable encodeBinary() {
+        PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+        binaryCodec.encode(model, entry);
+        return entry;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic models and quantity streams shared by the pricing benchmarks
+ * (public because the JMH-generated harness sets the enum @Params).
+ * Tiers evenly cover [0, 2 * magnitude) with a falling rate; the last tier is open-ended.
+ */
+public final class PricingFixtures {
+
+    static final Currency EUR = Currency.getInstance("EUR");
+    static final int QUANTITY_COUNT = 1024; // Power of two: benchmarks cycle with a mask
+    static final long SEED = 20260101L;
+
+    private PricingFixtures() {}
+
+    public enum QuantityType { INTEGER, FRACTIONAL }
+
+    public enum ModelKind {
+        FIXED, NONE,
+        INT_SCALED, FRACT_SCALED,
+        INT_TIERED_VOL, FRACT_TIERED_VOL,
+        INT_TIERED_GRAD, FRACT_TIERED_GRAD;
+
+        boolean isInteger() {
+            return this == INT_SCALED || this == INT_TIERED_VOL || this == INT_TIERED_GRAD;
+        }
+    }
+
+    static Money money(long units, int precision) {
+        // Rates carry four decimals so a precision of 4 actually exercises the extra digits
+        return new Money(BigDecimal.valueOf(units, 4), EUR, precision, RoundingMode.HALF_UP);
+    }
+
+    static PurchasePricing model(ModelKind kind, int tierCount, int magnitude, int precision) {
+        return switch (kind) {
+            case FIXED -> new PriceFixedPurchase(money(19_9900, precision));
+            case NONE -> new PriceNonePurchase(EUR);
+            case INT_SCALED -> new PriceIntScaledPurchase(money(5_0000, precision), money(1_2345, precision));
+            case FRACT_SCALED -> new PriceFractScaledPurchase(money(5_0000, precision), money(1_2345, precision));
+            case INT_TIERED_VOL -> new PriceIntTieredVolPurchase(tiers(tierCount, magnitude, precision,
+                    PriceIntTieredVolPurchase.TierBucket::new));
+            case FRACT_TIERED_VOL -> new PriceFractTieredVolPurchase(tiers(tierCount, magnitude, precision,
+                    PriceFractTieredVolPurchase.TierBucket::new));
+            case INT_TIERED_GRAD -> new PriceIntTieredGradPurchase(tiers(tierCount, magnitude, precision,
+                    PriceIntTieredGradPurchase.TierBucket::new));
+            case FRACT_TIERED_GRAD -> new PriceFractTieredGradPurchase(tiers(tierCount, magnitude, precision,
+                    PriceFractTieredGradPurchase.TierBucket::new));
+        };
+    }
+
+    @FunctionalInterface
+    interface BucketFactory<B> {
+        B create(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit);
+    }
+
+    static <B> List<B> tiers(int tierCount, int magnitude, int precision, BucketFactory<B> factory) {
+        long width = Math.max(1L, 2L * magnitude / tierCount);
+        List<B> buckets = new ArrayList<>(tierCount);
+        for (int i = 0; i < tierCount; i++) {
+            BigDecimal min = BigDecimal.valueOf(i * width);
+            BigDecimal max = (i == tierCount - 1) ? null : BigDecimal.valueOf((i + 1) * width);
+            buckets.add(factory.create(min, max, money(10_0000 - i * 37L, precision)));
+        }
+        return buckets;
+    }
+
+    /**
+     * Uniform quantities in [0, 2 * magnitude]; fractional ones carry three decimals.
+     */
+    static BigDecimal[] quantities(QuantityType type, int magnitude) {
+        Random rnd = new Random(SEED);
+        BigDecimal[] quantities = new BigDecimal[QUANTITY_COUNT];
+        for (int i = 0; i < quantities.length; i++) {
+            quantities[i] = switch (type) {
+                case INTEGER -> BigDecimal.valueOf(rnd.nextLong(2L * magnitude + 1));
+                case FRACTIONAL -> BigDecimal.valueOf(rnd.nextLong(2_000L * magnitude + 1), 3);
+            };
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingFixtures.ModelKind;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingFixtures.QuantityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base + rate * quantity models across quantity magnitude, integer vs fractional quantities and Money precision.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScaledPricingBenchmark {
+
+    @Param({"INTEGER", "FRACTIONAL"})
+    public QuantityType quantityType;
+
+    @Param({"10", "10000", "10000000"})
+    public int magnitude;
+
+    @Param({"2", "4"})
+    public int precision;
+
+    private PurchasePricing model;
+    private BigDecimal[] quantities;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ModelKind kind = quantityType == QuantityType.INTEGER ? ModelKind.INT_SCALED : ModelKind.FRACT_SCALED;
+        model = PricingFixtures.model(kind, 1, magnitude, precision);
+        quantities = PricingFixtures.quantities(quantityType, magnitude);
+    }
+
+    @Benchmark
+    public Money calculate() {
+        return model.calculate(quantities[cursor++ & (PricingFixtures.QUANTITY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PricingFixtures.QUANTITY_COUNT)
+    public void calculateAll(Blackhole bh) {
+        bh.consume(model.calculateAll(quantities));
+    }
+}
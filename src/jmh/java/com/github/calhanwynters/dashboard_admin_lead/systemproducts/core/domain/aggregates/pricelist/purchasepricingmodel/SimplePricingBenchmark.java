@@ -0,0 +1,59 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingFixtures.ModelKind;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingFixtures.QuantityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quantity-independent models (Fixed, None): the floor every other pricing model is measured against.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimplePricingBenchmark {
+
+    @Param({"FIXED", "NONE"})
+    public ModelKind kind;
+
+    @Param({"2", "4"})
+    public int precision;
+
+    private PurchasePricing model;
+    private BigDecimal[] quantities;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        model = PricingFixtures.model(kind, 1, 10, precision);
+        quantities = PricingFixtures.quantities(QuantityType.INTEGER, 10);
+    }
+
+    @Benchmark
+    public Money calculate() {
+        return model.calculate(quantities[cursor++ & (PricingFixtures.QUANTITY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PricingFixtures.QUANTITY_COUNT)
+    public void calculateAll(Blackhole bh) {
+        bh.consume(model.calculateAll(quantities));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -121,6 +122,27 @@ public abstract class BaseAggregateRoot<
         this.lastSyncedAt = OffsetDateTime.now(ZoneOffset.UTC);
     }
 
+    /**
+     * Adopts the id and lock version assigned by the store, so a saved aggregate is handed back as-is
+     * instead of being reconstituted from its row.
+     */
+    public void markPersisted(ID id, Long optLockVer) {
+        this.id = id;
+        this.optLockVer = optLockVer;
+    }
+
+    /**
+     * Events registered since the last drain, in order. Persistence adapters move them to the outbox
+     * within the saving transaction, then clear them.
+     */
+    public List<Object> pendingEvents() {
+        return List.copyOf(domainEvents());
+    }
+
+    public void clearPendingEvents() {
+        clearDomainEvents();
+    }
+
     public boolean isSyncPending() {
         if (lastSyncedAt == null) return true;
         return auditMetadata.lastModified().value().isAfter(lastSyncedAt);
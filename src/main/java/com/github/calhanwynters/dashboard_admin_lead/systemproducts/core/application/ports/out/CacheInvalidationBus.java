@@ -0,0 +1,48 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+
+import java.util.List;
+
+/**
+ * Outbound Port broadcasting cache invalidations to every node running this application.
+ *
+ * <p>An invalidation names an aggregate type, the aggregate's UUID and the lock version that was committed
+ * (null when the type has none). Publishing is bound to the current transaction: nothing is sent on rollback,
+ * and repeated invalidations of one aggregate within a transaction go out once. Subscribers on every node,
+ * including the publishing one, receive them after the commit.
+ */
+public interface CacheInvalidationBus {
+
+    record Invalidation(String aggregateType, String uuId, Long optLockVer) {
+        public Invalidation {
+            DomainGuard.notBlank(aggregateType, "Aggregate type");
+            DomainGuard.notBlank(uuId, "Aggregate UUID");
+        }
+
+        /**
+         * One invalidation covering both: the higher version, or null (evict unconditionally) if either is null.
+         */
+        public Invalidation merge(Invalidation other) {
+            Long version = (optLockVer == null || other.optLockVer == null) ? null : Math.max(optLockVer, other.optLockVer);
+            return new Invalidation(aggregateType, uuId, version);
+        }
+    }
+
+    interface Subscriber {
+
+        /**
+         * A coalesced batch: at most one entry per aggregate.
+         */
+        void onInvalidations(List<Invalidation> invalidations);
+
+        /**
+         * Invalidations may have been missed (e.g. the bus lost its connection), so local state must be dropped.
+         */
+        void onResync();
+    }
+
+    void publish(Invalidation invalidation);
+
+    void subscribe(Subscriber subscriber);
+}
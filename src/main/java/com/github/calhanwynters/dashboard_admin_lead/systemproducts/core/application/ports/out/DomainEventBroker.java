@@ -0,0 +1,22 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Outbound Port to the message broker that carries domain events to external systems.
+ *
+ * <p>Messages come from the transactional outbox, so delivery is at-least-once: a batch may be offered
+ * again after a crash or a failed publish. The sequence increases with commit order and lets consumers
+ * drop duplicates and stale messages per aggregate.
+ */
+public interface DomainEventBroker {
+
+    record Message(long sequence, String aggregateType, String aggregateUuId, String eventType,
+                   String payload, OffsetDateTime occurredAt) {}
+
+    /**
+     * Returns once the broker has durably accepted every message; throws to have the batch retried.
+     */
+    void publish(List<Message> messages);
+}
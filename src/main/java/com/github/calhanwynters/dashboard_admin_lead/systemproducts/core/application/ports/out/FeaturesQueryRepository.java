@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.features.dto.FeatureDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for feature views (see ProductQueryRepository).
+ */
+public interface FeaturesQueryRepository {
+
+    Optional<FeatureDTO> findByUuId(UUID uuid);
+
+    KeysetPage<FeatureDTO> findAllActivePage(Long afterId, int limit);
+}
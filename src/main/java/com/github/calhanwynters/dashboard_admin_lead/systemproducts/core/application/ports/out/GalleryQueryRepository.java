@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.gallery.dto.GalleryDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for gallery views (see ProductQueryRepository).
+ */
+public interface GalleryQueryRepository {
+
+    Optional<GalleryDTO> findByUuId(UUID uuid);
+
+    KeysetPage<GalleryDTO> findAllActivePage(Long afterId, int limit);
+}
@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.images.dto.ImagesDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for image views (see ProductQueryRepository).
+ */
+public interface ImagesQueryRepository {
+
+    Optional<ImagesDTO> findByUuId(UUID uuid);
+
+    KeysetPage<ImagesDTO> findAllActivePage(Long afterId, int limit);
+}
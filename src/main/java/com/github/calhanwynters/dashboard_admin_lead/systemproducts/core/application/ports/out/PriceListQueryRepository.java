@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for price list views (see ProductQueryRepository).
+ */
+public interface PriceListQueryRepository {
+
+    Optional<PriceListDTO> findByUuId(UUID uuid);
+
+    KeysetPage<PriceListDTO> findAllActivePage(Long afterId, int limit);
+}
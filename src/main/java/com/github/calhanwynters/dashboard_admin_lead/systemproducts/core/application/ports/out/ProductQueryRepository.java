@@ -0,0 +1,23 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.product.dto.ProductDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only query port for product views.
+ * Projects straight from SQL into ProductDTO without reconstituting the aggregate; commands keep using ProductRepository.
+ */
+public interface ProductQueryRepository {
+
+    Optional<ProductDTO> findByUuId(UUID uuid);
+
+    /**
+     * Keyset page of the active rows in id order; same cursor contract as ProductRepository.findAllActivePage.
+     */
+    KeysetPage<ProductDTO> findAllActivePage(Long afterId, int limit);
+
+    KeysetPage<ProductDTO> findAllByStatusPage(String status, Long afterId, int limit);
+}
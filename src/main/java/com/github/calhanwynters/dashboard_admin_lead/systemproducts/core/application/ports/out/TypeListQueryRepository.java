@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.typelist.dto.TypeListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for TypeList views (see ProductQueryRepository).
+ */
+public interface TypeListQueryRepository {
+
+    Optional<TypeListDTO> findByUuId(UUID uuid);
+
+    KeysetPage<TypeListDTO> findAllActivePage(Long afterId, int limit);
+}
@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.types.dto.TypesDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for type views (see ProductQueryRepository).
+ */
+public interface TypesQueryRepository {
+
+    Optional<TypesDTO> findByUuId(UUID uuid);
+
+    KeysetPage<TypesDTO> findAllActivePage(Long afterId, int limit);
+}
@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.variantlist.dto.VariantListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for VariantList views (see ProductQueryRepository).
+ */
+public interface VariantListQueryRepository {
+
+    Optional<VariantListDTO> findByUuId(UUID uuid);
+
+    KeysetPage<VariantListDTO> findAllActivePage(Long afterId, int limit);
+}
@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.variants.dto.VariantsDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only projections for variant views (see ProductQueryRepository).
+ */
+public interface VariantsQueryRepository {
+
+    Optional<VariantsDTO> findByUuId(UUID uuid);
+
+    KeysetPage<VariantsDTO> findAllActivePage(Long afterId, int limit);
+}
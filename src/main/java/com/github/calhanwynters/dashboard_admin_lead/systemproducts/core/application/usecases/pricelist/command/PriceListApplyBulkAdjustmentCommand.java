@@ -2,6 +2,10 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.applic
 
 import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+
+import java.util.Currency;
+import java.util.Set;
 
 /**
  * Command representing a percentage-based shift across an entire Pricing Matrix.
@@ -11,5 +15,7 @@ public record PriceListApplyBulkAdjustmentCommand(
         PriceListUuId priceListUuId,
         String reason,         // e.g., "Annual Inflation Adjustment"
         double percentage,     // e.g., 5.0 for a 5% increase
+        Set<Currency> currencies,              // Optional filter, empty = all currencies (e.g., EUR-only promotion)
+        Set<PricingStrategyType> strategies,   // Optional filter, empty = all strategies
         Actor actor
 ) {}
@@ -0,0 +1,11 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition;
+
+/**
+ * Query-style command for pricing a bundle of products across their PriceLists.
+ * Handled by PriceListBundleQuoteHandler through BundlePricingService.
+ */
+public record PriceListBundleQuoteCommand(
+        BundleDefinition bundle
+) {}
@@ -0,0 +1,16 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
+
+import java.util.Set;
+
+/**
+ * Query-style command for the price-vs-quantity curves of a PriceList (dashboard charts).
+ * Handled by PriceListCurvesHandler, which serves the curves materialised for the current PriceListVersion.
+ * @param targetIds targets to return; null or empty returns every priced target
+ */
+public record PriceListCurvesCommand(
+        PriceListUuId priceListUuId,
+        Set<UuId> targetIds
+) {}
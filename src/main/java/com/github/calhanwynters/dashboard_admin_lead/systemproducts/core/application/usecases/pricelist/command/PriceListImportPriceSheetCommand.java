@@ -0,0 +1,18 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser;
+
+import java.io.Reader;
+
+/**
+ * Command to stream a CSV or JSONL price sheet into an existing PriceList.
+ * Handled by PriceListImportPriceSheetHandler; the handler consumes and closes the source.
+ */
+public record PriceListImportPriceSheetCommand(
+        PriceListUuId priceListUuId,
+        Reader source,
+        PriceSheetParser.Format format,
+        Actor actor
+) {}
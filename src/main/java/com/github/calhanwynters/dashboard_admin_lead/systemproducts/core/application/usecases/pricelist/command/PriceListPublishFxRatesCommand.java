@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Map;
+
+/**
+ * Command publishing a new FX rate table (target units per one unit of the base currency).
+ * Handled by PriceListPublishFxRatesHandler; every derived-currency price follows it at once.
+ */
+public record PriceListPublishFxRatesCommand(
+        Currency baseCurrency,
+        Map<Currency, BigDecimal> rates,
+        Actor actor
+) {}
@@ -0,0 +1,15 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceQuoteRequest;
+
+import java.util.List;
+
+/**
+ * Query-style command for quoting many (target, currency, quantity) lines against one PriceList.
+ * Handled by PriceListQuoteHandler, which serves repeated lines from the version-keyed quote cache.
+ */
+public record PriceListQuoteCommand(
+        PriceListUuId priceListUuId,
+        List<PriceQuoteRequest> lines
+) {}
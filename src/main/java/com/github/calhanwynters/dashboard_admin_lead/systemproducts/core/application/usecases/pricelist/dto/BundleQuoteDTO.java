@@ -0,0 +1,25 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-model for a bundle quote. Components are returned in bundle order;
+ * listAmount is null where a fixed override made the list price irrelevant and none exists.
+ */
+public record BundleQuoteDTO(
+        String currencyCode,
+        BigDecimal totalAmount,
+        BigDecimal componentsAmount,
+        boolean cached,
+        Map<String, Integer> priceListVersions,
+        List<ComponentDTO> components
+) {
+    public record ComponentDTO(
+            String productUuId,
+            String priceListUuId,
+            BigDecimal listAmount,
+            BigDecimal amount
+    ) {}
+}
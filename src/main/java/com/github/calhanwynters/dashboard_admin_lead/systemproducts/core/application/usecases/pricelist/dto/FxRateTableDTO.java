@@ -0,0 +1,24 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.FxRateTable;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Read-model for a published FX rate table; rates are keyed by ISO currency code.
+ */
+public record FxRateTableDTO(
+        long revision,
+        String baseCurrency,
+        Map<String, BigDecimal> rates,
+        OffsetDateTime publishedAt
+) {
+    public static FxRateTableDTO fromTable(FxRateTable table) {
+        Map<String, BigDecimal> rates = new TreeMap<>();
+        table.rates().forEach((currency, rate) -> rates.put(currency.getCurrencyCode(), rate));
+        return new FxRateTableDTO(table.revision(), table.baseCurrency().getCurrencyCode(), rates, table.publishedAt());
+    }
+}
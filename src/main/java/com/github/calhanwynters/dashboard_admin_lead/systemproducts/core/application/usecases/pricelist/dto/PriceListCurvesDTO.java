@@ -0,0 +1,31 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Read-model for price curves. Each segment is a straight line from (fromQty, startAmount) to
+ * (toQty, endAmount), exclusive of toQty; toQty and endAmount are null for the open-ended last segment,
+ * which keeps climbing at ratePerUnit.
+ */
+public record PriceListCurvesDTO(
+        String priceListUuId,
+        int priceListVersion,
+        boolean cached,
+        List<CurveDTO> curves
+) {
+    public record CurveDTO(
+            String targetId,
+            String currencyCode,
+            boolean wholeUnits,
+            List<SegmentDTO> segments
+    ) {}
+
+    public record SegmentDTO(
+            BigDecimal fromQty,
+            BigDecimal toQty,
+            BigDecimal startAmount,
+            BigDecimal endAmount,
+            BigDecimal ratePerUnit
+    ) {}
+}
@@ -2,13 +2,14 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.applic
 
 import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.CurrencyMap;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.Currency;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public record PriceListDTO(
         UUID uuid,
@@ -39,13 +40,14 @@ public record PriceListDTO(
 
     private static Map<UUID, Map<String, PurchasePricingDTO>> mapPrices(
             Map<UuId, Map<Currency, PurchasePricing>> domainMap) {
-        return domainMap.entrySet().stream().collect(Collectors.toMap(
-                entry -> entry.getKey().asUUID(),
-                entry -> entry.getValue().entrySet().stream().collect(Collectors.toMap(
-                        currencyEntry -> currencyEntry.getKey().getCurrencyCode(),
-                        currencyEntry -> PurchasePricingDTO.fromDomain(currencyEntry.getValue())
-                ))
-        ));
+        // Keeps the matrix order; each row is a compact CurrencyMap exposed by ISO code
+        Map<UUID, Map<String, PurchasePricingDTO>> prices = LinkedHashMap.newLinkedHashMap(domainMap.size());
+        domainMap.forEach((itemId, row) -> {
+            CurrencyMap<PurchasePricingDTO> dtoRow = new CurrencyMap<>();
+            row.forEach((currency, pricing) -> dtoRow.put(currency, PurchasePricingDTO.fromDomain(pricing)));
+            prices.put(itemId.asUUID(), dtoRow.byCode());
+        });
+        return prices;
     }
 
     /**
@@ -0,0 +1,22 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Read-model for a batch quote. Lines are returned in request order;
+ * amount is null where the PriceList has no price for the target/currency.
+ */
+public record PriceListQuoteDTO(
+        String priceListUuId,
+        int priceListVersion,
+        List<QuoteLineDTO> lines
+) {
+    public record QuoteLineDTO(
+            String targetId,
+            String currencyCode,
+            BigDecimal quantity,
+            BigDecimal amount,
+            boolean cached
+    ) {}
+}
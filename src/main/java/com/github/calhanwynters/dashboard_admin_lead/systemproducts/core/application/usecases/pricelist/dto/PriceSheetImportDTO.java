@@ -0,0 +1,21 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser.Rejection;
+
+import java.util.List;
+
+/**
+ * Outcome of a price sheet import, one chunk being one committed PriceList version.
+ * Only the first rejections are kept; rejectedRows is the full count.
+ */
+public record PriceSheetImportDTO(
+        String priceListUuId,
+        int priceListVersion,
+        int chunksCommitted,
+        long lastCommittedLine,
+        long rowsApplied,
+        long pricesAdded,
+        long pricesUpdated,
+        long rejectedRows,
+        List<Rejection> rejections
+) {}
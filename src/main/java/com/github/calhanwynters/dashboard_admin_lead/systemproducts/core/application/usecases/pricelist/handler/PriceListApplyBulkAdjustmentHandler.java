@@ -0,0 +1,52 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListApplyBulkAdjustmentCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceAdjustmentProgress;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceAdjustmentScope;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handler for percentage-based mass price changes.
+ * Orchestrates admin authorization, the (optionally scoped) parallel adjustment and persistence.
+ */
+@Service
+public class PriceListApplyBulkAdjustmentHandler {
+
+    private final PriceListRepository repository;
+
+    public PriceListApplyBulkAdjustmentHandler(PriceListRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public PriceListDTO handle(PriceListApplyBulkAdjustmentCommand command) {
+        return handle(command, PriceAdjustmentProgress.NONE);
+    }
+
+    /**
+     * @param progress receives (processedItems, totalItems) as partitions complete, e.g. for a progress bar
+     */
+    @Transactional
+    public PriceListDTO handle(PriceListApplyBulkAdjustmentCommand command, PriceAdjustmentProgress progress) {
+        // 1. Retrieve existing aggregate via hardened PriceListUuId
+        PriceListAggregate aggregate = repository.findByUuId(command.priceListUuId())
+                .orElseThrow(() -> new IllegalArgumentException("PriceList not found: " + command.priceListUuId().value()));
+
+        // 2. Invoke Domain Logic
+        // Admin-only; registers exactly one BulkPriceAdjustmentEvent however many prices change
+        aggregate.applyBulkAdjustment(
+                command.reason(),
+                command.percentage(),
+                new PriceAdjustmentScope(command.currencies(), command.strategies()),
+                progress,
+                command.actor()
+        );
+
+        // 3. Persist and return the updated Read-Model
+        return PriceListDTO.fromAggregate(repository.save(aggregate));
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListBundleQuoteCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.BundleQuoteDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.BundleQuoteDTO.ComponentDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundlePricingService;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleQuote;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Handler for bundle quotes.
+ * Deliberately not @Transactional: BundlePricingService loads the component PriceLists on separate
+ * virtual threads, each in its own read-only repository transaction.
+ */
+@Service
+public class PriceListBundleQuoteHandler {
+
+    private final BundlePricingService bundlePricingService;
+
+    public PriceListBundleQuoteHandler(BundlePricingService bundlePricingService) {
+        this.bundlePricingService = bundlePricingService;
+    }
+
+    public BundleQuoteDTO handle(PriceListBundleQuoteCommand command) {
+        BundleQuote quote = bundlePricingService.quote(command.bundle());
+
+        Map<String, Integer> versions = new HashMap<>();
+        quote.priceListVersions().forEach((id, version) -> versions.put(id.value().value(), version.value().value()));
+
+        return new BundleQuoteDTO(
+                quote.total().currency().getCurrencyCode(),
+                quote.total().amount(),
+                quote.componentsTotal().amount(),
+                quote.cached(),
+                versions,
+                quote.components().stream()
+                        .map(c -> new ComponentDTO(
+                                c.productUuId().value().value(),
+                                c.priceListUuId().value().value(),
+                                c.listPrice() == null ? null : c.listPrice().amount(),
+                                c.price().amount()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListCurvesCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListCurvesDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListCurvesDTO.CurveDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListCurvesDTO.SegmentDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListCurves;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListVersion;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceCurve;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceCurveStore;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Handler for dashboard price curves.
+ * Reads only the current PriceListVersion first; the aggregate is loaded and its curves derived
+ * only when no curve set has been materialised for that version yet.
+ */
+@Service
+public class PriceListCurvesHandler {
+
+    private final PriceListRepository repository;
+    private final PriceCurveStore curveStore;
+
+    public PriceListCurvesHandler(PriceListRepository repository, PriceCurveStore curveStore) {
+        this.repository = repository;
+        this.curveStore = curveStore;
+    }
+
+    @Transactional(readOnly = true)
+    public PriceListCurvesDTO handle(PriceListCurvesCommand command) {
+        // 1. Resolve the current version without reconstituting the pricing matrix
+        PriceListVersion version = repository.findVersionByUuId(command.priceListUuId())
+                .orElseThrow(() -> new IllegalArgumentException("PriceList not found: " + command.priceListUuId().value()));
+
+        // 2. Serve the materialised set, or regenerate it once for this version
+        PriceListCurves curves = curveStore.get(command.priceListUuId(), version).orElse(null);
+        boolean cached = curves != null;
+        if (curves == null) {
+            curves = repository.findByUuId(command.priceListUuId())
+                    .orElseThrow(() -> new IllegalArgumentException("PriceList not found: " + command.priceListUuId().value()))
+                    .priceCurves();
+            // Stored under the loaded version: if a writer committed in between, these curves belong to the newer one
+            curveStore.put(curves);
+        }
+
+        return toDTO(command, curves, cached);
+    }
+
+    private PriceListCurvesDTO toDTO(PriceListCurvesCommand command, PriceListCurves curves, boolean cached) {
+        List<CurveDTO> result = new ArrayList<>();
+        if (command.targetIds() == null || command.targetIds().isEmpty()) {
+            curves.curves().forEach((targetId, row) -> addRow(result, targetId, row));
+        } else {
+            for (UuId targetId : command.targetIds()) {
+                Map<Currency, PriceCurve> row = curves.curves().get(targetId);
+                if (row != null) addRow(result, targetId, row);
+            }
+        }
+        return new PriceListCurvesDTO(curves.priceListUuId().value().value(), curves.version().value().value(), cached, result);
+    }
+
+    private void addRow(List<CurveDTO> result, UuId targetId, Map<Currency, PriceCurve> row) {
+        row.forEach((currency, curve) -> result.add(new CurveDTO(
+                targetId.value(),
+                currency.getCurrencyCode(),
+                curve.wholeUnits(),
+                curve.segments().stream().map(this::toSegmentDTO).toList()
+        )));
+    }
+
+    private SegmentDTO toSegmentDTO(PriceCurve.Segment segment) {
+        Money end = segment.endPrice();
+        return new SegmentDTO(
+                segment.fromQty(),
+                segment.toQty(),
+                segment.startPrice().amount(),
+                end == null ? null : end.amount(),
+                segment.ratePerUnit().amount()
+        );
+    }
+}
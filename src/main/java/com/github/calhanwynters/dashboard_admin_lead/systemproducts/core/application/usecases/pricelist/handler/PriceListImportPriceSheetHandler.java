@@ -0,0 +1,130 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListImportPriceSheetCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceSheetImportDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListBehavior;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceSheetRow;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.events.PriceSheetChunkImportedEvent;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser.Rejection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Handler for streaming a price sheet (CSV or JSONL) into a PriceList.
+ * The aggregate is loaded once; rows are validated against its strategy boundary as they stream in and
+ * applied in bounded chunks, each chunk persisted once and summarised by one PriceSheetChunkImportedEvent.
+ * Only one chunk of rows is held at a time, so memory does not grow with the sheet.
+ *
+ * <p>Deliberately not @Transactional: every save commits its own chunk, so a failure part-way keeps the
+ * chunks already applied (their events carry the last committed line) instead of rolling back a huge sheet.
+ */
+@Service
+public class PriceListImportPriceSheetHandler {
+
+    static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private final PriceListRepository repository;
+    private final PriceSheetParser parser;
+    private final int chunkSize;
+
+    public PriceListImportPriceSheetHandler(PriceListRepository repository, PriceSheetParser parser,
+                                            @Value("${pricelist.import.chunk-size:5000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Import chunk size must be positive: " + chunkSize);
+        }
+        this.repository = repository;
+        this.parser = parser;
+        this.chunkSize = chunkSize;
+    }
+
+    public PriceSheetImportDTO handle(PriceListImportPriceSheetCommand command) {
+        // 1. Retrieve existing aggregate via hardened PriceListUuId (once for the whole sheet)
+        PriceListAggregate aggregate = repository.findByUuId(command.priceListUuId())
+                .orElseThrow(() -> new IllegalArgumentException("PriceList not found: " + command.priceListUuId().value()));
+
+        ImportTally tally = new ImportTally();
+        List<PriceSheetRow> chunk = new ArrayList<>(chunkSize);
+
+        try (Stream<PriceSheetRow> rows = parser.parse(command.source(), command.format(), tally)) {
+            Iterator<PriceSheetRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PriceSheetRow row = iterator.next();
+
+                // 2. Reject rows outside the strategy boundary up front, so one bad row cannot fail its chunk
+                try {
+                    PriceListBehavior.validateStrategyMatch(aggregate.getStrategyBoundary(), row.pricing());
+                } catch (IllegalStateException e) {
+                    tally.accept(new Rejection(row.line(), e.getMessage()));
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    applyChunk(aggregate, chunk, tally, command);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                applyChunk(aggregate, chunk, tally, command);
+            }
+        }
+
+        return new PriceSheetImportDTO(
+                aggregate.getUuId().value().value(),
+                aggregate.getPriceListVersion().value().value(),
+                tally.chunks,
+                tally.lastCommittedLine,
+                tally.rowsApplied,
+                tally.added,
+                tally.updated,
+                tally.rejectedRows,
+                List.copyOf(tally.rejections)
+        );
+    }
+
+    private void applyChunk(PriceListAggregate aggregate, List<PriceSheetRow> chunk,
+                            ImportTally tally, PriceListImportPriceSheetCommand command) {
+        // 3. Invoke Domain Logic: one version bump and one summary event per chunk
+        PriceSheetChunkImportedEvent summary = aggregate.importPriceSheetChunk(tally.chunks, chunk, command.actor());
+
+        // 4. Persist the chunk; the save hands the aggregate its new optLockVer, so the next chunk
+        //    carries on with the same instance
+        repository.save(aggregate);
+
+        tally.chunks++;
+        tally.lastCommittedLine = summary.lastLine();
+        tally.rowsApplied += chunk.size();
+        tally.added += summary.added();
+        tally.updated += summary.updated();
+        chunk.clear();
+    }
+
+    /**
+     * Running totals for one import; keeps only the first rejections so a bad sheet cannot exhaust memory.
+     */
+    private static final class ImportTally implements Consumer<Rejection> {
+        private final List<Rejection> rejections = new ArrayList<>();
+        private long rejectedRows;
+        private int chunks;
+        private long lastCommittedLine;
+        private long rowsApplied;
+        private long added;
+        private long updated;
+
+        @Override
+        public void accept(Rejection rejection) {
+            rejectedRows++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(rejection);
+            }
+        }
+    }
+}
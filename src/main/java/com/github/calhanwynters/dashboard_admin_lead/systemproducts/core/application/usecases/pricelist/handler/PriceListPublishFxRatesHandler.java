@@ -0,0 +1,32 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.exceptions.DomainAuthorizationException;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListPublishFxRatesCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.FxRateTableDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.FxRateRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handler for FX rate updates.
+ * One appended snapshot re-prices every derived currency of every PriceList; no price entry is rewritten.
+ */
+@Service
+public class PriceListPublishFxRatesHandler {
+
+    private final FxRateRepository repository;
+
+    public PriceListPublishFxRatesHandler(FxRateRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public FxRateTableDTO handle(PriceListPublishFxRatesCommand command) {
+        // SOC 2: a rate change moves prices across all lists, so it needs the same privilege as a bulk adjustment
+        if (!command.actor().hasRole(Actor.ROLE_ADMIN)) {
+            throw new DomainAuthorizationException("Only Admins can publish FX rates.", "SEC-403", command.actor());
+        }
+        return FxRateTableDTO.fromTable(repository.publish(command.baseCurrency(), command.rates(), command.actor()));
+    }
+}
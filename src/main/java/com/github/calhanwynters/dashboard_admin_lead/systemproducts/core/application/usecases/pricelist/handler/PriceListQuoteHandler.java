@@ -0,0 +1,124 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListQuoteCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListQuoteDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListQuoteDTO.QuoteLineDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.FxRateTable;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListVersion;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceQuoteRequest;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.FxRateRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceQuoteCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceQuoteCache.QuoteKey;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.DerivedCurrencyPricingService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler for batch price quotes.
+ * Reads only the current PriceListVersion first; the aggregate is loaded and its pricing models invoked
+ * only for lines that miss the version-keyed cache. Currencies without an explicit price are derived
+ * from the base currency with the latest FX rate table (see DerivedCurrencyPricingService).
+ */
+@Service
+public class PriceListQuoteHandler {
+
+    private final PriceListRepository repository;
+    private final PriceQuoteCache quoteCache;
+    private final FxRateRepository fxRates;
+    private final DerivedCurrencyPricingService derivedPricing;
+
+    public PriceListQuoteHandler(PriceListRepository repository, PriceQuoteCache quoteCache,
+                                 FxRateRepository fxRates, DerivedCurrencyPricingService derivedPricing) {
+        this.repository = repository;
+        this.quoteCache = quoteCache;
+        this.fxRates = fxRates;
+        this.derivedPricing = derivedPricing;
+    }
+
+    @Transactional(readOnly = true)
+    public PriceListQuoteDTO handle(PriceListQuoteCommand command) {
+        // 1. Resolve the current version without reconstituting the pricing matrix
+        PriceListVersion version = repository.findVersionByUuId(command.priceListUuId())
+                .orElseThrow(() -> new IllegalArgumentException("PriceList not found: " + command.priceListUuId().value()));
+
+        // Served from memory by the adapter; part of every cache key
+        FxRateTable rates = fxRates.findLatest().orElse(null);
+        long fxRevision = rates == null ? 0L : rates.revision();
+
+        // 2. Serve what we can from the cache
+        List<PriceQuoteRequest> lines = command.lines();
+        Money[] quotes = new Money[lines.size()];
+        boolean[] cached = new boolean[lines.size()];
+        List<Integer> missPositions = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            PriceQuoteRequest line = lines.get(i);
+            Money hit = quoteCache.get(keyFor(command, version, fxRevision, line)).orElse(null);
+            if (hit != null) {
+                quotes[i] = hit;
+                cached[i] = true;
+            } else {
+                missPositions.add(i);
+            }
+        }
+
+        // 3. Load the aggregate only when something missed, and quote all misses in one pass
+        if (!missPositions.isEmpty()) {
+            PriceListAggregate aggregate = repository.findByUuId(command.priceListUuId())
+                    .orElseThrow(() -> new IllegalArgumentException("PriceList not found: " + command.priceListUuId().value()));
+
+            // A writer committed between the two reads: the hits belong to the older version, so every line
+            // is quoted from the loaded state and the response carries one version throughout
+            if (!aggregate.getPriceListVersion().equals(version)) {
+                version = aggregate.getPriceListVersion();
+                missPositions.clear();
+                for (int i = 0; i < lines.size(); i++) {
+                    missPositions.add(i);
+                    cached[i] = false;
+                }
+            }
+
+            List<PriceQuoteRequest> misses = new ArrayList<>(missPositions.size());
+            for (int position : missPositions) {
+                misses.add(lines.get(position));
+            }
+            Money[] computed = derivedPricing.quoteAll(aggregate, misses, rates);
+
+            for (int k = 0; k < computed.length; k++) {
+                int position = missPositions.get(k);
+                quotes[position] = computed[k];
+                if (computed[k] != null) {
+                    quoteCache.put(keyFor(command, version, fxRevision, lines.get(position)), computed[k]);
+                }
+            }
+        }
+
+        return toDTO(command, version, quotes, cached);
+    }
+
+    private QuoteKey keyFor(PriceListQuoteCommand command, PriceListVersion version, long fxRevision,
+                            PriceQuoteRequest line) {
+        return new QuoteKey(command.priceListUuId(), version, fxRevision, line.targetId(), line.currency(), line.quantity());
+    }
+
+    private PriceListQuoteDTO toDTO(PriceListQuoteCommand command, PriceListVersion version, Money[] quotes, boolean[] cached) {
+        List<QuoteLineDTO> lines = new ArrayList<>(quotes.length);
+        for (int i = 0; i < quotes.length; i++) {
+            PriceQuoteRequest line = command.lines().get(i);
+            lines.add(new QuoteLineDTO(
+                    line.targetId().value(),
+                    line.currency().getCurrencyCode(),
+                    line.quantity(),
+                    quotes[i] == null ? null : quotes[i].amount(),
+                    cached[i]
+            ));
+        }
+        return new PriceListQuoteDTO(command.priceListUuId().value().value(), version.value().value(), lines);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One published snapshot of exchange rates from a base currency, used to derive prices in currencies
+ * a PriceList does not store explicitly. Immutable: a rate update publishes a new revision, so anything
+ * derived from a table can be cached under its revision.
+ *
+ * @param revision monotonically increasing snapshot id
+ * @param rates    target units per one unit of the base currency
+ */
+public record FxRateTable(
+        long revision,
+        Currency baseCurrency,
+        Map<Currency, BigDecimal> rates,
+        OffsetDateTime publishedAt
+) {
+    public FxRateTable {
+        DomainGuard.notNull(baseCurrency, "Base Currency");
+        DomainGuard.notNull(rates, "Exchange Rates");
+        Map<Currency, BigDecimal> normalised = new HashMap<>();
+        rates.forEach((currency, rate) -> {
+            DomainGuard.notNull(currency, "Currency");
+            normalised.put(currency, DomainGuard.positive(rate, "Exchange rate").stripTrailingZeros());
+        });
+        normalised.put(baseCurrency, BigDecimal.ONE);
+        rates = Collections.unmodifiableMap(normalised);
+    }
+
+    /**
+     * Rate from the base currency into the given one, or null when the table has none.
+     */
+    public BigDecimal rate(Currency currency) {
+        return rates.get(currency);
+    }
+
+    /**
+     * The base-currency model in the given currency, or null when the table has no rate for it.
+     */
+    public PurchasePricing convert(PurchasePricing basePricing, Currency currency) {
+        if (currency.equals(baseCurrency)) return basePricing;
+        BigDecimal rate = rates.get(currency);
+        return rate == null ? null : basePricing.convertedTo(currency, rate);
+    }
+}
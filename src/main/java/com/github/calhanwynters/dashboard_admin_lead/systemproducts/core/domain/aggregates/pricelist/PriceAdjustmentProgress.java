@@ -0,0 +1,14 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+/**
+ * Progress callback for long-running bulk adjustments.
+ * Invoked once per completed partition, possibly from pool threads, but never concurrently;
+ * processedItems grows monotonically up to totalItems.
+ */
+@FunctionalInterface
+public interface PriceAdjustmentProgress {
+
+    PriceAdjustmentProgress NONE = (processedItems, totalItems) -> {};
+
+    void onProgress(long processedItems, long totalItems);
+}
@@ -0,0 +1,37 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+
+import java.util.Currency;
+import java.util.Set;
+
+/**
+ * Selects the subset of a PriceList touched by a bulk adjustment (e.g. a EUR-only promotion).
+ * An empty set means "no restriction" on that axis; excluded currencies are skipped without being walked.
+ */
+public record PriceAdjustmentScope(Set<Currency> currencies, Set<PricingStrategyType> strategies) {
+
+    public static final PriceAdjustmentScope ALL = new PriceAdjustmentScope(Set.of(), Set.of());
+
+    public PriceAdjustmentScope {
+        currencies = (currencies == null) ? Set.of() : Set.copyOf(currencies);
+        strategies = (strategies == null) ? Set.of() : Set.copyOf(strategies);
+    }
+
+    public static PriceAdjustmentScope ofCurrencies(Currency... currencies) {
+        return new PriceAdjustmentScope(Set.of(currencies), Set.of());
+    }
+
+    public static PriceAdjustmentScope ofStrategies(PricingStrategyType... strategies) {
+        return new PriceAdjustmentScope(Set.of(), Set.of(strategies));
+    }
+
+    public boolean includesCurrency(Currency currency) {
+        return currencies.isEmpty() || currencies.contains(currency);
+    }
+
+    public boolean includesStrategy(PurchasePricing pricing) {
+        return strategies.isEmpty() || strategies.contains(PricingStrategyType.of(pricing));
+    }
+}
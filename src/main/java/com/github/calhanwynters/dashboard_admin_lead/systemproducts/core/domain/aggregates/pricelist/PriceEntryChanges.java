@@ -0,0 +1,66 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+
+import java.util.Collections;
+import java.util.Currency;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Price entries touched since the aggregate was loaded, keyed like a price_list_entries row (item, currency),
+ * so persistence can write only those rows instead of the whole matrix.
+ * Each key is either upserted or removed, whichever happened last. An unscoped bulk change marks every entry upserted; a scoped one records the entries it adjusted.
+ */
+public final class PriceEntryChanges {
+
+    public record EntryKey(UuId targetId, Currency currency) {}
+
+    private final Set<EntryKey> upserted = new LinkedHashSet<>();
+    private final Set<EntryKey> removed = new LinkedHashSet<>();
+    private boolean allUpserted;
+
+    PriceEntryChanges() {}
+
+    void upserted(UuId targetId, Currency currency) {
+        EntryKey key = new EntryKey(targetId, currency);
+        removed.remove(key);
+        if (!allUpserted) upserted.add(key);
+    }
+
+    void removed(UuId targetId, Currency currency) {
+        EntryKey key = new EntryKey(targetId, currency);
+        upserted.remove(key);
+        removed.add(key);
+    }
+
+    void allUpserted() {
+        allUpserted = true;
+        upserted.clear(); // Subsumed
+    }
+
+    void clear() {
+        upserted.clear();
+        removed.clear();
+        allUpserted = false;
+    }
+
+    public boolean isEmpty() {
+        return !allUpserted && upserted.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * True after a bulk change: every current entry must be written, upserts() is then empty.
+     */
+    public boolean isAllUpserted() {
+        return allUpserted;
+    }
+
+    public Set<EntryKey> upserts() {
+        return Collections.unmodifiableSet(upserted);
+    }
+
+    public Set<EntryKey> removals() {
+        return Collections.unmodifiableSet(removed);
+    }
+}
@@ -2,14 +2,17 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain
 
 import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
 import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
 import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
 import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
 import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
 import com.github.calhanwynters.dashboard_admin_lead.common.exceptions.DomainAuthorizationException;
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.events.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.*;
 
@@ -24,7 +27,8 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
     private final PricingStrategyType strategyBoundary;
     private PriceListVersion priceListVersion;
     private boolean isActive; // Operational status
-    private final Map<UuId, Map<Currency, PurchasePricing>> multiCurrencyPrices;
+    private final PriceMatrix priceMatrix; // Columnar item x currency storage, see PriceMatrix
+    private final PriceEntryChanges pendingPriceChanges = new PriceEntryChanges(); // Dirty entries since load
 
     public PriceListAggregate(PriceListId id, PriceListUuId uuId, PriceListBusinessUuId businessUuId,
                               PricingStrategyType strategyBoundary, PriceListVersion version,
@@ -35,7 +39,7 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
         this.strategyBoundary = strategyBoundary;
         this.priceListVersion = version;
         this.isActive = isActive;
-        this.multiCurrencyPrices = new HashMap<>(prices != null ? prices : Collections.emptyMap());
+        this.priceMatrix = PriceMatrix.copyOf(prices);
         this.lifecycleState = lifecycleState;
     }
 
@@ -89,13 +93,14 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
         PriceListBehavior.validateStrategyMatch(this.strategyBoundary, pricing);
 
         // 2. Determine Price Shift (for secondary events)
-        var currentPrice = Optional.ofNullable(multiCurrencyPrices.get(targetId)).map(m -> m.get(currency));
+        var currentPrice = Optional.ofNullable(priceMatrix.get(targetId, currency));
 
         // 3. Orchestration
         this.applyChange(actor,
                 new PriceUpdatedEvent(this.uuId, targetId, currency, pricing, actor),
                 () -> {
-                    this.multiCurrencyPrices.computeIfAbsent(targetId, k -> new HashMap<>()).put(currency, pricing);
+                    this.priceMatrix.put(targetId, currency, pricing);
+                    this.pendingPriceChanges.upserted(targetId, currency);
                     this.priceListVersion = PriceListBehavior.incrementVersion(this.priceListVersion);
 
                     currentPrice.ifPresent(old -> {
@@ -109,6 +114,49 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
         );
     }
 
+    /**
+     * Applies one chunk of an imported price sheet as a single change: every row is validated against the
+     * strategy boundary first (all-or-nothing), the version moves once, and one PriceSheetChunkImportedEvent
+     * summarises the chunk instead of a PriceUpdatedEvent per row. A later row for the same target/currency wins.
+     * @return the registered summary event, so callers can report progress without re-reading the matrix
+     */
+    public PriceSheetChunkImportedEvent importPriceSheetChunk(int chunkIndex, List<PriceSheetRow> rows, Actor actor) {
+        // 1. Mandatory Guards (same as addOrUpdatePrice, checked once per chunk)
+        ensureActive();
+        PriceListBehavior.ensureOperationalActive(this.isActive);
+        PriceListBehavior.verifyPriceModificationAuthority(actor);
+        DomainGuard.notEmpty(rows, "Price sheet rows");
+        for (PriceSheetRow row : rows) {
+            PriceListBehavior.validateStrategyMatch(this.strategyBoundary, row.pricing());
+        }
+
+        // 2. Summarise the chunk for the audit event
+        Set<Currency> currencies = new LinkedHashSet<>();
+        Set<Map.Entry<UuId, Currency>> newKeys = new HashSet<>(); // (target, currency) pairs not yet priced
+        for (PriceSheetRow row : rows) {
+            currencies.add(row.currency());
+            if (priceMatrix.get(row.targetId(), row.currency()) == null) {
+                newKeys.add(Map.entry(row.targetId(), row.currency()));
+            }
+        }
+        int added = newKeys.size();
+        int updated = rows.size() - added;
+
+        // 3. Orchestration
+        var summary = new PriceSheetChunkImportedEvent(this.uuId, chunkIndex, rows.getFirst().line(),
+                rows.getLast().line(), added, updated, Set.copyOf(currencies), actor);
+        this.applyChange(actor, summary,
+                () -> {
+                    for (PriceSheetRow row : rows) {
+                        this.priceMatrix.put(row.targetId(), row.currency(), row.pricing());
+                        this.pendingPriceChanges.upserted(row.targetId(), row.currency());
+                    }
+                    this.priceListVersion = PriceListBehavior.incrementVersion(this.priceListVersion);
+                }
+        );
+        return summary;
+    }
+
     public void removePrice(UuId targetId, Currency currency, Actor actor) {
         // 1. Mandatory Guards
         ensureActive();
@@ -121,13 +169,9 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
         this.applyChange(actor,
                 new PriceRemovedEvent(this.uuId, targetId, currency, actor),
                 () -> {
-                    Optional.ofNullable(this.multiCurrencyPrices.get(targetId))
-                            .ifPresent(m -> {
-                                m.remove(currency);
-                                if (m.isEmpty()) {
-                                    this.multiCurrencyPrices.remove(targetId);
-                                }
-                            });
+                    // The target drops out of the matrix once its last currency is removed
+                    this.priceMatrix.remove(targetId, currency);
+                    this.pendingPriceChanges.removed(targetId, currency);
 
                     this.priceListVersion = PriceListBehavior.incrementVersion(this.priceListVersion);
                 }
@@ -135,16 +179,36 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
     }
 
     public void applyBulkAdjustment(String reason, double percentage, Actor actor) {
+        applyBulkAdjustment(reason, percentage, PriceAdjustmentScope.ALL, PriceAdjustmentProgress.NONE, actor);
+    }
+
+    /**
+     * Adjusts the prices selected by the scope (per currency and/or per strategy).
+     * The matrix is partitioned and adjusted in parallel; the result is deterministic and all-or-nothing,
+     * and exactly one BulkPriceAdjustmentEvent records the intent.
+     */
+    public void applyBulkAdjustment(String reason, double percentage, PriceAdjustmentScope scope,
+                                    PriceAdjustmentProgress progress, Actor actor) {
         ensureActive();
         PriceListBehavior.verifyBulkAdjustmentAuthority(actor);
         PriceListBehavior.validateBulkAdjustment(percentage);
+        DomainGuard.notNull(scope, "Adjustment scope");
+        DomainGuard.notNull(progress, "Progress listener");
 
         double factor = 1 + (percentage / 100.0);
 
         this.applyChange(actor,
-                new BulkPriceAdjustmentEvent(this.uuId, reason, percentage, actor),
+                new BulkPriceAdjustmentEvent(this.uuId, reason, percentage, scope.currencies(), scope.strategies(), actor),
                 () -> {
-                    this.multiCurrencyPrices.values().forEach(m -> m.replaceAll((c, p) -> p.adjustedBy(factor)));
+                    if (PriceAdjustmentScope.ALL.equals(scope)) {
+                        this.priceMatrix.replaceAll(scope::includesCurrency, scope::includesStrategy,
+                                p -> p.adjustedBy(factor), progress);
+                        this.pendingPriceChanges.allUpserted();
+                    } else {
+                        // Scoped: only the cells actually adjusted need rewriting
+                        this.priceMatrix.replaceAll(scope::includesCurrency, scope::includesStrategy,
+                                p -> p.adjustedBy(factor), progress, this.pendingPriceChanges::upserted);
+                    }
                     this.priceListVersion = PriceListBehavior.incrementVersion(this.priceListVersion);
                 }
         );
@@ -153,7 +217,7 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
     public void syncToKafka(Actor actor) {
         this.executeSync(actor,
                 auth -> new PriceListDataSyncedEvent(this.uuId, this.businessUuId, this.strategyBoundary,
-                        this.priceListVersion, this.isActive, this.lifecycleState, this.multiCurrencyPrices, auth)
+                        this.priceListVersion, this.isActive, this.lifecycleState, this.priceMatrix.asMap(), auth)
         );
     }
 
@@ -173,6 +237,102 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
         );
     }
 
+    // --- QUOTING (Read-only) ---
+
+    /**
+     * Quotes one priced target at many quantities (e.g. a dashboard price ladder)
+     * in a single pass over its pricing model.
+     */
+    public Money[] quoteLadder(UuId targetId, Currency currency, BigDecimal[] quantities) {
+        DomainGuard.notNull(quantities, "Quantities");
+        PurchasePricing pricing = Optional.ofNullable(priceMatrix.get(targetId, currency))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No price defined for target " + targetId + " in " + currency));
+        return pricing.calculateAll(quantities);
+    }
+
+    /**
+     * Quotes many (target, currency, quantity) lines in one pass.
+     * Lines that resolve to the same pricing model are quoted together through calculateAll.
+     * @return one Money per request in request order; null where this list has no price for the target/currency
+     */
+    public Money[] quoteAll(List<PriceQuoteRequest> requests) {
+        DomainGuard.notNull(requests, "Quote requests");
+        int size = requests.size();
+        Money[] results = new Money[size];
+
+        // 1. Resolve each line to a group (one group per distinct pricing model)
+        IdentityHashMap<PurchasePricing, Integer> groupIndex = new IdentityHashMap<>();
+        List<PurchasePricing> groupModels = new ArrayList<>();
+        int[] groupOf = new int[size];
+        int[] groupSizes = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            PriceQuoteRequest request = requests.get(i);
+            PurchasePricing pricing = priceMatrix.get(request.targetId(), request.currency());
+            if (pricing == null) {
+                groupOf[i] = -1;
+                continue;
+            }
+            Integer group = groupIndex.get(pricing);
+            if (group == null) {
+                group = groupModels.size();
+                groupIndex.put(pricing, group);
+                groupModels.add(pricing);
+            }
+            groupOf[i] = group;
+            groupSizes[group]++;
+        }
+
+        // 2. Bucket the quantities per group, remembering where each result goes
+        BigDecimal[][] quantities = new BigDecimal[groupModels.size()][];
+        int[][] positions = new int[groupModels.size()][];
+        for (int g = 0; g < quantities.length; g++) {
+            quantities[g] = new BigDecimal[groupSizes[g]];
+            positions[g] = new int[groupSizes[g]];
+        }
+        int[] fill = new int[quantities.length];
+        for (int i = 0; i < size; i++) {
+            int g = groupOf[i];
+            if (g < 0) continue;
+            quantities[g][fill[g]] = requests.get(i).quantity();
+            positions[g][fill[g]++] = i;
+        }
+
+        // 3. One batch call per model, scattered back into request order
+        for (int g = 0; g < quantities.length; g++) {
+            Money[] quoted = groupModels.get(g).calculateAll(quantities[g]);
+            for (int k = 0; k < quoted.length; k++) {
+                results[positions[g][k]] = quoted[k];
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Materialises the price curve of every entry for the current version.
+     * Entries with equal pricing models (common after imports and bulk adjustments) share one curve.
+     */
+    public PriceListCurves priceCurves() {
+        Map<PurchasePricing, PriceCurve> derived = new HashMap<>();
+        Map<UuId, Map<Currency, PriceCurve>> curves = new LinkedHashMap<>(priceMatrix.itemCount() * 4 / 3 + 1);
+
+        for (Map.Entry<UuId, Map<Currency, PurchasePricing>> row : priceMatrix.asMap().entrySet()) {
+            CurrencyMap<PriceCurve> rowCurves = new CurrencyMap<>();
+            for (Map.Entry<Currency, PurchasePricing> entry : row.getValue().entrySet()) {
+                PriceCurve curve = derived.computeIfAbsent(entry.getValue(), PriceCurve::of);
+                rowCurves.put(entry.getKey(), curve);
+            }
+            curves.put(row.getKey(), rowCurves);
+        }
+
+        int segmentCount = 0;
+        for (PriceCurve curve : derived.values()) {
+            segmentCount += curve.segments().size();
+        }
+        return new PriceListCurves(this.uuId, this.priceListVersion, curves, segmentCount);
+    }
+
     // --- LIFECYCLE (Standardized) ---
 
     public void archive(Actor actor) { this.executeArchive(actor, new PriceListArchivedEvent(this.uuId, actor)); }
@@ -185,14 +345,41 @@ public class PriceListAggregate extends BaseAggregateRoot<PriceListAggregate, Pr
     public PricingStrategyType getStrategyBoundary() { return strategyBoundary; }
     public PriceListVersion getPriceListVersion() { return priceListVersion; }
     public boolean isActive() { return isActive; }
+    /**
+     * Read-through, unmodifiable view of the pricing matrix (no copy), in stable insertion order.
+     */
     public Map<UuId, Map<Currency, PurchasePricing>> getMultiCurrencyPrices() {
-        return Collections.unmodifiableMap(multiCurrencyPrices);
+        return priceMatrix.asMap();
 
         // Identifiers and Metadata are handled by BaseAggregateRoot getters:
         // getUuId(), getBusinessUuId(), getOptLockVer(), etc.
 
     }
 
+    /**
+     * Entries added, updated or removed since this aggregate was loaded; lets the adapter write only those rows.
+     */
+    public PriceEntryChanges getPendingPriceChanges() {
+        return pendingPriceChanges;
+    }
+
+    /**
+     * Called by persistence once the pending entry changes have been written.
+     */
+    public void markPricesPersisted() {
+        pendingPriceChanges.clear();
+    }
+
+    /**
+     * The price list version is stored in the lock column, so it follows the flushed lock version: root-only
+     * changes (activation, business id, lifecycle) bump the column without going through incrementVersion.
+     */
+    @Override
+    public void markPersisted(PriceListId id, Long optLockVer) {
+        super.markPersisted(id, optLockVer);
+        if (optLockVer != null) this.priceListVersion = new PriceListVersion(new Version(Math.toIntExact(optLockVer)));
+    }
+
     public LifecycleState getLifecycleState() {
         return this.lifecycleState;
     }
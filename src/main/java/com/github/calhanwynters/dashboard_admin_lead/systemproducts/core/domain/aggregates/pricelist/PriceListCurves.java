@@ -0,0 +1,39 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceCurve;
+
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Map;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+/**
+ * Price curves of every (target, currency) entry of one PriceList, as of one PriceListVersion.
+ * Immutable once built; a new version means a new set, never an in-place update.
+ *
+ * @param segmentCount total segments across all curves, used to weigh the set in caches
+ */
+public record PriceListCurves(
+        PriceListUuId priceListUuId,
+        PriceListVersion version,
+        Map<UuId, Map<Currency, PriceCurve>> curves,
+        int segmentCount
+) {
+    public PriceListCurves {
+        DomainGuard.notNull(priceListUuId, "PriceList UUID");
+        DomainGuard.notNull(version, "PriceList Version");
+        DomainGuard.notNull(curves, "Curves");
+        curves = Collections.unmodifiableMap(curves);
+    }
+
+    /**
+     * The curve for one entry, or null when the PriceList has no price for the target/currency.
+     */
+    public PriceCurve curve(UuId targetId, Currency currency) {
+        Map<Currency, PriceCurve> row = curves.get(targetId);
+        return row == null ? null : row.get(currency);
+    }
+}
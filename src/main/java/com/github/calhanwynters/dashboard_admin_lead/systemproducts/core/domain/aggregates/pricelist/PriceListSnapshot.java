@@ -0,0 +1,49 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Map;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+/**
+ * A business PriceList exactly as it was at one PriceListVersion, for reproducing historical quotes
+ * (invoices, disputes). Immutable: later versions never rewrite it.
+ *
+ * @param capturedAt when the version was saved
+ * @param capturedBy who saved it
+ */
+public record PriceListSnapshot(
+        PriceListUuId priceListUuId,
+        PriceListBusinessUuId businessUuId,
+        PriceListVersion version,
+        PricingStrategyType strategy,
+        boolean active,
+        OffsetDateTime capturedAt,
+        Actor capturedBy,
+        Map<UuId, Map<Currency, PurchasePricing>> prices
+) {
+    public PriceListSnapshot {
+        DomainGuard.notNull(priceListUuId, "PriceList UUID");
+        DomainGuard.notNull(businessUuId, "PriceList Business UUID");
+        DomainGuard.notNull(version, "PriceList Version");
+        DomainGuard.notNull(strategy, "Pricing Strategy");
+        DomainGuard.notNull(prices, "Prices");
+        prices = Collections.unmodifiableMap(prices);
+    }
+
+    /**
+     * The price of one entry in this snapshot, or null when the PriceList had none.
+     */
+    public PurchasePricing price(UuId targetId, Currency currency) {
+        Map<Currency, PurchasePricing> row = prices.get(targetId);
+        return row == null ? null : row.get(currency);
+    }
+}
@@ -0,0 +1,513 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Compact storage engine behind the PriceList pricing matrix (replaces the nested HashMap).
+ *
+ * <p>Items map to int ordinals through an open-addressing table, currencies map to a small column index,
+ * and the pricing references sit in one flat row-major array: {@code cells[ordinal * stride + column]}.
+ * Ordinals follow insertion (an item removed and re-added goes to the end, as in a LinkedHashMap),
+ * and currencies within an item follow column order, so iteration order is stable;
+ * {@link #asMap()} is a read-through, unmodifiable view rather than a copy.
+ *
+ * <p>Not thread-safe: like the aggregate that owns it, a matrix is confined to one unit of work.
+ */
+final class PriceMatrix {
+
+    private static final int MIN_ROWS = 8;
+    private static final int COMPACTION_THRESHOLD = 64; // Dead rows tolerated before compaction is considered
+    static final int CHUNK_ROWS = 4_096;                // Rows per partition for parallel bulk replacement
+
+    // --- Rows (items) ---
+    private UuId[] items;       // ordinal -> item id (null once the row is dead)
+    private int[] rowSizes;     // ordinal -> priced currencies in the row (0 = dead row)
+    private int rowCount;       // ordinals handed out, live or dead
+    private int liveRows;
+
+    // --- Open-addressing index: slot -> ordinal + 1 (0 = empty) ---
+    private int[] slots;
+    private int slotMask;
+
+    // --- Columns (currencies) and cells ---
+    private Currency[] currencies = new Currency[0]; // column -> currency; stride == currencies.length
+    private PurchasePricing[] cells = new PurchasePricing[0];
+    private int priceCount;
+
+    private int layoutStamp; // Bumped whenever an item's ordinal changes, so row views can re-resolve
+
+    private final MatrixView view = new MatrixView();
+
+    PriceMatrix(int expectedItems) {
+        int rows = Math.max(expectedItems, MIN_ROWS);
+        this.items = new UuId[rows];
+        this.rowSizes = new int[rows];
+        this.slots = new int[slotCapacityFor(rows)];
+        this.slotMask = slots.length - 1;
+    }
+
+    /**
+     * Loads a nested map (reconstitution, factories). Null rows and null prices are treated as absent.
+     */
+    static PriceMatrix copyOf(Map<UuId, Map<Currency, PurchasePricing>> prices) {
+        if (prices == null || prices.isEmpty()) {
+            return new PriceMatrix(0);
+        }
+        PriceMatrix matrix = new PriceMatrix(prices.size());
+
+        // Size the columns up front so loading never re-lays out the cell array
+        Set<Currency> columns = new LinkedHashSet<>();
+        for (Map<Currency, PurchasePricing> row : prices.values()) {
+            if (row != null) columns.addAll(row.keySet());
+        }
+        columns.remove(null);
+        matrix.currencies = columns.toArray(new Currency[0]);
+        matrix.cells = new PurchasePricing[matrix.items.length * matrix.currencies.length];
+
+        prices.forEach((item, row) -> {
+            if (item == null || row == null) return;
+            row.forEach((currency, pricing) -> {
+                if (currency != null && pricing != null) matrix.put(item, currency, pricing);
+            });
+        });
+        return matrix;
+    }
+
+    // --- Cell access ---
+
+    PurchasePricing get(UuId item, Currency currency) {
+        int ordinal = ordinalOf(item);
+        int column = columnOf(currency);
+        return (ordinal < 0 || column < 0) ? null : cells[ordinal * currencies.length + column];
+    }
+
+    /**
+     * @return the previous pricing for the cell, or null
+     */
+    PurchasePricing put(UuId item, Currency currency, PurchasePricing pricing) {
+        Objects.requireNonNull(item, "Target ID cannot be null");
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        Objects.requireNonNull(pricing, "Pricing cannot be null");
+
+        int column = columnOf(currency);
+        if (column < 0) column = addColumn(currency);
+        int ordinal = ordinalOf(item);
+        if (ordinal < 0) ordinal = addRow(item);
+
+        int cell = ordinal * currencies.length + column;
+        PurchasePricing previous = cells[cell];
+        cells[cell] = pricing;
+        if (previous == null) {
+            if (rowSizes[ordinal]++ == 0) liveRows++;
+            priceCount++;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes one cell; the item disappears from the view once its last currency is removed.
+     * @return the removed pricing, or null if the cell was empty
+     */
+    PurchasePricing remove(UuId item, Currency currency) {
+        int ordinal = ordinalOf(item);
+        int column = columnOf(currency);
+        if (ordinal < 0 || column < 0) return null;
+
+        int cell = ordinal * currencies.length + column;
+        PurchasePricing previous = cells[cell];
+        if (previous == null) return null;
+
+        cells[cell] = null;
+        priceCount--;
+        if (--rowSizes[ordinal] == 0) {
+            // Last currency gone: the item leaves the index; its row stays dead until compaction
+            deleteSlot(ordinal);
+            items[ordinal] = null;
+            liveRows--;
+            layoutStamp++;
+            int deadRows = rowCount - liveRows;
+            if (deadRows > COMPACTION_THRESHOLD && deadRows > rowCount / 2) {
+                compact();
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Replaces every priced cell. Structure (items, currencies) is unchanged.
+     */
+    void replaceAll(UnaryOperator<PurchasePricing> function) {
+        replaceAll(currency -> true, pricing -> true, function, PriceAdjustmentProgress.NONE);
+    }
+
+    /**
+     * Replaces the priced cells selected by the filters, partitioned into row chunks on the fork/join pool.
+     *
+     * <p>Excluded currency columns are never visited. Each cell's result depends only on its own input,
+     * so the outcome is identical to a sequential pass. The work happens on a copy of the cell array that is
+     * swapped in only when every chunk succeeded; otherwise the failure of the lowest chunk is rethrown
+     * and the matrix is left untouched.
+     *
+     * @return the number of cells replaced
+     */
+    int replaceAll(Predicate<Currency> columnFilter, Predicate<PurchasePricing> cellFilter,
+                   UnaryOperator<PurchasePricing> function, PriceAdjustmentProgress progress) {
+        return replaceAll(columnFilter, cellFilter, function, progress, null);
+    }
+
+    /**
+     * As above, and reports each replaced (item, currency) cell to replacedCells in iteration order,
+     * once the new cells are swapped in (nothing is reported when the replacement fails).
+     */
+    int replaceAll(Predicate<Currency> columnFilter, Predicate<PurchasePricing> cellFilter,
+                   UnaryOperator<PurchasePricing> function, PriceAdjustmentProgress progress,
+                   BiConsumer<UuId, Currency> replacedCells) {
+        int stride = currencies.length;
+        int[] columns = IntStream.range(0, stride).filter(c -> columnFilter.test(currencies[c])).toArray();
+        int rows = rowCount;
+        int chunks = (columns.length == 0) ? 0 : (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+
+        PurchasePricing[] source = cells;
+        PurchasePricing[] target = source.clone();
+        int[] replaced = new int[chunks];
+        int[][] replacedAt = (replacedCells == null) ? null : new int[chunks][]; // Cell indexes, per chunk
+        RuntimeException[] failures = new RuntimeException[chunks];
+        long[] processed = new long[1];
+
+        IntStream partitions = IntStream.range(0, chunks);
+        (chunks > 1 ? partitions.parallel() : partitions).forEach(chunk -> {
+            int from = chunk * CHUNK_ROWS;
+            int to = Math.min(rows, from + CHUNK_ROWS);
+            try {
+                int count = 0;
+                int[] at = (replacedAt == null) ? null : new int[(to - from) * columns.length];
+                for (int row = from; row < to; row++) {
+                    int base = row * stride;
+                    for (int column : columns) {
+                        PurchasePricing pricing = source[base + column];
+                        if (pricing != null && cellFilter.test(pricing)) {
+                            target[base + column] = Objects.requireNonNull(function.apply(pricing), "Pricing cannot be null");
+                            if (at != null) at[count] = base + column;
+                            count++;
+                        }
+                    }
+                }
+                replaced[chunk] = count;
+                if (at != null) replacedAt[chunk] = Arrays.copyOf(at, count);
+            } catch (RuntimeException e) {
+                failures[chunk] = e;
+            }
+            synchronized (processed) {
+                processed[0] += to - from;
+                progress.onProgress(processed[0], rows);
+            }
+        });
+
+        for (RuntimeException failure : failures) {
+            if (failure != null) throw failure;
+        }
+        cells = target;
+        if (replacedAt != null) {
+            for (int[] at : replacedAt) {
+                for (int cell : at) replacedCells.accept(items[cell / stride], currencies[cell % stride]);
+            }
+        }
+        return Arrays.stream(replaced).sum();
+    }
+
+    int itemCount() { return liveRows; }
+
+    int priceCount() { return priceCount; }
+
+    /**
+     * Read-through, unmodifiable view in stable insertion order.
+     */
+    Map<UuId, Map<Currency, PurchasePricing>> asMap() {
+        return view;
+    }
+
+    // --- Index maintenance ---
+
+    private int ordinalOf(Object item) {
+        if (!(item instanceof UuId)) return -1;
+        int slot = hash(item) & slotMask;
+        for (int entry; (entry = slots[slot]) != 0; slot = (slot + 1) & slotMask) {
+            if (items[entry - 1].equals(item)) return entry - 1;
+        }
+        return -1;
+    }
+
+    private int columnOf(Object currency) {
+        // A list rarely holds more than a handful of currencies: a linear scan beats hashing
+        Currency[] currencies = this.currencies;
+        for (int c = 0; c < currencies.length; c++) {
+            if (currencies[c].equals(currency)) return c;
+        }
+        return -1;
+    }
+
+    private int addRow(UuId item) {
+        if (rowCount == items.length) {
+            resizeRows(items.length + (items.length >> 1));
+        }
+        int ordinal = rowCount++;
+        items[ordinal] = item;
+        if (slotCapacityFor(rowCount) > slots.length) {
+            rebuildSlots(slotCapacityFor(rowCount));
+        } else {
+            insertSlot(ordinal);
+        }
+        return ordinal;
+    }
+
+    private int addColumn(Currency currency) {
+        int oldStride = currencies.length;
+        int newStride = oldStride + 1;
+        PurchasePricing[] relaid = new PurchasePricing[items.length * newStride];
+        for (int row = 0; row < rowCount; row++) {
+            System.arraycopy(cells, row * oldStride, relaid, row * newStride, oldStride);
+        }
+        currencies = Arrays.copyOf(currencies, newStride);
+        currencies[oldStride] = currency;
+        cells = relaid;
+        return oldStride;
+    }
+
+    private void resizeRows(int rows) {
+        items = Arrays.copyOf(items, rows);
+        rowSizes = Arrays.copyOf(rowSizes, rows);
+        cells = Arrays.copyOf(cells, rows * currencies.length);
+    }
+
+    /**
+     * Drops dead rows, preserving the relative order of the live ones.
+     */
+    private void compact() {
+        int stride = currencies.length;
+        int target = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowSizes[row] == 0) continue;
+            if (target != row) {
+                items[target] = items[row];
+                rowSizes[target] = rowSizes[row];
+                System.arraycopy(cells, row * stride, cells, target * stride, stride);
+            }
+            target++;
+        }
+        Arrays.fill(items, target, rowCount, null);
+        Arrays.fill(rowSizes, target, rowCount, 0);
+        Arrays.fill(cells, target * stride, rowCount * stride, null);
+        rowCount = target;
+
+        int rows = Math.max(MIN_ROWS, rowCount + (rowCount >> 1));
+        if (rows < items.length) resizeRows(rows);
+        rebuildSlots(slotCapacityFor(Math.max(rowCount, MIN_ROWS)));
+        layoutStamp++;
+    }
+
+    private void rebuildSlots(int capacity) {
+        slots = new int[capacity];
+        slotMask = capacity - 1;
+        for (int ordinal = 0; ordinal < rowCount; ordinal++) {
+            if (items[ordinal] != null) insertSlot(ordinal);
+        }
+    }
+
+    private void insertSlot(int ordinal) {
+        int slot = hash(items[ordinal]) & slotMask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & slotMask;
+        }
+        slots[slot] = ordinal + 1;
+    }
+
+    /**
+     * Linear-probing deletion by backward shift: no tombstones, so probe chains never degrade.
+     */
+    private void deleteSlot(int ordinal) {
+        int gap = hash(items[ordinal]) & slotMask;
+        while (slots[gap] != ordinal + 1) {
+            gap = (gap + 1) & slotMask;
+        }
+        for (int next = (gap + 1) & slotMask; slots[next] != 0; next = (next + 1) & slotMask) {
+            int home = hash(items[slots[next] - 1]) & slotMask;
+            // Move the entry back only if its home slot is not cyclically within (gap, next]
+            if (((next - home) & slotMask) >= ((next - gap) & slotMask)) {
+                slots[gap] = slots[next];
+                gap = next;
+            }
+        }
+        slots[gap] = 0;
+    }
+
+    /**
+     * Load factor of at most 1/2 keeps linear-probe chains short.
+     */
+    private static int slotCapacityFor(int rows) {
+        return Integer.highestOneBit(Math.max(rows, MIN_ROWS) * 2 - 1) << 1;
+    }
+
+    private static int hash(Object item) {
+        // UuId hashes its String (cached); spread it so sequential ids do not cluster
+        int h = item.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // --- Views ---
+
+    private final class MatrixView extends AbstractMap<UuId, Map<Currency, PurchasePricing>> {
+
+        private final Set<Entry<UuId, Map<Currency, PurchasePricing>>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<UuId, Map<Currency, PurchasePricing>>> iterator() {
+                return new RowIterator();
+            }
+
+            @Override
+            public int size() {
+                return liveRows;
+            }
+        };
+
+        @Override
+        public Map<Currency, PurchasePricing> get(Object key) {
+            int ordinal = ordinalOf(key);
+            return (ordinal < 0 || rowSizes[ordinal] == 0) ? null : new RowView(items[ordinal], ordinal);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int ordinal = ordinalOf(key);
+            return ordinal >= 0 && rowSizes[ordinal] > 0;
+        }
+
+        @Override
+        public int size() {
+            return liveRows;
+        }
+
+        @Override
+        public Set<Entry<UuId, Map<Currency, PurchasePricing>>> entrySet() {
+            return entries;
+        }
+    }
+
+    private final class RowIterator implements Iterator<Map.Entry<UuId, Map<Currency, PurchasePricing>>> {
+        private int next = advance(0);
+
+        private int advance(int from) {
+            while (from < rowCount && rowSizes[from] == 0) from++;
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < rowCount;
+        }
+
+        @Override
+        public Map.Entry<UuId, Map<Currency, PurchasePricing>> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int ordinal = next;
+            next = advance(ordinal + 1);
+            UuId item = items[ordinal];
+            return new AbstractMap.SimpleImmutableEntry<>(item, new RowView(item, ordinal));
+        }
+    }
+
+    /**
+     * One item's currencies, read through to the cell array.
+     */
+    private final class RowView extends AbstractMap<Currency, PurchasePricing> {
+        private final UuId item;
+        private int ordinal;
+        private int stamp;
+
+        private RowView(UuId item, int ordinal) {
+            this.item = item;
+            this.ordinal = ordinal;
+            this.stamp = layoutStamp;
+        }
+
+        private int ordinal() {
+            if (stamp != layoutStamp) {
+                ordinal = ordinalOf(item);
+                stamp = layoutStamp;
+            }
+            return ordinal;
+        }
+
+        private PurchasePricing cell(int ordinal, int column) {
+            return ordinal < 0 ? null : cells[ordinal * currencies.length + column];
+        }
+
+        @Override
+        public PurchasePricing get(Object currency) {
+            int column = columnOf(currency);
+            return column < 0 ? null : cell(ordinal(), column);
+        }
+
+        @Override
+        public boolean containsKey(Object currency) {
+            return get(currency) != null;
+        }
+
+        @Override
+        public int size() {
+            int ordinal = ordinal();
+            return ordinal < 0 ? 0 : rowSizes[ordinal];
+        }
+
+        @Override
+        public Set<Entry<Currency, PurchasePricing>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Currency, PurchasePricing>> iterator() {
+                    return new Iterator<>() {
+                        private final int row = ordinal();
+                        private int column = advance(0);
+
+                        private int advance(int from) {
+                            while (from < currencies.length && cell(row, from) == null) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return row >= 0 && column < currencies.length;
+                        }
+
+                        @Override
+                        public Entry<Currency, PurchasePricing> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            int current = column;
+                            column = advance(current + 1);
+                            return new AbstractMap.SimpleImmutableEntry<>(currencies[current], cell(row, current));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return RowView.this.size();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * One line of a batch quote against a PriceList: the priced target (Product or Variant),
+ * the currency of its pricing model, and the quantity to quote.
+ */
+public record PriceQuoteRequest(UuId targetId, Currency currency, BigDecimal quantity) {
+
+    public PriceQuoteRequest {
+        DomainGuard.notNull(targetId, "Target ID");
+        DomainGuard.notNull(currency, "Currency");
+    }
+}
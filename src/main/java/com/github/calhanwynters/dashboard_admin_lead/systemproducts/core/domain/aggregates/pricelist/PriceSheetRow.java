@@ -0,0 +1,20 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+
+import java.util.Currency;
+
+/**
+ * One parsed row of an imported price sheet: the priced target, its currency and pricing model.
+ * The line number points back into the source file for rejection reports and audit.
+ */
+public record PriceSheetRow(long line, UuId targetId, Currency currency, PurchasePricing pricing) {
+
+    public PriceSheetRow {
+        DomainGuard.notNull(targetId, "Target ID");
+        DomainGuard.notNull(currency, "Currency");
+        DomainGuard.notNull(pricing, "Pricing strategy");
+    }
+}
@@ -2,7 +2,12 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain
 
 import org.jmolecules.event.annotation.DomainEvent;
 import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+import java.util.Currency;
+import java.util.Set;
+
 /*
  * If you implement a "10% increase across all tiers" feature, you shouldn't just fire 100
  * PriceUpdatedEvents. A single bulk event allows the Audit Log to show the intent
@@ -10,4 +15,11 @@ import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.
  */
 
 @DomainEvent(name = "Bulk Price Adjustment Applied", namespace = "pricelist")
-public record BulkPriceAdjustmentEvent(PriceListUuId id, String adjustmentType, double percentage, Actor actor) {}
\ No newline at end of file
+public record BulkPriceAdjustmentEvent(
+        PriceListUuId id,
+        String adjustmentType,
+        double percentage,
+        Set<Currency> currencies,              // Empty = all currencies
+        Set<PricingStrategyType> strategies,   // Empty = all strategies
+        Actor actor
+) {}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.events;
+
+import org.jmolecules.event.annotation.DomainEvent;
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+import java.util.Currency;
+import java.util.Set;
+
+/*
+ * A price sheet can carry a million rows. Like BulkPriceAdjustmentEvent, one event per applied chunk
+ * records what happened (which lines, how many prices were added or replaced, in which currencies)
+ * without flooding the Audit Log with one PriceUpdatedEvent per row.
+ */
+
+@DomainEvent(name = "Price Sheet Chunk Imported", namespace = "pricelist")
+public record PriceSheetChunkImportedEvent(
+        PriceListUuId id,
+        int chunkIndex,
+        long firstLine,
+        long lastLine,
+        int added,
+        int updated,
+        Set<Currency> currencies,
+        Actor actor
+) {}
@@ -0,0 +1,355 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Small map keyed by Currency for per-item price rows, which almost always hold one to three currencies.
+ *
+ * <p>Currencies are interned to a process-wide ordinal. Up to four entries live inline: the ordinals are
+ * packed into one long and the values into four fields, so a typical row costs a few dozen bytes instead of
+ * a HashMap with its table and nodes. A fifth currency spills into an array indexed directly by ordinal.
+ * Lookups are O(1) in both modes; iteration follows ordinal (first-seen) order, so it is stable.
+ *
+ * <p>Null keys and values are not permitted. Not thread-safe.
+ */
+public final class CurrencyMap<V> extends AbstractMap<Currency, V> {
+
+    private static final int INLINE_SLOTS = 4;
+    private static final int SLOT_BITS = 16;
+    private static final long SLOT_MASK = 0xFFFFL;
+
+    // Inline mode: slot i holds (ordinal + 1) in bits [16i, 16i + 16), 0 = empty; slots are sorted by ordinal
+    private long packedOrdinals;
+    private Object v0, v1, v2, v3;
+
+    // Spilled mode (more than four currencies): values indexed by ordinal
+    private Object[] spilled;
+
+    private int size;
+    private int modCount;
+
+    public CurrencyMap() {}
+
+    public CurrencyMap(Map<Currency, ? extends V> source) {
+        source.forEach(this::put);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (!(key instanceof Currency currency)) return null;
+        int ordinal = Ordinals.peek(currency);
+        if (ordinal < 0) return null;
+
+        if (spilled != null) {
+            return ordinal < spilled.length ? (V) spilled[ordinal] : null;
+        }
+        int slot = findSlot(ordinal);
+        return slot < 0 ? null : (V) inline(slot);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(Currency key, V value) {
+        Objects.requireNonNull(key, "Currency cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        int ordinal = Ordinals.of(key);
+
+        if (spilled == null) {
+            int slot = findSlot(ordinal);
+            if (slot >= 0) {
+                V previous = (V) inline(slot);
+                setInline(slot, value);
+                return previous;
+            }
+            if (size < INLINE_SLOTS) {
+                insertInline(ordinal, value);
+                size++;
+                modCount++;
+                return null;
+            }
+            spill();
+        }
+
+        if (ordinal >= spilled.length) {
+            spilled = Arrays.copyOf(spilled, Math.max(ordinal + 1, spilled.length + (spilled.length >> 1)));
+        }
+        V previous = (V) spilled[ordinal];
+        spilled[ordinal] = value;
+        if (previous == null) {
+            size++;
+            modCount++;
+        }
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (!(key instanceof Currency currency)) return null;
+        int ordinal = Ordinals.peek(currency);
+        if (ordinal < 0) return null;
+
+        V previous;
+        if (spilled != null) {
+            if (ordinal >= spilled.length || spilled[ordinal] == null) return null;
+            previous = (V) spilled[ordinal];
+            spilled[ordinal] = null;
+        } else {
+            int slot = findSlot(ordinal);
+            if (slot < 0) return null;
+            previous = (V) inline(slot);
+            deleteInline(slot);
+        }
+        size--;
+        modCount++;
+        if (spilled != null && size <= INLINE_SLOTS) {
+            unspill();
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        packedOrdinals = 0L;
+        v0 = v1 = v2 = v3 = null;
+        spilled = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Read-through view keyed by ISO 4217 code, for read-models that expose currencies as strings.
+     */
+    public Map<String, V> byCode() {
+        return new AbstractMap<>() {
+            @Override
+            public V get(Object code) {
+                if (!(code instanceof String s)) return null;
+                Currency currency = Ordinals.byCode(s);
+                return currency == null ? null : CurrencyMap.this.get(currency);
+            }
+
+            @Override
+            public boolean containsKey(Object code) {
+                return get(code) != null;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Set<Entry<String, V>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, V>> iterator() {
+                        Iterator<Entry<Currency, V>> entries = CurrencyMap.this.entrySet().iterator();
+                        return new Iterator<>() {
+                            @Override
+                            public boolean hasNext() {
+                                return entries.hasNext();
+                            }
+
+                            @Override
+                            public Entry<String, V> next() {
+                                Entry<Currency, V> entry = entries.next();
+                                return new SimpleImmutableEntry<>(entry.getKey().getCurrencyCode(), entry.getValue());
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<Currency, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Currency, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // --- Inline slots ---
+
+    private int ordinalAt(int slot) {
+        return (int) ((packedOrdinals >>> (slot * SLOT_BITS)) & SLOT_MASK) - 1;
+    }
+
+    private int findSlot(int ordinal) {
+        for (int slot = 0; slot < size && slot < INLINE_SLOTS; slot++) {
+            if (ordinalAt(slot) == ordinal) return slot;
+        }
+        return -1;
+    }
+
+    private Object inline(int slot) {
+        return switch (slot) {
+            case 0 -> v0;
+            case 1 -> v1;
+            case 2 -> v2;
+            default -> v3;
+        };
+    }
+
+    private void setInline(int slot, Object value) {
+        switch (slot) {
+            case 0 -> v0 = value;
+            case 1 -> v1 = value;
+            case 2 -> v2 = value;
+            default -> v3 = value;
+        }
+    }
+
+    private void setSlot(int slot, int ordinal, Object value) {
+        int shift = slot * SLOT_BITS;
+        packedOrdinals = (packedOrdinals & ~(SLOT_MASK << shift)) | ((long) (ordinal + 1) << shift);
+        setInline(slot, value);
+    }
+
+    private void insertInline(int ordinal, Object value) {
+        // Keep slots sorted by ordinal so iteration order matches spilled mode
+        int slot = size;
+        while (slot > 0 && ordinalAt(slot - 1) > ordinal) {
+            setSlot(slot, ordinalAt(slot - 1), inline(slot - 1));
+            slot--;
+        }
+        setSlot(slot, ordinal, value);
+    }
+
+    private void deleteInline(int slot) {
+        for (int i = slot; i < size - 1; i++) {
+            setSlot(i, ordinalAt(i + 1), inline(i + 1));
+        }
+        int last = size - 1;
+        packedOrdinals &= ~(SLOT_MASK << (last * SLOT_BITS));
+        setInline(last, null);
+    }
+
+    private void spill() {
+        Object[] values = new Object[Math.max(Ordinals.count(), ordinalAt(size - 1) + 1)];
+        for (int slot = 0; slot < size; slot++) {
+            values[ordinalAt(slot)] = inline(slot);
+        }
+        packedOrdinals = 0L;
+        v0 = v1 = v2 = v3 = null;
+        spilled = values;
+    }
+
+    private void unspill() {
+        Object[] values = spilled;
+        spilled = null;
+        int slot = 0;
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (values[ordinal] != null) setSlot(slot++, ordinal, values[ordinal]);
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Currency, V>> {
+        private final int expectedModCount = modCount;
+        private int cursor;      // Inline: slot index; spilled: next ordinal to inspect
+        private int returned;
+
+        @Override
+        public boolean hasNext() {
+            return returned < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<Currency, V> next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            returned++;
+            if (spilled == null) {
+                int slot = cursor++;
+                return new SimpleImmutableEntry<>(Ordinals.currency(ordinalAt(slot)), (V) inline(slot));
+            }
+            while (spilled[cursor] == null) cursor++;
+            int ordinal = cursor++;
+            return new SimpleImmutableEntry<>(Ordinals.currency(ordinal), (V) spilled[ordinal]);
+        }
+    }
+
+    /**
+     * Process-wide Currency interning. The ISO 4217 universe is a few hundred codes, well inside 16 bits.
+     */
+    private static final class Ordinals {
+        private static final Map<Currency, Integer> ORDINALS = new ConcurrentHashMap<>();
+        private static volatile Currency[] byOrdinal = new Currency[0];
+
+        static int peek(Currency currency) {
+            Integer ordinal = ORDINALS.get(currency);
+            return ordinal == null ? -1 : ordinal;
+        }
+
+        static int of(Currency currency) {
+            Integer ordinal = ORDINALS.get(currency);
+            return ordinal != null ? ordinal : intern(currency);
+        }
+
+        static int count() {
+            return byOrdinal.length;
+        }
+
+        static Currency currency(int ordinal) {
+            return byOrdinal[ordinal];
+        }
+
+        static Currency byCode(String code) {
+            try {
+                return Currency.getInstance(code);
+            } catch (IllegalArgumentException e) {
+                return null; // Not an ISO 4217 code, so no map can contain it
+            }
+        }
+
+        private static synchronized int intern(Currency currency) {
+            Integer existing = ORDINALS.get(currency);
+            if (existing != null) return existing;
+            int ordinal = byOrdinal.length;
+            if (ordinal >= SLOT_MASK) {
+                throw new IllegalStateException("Too many distinct currencies: " + ordinal);
+            }
+            Currency[] grown = Arrays.copyOf(byOrdinal, ordinal + 1);
+            grown[ordinal] = currency;
+            byOrdinal = grown; // Publish the array before the ordinal becomes visible
+            ORDINALS.put(currency, ordinal);
+            return ordinal;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable prefix-sum table compiled once from the buckets of a Graduated (Staircase) pricing model.
+ * Doubles as the record's (sorted) bucket list, so the JSON shape and equality of the owning record are unchanged.
+ *
+ * <p>Every tier that can actually absorb quantity gets a breakpoint (the cumulative quantity at which it
+ * starts) and the cumulative cost of all tiers before it. A quote is then a binary search for the tier
+ * the quantity ends in, plus a single multiply for the partially filled tier.
+ *
+ * <p>Per-tier costs are rounded exactly as the bucket-by-bucket walk rounds them, so the compiled result
+ * is identical to the walk. Tables that cannot be compiled without changing that behaviour (mixed precision,
+ * non-whole capacities for discrete models) keep using the walk.
+ *
+ * <p>The compiled prefix sums and rates are mirrored as {@link ScaledMoney}, so a quote is long arithmetic
+ * with a single Money created at the end. Anything that does not fit a long uses the Money arrays instead.
+ */
+final class GraduatedTierTable<B extends PricingTier> extends AbstractList<B> implements RandomAccess {
+
+    private static final BigDecimal MAX_INT = BigDecimal.valueOf(Integer.MAX_VALUE);
+
+    private final List<B> buckets;
+    private final boolean wholeUnits;
+    private final Money zero;
+
+    // Compiled state; breakpoints == null means "walk the buckets"
+    private final BigDecimal[] breakpoints;
+    private final Money[] cumulativeCost;
+    private final Money[] rates;
+
+    // Fixed-point mirrors of the compiled state; null when any value does not fit a long
+    private final ScaledMoney[] scaledCumulativeCost;
+    private final ScaledMoney[] scaledRates;
+
+    private GraduatedTierTable(List<B> buckets, boolean wholeUnits, Money zero,
+                               BigDecimal[] breakpoints, Money[] cumulativeCost, Money[] rates) {
+        this.buckets = buckets;
+        this.wholeUnits = wholeUnits;
+        this.zero = zero;
+        this.breakpoints = breakpoints;
+        this.cumulativeCost = cumulativeCost;
+        this.rates = rates;
+        this.scaledCumulativeCost = toScaled(cumulativeCost);
+        this.scaledRates = toScaled(rates);
+    }
+
+    private static ScaledMoney[] toScaled(Money[] values) {
+        if (values == null) return null;
+        ScaledMoney[] scaled = new ScaledMoney[values.length];
+        for (int i = 0; i < values.length; i++) {
+            scaled[i] = ScaledMoney.ofOrNull(values[i]);
+            if (scaled[i] == null) return null;
+        }
+        return scaled;
+    }
+
+    /**
+     * @param wholeUnits true for discrete (Int) models, whose tier portions are billed via Money.multiply(int)
+     */
+    static <B extends PricingTier> GraduatedTierTable<B> compile(List<B> buckets, Currency currency, boolean wholeUnits) {
+        List<B> sorted = buckets.stream()
+                .sorted(Comparator.comparing(PricingTier::minQty))
+                .toList();
+        Money zero = Money.zero(currency);
+
+        List<BigDecimal> breakpoints = new ArrayList<>();
+        List<Money> cumulativeCost = new ArrayList<>();
+        List<Money> rates = new ArrayList<>();
+
+        BigDecimal filled = BigDecimal.ZERO;
+        Money total = zero;
+        breakpoints.add(filled);
+        cumulativeCost.add(total);
+
+        for (B bucket : sorted) {
+            Money rate = bucket.pricePerUnit();
+            if (rate.precision() != zero.precision()) {
+                return new GraduatedTierTable<>(sorted, wholeUnits, zero, null, null, null);
+            }
+
+            if (bucket.maxQty() == null) {
+                // "Infinity" bucket: absorbs everything that is left, nothing after it is reachable
+                rates.add(rate);
+                break;
+            }
+
+            BigDecimal capacity = bucket.maxQty().subtract(bucket.minQty());
+            if (capacity.signum() <= 0) continue; // Never receives a contribution
+
+            if (wholeUnits && !isWholeInt(capacity)) {
+                return new GraduatedTierTable<>(sorted, wholeUnits, zero, null, null, null);
+            }
+
+            Money bucketCost = wholeUnits ? rate.multiply(capacity.intValueExact()) : rate.multiply(capacity);
+            total = total.add(bucketCost);
+            filled = filled.add(capacity);
+
+            rates.add(rate);
+            breakpoints.add(filled);
+            cumulativeCost.add(total);
+        }
+
+        return new GraduatedTierTable<>(sorted, wholeUnits, zero,
+                breakpoints.toArray(BigDecimal[]::new),
+                cumulativeCost.toArray(Money[]::new),
+                rates.toArray(Money[]::new));
+    }
+
+    private static boolean isWholeInt(BigDecimal value) {
+        return value.stripTrailingZeros().scale() <= 0 && value.compareTo(MAX_INT) <= 0;
+    }
+
+    /**
+     * Total price for a non-null quantity. Non-positive quantities cost nothing.
+     */
+    Money quote(BigDecimal quantity) {
+        if (quantity.signum() <= 0) return zero;
+        if (breakpoints == null) return walk(quantity);
+        return quoteInTier(quantity, findTier(quantity, 0));
+    }
+
+    /**
+     * Batch quote (null quantities count as zero). Price ladders are usually ascending,
+     * so each search resumes from the tier of the previous quantity when it can.
+     */
+    Money[] quoteAll(BigDecimal[] quantities) {
+        Money[] results = new Money[quantities.length];
+        int hint = 0;
+        for (int i = 0; i < quantities.length; i++) {
+            BigDecimal quantity = (quantities[i] == null) ? BigDecimal.ZERO : quantities[i];
+            if (quantity.signum() <= 0) {
+                results[i] = zero;
+            } else if (breakpoints == null) {
+                results[i] = walk(quantity);
+            } else {
+                int from = breakpoints[hint].compareTo(quantity) <= 0 ? hint : 0;
+                hint = findTier(quantity, from);
+                results[i] = quoteInTier(quantity, hint);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Last breakpoint <= quantity, searching from the given tier (breakpoints are strictly increasing and start at zero).
+     */
+    private int findTier(BigDecimal quantity, int from) {
+        int low = from;
+        int high = breakpoints.length - 1;
+        int tier = from;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (breakpoints[mid].compareTo(quantity) <= 0) {
+                tier = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return tier;
+    }
+
+    private Money quoteInTier(BigDecimal quantity, int tier) {
+        BigDecimal partial = quantity.subtract(breakpoints[tier]);
+        if (partial.signum() == 0 || tier == rates.length) {
+            // Ends exactly on a breakpoint, or beyond the last (closed) tier
+            return cumulativeCost[tier];
+        }
+
+        if (wholeUnits) {
+            int units = partial.intValueExact();
+            if (scaledRates != null && scaledCumulativeCost != null) {
+                try {
+                    return scaledCumulativeCost[tier].add(scaledRates[tier].multiply(units)).toMoney();
+                } catch (ArithmeticException overflow) {
+                    // Fall through to the BigDecimal path
+                }
+            }
+            return cumulativeCost[tier].add(rates[tier].multiply(units));
+        }
+
+        if (scaledRates != null && scaledCumulativeCost != null) {
+            try {
+                return scaledCumulativeCost[tier].add(scaledRates[tier].multiply(partial)).toMoney();
+            } catch (ArithmeticException overflow) {
+                // Fall through to the BigDecimal path
+            }
+        }
+        return cumulativeCost[tier].add(rates[tier].multiply(partial));
+    }
+
+    /**
+     * Fills buckets sequentially. Reference behaviour for tables that could not be compiled.
+     */
+    private Money walk(BigDecimal quantity) {
+        BigDecimal remaining = quantity;
+        Money total = zero;
+
+        for (B bucket : buckets) {
+            if (remaining.signum() <= 0) break;
+
+            BigDecimal contribution = (bucket.maxQty() == null)
+                    ? remaining
+                    : remaining.min(bucket.maxQty().subtract(bucket.minQty()));
+
+            if (contribution.signum() > 0) {
+                Money bucketCost = wholeUnits
+                        ? bucket.pricePerUnit().multiply(contribution.intValueExact())
+                        : bucket.pricePerUnit().multiply(contribution);
+                total = total.add(bucketCost);
+                remaining = remaining.subtract(contribution);
+            }
+        }
+        return total;
+    }
+
+    boolean isCompiled() {
+        return breakpoints != null;
+    }
+
+    @Override
+    public B get(int index) {
+        return buckets.get(index);
+    }
+
+    @Override
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -77,6 +77,16 @@ public record Money(BigDecimal amount, Currency currency, int precision, Roundin
         return new Money(result, this.currency, this.precision, this.roundingMode);
     }
 
+    /**
+     * The same value in another currency. The rate is in target units per unit of this currency;
+     * the result keeps this Money's precision and rounding mode.
+     */
+    public Money convertTo(Currency target, BigDecimal rate) {
+        DomainGuard.notNull(target, "Target Currency");
+        DomainGuard.positive(rate, "Exchange rate");
+        return new Money(this.amount.multiply(rate), target, this.precision, this.roundingMode);
+    }
+
     public Money divide(int divisor) {
         DomainGuard.positive(divisor, "Divisor must be positive.");
 
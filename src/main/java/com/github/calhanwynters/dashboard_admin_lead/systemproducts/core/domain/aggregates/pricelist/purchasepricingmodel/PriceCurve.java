@@ -0,0 +1,222 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Price-vs-quantity curve of a pricing model, materialised as piecewise-linear segments.
+ * Charts can be drawn straight from the breakpoints without evaluating the model.
+ *
+ * <p>Within a segment the total is {@code basePrice + ratePerUnit * (quantity - baseQty)}, with the product
+ * rounded exactly as the model rounds it. {@link #priceAt(BigDecimal)} therefore returns what {@code calculate}
+ * returns at every quantity the curve covers.
+ * Volume curves jump at tier boundaries, graduated curves bend there, and scaled or fixed curves are one line.
+ *
+ * @param wholeUnits true for discrete (Int) models, which only price whole quantities
+ * @param segments   ordered by fromQty and non-overlapping; quantities between segments have no price
+ */
+public record PriceCurve(Currency currency, boolean wholeUnits, List<Segment> segments) {
+
+    /**
+     * Half-open interval fromQty <= quantity < toQty; toQty is null for the open-ended last segment.
+     */
+    public record Segment(BigDecimal fromQty, BigDecimal toQty, Money basePrice, BigDecimal baseQty, Money ratePerUnit) {
+        public Segment {
+            DomainGuard.notNull(fromQty, "Segment start");
+            DomainGuard.notNull(basePrice, "Segment base price");
+            DomainGuard.notNull(baseQty, "Segment base quantity");
+            DomainGuard.notNull(ratePerUnit, "Segment rate");
+        }
+
+        public boolean contains(BigDecimal quantity) {
+            return quantity.compareTo(fromQty) >= 0 && (toQty == null || quantity.compareTo(toQty) < 0);
+        }
+
+        public Money priceAt(BigDecimal quantity) {
+            return basePrice.add(ratePerUnit.multiply(quantity.subtract(baseQty)));
+        }
+
+        /**
+         * Price at the start of the segment (the left end of the line to draw).
+         */
+        public Money startPrice() {
+            return priceAt(fromQty);
+        }
+
+        /**
+         * Limit of the price as the quantity approaches toQty from below; null for the open-ended segment.
+         */
+        public Money endPrice() {
+            return toQty == null ? null : priceAt(toQty);
+        }
+    }
+
+    public PriceCurve {
+        DomainGuard.notNull(currency, "Currency");
+        DomainGuard.notNull(segments, "Segments");
+        segments = List.copyOf(segments);
+    }
+
+    /**
+     * Derives the curve of a pricing model from its components (tier buckets, base and rate, fixed price).
+     */
+    public static PriceCurve of(PurchasePricing pricing) {
+        DomainGuard.notNull(pricing, "Pricing model");
+        return switch (pricing) {
+            case PriceFixedPurchase p -> line(p.fixedPrice(), zeroLike(p.fixedPrice()), false);
+            case PriceNonePurchase p -> line(Money.zero(p.currency()), Money.zero(p.currency()), false);
+            case PriceFractScaledPurchase p -> line(p.basePrice(), p.ratePerUnit(), false);
+            case PriceIntScaledPurchase p -> line(p.basePrice(), p.scalingFactorPerUnit(), true);
+            case PriceFractTieredVolPurchase p -> volume(p.buckets(), false);
+            case PriceIntTieredVolPurchase p -> volume(p.buckets(), true);
+            case PriceFractTieredGradPurchase p -> graduated(p.buckets(), false);
+            case PriceIntTieredGradPurchase p -> graduated(p.buckets(), true);
+        };
+    }
+
+    /**
+     * Evaluates the curve at one quantity.
+     * @throws IllegalStateException when no segment covers the quantity
+     */
+    public Money priceAt(BigDecimal quantity) {
+        return segmentFor(checked(quantity)).priceAt(quantity);
+    }
+
+    /**
+     * Evaluates the curve at many quantities; ascending input (a chart axis) scans the segments once.
+     */
+    public Money[] priceAll(BigDecimal[] quantities) {
+        Money[] results = new Money[quantities.length];
+        int hint = 0;
+        for (int i = 0; i < quantities.length; i++) {
+            BigDecimal quantity = checked(quantities[i]);
+            if (hint >= segments.size() || quantity.compareTo(segments.get(hint).fromQty()) < 0) hint = 0;
+            while (hint < segments.size() && !segments.get(hint).contains(quantity)
+                    && quantity.compareTo(segments.get(hint).fromQty()) >= 0) {
+                hint++;
+            }
+            if (hint >= segments.size() || !segments.get(hint).contains(quantity)) {
+                throw new IllegalStateException("No price curve segment for quantity: " + quantity);
+            }
+            results[i] = segments.get(hint).priceAt(quantity);
+        }
+        return results;
+    }
+
+    private BigDecimal checked(BigDecimal quantity) {
+        DomainGuard.notNull(quantity, "Quantity");
+        if (wholeUnits) quantity.intValueExact(); // Same rejection of fractional quantities as the Int models
+        return quantity;
+    }
+
+    private Segment segmentFor(BigDecimal quantity) {
+        // Last segment starting at or before the quantity
+        int low = 0;
+        int high = segments.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).fromQty().compareTo(quantity) <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (found < 0 || !segments.get(found).contains(quantity)) {
+            throw new IllegalStateException("No price curve segment for quantity: " + quantity);
+        }
+        return segments.get(found);
+    }
+
+    // --- Derivation ---
+
+    private static Money zeroLike(Money like) {
+        return new Money(BigDecimal.ZERO, like.currency(), like.precision(), like.roundingMode());
+    }
+
+    private static PriceCurve line(Money basePrice, Money rate, boolean wholeUnits) {
+        return new PriceCurve(basePrice.currency(), wholeUnits,
+                List.of(new Segment(BigDecimal.ZERO, null, basePrice, BigDecimal.ZERO, rate)));
+    }
+
+    /**
+     * Volume: the whole quantity is billed at the rate of the first tier (declaration order) that contains it.
+     * Cutting the axis at every tier bound gives intervals on which that choice cannot change.
+     */
+    private static <B extends PricingTier> PriceCurve volume(List<B> buckets, boolean wholeUnits) {
+        TreeSet<BigDecimal> bounds = new TreeSet<>();
+        for (B bucket : buckets) {
+            DomainGuard.notNull(bucket.minQty(), "Tier minQty");
+            bounds.add(bucket.minQty());
+            if (bucket.maxQty() != null) bounds.add(bucket.maxQty());
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        List<BigDecimal> cuts = new ArrayList<>(bounds);
+        B open = null;
+        BigDecimal openFrom = null;
+        for (int i = 0; i < cuts.size(); i++) {
+            BigDecimal from = cuts.get(i);
+            B selected = firstContaining(buckets, from);
+            if (selected != open) {
+                if (open != null) segments.add(volumeSegment(openFrom, from, open));
+                open = selected;
+                openFrom = from;
+            }
+        }
+        if (open != null) {
+            // Only an open-ended tier can contain the last cut
+            segments.add(volumeSegment(openFrom, null, open));
+        }
+        return new PriceCurve(buckets.getFirst().pricePerUnit().currency(), wholeUnits, segments);
+    }
+
+    private static Segment volumeSegment(BigDecimal from, BigDecimal to, PricingTier tier) {
+        // rate * quantity, measured from zero rather than from the start of the segment
+        return new Segment(from, to, zeroLike(tier.pricePerUnit()), BigDecimal.ZERO, tier.pricePerUnit());
+    }
+
+    private static <B extends PricingTier> B firstContaining(List<B> buckets, BigDecimal quantity) {
+        for (B bucket : buckets) {
+            if (bucket.contains(quantity)) return bucket;
+        }
+        return null;
+    }
+
+    /**
+     * Graduated: tiers are filled in minQty order (the bucket list is already sorted), each absorbing its capacity.
+     * A segment starts where the previous tiers are full, at their cumulative cost, and climbs at its own rate.
+     */
+    private static <B extends PricingTier> PriceCurve graduated(List<B> buckets, boolean wholeUnits) {
+        Currency currency = buckets.getFirst().pricePerUnit().currency();
+        Money total = Money.zero(currency);
+        BigDecimal filled = BigDecimal.ZERO;
+        List<Segment> segments = new ArrayList<>();
+
+        for (B bucket : buckets) {
+            Money rate = bucket.pricePerUnit();
+
+            if (bucket.maxQty() == null) {
+                segments.add(new Segment(filled, null, total, filled, rate));
+                return new PriceCurve(currency, wholeUnits, segments);
+            }
+
+            BigDecimal capacity = bucket.maxQty().subtract(bucket.minQty());
+            if (capacity.signum() <= 0) continue;
+
+            segments.add(new Segment(filled, filled.add(capacity), total, filled, rate));
+            total = total.add(wholeUnits ? rate.multiply(capacity.intValueExact()) : rate.multiply(capacity));
+            filled = filled.add(capacity);
+        }
+
+        // All tiers closed: past the last one the total stays flat
+        segments.add(new Segment(filled, null, total, filled, zeroLike(total)));
+        return new PriceCurve(currency, wholeUnits, segments);
+    }
+}
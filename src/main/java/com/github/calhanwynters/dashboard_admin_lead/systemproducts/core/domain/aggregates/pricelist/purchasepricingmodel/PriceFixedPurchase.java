@@ -31,12 +31,27 @@ public record PriceFixedPurchase(Money fixedPrice) implements SimplePurchasePric
         return this.fixedPrice;
     }
 
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        Money[] results = new Money[quantities.length];
+        for (int i = 0; i < quantities.length; i++) {
+            Objects.requireNonNull(quantities[i], "Quantity cannot be null.");
+            results[i] = this.fixedPrice;
+        }
+        return results;
+    }
+
     @Override
     public PurchasePricing adjustedBy(double factor) {
         // Returns a new record instance with the math applied to the Money VO
         return new PriceFixedPurchase(this.fixedPrice.multiply(BigDecimal.valueOf(factor)));
     }
 
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        return new PriceFixedPurchase(this.fixedPrice.convertTo(currency, rate));
+    }
+
     @Override
     public String toString() {
         return String.format("PriceFixedPurchase{fixedPrice=%s}", fixedPrice);
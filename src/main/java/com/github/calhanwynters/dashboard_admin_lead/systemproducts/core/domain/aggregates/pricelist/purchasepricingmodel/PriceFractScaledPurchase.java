@@ -46,7 +46,39 @@ public record PriceFractScaledPurchase(Money basePrice, Money ratePerUnit) imple
             throw new IllegalArgumentException("Quantity must be non-negative.");
         }
 
-        // Calculation: Base + (Rate * Qty)
+        return quote(ScaledMoney.ofOrNull(basePrice), ScaledMoney.ofOrNull(ratePerUnit), quantity);
+    }
+
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        // Convert the components once for the whole batch
+        ScaledMoney scaledBase = ScaledMoney.ofOrNull(basePrice);
+        ScaledMoney scaledRate = ScaledMoney.ofOrNull(ratePerUnit);
+
+        Money[] results = new Money[quantities.length];
+        for (int i = 0; i < quantities.length; i++) {
+            BigDecimal quantity = Objects.requireNonNull(quantities[i], "Quantity cannot be null");
+            if (quantity.compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException("Quantity must be non-negative.");
+            }
+            results[i] = quote(scaledBase, scaledRate, quantity);
+        }
+        return results;
+    }
+
+    /**
+     * Calculation: Base + (Rate * Qty), on the fixed-point fast path when it fits.
+     * Null components (not representable) or overflow use the BigDecimal path.
+     */
+    private Money quote(ScaledMoney scaledBase, ScaledMoney scaledRate, BigDecimal quantity) {
+        if (scaledBase != null && scaledRate != null) {
+            try {
+                return scaledBase.add(scaledRate.multiply(quantity)).toMoney();
+            } catch (ArithmeticException overflow) {
+                // Fall through to the BigDecimal path
+            }
+        }
+
         Money scaledAmount = ratePerUnit.multiply(quantity);
         return this.basePrice.add(scaledAmount);
     }
@@ -63,6 +95,14 @@ public record PriceFractScaledPurchase(Money basePrice, Money ratePerUnit) imple
         );
     }
 
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        return new PriceFractScaledPurchase(
+                this.basePrice.convertTo(currency, rate),
+                this.ratePerUnit.convertTo(currency, rate)
+        );
+    }
+
     // You would also need to update your sealed interface to permit this class:
     // public sealed interface PurchasePricing permits ..., MeteredScaledPurchase, ... {}
 }
@@ -1,7 +1,6 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
 
 import java.math.BigDecimal;
-import java.util.Comparator;
 import java.util.Currency;
 import java.util.List;
 import java.util.Objects;
@@ -13,7 +12,7 @@ import java.util.Objects;
  */
 public record PriceFractTieredGradPurchase(List<TierBucket> buckets) implements PurchasePricing {
 
-    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) {
+    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) implements PricingTier {
         public TierBucket {
             Objects.requireNonNull(minQty, "minQty cannot be null");
             Objects.requireNonNull(pricePerUnit, "pricePerUnit cannot be null");
@@ -34,58 +33,35 @@ public record PriceFractTieredGradPurchase(List<TierBucket> buckets) implements
             }
         }
 
-        // 2. Defensive Copying and Sorting
-        buckets = buckets.stream()
-                .sorted(Comparator.comparing(TierBucket::minQty))
-                .toList();
+        // 2. Defensive Copying and Sorting, compiled once into a prefix-sum tier table
+        buckets = GraduatedTierTable.compile(buckets, baseCurrency, false);
     }
 
     /**
-     * Calculates the total price by filling buckets sequentially.
+     * Calculates the total price as if filling buckets sequentially:
+     * one prefix-sum lookup for the full tiers plus one multiply for the partial tier.
      * Supports fractional quantities (e.g., 1.5 units).
      */
     @Override
     public Money calculate(BigDecimal quantity) {
-        BigDecimal remaining = (quantity == null) ? BigDecimal.ZERO : quantity;
+        BigDecimal qty = (quantity == null) ? BigDecimal.ZERO : quantity;
 
-        if (remaining.signum() < 0) {
+        if (qty.signum() < 0) {
             throw new IllegalArgumentException("Quantity cannot be negative.");
         }
 
-        // Initialize total with a zero amount in the bucket's currency
-        Money total = Money.zero(buckets.getFirst().pricePerUnit().currency());
-
-        for (TierBucket bucket : buckets) {
-            if (remaining.signum() <= 0) break;
-
-            BigDecimal contribution = calculateBucketContribution(bucket, remaining);
-
-            if (contribution.signum() > 0) {
-                // IMPORTANT: Uses the BigDecimal multiply overload to allow fractional math
-                Money bucketCost = bucket.pricePerUnit().multiply(contribution);
-                total = total.add(bucketCost);
-
-                remaining = remaining.subtract(contribution);
-            }
-        }
-
-        return total;
+        // IMPORTANT: The table uses the BigDecimal multiply overload to allow fractional math
+        return tierTable().quote(qty);
     }
 
-    /**
-     * Determines the portion of the remaining quantity that belongs in this bucket.
-     */
-    private BigDecimal calculateBucketContribution(TierBucket bucket, BigDecimal remaining) {
-        if (bucket.maxQty() == null) {
-            // Final catch-all bucket
-            return remaining;
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        for (BigDecimal quantity : quantities) {
+            if (quantity != null && quantity.signum() < 0) {
+                throw new IllegalArgumentException("Quantity cannot be negative.");
+            }
         }
-
-        // Capacity = max - min
-        BigDecimal capacity = bucket.maxQty().subtract(bucket.minQty());
-
-        // Contribution is the smaller of what's left vs the bucket's total capacity
-        return remaining.min(capacity);
+        return tierTable().quoteAll(quantities);
     }
 
     @Override
@@ -103,4 +79,23 @@ public record PriceFractTieredGradPurchase(List<TierBucket> buckets) implements
 
         return new PriceFractTieredGradPurchase(adjustedBuckets);
     }
+
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        // Bounds are quantities, only the per-unit prices change currency
+        List<TierBucket> convertedBuckets = this.buckets.stream()
+                .map(bucket -> new TierBucket(
+                        bucket.minQty(),
+                        bucket.maxQty(),
+                        bucket.pricePerUnit().convertTo(currency, rate)
+                ))
+                .toList();
+
+        return new PriceFractTieredGradPurchase(convertedBuckets);
+    }
+
+    @SuppressWarnings("unchecked")
+    private GraduatedTierTable<TierBucket> tierTable() {
+        return (GraduatedTierTable<TierBucket>) buckets;
+    }
 }
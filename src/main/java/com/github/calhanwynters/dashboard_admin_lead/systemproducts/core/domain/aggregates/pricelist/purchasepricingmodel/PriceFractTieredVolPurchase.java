@@ -1,6 +1,7 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.List;
 import java.util.Objects;
 
@@ -15,16 +16,11 @@ public record PriceFractTieredVolPurchase(List<TierBucket> buckets) implements P
      * Represents a pricing range.
      * Logic: minQty <= quantity < maxQty (half-open interval).
      */
-    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) {
+    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) implements PricingTier {
         public TierBucket {
             Objects.requireNonNull(minQty, "minQty cannot be null");
             Objects.requireNonNull(pricePerUnit, "pricePerUnit cannot be null");
         }
-
-        public boolean contains(BigDecimal quantity) {
-            return quantity.compareTo(minQty) >= 0 &&
-                    (maxQty == null || quantity.compareTo(maxQty) < 0);
-        }
     }
 
     public PriceFractTieredVolPurchase {
@@ -33,8 +29,8 @@ public record PriceFractTieredVolPurchase(List<TierBucket> buckets) implements P
             throw new IllegalArgumentException("Must have at least one pricing bucket.");
         }
 
-        // Defensive copy to ensure immutability
-        buckets = List.copyOf(buckets);
+        // Defensive copy to ensure immutability, compiled once into a searchable tier table
+        buckets = VolumeTierTable.compile(buckets);
     }
 
     /**
@@ -49,15 +45,32 @@ public record PriceFractTieredVolPurchase(List<TierBucket> buckets) implements P
             throw new IllegalArgumentException("Quantity cannot be negative.");
         }
 
-        // Find the specific bucket that covers this fractional quantity
-        TierBucket selectedBucket = buckets.stream()
-                .filter(bucket -> bucket.contains(qty))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException(
-                        "No pricing tier defined for quantity: " + qty));
+        // Find the specific bucket that covers this fractional quantity (binary search on the compiled table)
+        int tier = tierTable().indexOf(qty);
+        if (tier < 0) {
+            throw new IllegalStateException("No pricing tier defined for quantity: " + qty);
+        }
 
-        // Use the BigDecimal multiply overload to support fractional math
-        return selectedBucket.pricePerUnit().multiply(qty);
+        // Fractional multiply (fixed-point fast path, same rounding as the BigDecimal overload)
+        return tierTable().quote(tier, qty);
+    }
+
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        VolumeTierTable<TierBucket> table = tierTable();
+        Money[] results = new Money[quantities.length];
+        for (int i = 0; i < quantities.length; i++) {
+            BigDecimal qty = (quantities[i] == null) ? BigDecimal.ZERO : quantities[i];
+            if (qty.signum() < 0) {
+                throw new IllegalArgumentException("Quantity cannot be negative.");
+            }
+            int tier = table.indexOf(qty);
+            if (tier < 0) {
+                throw new IllegalStateException("No pricing tier defined for quantity: " + qty);
+            }
+            results[i] = table.quote(tier, qty);
+        }
+        return results;
     }
 
     @Override
@@ -76,4 +89,22 @@ public record PriceFractTieredVolPurchase(List<TierBucket> buckets) implements P
         return new PriceFractTieredVolPurchase(adjustedBuckets);
     }
 
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        // Bounds are quantities, only the per-unit prices change currency
+        List<TierBucket> convertedBuckets = this.buckets.stream()
+                .map(bucket -> new TierBucket(
+                        bucket.minQty(),
+                        bucket.maxQty(),
+                        bucket.pricePerUnit().convertTo(currency, rate)
+                ))
+                .toList();
+
+        return new PriceFractTieredVolPurchase(convertedBuckets);
+    }
+
+    @SuppressWarnings("unchecked")
+    private VolumeTierTable<TierBucket> tierTable() {
+        return (VolumeTierTable<TierBucket>) buckets;
+    }
 }
@@ -40,6 +40,36 @@ public record PriceIntScaledPurchase(
         // It throws an exception if 'quantity' is not an exact integer. This is the intended behavior based on the provided code.
         int quantityInt = quantity.intValueExact();
 
+        return quote(ScaledMoney.ofOrNull(basePrice), ScaledMoney.ofOrNull(scalingFactorPerUnit), quantityInt);
+    }
+
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        // Convert the components once for the whole batch
+        ScaledMoney scaledBase = ScaledMoney.ofOrNull(basePrice);
+        ScaledMoney scaledFactor = ScaledMoney.ofOrNull(scalingFactorPerUnit);
+
+        Money[] results = new Money[quantities.length];
+        for (int i = 0; i < quantities.length; i++) {
+            Objects.requireNonNull(quantities[i], "Quantity cannot be null");
+            results[i] = quote(scaledBase, scaledFactor, quantities[i].intValueExact());
+        }
+        return results;
+    }
+
+    /**
+     * Base + (Factor * Qty) on the fixed-point fast path, converting to Money only for the result.
+     * Null components (not representable) or overflow use the BigDecimal path.
+     */
+    private Money quote(ScaledMoney scaledBase, ScaledMoney scaledFactor, int quantityInt) {
+        if (scaledBase != null && scaledFactor != null && quantityInt >= 0) {
+            try {
+                return scaledBase.add(scaledFactor.multiply(quantityInt)).toMoney();
+            } catch (ArithmeticException overflow) {
+                // Fall through to the BigDecimal path
+            }
+        }
+
         Money scaledAmount = scalingFactorPerUnit.multiply(quantityInt); // Uses your existing Money.multiply(int)
 
         return this.basePrice.add(scaledAmount); // Uses your existing Money.add(Money)
@@ -70,4 +100,12 @@ public record PriceIntScaledPurchase(
                 this.scalingFactorPerUnit.multiply(bdFactor)
         );
     }
+
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        return new PriceIntScaledPurchase(
+                this.basePrice.convertTo(currency, rate),
+                this.scalingFactorPerUnit.convertTo(currency, rate)
+        );
+    }
 }
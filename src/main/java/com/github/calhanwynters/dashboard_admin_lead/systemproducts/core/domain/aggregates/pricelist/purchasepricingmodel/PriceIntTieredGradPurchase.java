@@ -1,7 +1,6 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
 
 import java.math.BigDecimal;
-import java.util.Comparator;
 import java.util.Currency;
 import java.util.List;
 import java.util.Objects;
@@ -12,7 +11,7 @@ import java.util.Objects;
  */
 public record PriceIntTieredGradPurchase(List<TierBucket> buckets) implements PurchasePricing {
 
-    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) {
+    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) implements PricingTier {
         public TierBucket {
             Objects.requireNonNull(minQty, "minQty cannot be null");
             Objects.requireNonNull(pricePerUnit, "pricePerUnit cannot be null");
@@ -39,50 +38,24 @@ public record PriceIntTieredGradPurchase(List<TierBucket> buckets) implements Pu
 
         // 2. Defensive Copying and Sorting
         // Reassigning the 'buckets' parameter here automatically updates the record's final field.
-        buckets = buckets.stream()
-                .sorted(Comparator.comparing(TierBucket::minQty))
-                .toList();
+        // The sorted buckets are compiled once into a prefix-sum tier table.
+        buckets = GraduatedTierTable.compile(buckets, baseCurrency, true);
     }
 
+    /**
+     * Every unit is billed at the rate of its tier: the cumulative cost of all full tiers
+     * (precomputed) plus the partially filled tier.
+     */
     @Override
     public Money calculate(BigDecimal quantity) {
-        BigDecimal remaining = (quantity == null) ? BigDecimal.ZERO : quantity;
-
-        // Start with a zero-sum Money using the currency from the first bucket
-        Money total = Money.zero(buckets.getFirst().pricePerUnit().currency());
-
-        for (TierBucket bucket : buckets) {
-            if (remaining.signum() <= 0) break;
-
-            BigDecimal contribution = calculateBucketContribution(bucket, remaining);
-
-            if (contribution.signum() > 0) {
-                // Calculate cost for this specific bucket's portion
-                Money bucketCost = bucket.pricePerUnit().multiply(contribution.intValueExact());
-                total = total.add(bucketCost);
-
-                // Subtract the processed portion from the total remaining quantity
-                remaining = remaining.subtract(contribution);
-            }
-        }
-
-        return total;
+        BigDecimal qty = (quantity == null) ? BigDecimal.ZERO : quantity;
+        return tierTable().quote(qty);
     }
 
-    /**
-     * Determines how much of the remaining quantity fits into the current bucket.
-     */
-    private BigDecimal calculateBucketContribution(TierBucket bucket, BigDecimal remaining) {
-        if (bucket.maxQty() == null) {
-            // "Infinity" bucket: takes everything that is left
-            return remaining;
-        }
-
-        // Capacity = max - min
-        BigDecimal capacity = bucket.maxQty().subtract(bucket.minQty());
-
-        // Contribution is the smaller of what's left vs the bucket's total capacity
-        return remaining.min(capacity);
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        // Null quantities are treated as zero by the table
+        return tierTable().quoteAll(quantities);
     }
 
     @Override
@@ -96,4 +69,19 @@ public record PriceIntTieredGradPurchase(List<TierBucket> buckets) implements Pu
 
         return new PriceIntTieredGradPurchase(adjustedBuckets);
     }
+
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        // Bounds are quantities, only the per-unit prices change currency
+        List<TierBucket> convertedBuckets = this.buckets.stream()
+                .map(b -> new TierBucket(b.minQty(), b.maxQty(), b.pricePerUnit().convertTo(currency, rate)))
+                .toList();
+
+        return new PriceIntTieredGradPurchase(convertedBuckets);
+    }
+
+    @SuppressWarnings("unchecked")
+    private GraduatedTierTable<TierBucket> tierTable() {
+        return (GraduatedTierTable<TierBucket>) buckets;
+    }
 }
@@ -1,38 +1,49 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.List;
 import java.util.Objects;
 
 public record PriceIntTieredVolPurchase(List<TierBucket> buckets) implements PurchasePricing {
 
-    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) {
-        public boolean contains(BigDecimal quantity) {
-            // Logic: min <= quantity < max (standard half-open interval)
-            return quantity.compareTo(minQty) >= 0 &&
-                    (maxQty == null || quantity.compareTo(maxQty) < 0);
-        }
-    }
+    // Logic: min <= quantity < max (standard half-open interval), see PricingTier.contains
+    public record TierBucket(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit) implements PricingTier {}
 
     public PriceIntTieredVolPurchase {
         Objects.requireNonNull(buckets, "Buckets list cannot be null");
         if (buckets.isEmpty()) throw new IllegalArgumentException("Must have at least one bucket.");
-        // Defensive copy
-        buckets = List.copyOf(buckets);
+        // Defensive copy, compiled once into a searchable tier table
+        buckets = VolumeTierTable.compile(buckets);
     }
 
     @Override
     public Money calculate(BigDecimal quantity) {
         BigDecimal qty = (quantity == null) ? BigDecimal.ZERO : quantity;
 
-        // Find the specific bucket that covers this quantity
-        TierBucket selectedBucket = buckets.stream()
-                .filter(bucket -> bucket.contains(qty))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No pricing tier found for quantity: " + qty));
+        // Find the specific bucket that covers this quantity (binary search on the compiled table)
+        int tier = tierTable().indexOf(qty);
+        if (tier < 0) {
+            throw new IllegalStateException("No pricing tier found for quantity: " + qty);
+        }
 
         // Assuming Volume Pricing: Total = (Rate for that bucket) * (Quantity)
-        return selectedBucket.pricePerUnit().multiply(qty.intValueExact());
+        return tierTable().quote(tier, qty.intValueExact());
+    }
+
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        VolumeTierTable<TierBucket> table = tierTable();
+        Money[] results = new Money[quantities.length];
+        for (int i = 0; i < quantities.length; i++) {
+            BigDecimal qty = (quantities[i] == null) ? BigDecimal.ZERO : quantities[i];
+            int tier = table.indexOf(qty);
+            if (tier < 0) {
+                throw new IllegalStateException("No pricing tier found for quantity: " + qty);
+            }
+            results[i] = table.quote(tier, qty.intValueExact());
+        }
+        return results;
     }
 
     @Override
@@ -46,4 +57,19 @@ public record PriceIntTieredVolPurchase(List<TierBucket> buckets) implements Pur
 
         return new PriceIntTieredVolPurchase(adjustedBuckets);
     }
+
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        // Bounds are quantities, only the per-unit prices change currency
+        List<TierBucket> convertedBuckets = this.buckets.stream()
+                .map(b -> new TierBucket(b.minQty(), b.maxQty(), b.pricePerUnit().convertTo(currency, rate)))
+                .toList();
+
+        return new PriceIntTieredVolPurchase(convertedBuckets);
+    }
+
+    @SuppressWarnings("unchecked")
+    private VolumeTierTable<TierBucket> tierTable() {
+        return (VolumeTierTable<TierBucket>) buckets;
+    }
 }
@@ -1,6 +1,7 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Currency;
 import java.util.Objects;
 
@@ -16,9 +17,22 @@ public record PriceNonePurchase(Currency currency) implements SimplePurchasePric
         return Money.zero(currency);
     }
 
+    @Override
+    public Money[] calculateAll(BigDecimal[] quantities) {
+        Money[] results = new Money[quantities.length];
+        // Money is immutable: one zero instance serves every quantity
+        Arrays.fill(results, Money.zero(currency));
+        return results;
+    }
+
     @Override
     public PurchasePricing adjustedBy(double factor) {
         // Zero remains zero regardless of the adjustment factor.
         return this;
     }
+
+    @Override
+    public PurchasePricing convertedTo(Currency currency, BigDecimal rate) {
+        return new PriceNonePurchase(currency);
+    }
 }
@@ -13,5 +13,21 @@ public enum PricingStrategyType {
     // Discrete (Whole Unit) models
     INT_SCALED,
     INT_TIERED_GRAD,
-    INT_TIERED_VOL
+    INT_TIERED_VOL;
+
+    /**
+     * Resolves the strategy a pricing model implements (exhaustive over the sealed hierarchy).
+     */
+    public static PricingStrategyType of(PurchasePricing pricing) {
+        return switch (pricing) {
+            case PriceFixedPurchase p -> FIXED;
+            case PriceNonePurchase p -> NONE;
+            case PriceFractTieredGradPurchase p -> FRACT_TIERED_GRAD;
+            case PriceFractScaledPurchase p -> FRACT_SCALED;
+            case PriceFractTieredVolPurchase p -> FRACT_TIERED_VOL;
+            case PriceIntScaledPurchase p -> INT_SCALED;
+            case PriceIntTieredGradPurchase p -> INT_TIERED_GRAD;
+            case PriceIntTieredVolPurchase p -> INT_TIERED_VOL;
+        };
+    }
 }
@@ -0,0 +1,31 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import java.math.BigDecimal;
+
+/**
+ * Common shape of the TierBucket records used by the tiered pricing models.
+ * Lets the compiled tier tables work against every bucket flavour (Int/Fract, Vol/Grad).
+ */
+public sealed interface PricingTier
+        permits PriceIntTieredVolPurchase.TierBucket,
+        PriceFractTieredVolPurchase.TierBucket,
+        PriceIntTieredGradPurchase.TierBucket,
+        PriceFractTieredGradPurchase.TierBucket {
+
+    BigDecimal minQty();
+
+    /**
+     * Exclusive upper bound of the tier, or null for the open-ended "infinity" tier.
+     */
+    BigDecimal maxQty();
+
+    Money pricePerUnit();
+
+    /**
+     * Logic: minQty <= quantity < maxQty (standard half-open interval).
+     */
+    default boolean contains(BigDecimal quantity) {
+        return quantity.compareTo(minQty()) >= 0 &&
+                (maxQty() == null || quantity.compareTo(maxQty()) < 0);
+    }
+}
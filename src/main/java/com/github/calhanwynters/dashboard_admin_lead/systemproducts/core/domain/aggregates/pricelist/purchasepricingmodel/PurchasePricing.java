@@ -1,6 +1,7 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 
 
 /**
@@ -33,12 +34,26 @@ public sealed interface PurchasePricing
      */
     Money calculate(BigDecimal quantity);
 
+    /**
+     * Batch variant of {@link #calculate(BigDecimal)} for price ladders and carts.
+     * Each model reuses its compiled/derived state across the whole array instead of per call.
+     * @param quantities the quantities to quote (null elements are handled as in calculate)
+     * @return one result per quantity, in the same order
+     */
+    Money[] calculateAll(BigDecimal[] quantities);
+
     /**
      * Creates a new pricing model with all monetary values adjusted by the given factor.
      * factor 1.05 = 5% increase; 0.90 = 10% decrease.
      */
     PurchasePricing adjustedBy(double factor);
 
+    /**
+     * Creates the same model in another currency, every monetary value converted at the given rate
+     * (target units per unit of this model's currency). Quantities and tier bounds are unchanged.
+     */
+    PurchasePricing convertedTo(Currency currency, BigDecimal rate);
+
     /**
      * Compares the "baseline" cost (at 1 unit) to detect price increases.
      */
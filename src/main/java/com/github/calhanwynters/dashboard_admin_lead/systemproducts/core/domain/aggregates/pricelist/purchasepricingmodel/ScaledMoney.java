@@ -0,0 +1,153 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Fixed-point twin of {@link Money}: the amount is a long count of minor units at {@code precision} decimals.
+ * Used internally by the pricing models for quote arithmetic; results cross the boundary as Money via {@link #toMoney()}.
+ *
+ * <p>Rounding follows {@link BigDecimal#setScale(int, RoundingMode)} exactly, so a quote computed here equals the
+ * Money-based quote. Every operation is overflow-checked and throws {@link ArithmeticException} when the result
+ * does not fit in a long; callers catch it and fall back to the BigDecimal path.
+ */
+public record ScaledMoney(long minorUnits, Currency currency, int precision, RoundingMode roundingMode) {
+
+    static final int MAX_PRECISION = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_PRECISION + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i <= MAX_PRECISION; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    public ScaledMoney {
+        DomainGuard.notNull(currency, "Currency");
+        DomainGuard.notNull(roundingMode, "Rounding Mode");
+        DomainGuard.range(precision, 0, MAX_PRECISION, "Precision");
+    }
+
+    /**
+     * True when the Money can be represented (and rounded) without falling back to BigDecimal.
+     */
+    public static boolean isRepresentable(Money money) {
+        return money.precision() <= MAX_PRECISION
+                && money.roundingMode() != RoundingMode.UNNECESSARY
+                && money.amount().precision() <= MAX_PRECISION; // At most 18 digits always fits a long
+    }
+
+    /**
+     * @throws ArithmeticException if the Money is not representable
+     */
+    public static ScaledMoney of(Money money) {
+        if (!isRepresentable(money)) {
+            throw new ArithmeticException("Money is outside the fixed-point range: " + money);
+        }
+        // Money amounts are always stored at scale == precision
+        return new ScaledMoney(money.amount().unscaledValue().longValue(),
+                money.currency(), money.precision(), money.roundingMode());
+    }
+
+    /**
+     * Same as {@link #of(Money)}, but returns null instead of throwing when the Money is not representable.
+     */
+    static ScaledMoney ofOrNull(Money money) {
+        return (money != null && isRepresentable(money)) ? of(money) : null;
+    }
+
+    public Money toMoney() {
+        return new Money(BigDecimal.valueOf(minorUnits, precision), currency, precision, roundingMode);
+    }
+
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(minorUnits, precision);
+    }
+
+    public ScaledMoney add(ScaledMoney other) {
+        DomainGuard.ensure(
+                this.currency.equals(other.currency) && this.precision == other.precision,
+                "Cannot add money objects with different currencies or precision settings.",
+                "VAL-MONEY-001",
+                "CURRENCY_MISMATCH"
+        );
+        return new ScaledMoney(Math.addExact(this.minorUnits, other.minorUnits), currency, precision, roundingMode);
+    }
+
+    public ScaledMoney multiply(long multiplier) {
+        DomainGuard.ensure(multiplier >= 0,
+                "Int-based Multiplier must be non-negative.", "VAL-005", "SEMANTICS");
+        return new ScaledMoney(Math.multiplyExact(this.minorUnits, multiplier), currency, precision, roundingMode);
+    }
+
+    /**
+     * Fractional multiply, rounded back to this precision with this rounding mode (as Money.multiply(BigDecimal)).
+     */
+    public ScaledMoney multiply(BigDecimal factor) {
+        DomainGuard.ensure(factor.signum() >= 0,
+                "Fraction-based Multiplying factor must be non-negative.", "VAL-005", "SEMANTICS");
+        if (factor.precision() > MAX_PRECISION) {
+            throw new ArithmeticException("Factor is outside the fixed-point range: " + factor);
+        }
+        long units = multiplyScaled(this.minorUnits, factor.unscaledValue().longValue(), factor.scale(), roundingMode);
+        return new ScaledMoney(units, currency, precision, roundingMode);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0L;
+    }
+
+    // --- Primitive helpers ---
+
+    /**
+     * (units * factorUnscaled * 10^-factorScale), rounded to whole units.
+     */
+    static long multiplyScaled(long units, long factorUnscaled, int factorScale, RoundingMode roundingMode) {
+        long product = Math.multiplyExact(units, factorUnscaled);
+        if (factorScale <= 0) {
+            if (-factorScale > MAX_PRECISION) {
+                throw new ArithmeticException("Factor scale is outside the fixed-point range: " + factorScale);
+            }
+            return Math.multiplyExact(product, POWERS_OF_TEN[-factorScale]);
+        }
+        if (factorScale > MAX_PRECISION) {
+            throw new ArithmeticException("Factor scale is outside the fixed-point range: " + factorScale);
+        }
+        return divideAndRound(product, POWERS_OF_TEN[factorScale], roundingMode);
+    }
+
+    /**
+     * Integer division by a positive divisor with BigDecimal rounding semantics.
+     */
+    static long divideAndRound(long dividend, long divisor, RoundingMode roundingMode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) return quotient;
+
+        // The discarded fraction is non-zero; its sign is the sign of the exact result
+        int signum = dividend < 0 ? -1 : 1;
+        int half = Long.compare(Math.abs(remainder) * 2, divisor);
+
+        boolean awayFromZero = switch (roundingMode) {
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> signum > 0;
+            case FLOOR -> signum < 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1L) != 0);
+        };
+        return awayFromZero ? quotient + signum : quotient;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", currency.getCurrencyCode(), amount().toPlainString());
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable lookup table compiled once from the buckets of a Volume pricing model.
+ * Doubles as the record's bucket list (declaration order is preserved), so the
+ * JSON shape and equality of the owning record are unchanged.
+ *
+ * <p>When the tiers are disjoint, selection is a binary search over the sorted breakpoints.
+ * Overlapping (or incomplete) tiers fall back to the first-match scan in declaration order,
+ * which is exactly how the models resolved a tier before compilation.
+ *
+ * <p>Tier rates are also kept as {@link ScaledMoney} so quotes run on long arithmetic,
+ * falling back to Money when a rate or product does not fit.
+ */
+final class VolumeTierTable<B extends PricingTier> extends AbstractList<B> implements RandomAccess {
+
+    private final List<B> buckets;
+
+    // Sorted breakpoints (minQty) and the bucket index each one belongs to; null when not searchable
+    private final BigDecimal[] breakpoints;
+    private final int[] searchOrder;
+
+    // Fixed-point rates in declaration order; null entries use the Money path
+    private final ScaledMoney[] scaledRates;
+
+    private VolumeTierTable(List<B> buckets, BigDecimal[] breakpoints, int[] searchOrder) {
+        this.buckets = buckets;
+        this.breakpoints = breakpoints;
+        this.searchOrder = searchOrder;
+        this.scaledRates = new ScaledMoney[buckets.size()];
+        for (int i = 0; i < scaledRates.length; i++) {
+            scaledRates[i] = ScaledMoney.ofOrNull(buckets.get(i).pricePerUnit());
+        }
+    }
+
+    static <B extends PricingTier> VolumeTierTable<B> compile(List<B> buckets) {
+        // Defensive copy (also rejects null elements)
+        List<B> copy = List.copyOf(buckets);
+        int n = copy.size();
+
+        for (B bucket : copy) {
+            if (bucket.minQty() == null) {
+                return new VolumeTierTable<>(copy, null, null);
+            }
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        // Stable sort: ties keep declaration order
+        Arrays.sort(order, Comparator.comparing(i -> copy.get(i).minQty()));
+
+        // 1. Disjointness: every tier but the last must be closed and end at or before the next one starts
+        for (int i = 0; i < n - 1; i++) {
+            B current = copy.get(order[i]);
+            B next = copy.get(order[i + 1]);
+            if (current.maxQty() == null || current.maxQty().compareTo(next.minQty()) > 0) {
+                return new VolumeTierTable<>(copy, null, null);
+            }
+        }
+
+        // 2. Flatten into primitive-friendly arrays
+        BigDecimal[] breakpoints = new BigDecimal[n];
+        int[] searchOrder = new int[n];
+        for (int i = 0; i < n; i++) {
+            searchOrder[i] = order[i];
+            breakpoints[i] = copy.get(order[i]).minQty();
+        }
+        return new VolumeTierTable<>(copy, breakpoints, searchOrder);
+    }
+
+    /**
+     * Returns the bucket covering the quantity, or null when no tier is defined for it.
+     */
+    B select(BigDecimal quantity) {
+        int tier = indexOf(quantity);
+        return tier < 0 ? null : buckets.get(tier);
+    }
+
+    /**
+     * Returns the (declaration order) index of the bucket covering the quantity, or -1.
+     */
+    int indexOf(BigDecimal quantity) {
+        if (searchOrder == null) {
+            for (int i = 0; i < buckets.size(); i++) {
+                if (buckets.get(i).contains(quantity)) return i;
+            }
+            return -1;
+        }
+
+        // Last breakpoint <= quantity
+        int low = 0;
+        int high = breakpoints.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (breakpoints[mid].compareTo(quantity) <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (found < 0) return -1;
+
+        int candidate = searchOrder[found];
+        return buckets.get(candidate).contains(quantity) ? candidate : -1;
+    }
+
+    /**
+     * Volume price for whole units: tier rate * quantity (as Money.multiply(int)).
+     */
+    Money quote(int tier, int quantity) {
+        ScaledMoney rate = scaledRates[tier];
+        if (rate != null && quantity >= 0) {
+            try {
+                return rate.multiply(quantity).toMoney();
+            } catch (ArithmeticException overflow) {
+                // Fall through to the BigDecimal path
+            }
+        }
+        return buckets.get(tier).pricePerUnit().multiply(quantity);
+    }
+
+    /**
+     * Volume price for fractional quantities: tier rate * quantity (as Money.multiply(BigDecimal)).
+     */
+    Money quote(int tier, BigDecimal quantity) {
+        ScaledMoney rate = scaledRates[tier];
+        if (rate != null && quantity.signum() >= 0) {
+            try {
+                return rate.multiply(quantity).toMoney();
+            } catch (ArithmeticException overflow) {
+                // Fall through to the BigDecimal path
+            }
+        }
+        return buckets.get(tier).pricePerUnit().multiply(quantity);
+    }
+
+    boolean isIndexed() {
+        return searchOrder != null;
+    }
+
+    @Override
+    public B get(int index) {
+        return buckets.get(index);
+    }
+
+    @Override
+    public int size() {
+        return buckets.size();
+    }
+}
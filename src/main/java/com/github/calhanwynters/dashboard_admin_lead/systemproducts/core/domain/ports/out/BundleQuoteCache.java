@@ -0,0 +1,28 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleQuote;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Outbound Port for caching bundle quotes (2026 Edition).
+ * Keyed on the bundle definition plus the PriceListVersion of every component PriceList, so a price
+ * change in any one of them produces a new key and a stale bundle total can never be served.
+ */
+public interface BundleQuoteCache {
+
+    record BundleKey(BundleDefinition definition, Map<PriceListUuId, PriceListVersion> priceListVersions) {
+        public BundleKey {
+            DomainGuard.notNull(definition, "Bundle definition");
+            priceListVersions = Map.copyOf(DomainGuard.notNull(priceListVersions, "PriceList versions"));
+        }
+    }
+
+    Optional<BundleQuote> get(BundleKey key);
+
+    void put(BundleKey key, BundleQuote quote);
+}
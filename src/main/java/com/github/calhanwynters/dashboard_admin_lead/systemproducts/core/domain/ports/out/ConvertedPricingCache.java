@@ -0,0 +1,36 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+import java.util.Currency;
+import java.util.Optional;
+
+/**
+ * Outbound Port for pricing models converted from a PriceList's base currency (2026 Edition).
+ * Keyed on both the PriceListVersion and the FX rate revision: a price change or a rate update
+ * produces new keys, so a converted tier table is built at most once per (rate snapshot, version).
+ */
+public interface ConvertedPricingCache {
+
+    record ConversionKey(
+            PriceListUuId priceListUuId,
+            PriceListVersion version,
+            long fxRevision,
+            UuId targetId,
+            Currency currency
+    ) {
+        public ConversionKey {
+            DomainGuard.notNull(priceListUuId, "PriceList UUID");
+            DomainGuard.notNull(version, "PriceList Version");
+            DomainGuard.notNull(targetId, "Target ID");
+            DomainGuard.notNull(currency, "Currency");
+        }
+    }
+
+    Optional<PurchasePricing> get(ConversionKey key);
+
+    void put(ConversionKey key, PurchasePricing converted);
+}
@@ -4,8 +4,10 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureBusinessUuId;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for Features (2026 Edition).
@@ -29,11 +31,29 @@ public interface FeaturesRepository {
      */
     FeaturesAggregate save(FeaturesAggregate aggregate);
 
+    /**
+     * Persists many features in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<FeaturesAggregate> saveAll(Collection<FeaturesAggregate> aggregates);
+
     /**
      * Retrieves all non-archived and non-deleted features.
      */
     List<FeaturesAggregate> findAllActive();
 
+    /**
+     * Keyset page of active features in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<FeaturesAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active features, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<FeaturesAggregate> streamAllActive();
+
     /**
      * Permanent removal from the storage layer.
      */
@@ -0,0 +1,27 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.FxRateTable;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Outbound Port for exchange-rate snapshots (2026 Edition).
+ * Derived-currency prices are computed from the latest table, so a rate update is one write here
+ * instead of a rewrite of every converted price entry.
+ */
+public interface FxRateRepository {
+
+    /**
+     * The most recently published table; implementations may serve it from a short-lived cache.
+     */
+    Optional<FxRateTable> findLatest();
+
+    /**
+     * Appends a new snapshot and returns it with its assigned revision.
+     */
+    FxRateTable publish(Currency baseCurrency, Map<Currency, BigDecimal> rates, Actor actor);
+}
@@ -5,8 +5,10 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryBusinessUuId;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUuId;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for Gallery Management (2026 Edition).
@@ -42,6 +44,12 @@ public interface GalleryRepository {
      */
     GalleryAggregate save(GalleryAggregate aggregate);
 
+    /**
+     * Persists many galleries in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<GalleryAggregate> saveAll(Collection<GalleryAggregate> aggregates);
+
     // --- 4. COLLECTION QUERIES ---
 
     /**
@@ -49,11 +57,33 @@ public interface GalleryRepository {
      */
     List<GalleryAggregate> findAllPublic();
 
+    /**
+     * Keyset page of the public galleries in id order; see findAllActivePage.
+     */
+    KeysetPage<GalleryAggregate> findAllPublicPage(Long afterId, int limit);
+
+    /**
+     * Streams the public galleries lazily; see streamAllActive.
+     */
+    Stream<GalleryAggregate> streamAllPublic();
+
     /**
      * Returns all active galleries (non-archived and non-deleted).
      */
     List<GalleryAggregate> findAllActive();
 
+    /**
+     * Keyset page of active galleries in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<GalleryAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active galleries, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<GalleryAggregate> streamAllActive();
+
     // --- 5. LIFECYCLE ---
 
     /**
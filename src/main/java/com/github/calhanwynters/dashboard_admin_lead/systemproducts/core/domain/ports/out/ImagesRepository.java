@@ -5,8 +5,10 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImagesBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUrl;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for Image Management (2026 Edition).
@@ -34,6 +36,12 @@ public interface ImagesRepository {
      */
     ImageAggregate save(ImageAggregate aggregate);
 
+    /**
+     * Persists many images in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<ImageAggregate> saveAll(Collection<ImageAggregate> aggregates);
+
     // --- 3. SPECIFIC SEARCHES ---
 
     /**
@@ -49,6 +57,18 @@ public interface ImagesRepository {
      */
     List<ImageAggregate> findAllActive();
 
+    /**
+     * Keyset page of active images in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<ImageAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active images, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<ImageAggregate> streamAllActive();
+
     // --- 5. LIFECYCLE ---
 
     /**
@@ -0,0 +1,27 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated read, ordered by the persistence id.
+ * Pass nextCursor as the afterId of the next call; it is null on the last page. Unlike offset paging,
+ * every page costs the same index seek however deep into the catalog it is.
+ */
+public record KeysetPage<T>(List<T> items, Long nextCursor) {
+
+    /**
+     * Upper bound on a page size, so a caller cannot turn a page into a full materialisation.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    public KeysetPage {
+        DomainGuard.notNull(items, "Page items");
+        items = List.copyOf(items);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListCurves;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+import java.util.Optional;
+
+/**
+ * Outbound Port for materialised price curves (2026 Edition).
+ * One curve set per (PriceList, PriceListVersion): any price mutation bumps the version, so a set is
+ * regenerated exactly once per version and superseded sets are simply never asked for again.
+ */
+public interface PriceCurveStore {
+
+    Optional<PriceListCurves> get(PriceListUuId priceListUuId, PriceListVersion version);
+
+    /**
+     * Stores a set under its own (priceListUuId, version).
+     */
+    void put(PriceListCurves curves);
+}
@@ -4,8 +4,11 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for Price List Management (2026 Edition).
@@ -33,6 +36,12 @@ public interface PriceListRepository {
      */
     PriceListAggregate save(PriceListAggregate aggregate);
 
+    /**
+     * Persists many price lists in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<PriceListAggregate> saveAll(Collection<PriceListAggregate> aggregates);
+
     // --- 3. STRATEGY & STATE QUERIES ---
 
     /**
@@ -41,11 +50,33 @@ public interface PriceListRepository {
      */
     List<PriceListAggregate> findByStrategy(PricingStrategyType strategy);
 
+    /**
+     * Keyset page of the price lists under a pricing strategy in id order; see findAllActivePage.
+     */
+    KeysetPage<PriceListAggregate> findByStrategyPage(PricingStrategyType strategy, Long afterId, int limit);
+
+    /**
+     * Streams the price lists under a pricing strategy lazily; see streamAllActive.
+     */
+    Stream<PriceListAggregate> streamByStrategy(PricingStrategyType strategy);
+
     /**
      * Retrieves all currently active (non-archived/non-deleted) price lists.
      */
     List<PriceListAggregate> findAllActive();
 
+    /**
+     * Keyset page of active price lists in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<PriceListAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active price lists, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<PriceListAggregate> streamAllActive();
+
     // --- 4. VERSION CONTROL ---
 
     /**
@@ -56,6 +87,18 @@ public interface PriceListRepository {
             PriceListVersion version
     );
 
+    /**
+     * Lightweight read of the current PriceListVersion without reconstituting the aggregate.
+     * Used to validate version-keyed caches before paying for a full load.
+     */
+    Optional<PriceListVersion> findVersionByUuId(PriceListUuId priceListUuId);
+
+    /**
+     * Batch variant of {@link #findVersionByUuId}: the current versions of many price lists in one round-trip.
+     * Unknown UUIDs are absent from the result.
+     */
+    Map<PriceListUuId, PriceListVersion> findVersionsByUuIds(Collection<PriceListUuId> priceListUuIds);
+
     // --- 5. LIFECYCLE ---
 
     /**
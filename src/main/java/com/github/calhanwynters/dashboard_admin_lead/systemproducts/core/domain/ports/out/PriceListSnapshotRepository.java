@@ -0,0 +1,29 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListSnapshot;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+import java.util.Currency;
+import java.util.Optional;
+
+/**
+ * Outbound Port for historical PriceList state (2026 Edition).
+ * Snapshots are appended by the PriceList adapter on every save and never rewritten, keyed by
+ * (PriceListBusinessUuId, PriceListVersion). Lookups are as-of: a version that was not itself saved
+ * resolves to the latest saved version before it.
+ */
+public interface PriceListSnapshotRepository {
+
+    /**
+     * The whole PriceList as of a version; empty when nothing was saved at or before it.
+     */
+    Optional<PriceListSnapshot> findAsOf(PriceListBusinessUuId businessUuId, PriceListVersion version);
+
+    /**
+     * A single price as of a version, without materialising the rest of the snapshot.
+     */
+    Optional<PurchasePricing> findPriceAsOf(PriceListBusinessUuId businessUuId, PriceListVersion version,
+                                            UuId targetId, Currency currency);
+}
@@ -0,0 +1,56 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Optional;
+
+/**
+ * Outbound Port for caching computed price quotes (2026 Edition).
+ * Entries are keyed on the PriceListVersion, which the aggregate increments on every price mutation,
+ * so a stale quote can never be served: a new version simply produces new keys and the old ones age out.
+ * The FX rate revision is part of the key too, since lines without an explicit price may be derived from it.
+ */
+public interface PriceQuoteCache {
+
+    /**
+     * Cache key. The quantity is normalised so that 2, 2.0 and 2.00 share one entry.
+     * fxRevision is 0 while no rate table has been published.
+     */
+    record QuoteKey(
+            PriceListUuId priceListUuId,
+            PriceListVersion version,
+            long fxRevision,
+            UuId targetId,
+            Currency currency,
+            BigDecimal quantity
+    ) {
+        public QuoteKey {
+            DomainGuard.notNull(priceListUuId, "PriceList UUID");
+            DomainGuard.notNull(version, "PriceList Version");
+            DomainGuard.notNull(targetId, "Target ID");
+            DomainGuard.notNull(currency, "Currency");
+            quantity = (quantity == null) ? BigDecimal.ZERO : quantity.stripTrailingZeros();
+        }
+    }
+
+    /**
+     * Point-in-time cache counters for dashboards and tuning.
+     */
+    record QuoteCacheStats(long hitCount, long missCount, long evictionCount, long estimatedSize) {
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+
+    Optional<Money> get(QuoteKey key);
+
+    void put(QuoteKey key, Money quote);
+
+    QuoteCacheStats stats();
+}
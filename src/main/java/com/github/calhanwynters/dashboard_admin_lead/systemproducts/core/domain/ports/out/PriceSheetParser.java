@@ -0,0 +1,32 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceSheetRow;
+
+import java.io.Reader;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Outbound Port for reading price sheets (2026 Edition).
+ * Rows use the same columns as a persisted price entry: item_id, currency_code, pricing_type and
+ * strategy_details (the pricing model as a JSON object), so an exported price list can be re-imported as is.
+ */
+public interface PriceSheetParser {
+
+    enum Format {
+        CSV,   // Header row required; strategy_details is a quoted JSON object
+        JSONL  // One JSON object per line: itemId, currencyCode, pricingType, strategyDetails
+    }
+
+    /**
+     * A source line that could not be turned into a PriceSheetRow, or that a later check refused.
+     */
+    record Rejection(long line, String reason) {}
+
+    /**
+     * Lazily parses the source; nothing beyond the current row is buffered, so memory stays flat
+     * whatever the sheet size. Malformed rows are reported to rejections and skipped.
+     * The caller owns the reader and should close the stream.
+     */
+    Stream<PriceSheetRow> parse(Reader source, Format format, Consumer<Rejection> rejections);
+}
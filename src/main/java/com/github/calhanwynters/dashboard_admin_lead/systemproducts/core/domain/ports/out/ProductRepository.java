@@ -4,8 +4,10 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.*;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryUuId;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for Product Management (2026 Edition).
@@ -25,6 +27,12 @@ public interface ProductRepository {
      */
     Optional<ProductAggregate> findByBusinessUuId(ProductBusinessUuId businessUuId);
 
+    /**
+     * Batch lookup in one round-trip (e.g. all components of a bundle).
+     * Unknown UUIDs are simply absent from the result; order is not guaranteed.
+     */
+    List<ProductAggregate> findAllByUuIds(Collection<ProductUuId> productUuIds);
+
     // --- 2. PERSISTENCE ---
 
     /**
@@ -33,6 +41,12 @@ public interface ProductRepository {
      */
     ProductAggregate save(ProductAggregate aggregate);
 
+    /**
+     * Persists many products in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<ProductAggregate> saveAll(Collection<ProductAggregate> aggregates);
+
     // --- 3. REFERENCE LOOKUPS ---
 
     /**
@@ -48,11 +62,33 @@ public interface ProductRepository {
      */
     List<ProductAggregate> findAllByStatus(ProductStatus status);
 
+    /**
+     * Keyset page of the products in a lifecycle status in id order; see findAllActivePage.
+     */
+    KeysetPage<ProductAggregate> findAllByStatusPage(ProductStatus status, Long afterId, int limit);
+
+    /**
+     * Streams the products in a lifecycle status lazily; see streamAllActive.
+     */
+    Stream<ProductAggregate> streamAllByStatus(ProductStatus status);
+
     /**
      * Retrieves all active products (non-archived and non-deleted).
      */
     List<ProductAggregate> findAllActive();
 
+    /**
+     * Keyset page of active products in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<ProductAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active products, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<ProductAggregate> streamAllActive();
+
     // --- 5. LIFECYCLE ---
 
     /**
@@ -4,8 +4,10 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListDomainWrapper.*;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesUuId;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for TypeList Management (2026 Edition).
@@ -33,6 +35,12 @@ public interface TypeListRepository {
      */
     TypeListAggregate save(TypeListAggregate aggregate);
 
+    /**
+     * Persists many TypeLists in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<TypeListAggregate> saveAll(Collection<TypeListAggregate> aggregates);
+
     // --- 3. REVERSE LOOKUP ---
 
     /**
@@ -48,6 +56,18 @@ public interface TypeListRepository {
      */
     List<TypeListAggregate> findAllActive();
 
+    /**
+     * Keyset page of active TypeLists in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<TypeListAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active TypeLists, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<TypeListAggregate> streamAllActive();
+
     // --- 5. LIFECYCLE ---
 
     /**
@@ -3,8 +3,10 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesAggregate;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.*;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for Types Management (2026 Edition).
@@ -32,6 +34,12 @@ public interface TypesRepository {
      */
     TypesAggregate save(TypesAggregate aggregate);
 
+    /**
+     * Persists many Types in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<TypesAggregate> saveAll(Collection<TypesAggregate> aggregates);
+
     // --- 3. SEARCH & VALIDATION ---
 
     /**
@@ -47,6 +55,18 @@ public interface TypesRepository {
      */
     List<TypesAggregate> findAllActive();
 
+    /**
+     * Keyset page of active Types in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<TypesAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active Types, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<TypesAggregate> streamAllActive();
+
     // --- 5. LIFECYCLE ---
 
     /**
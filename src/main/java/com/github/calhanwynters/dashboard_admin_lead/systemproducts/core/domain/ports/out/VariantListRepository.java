@@ -4,8 +4,10 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListDomainWrapper.*;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsUuId;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for VariantList Management (2026 Edition).
@@ -33,6 +35,12 @@ public interface VariantListRepository {
      */
     VariantListAggregate save(VariantListAggregate aggregate);
 
+    /**
+     * Persists many VariantLists in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<VariantListAggregate> saveAll(Collection<VariantListAggregate> aggregates);
+
     // --- 3. REVERSE LOOKUP ---
 
     /**
@@ -48,6 +56,18 @@ public interface VariantListRepository {
      */
     List<VariantListAggregate> findAllActive();
 
+    /**
+     * Keyset page of active VariantLists in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<VariantListAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active VariantLists, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<VariantListAggregate> streamAllActive();
+
     // --- 5. LIFECYCLE ---
 
     /**
@@ -5,8 +5,10 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsAggregate;
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.*;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Outbound Port for Variant Management (2026 Edition).
@@ -34,6 +36,12 @@ public interface VariantsRepository {
      */
     VariantsAggregate save(VariantsAggregate aggregate);
 
+    /**
+     * Persists many Variants in one transaction, with the statements sent in JDBC batches.
+     * Returns the reconstituted aggregates in input order.
+     */
+    List<VariantsAggregate> saveAll(Collection<VariantsAggregate> aggregates);
+
     // --- 3. REVERSE LOOKUP ---
 
     /**
@@ -49,6 +57,18 @@ public interface VariantsRepository {
      */
     List<VariantsAggregate> findAllActive();
 
+    /**
+     * Keyset page of active Variants in id order. Pass the previous page's nextCursor as afterId
+     * (null for the first page); limit is capped at KeysetPage.MAX_LIMIT.
+     */
+    KeysetPage<VariantsAggregate> findAllActivePage(Long afterId, int limit);
+
+    /**
+     * Streams all active Variants, mapping rows lazily off a database cursor.
+     * Must run inside a transaction and be closed (try-with-resources) before it ends.
+     */
+    Stream<VariantsAggregate> streamAllActive();
+
     // --- 5. LIFECYCLE ---
 
     /**
@@ -0,0 +1,85 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductUuId;
+
+/**
+ * A bundle to be priced by BundlePricingService: the component products, their quantities and
+ * the override rules that replace or discount their individual list prices.
+ * Value semantics (quantities and percentages are normalised) so equal definitions share cached quotes.
+ *
+ * @param bundleDiscountPercent discount applied to the sum of the component prices, 0 for none
+ */
+public record BundleDefinition(
+        Currency currency,
+        List<Component> components,
+        BigDecimal bundleDiscountPercent
+) {
+
+    /**
+     * One product in the bundle, priced from its own PriceList at the given quantity.
+     */
+    public record Component(ProductUuId productUuId, BigDecimal quantity, PriceOverride override) {
+        public Component {
+            DomainGuard.notNull(productUuId, "Product UUID");
+            quantity = DomainGuard.nonNegative(quantity, "Component quantity").stripTrailingZeros();
+            override = (override == null) ? new ListPrice() : override;
+        }
+    }
+
+    /**
+     * How a component's list price is turned into its price inside the bundle.
+     */
+    public sealed interface PriceOverride permits ListPrice, FixedPrice, PercentOff {}
+
+    /**
+     * The component costs what its PriceList quotes.
+     */
+    public record ListPrice() implements PriceOverride {}
+
+    /**
+     * The component costs a fixed total regardless of its list price (e.g. an included accessory at 0.00).
+     */
+    public record FixedPrice(Money price) implements PriceOverride {
+        public FixedPrice {
+            DomainGuard.notNull(price, "Fixed component price");
+            DomainGuard.nonNegative(price.amount(), "Fixed component price");
+        }
+    }
+
+    /**
+     * The component's list price less a percentage (0-100).
+     */
+    public record PercentOff(BigDecimal percent) implements PriceOverride {
+        public PercentOff {
+            percent = percentage(percent, "Component discount").stripTrailingZeros();
+        }
+    }
+
+    public BundleDefinition {
+        DomainGuard.notNull(currency, "Currency");
+        components = List.copyOf(DomainGuard.notEmpty(components, "Bundle components"));
+        bundleDiscountPercent = percentage(bundleDiscountPercent == null ? BigDecimal.ZERO : bundleDiscountPercent,
+                "Bundle discount").stripTrailingZeros();
+        for (Component component : components) {
+            if (component.override() instanceof FixedPrice fixed) {
+                DomainGuard.ensure(fixed.price().currency().equals(currency),
+                        "Fixed component price must be in the bundle currency " + currency + ".",
+                        "VAL-BUNDLE-001", "CURRENCY_MISMATCH");
+            }
+        }
+    }
+
+    private static BigDecimal percentage(BigDecimal value, String fieldName) {
+        DomainGuard.nonNegative(value, fieldName);
+        DomainGuard.ensure(value.compareTo(BigDecimal.valueOf(100)) <= 0,
+                fieldName + " cannot exceed 100 percent.", "VAL-BUNDLE-002", "PERCENT_RANGE");
+        return value;
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceQuoteRequest;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.BundleQuoteCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.BundleQuoteCache.BundleKey;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ProductRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.Component;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.FixedPrice;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.ListPrice;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.PercentOff;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleQuote.ComponentQuote;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListVersion;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductUuId;
+
+/**
+ * Prices a bundle of products, each from its own PriceList (see the note in PurchasePricing).
+ *
+ * <p>Round-trips do not grow with the component count when nothing changed: one batch read resolves the
+ * products, one batch read fetches the current version of every component PriceList, and the quote cache is
+ * keyed on exactly those versions. On a miss, each distinct PriceList is loaded and quoted on its own virtual
+ * thread (all of its components in one quoteAll pass). The loads of every bundle being quoted share one
+ * bound, set below the connection pool size, so concurrent bundle quotes leave connections for other work.
+ */
+public class BundlePricingService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final ProductRepository productRepository;
+    private final PriceListRepository priceListRepository;
+    private final BundleQuoteCache quoteCache;
+    private final Semaphore loadPermits;
+
+    public BundlePricingService(ProductRepository productRepository, PriceListRepository priceListRepository,
+                                BundleQuoteCache quoteCache, int maxConcurrentLoads) {
+        this.productRepository = productRepository;
+        this.priceListRepository = priceListRepository;
+        this.quoteCache = quoteCache;
+        this.loadPermits = new Semaphore(Math.max(1, maxConcurrentLoads));
+    }
+
+    public BundleQuote quote(BundleDefinition definition) {
+        // 1. Resolve every component's PriceList in one batch read
+        List<Component> components = definition.components();
+        Map<ProductUuId, PriceListUuId> priceListOf = resolvePriceLists(components);
+
+        // 2. Current versions of all component PriceLists in one batch read; together they key the cache
+        Map<PriceListUuId, PriceListVersion> versions =
+                priceListRepository.findVersionsByUuIds(priceListOf.values().stream().distinct().toList());
+        for (PriceListUuId priceListUuId : priceListOf.values()) {
+            if (!versions.containsKey(priceListUuId)) {
+                throw new IllegalArgumentException("PriceList not found: " + priceListUuId.value());
+            }
+        }
+
+        BundleQuote hit = quoteCache.get(new BundleKey(definition, versions)).orElse(null);
+        if (hit != null) return hit.asCached();
+
+        // 3. Quote the components that need a list price, one virtual thread per distinct PriceList
+        Map<PriceListUuId, List<Integer>> positionsByList = new LinkedHashMap<>();
+        for (int i = 0; i < components.size(); i++) {
+            if (!(components.get(i).override() instanceof FixedPrice)) {
+                positionsByList.computeIfAbsent(priceListOf.get(components.get(i).productUuId()), k -> new ArrayList<>()).add(i);
+            }
+        }
+        Money[] listPrices = new Money[components.size()];
+        Map<PriceListUuId, PriceListVersion> quotedVersions = new HashMap<>(versions);
+        quoteConcurrently(definition, positionsByList, listPrices, quotedVersions);
+
+        // 4. Apply the override rules and the bundle discount
+        BundleQuote quote = price(definition, priceListOf, listPrices, quotedVersions);
+
+        // Keyed by the versions actually quoted: if a writer committed in between, this quote belongs to the newer ones
+        quoteCache.put(new BundleKey(definition, quotedVersions), quote);
+        return quote;
+    }
+
+    private Map<ProductUuId, PriceListUuId> resolvePriceLists(List<Component> components) {
+        List<ProductUuId> productIds = components.stream().map(Component::productUuId).distinct().toList();
+        Map<ProductUuId, PriceListUuId> priceListOf = new HashMap<>();
+        for (ProductAggregate product : productRepository.findAllByUuIds(productIds)) {
+            priceListOf.put(product.getUuId(), product.getPriceListUuId());
+        }
+
+        for (ProductUuId productId : productIds) {
+            PriceListUuId priceListUuId = priceListOf.get(productId);
+            if (priceListUuId == null) {
+                throw new IllegalArgumentException("Product not found: " + productId.value());
+            }
+            if (priceListUuId.isNone()) {
+                throw new IllegalArgumentException("Product has no PriceList assigned: " + productId.value());
+            }
+        }
+        return priceListOf;
+    }
+
+    private void quoteConcurrently(BundleDefinition definition, Map<PriceListUuId, List<Integer>> positionsByList,
+                                   Money[] listPrices, Map<PriceListUuId, PriceListVersion> quotedVersions) {
+        Map<PriceListUuId, Future<PriceListAggregate>> loads = new LinkedHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            positionsByList.forEach((priceListUuId, positions) -> loads.put(priceListUuId, executor.submit(() -> {
+                loadPermits.acquire();
+                try {
+                    PriceListAggregate priceList = priceListRepository.findByUuId(priceListUuId)
+                            .orElseThrow(() -> new IllegalArgumentException("PriceList not found: " + priceListUuId.value()));
+
+                    List<PriceQuoteRequest> lines = new ArrayList<>(positions.size());
+                    for (int position : positions) {
+                        Component component = definition.components().get(position);
+                        lines.add(new PriceQuoteRequest(component.productUuId().value(), definition.currency(), component.quantity()));
+                    }
+                    // Disjoint positions per PriceList, so the threads never write the same slot
+                    Money[] quoted = priceList.quoteAll(lines);
+                    for (int k = 0; k < quoted.length; k++) {
+                        listPrices[positions.get(k)] = quoted[k];
+                    }
+                    return priceList;
+                } finally {
+                    loadPermits.release();
+                }
+            })));
+
+            for (Map.Entry<PriceListUuId, Future<PriceListAggregate>> load : loads.entrySet()) {
+                quotedVersions.put(load.getKey(), join(load.getValue(), executor).getPriceListVersion());
+            }
+        }
+    }
+
+    private static PriceListAggregate join(Future<PriceListAggregate> future, ExecutorService executor) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            executor.shutdownNow(); // Abandon the remaining loads
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("Bundle component pricing failed", e.getCause());
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bundle pricing interrupted", e);
+        }
+    }
+
+    private BundleQuote price(BundleDefinition definition, Map<ProductUuId, PriceListUuId> priceListOf,
+                              Money[] listPrices, Map<PriceListUuId, PriceListVersion> quotedVersions) {
+        List<Component> components = definition.components();
+        List<ComponentQuote> quotes = new ArrayList<>(components.size());
+        Money componentsTotal = Money.zero(definition.currency());
+
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            PriceListUuId priceListUuId = priceListOf.get(component.productUuId());
+            Money listPrice = listPrices[i];
+            if (listPrice == null && !(component.override() instanceof FixedPrice)) {
+                throw new IllegalArgumentException("No price for product " + component.productUuId().value()
+                        + " in " + definition.currency() + " on PriceList " + priceListUuId.value());
+            }
+
+            Money price = switch (component.override()) {
+                case ListPrice rule -> listPrice;
+                case FixedPrice rule -> rule.price();
+                case PercentOff rule -> listPrice.multiply(remainingShare(rule.percent()));
+            };
+            componentsTotal = componentsTotal.add(price);
+            quotes.add(new ComponentQuote(component.productUuId(), priceListUuId, listPrice, price));
+        }
+
+        Money total = componentsTotal.multiply(remainingShare(definition.bundleDiscountPercent()));
+        return new BundleQuote(total, componentsTotal, quotes, quotedVersions, false);
+    }
+
+    private static BigDecimal remainingShare(BigDecimal percentOff) {
+        return HUNDRED.subtract(percentOff).divide(HUNDRED);
+    }
+}
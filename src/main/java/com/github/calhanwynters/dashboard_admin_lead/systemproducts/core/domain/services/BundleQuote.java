@@ -0,0 +1,38 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListVersion;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductUuId;
+
+/**
+ * Result of pricing a BundleDefinition.
+ *
+ * @param priceListVersions the version of every component PriceList the quote was computed from
+ * @param cached            true when served from the bundle quote cache without touching any PriceList
+ */
+public record BundleQuote(
+        Money total,
+        Money componentsTotal,
+        List<ComponentQuote> components,
+        Map<PriceListUuId, PriceListVersion> priceListVersions,
+        boolean cached
+) {
+    /**
+     * @param listPrice null when the component's PriceList has no price and a FixedPrice override applies
+     */
+    public record ComponentQuote(ProductUuId productUuId, PriceListUuId priceListUuId, Money listPrice, Money price) {}
+
+    public BundleQuote {
+        components = List.copyOf(components);
+        priceListVersions = Map.copyOf(priceListVersions);
+    }
+
+    BundleQuote asCached() {
+        return new BundleQuote(total, componentsTotal, components, priceListVersions, true);
+    }
+}
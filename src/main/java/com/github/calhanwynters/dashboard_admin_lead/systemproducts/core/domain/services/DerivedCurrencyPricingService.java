@@ -0,0 +1,75 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.FxRateTable;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceQuoteRequest;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ConvertedPricingCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ConvertedPricingCache.ConversionKey;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quotes a PriceList in currencies it does not store, from its base-currency entries and an FX rate table.
+ *
+ * <p>Explicit entries always win, so hand-maintained prices keep working as overrides. Any other currency
+ * is derived lazily: the target's entry in the table's base currency is converted with Money's rounding
+ * rules, once per (PriceListVersion, rate revision), and the converted model is reused from the cache.
+ */
+public class DerivedCurrencyPricingService {
+
+    private final ConvertedPricingCache convertedCache;
+
+    public DerivedCurrencyPricingService(ConvertedPricingCache convertedCache) {
+        this.convertedCache = convertedCache;
+    }
+
+    /**
+     * Same contract as PriceListAggregate.quoteAll, with lines the list has no explicit price for derived
+     * when possible. Still null where neither an explicit price nor a base price and rate exist.
+     */
+    public Money[] quoteAll(PriceListAggregate priceList, List<PriceQuoteRequest> requests, FxRateTable rates) {
+        Money[] results = priceList.quoteAll(requests);
+        if (rates == null) return results;
+
+        // 1. Group the unpriced lines by the converted model they need
+        Map<ConversionKey, List<Integer>> derivedLines = new LinkedHashMap<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) continue;
+            PriceQuoteRequest request = requests.get(i);
+            ConversionKey key = new ConversionKey(priceList.getUuId(), priceList.getPriceListVersion(),
+                    rates.revision(), request.targetId(), request.currency());
+            derivedLines.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        // 2. One conversion (or cache hit) and one calculateAll per (target, currency)
+        Map<UuId, Map<Currency, PurchasePricing>> prices = priceList.getMultiCurrencyPrices();
+        derivedLines.forEach((key, positions) -> {
+            PurchasePricing converted = convertedCache.get(key).orElse(null);
+            if (converted == null) {
+                Map<Currency, PurchasePricing> row = prices.get(key.targetId());
+                PurchasePricing base = row == null ? null : row.get(rates.baseCurrency());
+                converted = base == null ? null : rates.convert(base, key.currency());
+                if (converted == null) return; // No base price or no rate: stays unpriced
+                convertedCache.put(key, converted);
+            }
+
+            BigDecimal[] quantities = new BigDecimal[positions.size()];
+            for (int k = 0; k < quantities.length; k++) {
+                quantities[k] = requests.get(positions.get(k)).quantity();
+            }
+            Money[] quoted = converted.calculateAll(quantities);
+            for (int k = 0; k < quoted.length; k++) {
+                results[positions.get(k)] = quoted[k];
+            }
+        });
+        return results;
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.CacheInvalidationBus;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource.ReadWriteRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded in-process cache of one aggregate type, keyed by its UUID wrapper.
+ *
+ * <p>Aggregates are mutable, so the cache only ever holds private copies: a loaded aggregate is copied
+ * in, and every hit hands out a fresh copy. Writers evict after their transaction commits. Each key
+ * hashes to a stamp that every eviction bumps, and a load only stores its result if the stamp is still
+ * the one read before the load started, so a read racing a commit cannot re-insert the old state.
+ * Where the type has a lock version, an entry is never replaced by an older one. A load inside a read-write
+ * transaction may see that transaction's own uncommitted writes, so it is stored only after the commit
+ * (and never on rollback). Loads read from the primary: an entry lives far longer than the replica lag,
+ * and the eviction before a miss may come from a commit on another node, which opens no read-your-writes
+ * window here.
+ *
+ * <p>With a {@link CacheInvalidationBus} attached, every eviction registered by a writer is also published
+ * under this cache's name, so the same entry is dropped on the other nodes.
+ */
+public class AggregateNearCache<K, A extends BaseAggregateRoot<A, ?, K, ?>> {
+
+    private static final int STAMP_SLOTS = 4096;
+
+    private final String name;
+    private final Cache<K, A> cache;
+    private final UnaryOperator<A> copy;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_SLOTS);
+    private final Function<K, String> keyText;
+    private final Function<String, K> keyOf;
+    private final CacheInvalidationBus bus;
+
+    /**
+     * Node-local cache: evictions are not broadcast.
+     *
+     * @param copy detached deep copy of an aggregate (e.g. a mapper round trip through the entity)
+     */
+    public AggregateNearCache(String name, long maximumSize, Duration ttl, UnaryOperator<A> copy) {
+        this(name, maximumSize, ttl, copy, null, null, null);
+    }
+
+    /**
+     * @param keyText how a key travels on the bus
+     * @param keyOf   parses a key received from the bus
+     */
+    public AggregateNearCache(String name, long maximumSize, Duration ttl, UnaryOperator<A> copy,
+                              Function<K, String> keyText, Function<String, K> keyOf, CacheInvalidationBus bus) {
+        this.name = name;
+        this.copy = copy;
+        this.keyText = keyText;
+        this.keyOf = keyOf;
+        this.bus = bus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Optional<A> get(K key, Function<K, Optional<A>> loader) {
+        A hit = cache.getIfPresent(key);
+        if (hit != null) return Optional.of(copy.apply(hit));
+
+        long stamp = stamps.get(slot(key));
+        Optional<A> loaded = ReadWriteRoutingDataSource.onPrimary(() -> loader.apply(key));
+        loaded.ifPresent(aggregate -> storeCommitted(key, aggregate, stamp));
+        return loaded;
+    }
+
+    /**
+     * Batch read: hits are served from the cache and only the misses are handed to the loader, in one call.
+     * Returns the aggregates found, hits first.
+     */
+    public List<A> getAll(Collection<K> keys, Function<List<K>, List<A>> loader) {
+        List<A> found = new ArrayList<>(keys.size());
+        Map<K, Long> missing = new LinkedHashMap<>();
+        for (K key : keys) {
+            A hit = cache.getIfPresent(key);
+            if (hit != null) {
+                found.add(copy.apply(hit));
+            } else {
+                missing.putIfAbsent(key, stamps.get(slot(key)));
+            }
+        }
+        if (missing.isEmpty()) return found;
+
+        List<K> misses = List.copyOf(missing.keySet());
+        for (A aggregate : ReadWriteRoutingDataSource.onPrimary(() -> loader.apply(misses))) {
+            Long stamp = missing.get(aggregate.getUuId());
+            if (stamp != null) storeCommitted(aggregate.getUuId(), aggregate, stamp);
+            found.add(aggregate);
+        }
+        return found;
+    }
+
+    /**
+     * Drops the entry unless it already holds a version newer than committedVersion (null drops unconditionally),
+     * and fences off loads that started before this call.
+     */
+    public void evict(K key, Long committedVersion) {
+        stamps.incrementAndGet(slot(key));
+        cache.asMap().computeIfPresent(key, (k, current) ->
+                isNewer(current.getOptLockVer(), committedVersion) ? current : null);
+    }
+
+    /**
+     * Eviction received from another node.
+     */
+    public void evictRemote(String keyText, Long committedVersion) {
+        evict(keyOf.apply(keyText), committedVersion);
+    }
+
+    /**
+     * Evicts once the surrounding transaction has committed (immediately when there is none).
+     * A rollback leaves the entry alone, as the stored state is still the committed one.
+     */
+    public void evictAfterCommit(K key, Long committedVersion) {
+        if (bus != null) {
+            bus.publish(new CacheInvalidationBus.Invalidation(name, keyText.apply(key), committedVersion));
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(key, committedVersion);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(key, committedVersion);
+            }
+        });
+    }
+
+    public void evictAfterCommit(A aggregate) {
+        evictAfterCommit(aggregate.getUuId(), aggregate.getOptLockVer());
+    }
+
+    public void evictAllAfterCommit(Collection<A> aggregates) {
+        aggregates.forEach(this::evictAfterCommit);
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < STAMP_SLOTS; i++) stamps.incrementAndGet(i);
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void storeCommitted(K key, A aggregate, long stamp) {
+        A snapshot = copy.apply(aggregate);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            store(key, snapshot, stamp);
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        // An eviction this transaction registers runs after this and still fences the store off
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                store(key, snapshot, stamp);
+            }
+        });
+    }
+
+    private void store(K key, A snapshot, long stamp) {
+        // Checked under the entry's lock, so an eviction either happens-before (stamp moved) or removes this put
+        cache.asMap().compute(key, (k, current) -> {
+            if (stamps.get(slot(key)) != stamp) return current;
+            if (current != null && isNewer(current.getOptLockVer(), snapshot.getOptLockVer())) return current;
+            return snapshot;
+        });
+    }
+
+    private static boolean isNewer(Long version, Long than) {
+        return version != null && than != null && version > than;
+    }
+
+    private static int slot(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STAMP_SLOTS - 1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.BundleQuoteCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleQuote;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * In-process bundle quote cache backed by Caffeine.
+ * Keys carry every component PriceListVersion, so entries for superseded versions are never read again and age out.
+ */
+@Component
+public class CaffeineBundleQuoteCache implements BundleQuoteCache {
+
+    private final Cache<BundleKey, BundleQuote> cache;
+
+    public CaffeineBundleQuoteCache(@Value("${pricelist.bundle-quote-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Optional<BundleQuote> get(BundleKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    @Override
+    public void put(BundleKey key, BundleQuote quote) {
+        cache.put(key, quote);
+    }
+}
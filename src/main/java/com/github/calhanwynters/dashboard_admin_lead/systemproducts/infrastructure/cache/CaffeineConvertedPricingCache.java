@@ -0,0 +1,36 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ConvertedPricingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * In-process store of converted pricing models backed by Caffeine.
+ * Models converted under a superseded version or rate revision are never asked for again and age out.
+ */
+@Component
+public class CaffeineConvertedPricingCache implements ConvertedPricingCache {
+
+    private final Cache<ConversionKey, PurchasePricing> cache;
+
+    public CaffeineConvertedPricingCache(@Value("${pricelist.fx.converted-cache.maximum-size:50000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Optional<PurchasePricing> get(ConversionKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    @Override
+    public void put(ConversionKey key, PurchasePricing converted) {
+        cache.put(key, converted);
+    }
+}
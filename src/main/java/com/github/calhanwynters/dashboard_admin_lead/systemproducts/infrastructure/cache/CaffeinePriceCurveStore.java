@@ -0,0 +1,41 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListCurves;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceCurveStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+
+/**
+ * In-process curve store backed by Caffeine, weighed by segment count so one huge PriceList cannot
+ * crowd out many small ones unnoticed. Superseded versions are never read again and age out first.
+ */
+@Component
+public class CaffeinePriceCurveStore implements PriceCurveStore {
+
+    private record CurveSetKey(PriceListUuId priceListUuId, PriceListVersion version) {}
+
+    private final Cache<CurveSetKey, PriceListCurves> cache;
+
+    public CaffeinePriceCurveStore(@Value("${pricelist.curve-store.maximum-segments:2000000}") long maximumSegments) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSegments)
+                .weigher((CurveSetKey key, PriceListCurves curves) -> Math.max(1, curves.segmentCount()))
+                .build();
+    }
+
+    @Override
+    public Optional<PriceListCurves> get(PriceListUuId priceListUuId, PriceListVersion version) {
+        return Optional.ofNullable(cache.getIfPresent(new CurveSetKey(priceListUuId, version)));
+    }
+
+    @Override
+    public void put(PriceListCurves curves) {
+        cache.put(new CurveSetKey(curves.priceListUuId(), curves.version()), curves);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceQuoteCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * In-process quote cache backed by Caffeine.
+ * Window TinyLFU eviction bounds the cache by size while keeping frequently quoted entries,
+ * so quotes for superseded PriceListVersions are the first to go.
+ */
+@Component
+public class CaffeinePriceQuoteCache implements PriceQuoteCache {
+
+    private final Cache<QuoteKey, Money> cache;
+
+    public CaffeinePriceQuoteCache(@Value("${pricelist.quote-cache.maximum-size:100000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<Money> get(QuoteKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    @Override
+    public void put(QuoteKey key, Money quote) {
+        cache.put(key, quote);
+    }
+
+    @Override
+    public QuoteCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new QuoteCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+}
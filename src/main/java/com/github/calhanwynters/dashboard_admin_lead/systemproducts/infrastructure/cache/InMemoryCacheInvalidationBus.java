@@ -0,0 +1,22 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import java.util.List;
+
+/**
+ * Single-process stand-in for the invalidation bus (tests, local runs): each committed transaction's
+ * coalesced invalidations are delivered to this JVM's subscribers right after the commit.
+ */
+public class InMemoryCacheInvalidationBus extends TransactionalInvalidationBus {
+
+    @Override
+    protected void afterCommit(List<Invalidation> invalidations) {
+        dispatch(invalidations);
+    }
+
+    /**
+     * Simulates a lost connection: every subscriber drops its local state.
+     */
+    public void resync() {
+        dispatchResync();
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.CacheInvalidationBus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies invalidations from the bus to this node's near caches, routed by cache name.
+ * Types without a local cache are ignored; a resync empties every cache.
+ */
+public class NearCacheInvalidationListener implements CacheInvalidationBus.Subscriber {
+
+    private final Map<String, AggregateNearCache<?, ?>> cachesByName;
+
+    public NearCacheInvalidationListener(Collection<? extends AggregateNearCache<?, ?>> caches) {
+        this.cachesByName = caches.stream()
+                .collect(Collectors.toUnmodifiableMap(AggregateNearCache::name, Function.identity()));
+    }
+
+    @Override
+    public void onInvalidations(List<CacheInvalidationBus.Invalidation> invalidations) {
+        for (CacheInvalidationBus.Invalidation invalidation : invalidations) {
+            AggregateNearCache<?, ?> cache = cachesByName.get(invalidation.aggregateType());
+            if (cache != null) cache.evictRemote(invalidation.uuId(), invalidation.optLockVer());
+        }
+    }
+
+    @Override
+    public void onResync() {
+        cachesByName.values().forEach(AggregateNearCache::invalidateAll);
+    }
+}
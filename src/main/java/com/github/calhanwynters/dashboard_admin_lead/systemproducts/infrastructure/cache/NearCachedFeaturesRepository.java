@@ -0,0 +1,72 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureBusinessUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.FeaturesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Near-cache decorator for FeaturesRepository: findByUuId is answered from the in-process cache,
+ * writes evict the features they touched once the transaction commits, everything else is delegated.
+ */
+public class NearCachedFeaturesRepository implements FeaturesRepository {
+
+    private final FeaturesRepository delegate;
+    private final AggregateNearCache<FeatureUuId, FeaturesAggregate> cache;
+
+    public NearCachedFeaturesRepository(FeaturesRepository delegate, AggregateNearCache<FeatureUuId, FeaturesAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<FeaturesAggregate> findByUuId(FeatureUuId uuId) {
+        return cache.get(uuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<FeaturesAggregate> findByBusinessUuId(FeatureBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public FeaturesAggregate save(FeaturesAggregate aggregate) {
+        FeaturesAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<FeaturesAggregate> saveAll(Collection<FeaturesAggregate> aggregates) {
+        List<FeaturesAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<FeaturesAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<FeaturesAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<FeaturesAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(FeatureUuId uuId) {
+        delegate.hardDelete(uuId);
+        cache.evictAfterCommit(uuId, null);
+    }
+}
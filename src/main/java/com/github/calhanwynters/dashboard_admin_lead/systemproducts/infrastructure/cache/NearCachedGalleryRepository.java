@@ -0,0 +1,94 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryBusinessUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.GalleryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUuId;
+
+/**
+ * Near-cache decorator for GalleryRepository: findByUuId is answered from the in-process cache,
+ * writes evict the galleries they touched once the transaction commits, everything else is delegated.
+ */
+public class NearCachedGalleryRepository implements GalleryRepository {
+
+    private final GalleryRepository delegate;
+    private final AggregateNearCache<GalleryUuId, GalleryAggregate> cache;
+
+    public NearCachedGalleryRepository(GalleryRepository delegate, AggregateNearCache<GalleryUuId, GalleryAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<GalleryAggregate> findByUuId(GalleryUuId galleryUuId) {
+        return cache.get(galleryUuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<GalleryAggregate> findByBusinessUuId(GalleryBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public List<GalleryAggregate> findAllByImageUuId(ImageUuId imageUuId) {
+        return delegate.findAllByImageUuId(imageUuId);
+    }
+
+    @Override
+    public GalleryAggregate save(GalleryAggregate aggregate) {
+        GalleryAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<GalleryAggregate> saveAll(Collection<GalleryAggregate> aggregates) {
+        List<GalleryAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<GalleryAggregate> findAllPublic() {
+        return delegate.findAllPublic();
+    }
+
+    @Override
+    public KeysetPage<GalleryAggregate> findAllPublicPage(Long afterId, int limit) {
+        return delegate.findAllPublicPage(afterId, limit);
+    }
+
+    @Override
+    public Stream<GalleryAggregate> streamAllPublic() {
+        return delegate.streamAllPublic();
+    }
+
+    @Override
+    public List<GalleryAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<GalleryAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<GalleryAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(GalleryUuId galleryUuId) {
+        delegate.hardDelete(galleryUuId);
+        cache.evictAfterCommit(galleryUuId, null);
+    }
+}
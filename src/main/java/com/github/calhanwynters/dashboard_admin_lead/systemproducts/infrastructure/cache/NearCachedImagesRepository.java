@@ -0,0 +1,78 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImageAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUrl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImagesBusinessUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ImagesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Near-cache decorator for ImagesRepository: findByUuId is answered from the in-process cache,
+ * writes evict the images they touched once the transaction commits, everything else is delegated.
+ */
+public class NearCachedImagesRepository implements ImagesRepository {
+
+    private final ImagesRepository delegate;
+    private final AggregateNearCache<ImageUuId, ImageAggregate> cache;
+
+    public NearCachedImagesRepository(ImagesRepository delegate, AggregateNearCache<ImageUuId, ImageAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<ImageAggregate> findByUuId(ImageUuId imageUuId) {
+        return cache.get(imageUuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<ImageAggregate> findByBusinessUuId(ImagesBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public ImageAggregate save(ImageAggregate aggregate) {
+        ImageAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<ImageAggregate> saveAll(Collection<ImageAggregate> aggregates) {
+        List<ImageAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<ImageAggregate> findByUrl(ImageUrl imageUrl) {
+        return delegate.findByUrl(imageUrl);
+    }
+
+    @Override
+    public List<ImageAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<ImageAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<ImageAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(ImageUuId imageUuId) {
+        delegate.hardDelete(imageUuId);
+        cache.evictAfterCommit(imageUuId, null);
+    }
+}
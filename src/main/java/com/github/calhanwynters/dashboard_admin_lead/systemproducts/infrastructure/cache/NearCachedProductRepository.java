@@ -0,0 +1,99 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ProductRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.*;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryUuId;
+
+/**
+ * Near-cache decorator for ProductRepository: findByUuId is answered from the in-process cache
+ * (findAllByUuIds loads only the misses), writes evict the products they touched
+ * once the transaction commits, and everything else is delegated.
+ */
+public class NearCachedProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final AggregateNearCache<ProductUuId, ProductAggregate> cache;
+
+    public NearCachedProductRepository(ProductRepository delegate, AggregateNearCache<ProductUuId, ProductAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<ProductAggregate> findByUuId(ProductUuId productUuId) {
+        return cache.get(productUuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<ProductAggregate> findByBusinessUuId(ProductBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public List<ProductAggregate> findAllByUuIds(Collection<ProductUuId> productUuIds) {
+        return cache.getAll(productUuIds, delegate::findAllByUuIds);
+    }
+
+    @Override
+    public ProductAggregate save(ProductAggregate aggregate) {
+        ProductAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<ProductAggregate> saveAll(Collection<ProductAggregate> aggregates) {
+        List<ProductAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<ProductAggregate> findAllByGalleryUuId(GalleryUuId galleryUuId) {
+        return delegate.findAllByGalleryUuId(galleryUuId);
+    }
+
+    @Override
+    public List<ProductAggregate> findAllByStatus(ProductStatus status) {
+        return delegate.findAllByStatus(status);
+    }
+
+    @Override
+    public KeysetPage<ProductAggregate> findAllByStatusPage(ProductStatus status, Long afterId, int limit) {
+        return delegate.findAllByStatusPage(status, afterId, limit);
+    }
+
+    @Override
+    public Stream<ProductAggregate> streamAllByStatus(ProductStatus status) {
+        return delegate.streamAllByStatus(status);
+    }
+
+    @Override
+    public List<ProductAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<ProductAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<ProductAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(ProductUuId productUuId) {
+        delegate.hardDelete(productUuId);
+        cache.evictAfterCommit(productUuId, null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.TypeListRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListDomainWrapper.*;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesUuId;
+
+/**
+ * Near-cache decorator for TypeListRepository: findByUuId is answered from the in-process cache,
+ * writes evict the type lists they touched once the transaction commits, everything else is delegated.
+ */
+public class NearCachedTypeListRepository implements TypeListRepository {
+
+    private final TypeListRepository delegate;
+    private final AggregateNearCache<TypeListUuId, TypeListAggregate> cache;
+
+    public NearCachedTypeListRepository(TypeListRepository delegate, AggregateNearCache<TypeListUuId, TypeListAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<TypeListAggregate> findByUuId(TypeListUuId typeListUuId) {
+        return cache.get(typeListUuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<TypeListAggregate> findByBusinessUuId(TypeListBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public TypeListAggregate save(TypeListAggregate aggregate) {
+        TypeListAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<TypeListAggregate> saveAll(Collection<TypeListAggregate> aggregates) {
+        List<TypeListAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<TypeListAggregate> findAllByContainsType(TypesUuId typeUuId) {
+        return delegate.findAllByContainsType(typeUuId);
+    }
+
+    @Override
+    public List<TypeListAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<TypeListAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<TypeListAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(TypeListUuId typeListUuId) {
+        delegate.hardDelete(typeListUuId);
+        cache.evictAfterCommit(typeListUuId, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.TypesRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.*;
+
+/**
+ * Near-cache decorator for TypesRepository: findByUuId is answered from the in-process cache,
+ * writes evict the types they touched once the transaction commits, everything else is delegated.
+ */
+public class NearCachedTypesRepository implements TypesRepository {
+
+    private final TypesRepository delegate;
+    private final AggregateNearCache<TypesUuId, TypesAggregate> cache;
+
+    public NearCachedTypesRepository(TypesRepository delegate, AggregateNearCache<TypesUuId, TypesAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<TypesAggregate> findByUuId(TypesUuId typesUuId) {
+        return cache.get(typesUuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<TypesAggregate> findByBusinessUuId(TypesBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public TypesAggregate save(TypesAggregate aggregate) {
+        TypesAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<TypesAggregate> saveAll(Collection<TypesAggregate> aggregates) {
+        List<TypesAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<TypesAggregate> findByName(TypesName typesName) {
+        return delegate.findByName(typesName);
+    }
+
+    @Override
+    public List<TypesAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<TypesAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<TypesAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(TypesAggregate aggregate) {
+        delegate.hardDelete(aggregate);
+        cache.evictAfterCommit(aggregate.getUuId(), null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.VariantListRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListDomainWrapper.*;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsUuId;
+
+/**
+ * Near-cache decorator for VariantListRepository: findByUuId is answered from the in-process cache,
+ * writes evict the variant lists they touched once the transaction commits, everything else is delegated.
+ */
+public class NearCachedVariantListRepository implements VariantListRepository {
+
+    private final VariantListRepository delegate;
+    private final AggregateNearCache<VariantListUuId, VariantListAggregate> cache;
+
+    public NearCachedVariantListRepository(VariantListRepository delegate, AggregateNearCache<VariantListUuId, VariantListAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<VariantListAggregate> findByUuId(VariantListUuId variantListUuId) {
+        return cache.get(variantListUuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<VariantListAggregate> findByBusinessUuId(VariantListBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public VariantListAggregate save(VariantListAggregate aggregate) {
+        VariantListAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<VariantListAggregate> saveAll(Collection<VariantListAggregate> aggregates) {
+        List<VariantListAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<VariantListAggregate> findAllByContainsVariant(VariantsUuId variantUuId) {
+        return delegate.findAllByContainsVariant(variantUuId);
+    }
+
+    @Override
+    public List<VariantListAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<VariantListAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<VariantListAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(VariantListAggregate aggregate) {
+        delegate.hardDelete(aggregate);
+        cache.evictAfterCommit(aggregate.getUuId(), null);
+    }
+}
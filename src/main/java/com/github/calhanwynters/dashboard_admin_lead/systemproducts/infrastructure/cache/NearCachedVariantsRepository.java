@@ -0,0 +1,78 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.VariantsRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.*;
+
+/**
+ * Near-cache decorator for VariantsRepository: findByUuId is answered from the in-process cache,
+ * writes evict the variants they touched once the transaction commits, everything else is delegated.
+ */
+public class NearCachedVariantsRepository implements VariantsRepository {
+
+    private final VariantsRepository delegate;
+    private final AggregateNearCache<VariantsUuId, VariantsAggregate> cache;
+
+    public NearCachedVariantsRepository(VariantsRepository delegate, AggregateNearCache<VariantsUuId, VariantsAggregate> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<VariantsAggregate> findByUuId(VariantsUuId variantsUuId) {
+        return cache.get(variantsUuId, delegate::findByUuId);
+    }
+
+    @Override
+    public Optional<VariantsAggregate> findByBusinessUuId(VariantsBusinessUuId businessUuId) {
+        return delegate.findByBusinessUuId(businessUuId);
+    }
+
+    @Override
+    public VariantsAggregate save(VariantsAggregate aggregate) {
+        VariantsAggregate saved = delegate.save(aggregate);
+        cache.evictAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<VariantsAggregate> saveAll(Collection<VariantsAggregate> aggregates) {
+        List<VariantsAggregate> saved = delegate.saveAll(aggregates);
+        cache.evictAllAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<VariantsAggregate> findAllByFeatureUuId(FeatureUuId featureUuId) {
+        return delegate.findAllByFeatureUuId(featureUuId);
+    }
+
+    @Override
+    public List<VariantsAggregate> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public KeysetPage<VariantsAggregate> findAllActivePage(Long afterId, int limit) {
+        return delegate.findAllActivePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<VariantsAggregate> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public void hardDelete(VariantsAggregate aggregate) {
+        delegate.hardDelete(aggregate);
+        cache.evictAfterCommit(aggregate.getUuId(), null);
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Invalidation bus over PostgreSQL LISTEN/NOTIFY.
+ *
+ * <p>Publishing issues pg_notify inside the committing transaction, so PostgreSQL itself delivers the message
+ * to every listening node only if, and when, the transaction commits. Each payload packs as many coalesced
+ * invalidations as fit under the server's 8000-byte limit.
+ *
+ * <p>Every node holds one dedicated connection that LISTENs on the channel. After the first notification of a
+ * burst it keeps draining until the channel goes quiet, the coalesce window has passed since that first
+ * notification, or the burst holds MAX_BURST invalidations, whichever comes first (so steady traffic cannot
+ * hold dispatch back), then hands subscribers one batch with one entry per aggregate. If the connection drops it reconnects with a fixed backoff and tells subscribers to resync,
+ * since anything sent in the meantime was lost.
+ */
+public class PostgresCacheInvalidationBus extends TransactionalInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    private static final int MAX_PAYLOAD_BYTES = 7_500;
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int POLL_MILLIS = 1_000;
+    static final int MAX_BURST = 10_000;
+
+    /**
+     * PGConnection.getNotifications(timeoutMillis), a seam for tests.
+     */
+    @FunctionalInterface
+    interface NotificationPoll {
+        PGNotification[] poll(int timeoutMillis) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final Duration coalesceWindow;
+    private final Duration reconnectBackoff;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresCacheInvalidationBus(DataSource dataSource, JdbcTemplate jdbcTemplate, String channel,
+                                        Duration coalesceWindow, Duration reconnectBackoff) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid LISTEN channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+        this.coalesceWindow = coalesceWindow;
+        this.reconnectBackoff = reconnectBackoff;
+    }
+
+    // --- PUBLISHING ---
+
+    @Override
+    protected void beforeCommit(List<Invalidation> invalidations) {
+        // Runs on the transaction's own connection, so the NOTIFY commits (or rolls back) with the data
+        for (String payload : payloads(invalidations)) {
+            jdbcTemplate.queryForRowSet("SELECT pg_notify(?, ?)", channel, payload);
+        }
+    }
+
+    static List<String> payloads(List<Invalidation> invalidations) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (Invalidation invalidation : invalidations) {
+            String entry = encode(invalidation);
+            if (!current.isEmpty() && utf8Length(current) + 1 + utf8Length(entry) > MAX_PAYLOAD_BYTES) {
+                payloads.add(current.toString());
+                current.setLength(0);
+            }
+            if (!current.isEmpty()) current.append('\n');
+            current.append(entry);
+        }
+        if (!current.isEmpty()) payloads.add(current.toString());
+        return payloads;
+    }
+
+    static String encode(Invalidation invalidation) {
+        return invalidation.aggregateType() + '|' + invalidation.uuId() + '|'
+                + (invalidation.optLockVer() == null ? "" : invalidation.optLockVer());
+    }
+
+    static List<Invalidation> decode(String payload) {
+        List<Invalidation> invalidations = new ArrayList<>();
+        for (String entry : payload.split("\n")) {
+            String[] parts = entry.split("\\|", -1);
+            if (parts.length != 3) continue; // Not ours
+            invalidations.add(new Invalidation(parts[0], parts[1], parts[2].isEmpty() ? null : Long.valueOf(parts[2])));
+        }
+        return invalidations;
+    }
+
+    private static int utf8Length(CharSequence text) {
+        return text.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    // --- LISTENING ---
+
+    @Override
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("cache-invalidation-" + channel).start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) listener.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) dispatchResync();
+                connectedBefore = true;
+
+                while (running) {
+                    PGNotification[] first = pg.getNotifications(POLL_MILLIS);
+                    if (first == null || first.length == 0) continue;
+
+                    dispatch(coalesce(drainBurst(first, pg::getNotifications, System::nanoTime)));
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) return;
+                log.warn("Cache invalidation listener on '{}' lost its connection; reconnecting", channel, e);
+                try {
+                    Thread.sleep(reconnectBackoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * The invalidations of the burst opened by first, bounded by the coalesce window and MAX_BURST.
+     */
+    List<Invalidation> drainBurst(PGNotification[] first, NotificationPoll poll, LongSupplier nanoTime)
+            throws SQLException {
+        long deadline = nanoTime.getAsLong() + coalesceWindow.toNanos();
+        List<Invalidation> burst = new ArrayList<>();
+        collect(first, burst);
+        while (burst.size() < MAX_BURST) {
+            long remainingMillis = (deadline - nanoTime.getAsLong()) / 1_000_000;
+            if (remainingMillis <= 0) break; // Also keeps the timeout off 0, which would block indefinitely
+            PGNotification[] more = poll.poll((int) Math.min(Integer.MAX_VALUE, remainingMillis));
+            if (more == null || more.length == 0) break;
+            collect(more, burst);
+        }
+        return burst;
+    }
+
+    private void collect(PGNotification[] notifications, List<Invalidation> into) {
+        for (PGNotification notification : notifications) {
+            if (channel.equals(notification.getName())) into.addAll(decode(notification.getParameter()));
+        }
+    }
+}
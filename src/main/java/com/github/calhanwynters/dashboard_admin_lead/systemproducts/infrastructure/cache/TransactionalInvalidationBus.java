@@ -0,0 +1,110 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.CacheInvalidationBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Transaction binding shared by the bus implementations.
+ *
+ * <p>Invalidations published inside a transaction are collected per transaction, coalesced to one per
+ * aggregate, and handed to the implementation once: before the commit (so it can write them as part of the
+ * transaction) and after it (so it can deliver them locally). Nothing is handed over on rollback. Outside a
+ * transaction both hooks run immediately.
+ */
+abstract class TransactionalInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionalInvalidationBus.class);
+
+    private record Key(String aggregateType, String uuId) {}
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Invalidation> single = List.of(invalidation);
+            beforeCommit(single);
+            afterCommit(single);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Key, Invalidation> pending = (Map<Key, Invalidation>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Key, Invalidation> batch = new LinkedHashMap<>();
+            pending = batch;
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    TransactionalInvalidationBus.this.beforeCommit(List.copyOf(batch.values()));
+                }
+
+                @Override
+                public void afterCommit() {
+                    TransactionalInvalidationBus.this.afterCommit(List.copyOf(batch.values()));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalInvalidationBus.this);
+                }
+            });
+        }
+        coalesce(pending, List.of(invalidation));
+    }
+
+    @Override
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Runs inside the committing transaction.
+     */
+    protected void beforeCommit(List<Invalidation> invalidations) {}
+
+    /**
+     * Runs once the transaction has committed.
+     */
+    protected void afterCommit(List<Invalidation> invalidations) {}
+
+    protected void dispatch(List<Invalidation> invalidations) {
+        if (invalidations.isEmpty()) return;
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.onInvalidations(invalidations);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation subscriber failed; resyncing it", e);
+                subscriber.onResync();
+            }
+        }
+    }
+
+    protected void dispatchResync() {
+        subscribers.forEach(Subscriber::onResync);
+    }
+
+    /**
+     * One invalidation per aggregate, in first-seen order.
+     */
+    static List<Invalidation> coalesce(Collection<Invalidation> invalidations) {
+        Map<Key, Invalidation> byAggregate = new LinkedHashMap<>();
+        coalesce(byAggregate, invalidations);
+        return List.copyOf(byAggregate.values());
+    }
+
+    private static void coalesce(Map<Key, Invalidation> target, Collection<Invalidation> invalidations) {
+        for (Invalidation invalidation : invalidations) {
+            target.merge(new Key(invalidation.aggregateType(), invalidation.uuId()), invalidation, Invalidation::merge);
+        }
+    }
+}
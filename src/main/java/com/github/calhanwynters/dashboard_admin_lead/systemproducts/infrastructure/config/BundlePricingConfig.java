@@ -0,0 +1,20 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.config;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.BundleQuoteCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ProductRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundlePricingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BundlePricingConfig {
+    @Bean
+    public BundlePricingService bundlePricingService(ProductRepository productRepository,
+                                                     PriceListRepository priceListRepository,
+                                                     BundleQuoteCache bundleQuoteCache,
+                                                     @Value("${pricelist.bundle.max-concurrent-loads:8}") int maxConcurrentLoads) {
+        return new BundlePricingService(productRepository, priceListRepository, bundleQuoteCache, maxConcurrentLoads);
+    }
+}
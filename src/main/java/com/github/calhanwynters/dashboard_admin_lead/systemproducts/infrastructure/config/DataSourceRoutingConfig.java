@@ -0,0 +1,86 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.config;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource.ReadYourWritesWindow;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single pool with a routing DataSource: read-only transactions go to the replicas listed in
+ * datasource.routing.replica-urls (same credentials as the primary), the rest to spring.datasource.
+ * Off unless datasource.routing.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Replica pools, closed with the context.
+     */
+    public record ReplicaPools(Map<String, HikariDataSource> pools) implements AutoCloseable {
+        @Override
+        public void close() {
+            pools.values().forEach(HikariDataSource::close);
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(DataSourceProperties properties,
+                                     @Value("${datasource.routing.replica-urls}") List<String> urls,
+                                     @Value("${datasource.routing.replica-pool-size:10}") int poolSize) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        List<String> jdbcUrls = urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(jdbcUrls.get(i));
+            pool.setUsername(properties.determineUsername());
+            pool.setPassword(properties.determinePassword());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+            pools.put("replica-" + i, pool);
+        }
+        return new ReplicaPools(pools);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaPools replicaPools,
+                                               @Value("${datasource.routing.max-replica-lag:PT1S}") Duration maxLag,
+                                               @Value("${datasource.routing.lag-poll-interval:PT0.5S}") Duration pollInterval) {
+        return new ReplicaLagMonitor(Map.copyOf(replicaPools.pools()), maxLag, pollInterval);
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(
+            @Value("${datasource.routing.read-your-writes-window:PT2S}") Duration window) {
+        return new ReadYourWritesWindow(window);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPools replicaPools,
+                                 ReplicaLagMonitor replicaLagMonitor, ReadYourWritesWindow readYourWritesWindow) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primaryDataSource, Map.copyOf(replicaPools.pools()), replicaLagMonitor, readYourWritesWindow));
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.config;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ConvertedPricingCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.DerivedCurrencyPricingService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FxPricingConfig {
+    @Bean
+    public DerivedCurrencyPricingService derivedCurrencyPricingService(ConvertedPricingCache convertedPricingCache) {
+        return new DerivedCurrencyPricingService(convertedPricingCache);
+    }
+}
@@ -0,0 +1,239 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.config;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.CacheInvalidationBus;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImageAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListDomainWrapper.TypeListUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListDomainWrapper.VariantListUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.FeaturesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.GalleryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ImagesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ProductRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.TypeListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.TypesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.VariantListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.VariantsRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.AggregateNearCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.InMemoryCacheInvalidationBus;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCacheInvalidationListener;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedFeaturesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedGalleryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedImagesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedProductRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedTypeListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedTypesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedVariantListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.NearCachedVariantsRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.PostgresCacheInvalidationBus;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.FeaturesMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.GalleryMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.ImagesMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.ProductMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.TypeListMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.TypesMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.VariantListMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.VariantsMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.FeaturesPostgresqlRepositoryImpl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.GalleryPostgresqlRepositoryImpl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.ImagesPostgresqlRepositoryImpl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.ProductPostgresqlRepositoryImpl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.TypeListPostgresqlRepositoryImpl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.TypesPostgresqlRepositoryImpl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.VariantListPostgresqlRepositoryImpl;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.VariantsPostgresqlRepositoryImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Wires a near-cache decorator in front of each aggregate adapter (see AggregateNearCache).
+ * Sizes and TTLs are set per aggregate type. Evictions are broadcast over the invalidation bus
+ * (nearcache.invalidation.transport=postgres for LISTEN/NOTIFY, memory for a single node); the TTL remains a backstop.
+ * PriceList is left out: its reads are already served by the version-keyed quote and curve caches.
+ * Set nearcache.enabled=false to inject the adapters directly.
+ */
+@Configuration
+@ConditionalOnProperty(name = "nearcache.enabled", havingValue = "true", matchIfMissing = true)
+public class NearCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "nearcache.invalidation.transport", havingValue = "postgres", matchIfMissing = true)
+    public PostgresCacheInvalidationBus cacheInvalidationBus(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            @Value("${nearcache.invalidation.channel:near_cache_invalidation}") String channel,
+            @Value("${nearcache.invalidation.coalesce-window:PT0.05S}") Duration coalesceWindow,
+            @Value("${nearcache.invalidation.reconnect-backoff:PT2S}") Duration reconnectBackoff) {
+        return new PostgresCacheInvalidationBus(dataSource, jdbcTemplate, channel, coalesceWindow, reconnectBackoff);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "nearcache.invalidation.transport", havingValue = "memory")
+    public InMemoryCacheInvalidationBus inMemoryCacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
+    @Bean
+    public NearCacheInvalidationListener nearCacheInvalidationListener(CacheInvalidationBus bus,
+                                                                       List<AggregateNearCache<?, ?>> nearCaches) {
+        NearCacheInvalidationListener listener = new NearCacheInvalidationListener(nearCaches);
+        bus.subscribe(listener);
+        return listener;
+    }
+
+    @Bean
+    public AggregateNearCache<FeatureUuId, FeaturesAggregate> featuresNearCache(
+            FeaturesMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.features.maximum-size:10000}") long maximumSize,
+            @Value("${nearcache.features.ttl:PT10M}") Duration ttl) {
+        return new AggregateNearCache<>("features", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new FeatureUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public FeaturesRepository nearCachedFeaturesRepository(FeaturesPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<FeatureUuId, FeaturesAggregate> featuresNearCache) {
+        return new NearCachedFeaturesRepository(adapter, featuresNearCache);
+    }
+
+    @Bean
+    public AggregateNearCache<TypesUuId, TypesAggregate> typesNearCache(
+            TypesMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.types.maximum-size:10000}") long maximumSize,
+            @Value("${nearcache.types.ttl:PT10M}") Duration ttl) {
+        return new AggregateNearCache<>("types", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new TypesUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public TypesRepository nearCachedTypesRepository(TypesPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<TypesUuId, TypesAggregate> typesNearCache) {
+        return new NearCachedTypesRepository(adapter, typesNearCache);
+    }
+
+    @Bean
+    public AggregateNearCache<ImageUuId, ImageAggregate> imagesNearCache(
+            ImagesMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.images.maximum-size:20000}") long maximumSize,
+            @Value("${nearcache.images.ttl:PT10M}") Duration ttl) {
+        return new AggregateNearCache<>("images", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new ImageUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public ImagesRepository nearCachedImagesRepository(ImagesPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<ImageUuId, ImageAggregate> imagesNearCache) {
+        return new NearCachedImagesRepository(adapter, imagesNearCache);
+    }
+
+    @Bean
+    public AggregateNearCache<TypeListUuId, TypeListAggregate> typeListNearCache(
+            TypeListMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.type-lists.maximum-size:5000}") long maximumSize,
+            @Value("${nearcache.type-lists.ttl:PT10M}") Duration ttl) {
+        return new AggregateNearCache<>("type-lists", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new TypeListUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public TypeListRepository nearCachedTypeListRepository(TypeListPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<TypeListUuId, TypeListAggregate> typeListNearCache) {
+        return new NearCachedTypeListRepository(adapter, typeListNearCache);
+    }
+
+    @Bean
+    public AggregateNearCache<VariantListUuId, VariantListAggregate> variantListNearCache(
+            VariantListMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.variant-lists.maximum-size:5000}") long maximumSize,
+            @Value("${nearcache.variant-lists.ttl:PT10M}") Duration ttl) {
+        return new AggregateNearCache<>("variant-lists", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new VariantListUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public VariantListRepository nearCachedVariantListRepository(VariantListPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<VariantListUuId, VariantListAggregate> variantListNearCache) {
+        return new NearCachedVariantListRepository(adapter, variantListNearCache);
+    }
+
+    @Bean
+    public AggregateNearCache<VariantsUuId, VariantsAggregate> variantsNearCache(
+            VariantsMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.variants.maximum-size:20000}") long maximumSize,
+            @Value("${nearcache.variants.ttl:PT10M}") Duration ttl) {
+        return new AggregateNearCache<>("variants", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new VariantsUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public VariantsRepository nearCachedVariantsRepository(VariantsPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<VariantsUuId, VariantsAggregate> variantsNearCache) {
+        return new NearCachedVariantsRepository(adapter, variantsNearCache);
+    }
+
+    @Bean
+    public AggregateNearCache<GalleryUuId, GalleryAggregate> galleryNearCache(
+            GalleryMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.galleries.maximum-size:5000}") long maximumSize,
+            @Value("${nearcache.galleries.ttl:PT5M}") Duration ttl) {
+        return new AggregateNearCache<>("galleries", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new GalleryUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public GalleryRepository nearCachedGalleryRepository(GalleryPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<GalleryUuId, GalleryAggregate> galleryNearCache) {
+        return new NearCachedGalleryRepository(adapter, galleryNearCache);
+    }
+
+    @Bean
+    public AggregateNearCache<ProductUuId, ProductAggregate> productNearCache(
+            ProductMapStruct mapper,
+            CacheInvalidationBus bus,
+            @Value("${nearcache.products.maximum-size:20000}") long maximumSize,
+            @Value("${nearcache.products.ttl:PT1M}") Duration ttl) {
+        return new AggregateNearCache<>("products", maximumSize, ttl, a -> mapper.toAggregate(mapper.toEntity(a)),
+                k -> k.value().value(), s -> new ProductUuId(UuId.fromString(s)), bus);
+    }
+
+    @Bean
+    @Primary
+    public ProductRepository nearCachedProductRepository(ProductPostgresqlRepositoryImpl adapter,
+                                                   AggregateNearCache<ProductUuId, ProductAggregate> productNearCache) {
+        return new NearCachedProductRepository(adapter, productNearCache);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.DomainEventBroker;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging.FileDomainEventBroker;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging.InMemoryDomainEventBroker;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging.OutboxRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Broker stand-in (outbox.broker=file or memory) and the relay that drains event_outbox into it.
+ * Set outbox.relay.enabled=false on nodes that should only write the outbox.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.broker", havingValue = "file", matchIfMissing = true)
+    public DomainEventBroker fileDomainEventBroker(ObjectMapper jsonMapper,
+                                                  @Value("${outbox.file.path:var/outbox/events.jsonl}") Path file) {
+        return new FileDomainEventBroker(file, jsonMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.broker", havingValue = "memory")
+    public DomainEventBroker inMemoryDomainEventBroker() {
+        return new InMemoryDomainEventBroker();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, DomainEventBroker broker,
+                                   @Value("${outbox.relay.batch-size:5000}") int batchSize,
+                                   @Value("${outbox.relay.lease:PT30S}") Duration lease,
+                                   @Value("${outbox.relay.poll-interval:PT0.2S}") Duration pollInterval) {
+        return new OutboxRelay(jdbcTemplate, broker, batchSize, lease, pollInterval);
+    }
+}
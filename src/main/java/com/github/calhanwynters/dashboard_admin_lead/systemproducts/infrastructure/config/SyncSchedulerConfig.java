@@ -0,0 +1,147 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.config;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImageAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.FeaturesMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.TypesMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.ImagesMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.TypeListMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.VariantListMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.VariantsMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.GalleryMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.ProductMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.PriceListMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.DomainEventOutbox;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.PendingSyncPostgresqlTarget;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.FeaturesEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypesEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ImagesEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypeListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantsEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.GalleryEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ProductEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync.SyncMetrics;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync.SyncScheduler;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync.SyncTarget;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sync scheduler over the nine catalogue tables, price lists included, each a PendingSyncPostgresqlTarget.
+ * The scheduler's actor carries the manager role that syncToKafka requires. Set sync.scheduler.enabled=false
+ * on nodes that should not sync.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sync.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class SyncSchedulerConfig {
+
+    static final Actor SCHEDULER_ACTOR = new Actor("SYNC_SCHEDULER", Set.of(Actor.ROLE_MANAGER));
+
+    @Bean
+    public SyncMetrics syncMetrics() {
+        return new SyncMetrics();
+    }
+
+    @Bean
+    public SyncScheduler syncScheduler(List<SyncTarget> targets, PlatformTransactionManager transactionManager,
+                                       SyncMetrics syncMetrics,
+                                       @Value("${sync.scheduler.interval:PT5S}") Duration interval,
+                                       @Value("${sync.scheduler.min-batch-size:100}") int minBatch,
+                                       @Value("${sync.scheduler.max-batch-size:5000}") int maxBatch,
+                                       @Value("${sync.scheduler.target-batch-latency:PT0.5S}") Duration targetLatency) {
+        return new SyncScheduler(targets, new TransactionTemplate(transactionManager), syncMetrics, interval,
+                minBatch, maxBatch, targetLatency);
+    }
+
+    @Bean
+    public SyncTarget featuresSyncTarget(FeaturesMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                         EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("features", "system_features", FeaturesEntity.class, FeaturesEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), FeaturesAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget typesSyncTarget(TypesMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                      EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("types", "system_product_types", TypesEntity.class, TypesEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), TypesAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget imagesSyncTarget(ImagesMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                       EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("images", "system_images", ImagesEntity.class, ImagesEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), ImageAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget typeListSyncTarget(TypeListMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                         EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("type-lists", "system_type_lists", TypeListEntity.class, TypeListEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), TypeListAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget variantListSyncTarget(VariantListMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                            EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("variant-lists", "system_variant_lists", VariantListEntity.class, VariantListEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), VariantListAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget variantsSyncTarget(VariantsMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                         EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("variants", "system_variants", VariantsEntity.class, VariantsEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), VariantsAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget gallerySyncTarget(GalleryMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                        EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("galleries", "system_galleries", GalleryEntity.class, GalleryEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), GalleryAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget productSyncTarget(ProductMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                        EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("products", "system_products", ProductEntity.class, ProductEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), ProductAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+
+    @Bean
+    public SyncTarget priceListSyncTarget(PriceListMapStruct mapper, DomainEventOutbox outbox, JdbcTemplate jdbcTemplate,
+                                          EntityManager entityManager) {
+        return new PendingSyncPostgresqlTarget<>("price-lists", "system_price_lists", PriceListEntity.class, PriceListEntity::getId,
+                mapper::toAggregate, aggregate -> aggregate.getUuId().value().value(), PriceListAggregate::syncToKafka,
+                SCHEDULER_ACTOR, outbox, jdbcTemplate, entityManager);
+    }
+}
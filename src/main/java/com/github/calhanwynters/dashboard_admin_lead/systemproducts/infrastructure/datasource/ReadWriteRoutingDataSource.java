@@ -0,0 +1,72 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replicas (round robin over those within the lag threshold) and
+ * everything else to the primary. Reads stay on the primary while the read-your-writes window is open,
+ * and whenever no replica is usable, and for connections taken inside {@link #onPrimary}.
+ *
+ * <p>The route is decided when the physical connection is taken, so this must sit behind a
+ * LazyConnectionDataSourceProxy: the transaction manager opens its connection before the read-only
+ * flag of the new transaction is exposed, and the proxy defers that until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesWindow readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      ReplicaLagMonitor lagMonitor, ReadYourWritesWindow readYourWrites) {
+        if (replicas.containsKey(PRIMARY)) {
+            throw new IllegalArgumentException("Replica name is reserved: " + PRIMARY);
+        }
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs work with every connection this thread takes routed to the primary, read-only or not. For reads
+     * whose result outlives the replica lag, such as near-cache loads: the read-your-writes window only
+     * covers commits made on this node.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean outer = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (outer == null) PINNED.remove();
+        }
+    }
+
+    @Override
+    protected String determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || readYourWrites.isOpen()
+                || PINNED.get() != null) {
+            return PRIMARY;
+        }
+        List<String> usable = lagMonitor.usableReplicas();
+        if (usable.isEmpty()) return PRIMARY;
+        return usable.get(Math.floorMod(next.getAndIncrement(), usable.size()));
+    }
+}
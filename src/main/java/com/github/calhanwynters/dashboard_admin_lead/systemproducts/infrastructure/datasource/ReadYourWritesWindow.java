@@ -0,0 +1,49 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps reads on the primary for a while after a command commits on this node, so a dashboard that
+ * writes and immediately re-lists sees its own change even if the replicas have not replayed it yet.
+ *
+ * <p>Registered as a transaction execution listener: every committed read-write transaction opens the
+ * window again. The window is node-wide rather than per caller, as there is no caller identity below the
+ * handlers; with a write share of a few percent it costs little replica traffic.
+ */
+public class ReadYourWritesWindow implements TransactionExecutionListener {
+
+    private final Duration window;
+    private final Clock clock;
+    private final AtomicLong lastWriteMillis = new AtomicLong(Long.MIN_VALUE);
+
+    public ReadYourWritesWindow(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesWindow(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) markWrite();
+    }
+
+    public void markWrite() {
+        lastWriteMillis.accumulateAndGet(clock.millis(), Math::max);
+    }
+
+    /**
+     * True while reads must still go to the primary.
+     */
+    public boolean isOpen() {
+        long last = lastWriteMillis.get();
+        return last != Long.MIN_VALUE && clock.millis() - last < window.toMillis();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls each replica's replay lag and reports which replicas may serve reads.
+ *
+ * <p>Lag is the age of the last replayed transaction, counted as zero once the replica has replayed
+ * everything it received (an idle primary would otherwise make every replica look stale). A replica is
+ * usable while its last measured lag is within the threshold; one that cannot be queried, or has not
+ * been measured yet, is not.
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final Duration pollInterval;
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService poller;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, Duration pollInterval) {
+        this.replicas = Map.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.pollInterval = pollInterval;
+    }
+
+    public boolean isUsable(String replica) {
+        return lagMillis.getOrDefault(replica, UNREACHABLE) <= maxLag.toMillis();
+    }
+
+    public List<String> usableReplicas() {
+        return replicas.keySet().stream().sorted().filter(this::isUsable).toList();
+    }
+
+    public void refresh() {
+        replicas.forEach((name, dataSource) -> record(name, measure(name, dataSource)));
+    }
+
+    void record(String replica, long lag) {
+        lagMillis.put(replica, lag);
+    }
+
+    private long measure(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            return rs.getLong(1);
+        } catch (SQLException e) {
+            log.warn("Replica '{}' lag check failed; routing its reads to the primary", name, e);
+            return UNREACHABLE;
+        }
+    }
+
+    @Override
+    public void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("replica-lag").factory());
+        poller.scheduleWithFixedDelay(this::refresh, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (poller != null) poller.shutdownNow();
+        poller = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return poller != null;
+    }
+}
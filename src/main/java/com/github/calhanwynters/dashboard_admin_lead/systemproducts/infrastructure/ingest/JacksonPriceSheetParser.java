@@ -0,0 +1,256 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.ingest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceSheetRow;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming price sheet reader backed by Jackson.
+ * Pricing models are bound by the same PurchasePricingCodec as persisted strategy_details, so both paths agree.
+ */
+@Component
+public class JacksonPriceSheetParser implements PriceSheetParser {
+
+    static final List<String> CSV_COLUMNS = List.of("item_id", "currency_code", "pricing_type", "strategy_details");
+
+    // A quoted CSV field may span lines; cap it so an unbalanced quote cannot swallow the rest of the file
+    static final int MAX_RECORD_CHARS = 1 << 20;
+
+    private final ObjectMapper jsonMapper;
+    private final PurchasePricingCodec pricingCodec;
+
+    public JacksonPriceSheetParser(ObjectMapper jsonMapper, PurchasePricingCodec pricingCodec) {
+        this.jsonMapper = jsonMapper;
+        this.pricingCodec = pricingCodec;
+    }
+
+    @Override
+    public Stream<PriceSheetRow> parse(Reader source, Format format, Consumer<Rejection> rejections) {
+        Objects.requireNonNull(source, "Source cannot be null.");
+        Objects.requireNonNull(format, "Format cannot be null.");
+        Objects.requireNonNull(rejections, "Rejection listener cannot be null.");
+
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        RowIterator rows = switch (format) {
+            case CSV -> new CsvRows(reader, rejections);
+            case JSONL -> new JsonLinesRows(reader, rejections);
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private PriceSheetRow toRow(long line, String itemId, String currencyCode, String pricingType, JsonNode details)
+            throws IOException {
+        PricingStrategyType type = PricingStrategyType.valueOf(pricingType.strip());
+        PurchasePricing pricing = pricingCodec.readJson(type, details);
+        return new PriceSheetRow(line, new UuId(itemId.strip()), Currency.getInstance(currencyCode.strip()), pricing);
+    }
+
+    private static String reasonOf(Exception e) {
+        String message = e.getMessage();
+        if (message == null) return e.getClass().getSimpleName();
+        int eol = message.indexOf('\n'); // Jackson appends source locations on further lines
+        return eol < 0 ? message : message.substring(0, eol);
+    }
+
+    /**
+     * One-row lookahead over the source; rows that fail to parse are reported and skipped.
+     */
+    private abstract class RowIterator implements Iterator<PriceSheetRow> {
+        final BufferedReader reader;
+        final Consumer<Rejection> rejections;
+        long lineNumber;
+        private PriceSheetRow next;
+        private boolean done;
+
+        RowIterator(BufferedReader reader, Consumer<Rejection> rejections) {
+            this.reader = reader;
+            this.rejections = rejections;
+        }
+
+        /**
+         * @return the next row, null to skip a rejected or blank row; sets done at end of input
+         */
+        abstract PriceSheetRow readRow() throws IOException;
+
+        void finish() {
+            done = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null && !done) {
+                    next = readRow();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return next != null;
+        }
+
+        @Override
+        public PriceSheetRow next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            PriceSheetRow row = next;
+            next = null;
+            return row;
+        }
+    }
+
+    private final class JsonLinesRows extends RowIterator {
+
+        JsonLinesRows(BufferedReader reader, Consumer<Rejection> rejections) {
+            super(reader, rejections);
+        }
+
+        @Override
+        PriceSheetRow readRow() throws IOException {
+            String text = reader.readLine();
+            if (text == null) {
+                finish();
+                return null;
+            }
+            long line = ++lineNumber;
+            if (text.isBlank()) return null;
+
+            try {
+                JsonNode node = jsonMapper.readTree(text);
+                return toRow(line, required(node, "itemId"), required(node, "currencyCode"),
+                        required(node, "pricingType"), node.get("strategyDetails"));
+            } catch (IOException | RuntimeException e) { // Binding failures only; the source was already read
+                rejections.accept(new Rejection(line, reasonOf(e)));
+                return null;
+            }
+        }
+
+        private static String required(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            if (value == null || !value.isTextual()) {
+                throw new IllegalArgumentException("Missing field: " + field);
+            }
+            return value.asText();
+        }
+    }
+
+    private final class CsvRows extends RowIterator {
+        private int[] columns; // Position of each CSV_COLUMNS entry, resolved from the header
+
+        CsvRows(BufferedReader reader, Consumer<Rejection> rejections) {
+            super(reader, rejections);
+        }
+
+        @Override
+        PriceSheetRow readRow() throws IOException {
+            long line = lineNumber + 1;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                finish();
+                return null;
+            }
+            if (fields.size() == 1 && fields.getFirst().isBlank()) return null;
+
+            if (columns == null) {
+                columns = resolveHeader(fields);
+                return null;
+            }
+            try {
+                if (fields.size() < CSV_COLUMNS.size()) {
+                    throw new IllegalArgumentException("Expected " + CSV_COLUMNS.size() + " fields but found " + fields.size());
+                }
+                return toRow(line, fields.get(columns[0]), fields.get(columns[1]), fields.get(columns[2]),
+                        jsonMapper.readTree(fields.get(columns[3])));
+            } catch (IOException | RuntimeException e) { // Binding failures only; the source was already read
+                rejections.accept(new Rejection(line, reasonOf(e)));
+                return null;
+            }
+        }
+
+        private int[] resolveHeader(List<String> header) {
+            List<String> names = header.stream().map(h -> h.strip().toLowerCase(Locale.ROOT)).toList();
+            int[] positions = new int[CSV_COLUMNS.size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = names.indexOf(CSV_COLUMNS.get(i));
+                if (positions[i] < 0) {
+                    throw new IllegalArgumentException("Price sheet header is missing column: " + CSV_COLUMNS.get(i));
+                }
+            }
+            return positions;
+        }
+
+        /**
+         * Reads one RFC 4180 record: comma separated, fields optionally quoted, "" escapes a quote,
+         * quoted fields may contain commas and line breaks.
+         */
+        private List<String> readRecord() throws IOException {
+            String text = reader.readLine();
+            if (text == null) return null;
+            lineNumber++;
+
+            List<String> fields = new ArrayList<>(CSV_COLUMNS.size());
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int length = 0;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    text = reader.readLine();
+                    if (text == null) {
+                        throw new IllegalArgumentException("Unterminated quoted field at end of price sheet (line " + lineNumber + ")");
+                    }
+                    lineNumber++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                if (++length > MAX_RECORD_CHARS) {
+                    throw new IllegalArgumentException("Price sheet record exceeds " + MAX_RECORD_CHARS
+                            + " characters at line " + lineNumber + " (unbalanced quote?)");
+                }
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < text.length() && text.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.FeaturesEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import java.util.Collections;
@@ -41,6 +42,20 @@ public interface FeaturesMapStruct {
     @Mapping(target = "version", source = "optLockVer")
     FeaturesEntity toEntity(FeaturesAggregate aggregate);
 
+    // IN-PLACE UPDATE (managed entity; identity, creation time and lock version are never rewritten)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "name", source = "featuresName.value.value")
+    @Mapping(target = "label", source = "compatibilityTag.value.value")
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(FeaturesAggregate aggregate, @MappingTarget FeaturesEntity entity);
+
     // --- MAPPING HELPERS ---
 
     @Named("toFeatureId")
@@ -5,8 +5,10 @@ import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.Aud
 import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.GalleryEntity;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import java.util.Collections;
@@ -45,6 +47,30 @@ public interface GalleryMapStruct {
     @Mapping(target = "version", source = "optLockVer")
     GalleryEntity toEntity(GalleryAggregate aggregate);
 
+    // IN-PLACE UPDATE (managed entity; identity, creation time and lock version are never rewritten)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "imageUuids", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "isPublic", source = "public")
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(GalleryAggregate aggregate, @MappingTarget GalleryEntity entity);
+
+    @AfterMapping
+    default void syncImageUuids(GalleryAggregate aggregate, @MappingTarget GalleryEntity entity) {
+        // Ordered: rewritten only when the sequence actually changed
+        List<java.util.UUID> target = fromImageUuIdList(aggregate.getImageUuIds());
+        if (!entity.getImageUuids().equals(target)) {
+            entity.getImageUuids().clear();
+            entity.getImageUuids().addAll(target);
+        }
+    }
+
     // --- MAPPING HELPERS ---
 
     @Named("toGalleryId")
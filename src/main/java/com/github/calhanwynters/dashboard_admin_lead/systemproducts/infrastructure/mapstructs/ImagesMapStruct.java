@@ -8,6 +8,7 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ImagesEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import java.util.Collections;
@@ -44,6 +45,21 @@ public interface ImagesMapStruct {
     @Mapping(target = "version", source = "optLockVer")
     ImagesEntity toEntity(ImageAggregate aggregate);
 
+    // IN-PLACE UPDATE (managed entity; identity, creation time and lock version are never rewritten)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "name", source = "imageName.value.value")
+    @Mapping(target = "description", source = "imageDescription.value.value")
+    @Mapping(target = "url", source = "imageUrl.value") // ImageUrl(String value)
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(ImageAggregate aggregate, @MappingTarget ImagesEntity entity);
+
     // --- MAPPING HELPERS ---
 
     @Named("toImageId")
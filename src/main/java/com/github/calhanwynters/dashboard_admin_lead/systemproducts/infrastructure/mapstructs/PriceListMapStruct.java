@@ -1,16 +1,16 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.calhanwynters.dashboard_admin_lead.common.*;
 import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.*;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceEntryEmbeddable;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
-import com.fasterxml.jackson.core.type.TypeReference;
 
 
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
@@ -20,22 +20,11 @@ import java.util.*;
 @Mapper(componentModel = "spring")
 public abstract class PriceListMapStruct {
 
-    protected final ObjectMapper jsonMapper;
-
-    // Internal registry: Links the Domain Enum to the Concrete Value Object Class
-    private static final Map<PricingStrategyType, Class<? extends PurchasePricing>> STRATEGY_MAP = Map.ofEntries(
-            Map.entry(PricingStrategyType.FIXED, PriceFixedPurchase.class),
-            Map.entry(PricingStrategyType.NONE, PriceNonePurchase.class),
-            Map.entry(PricingStrategyType.FRACT_TIERED_GRAD, PriceFractTieredGradPurchase.class),
-            Map.entry(PricingStrategyType.FRACT_SCALED, PriceFractScaledPurchase.class),
-            Map.entry(PricingStrategyType.FRACT_TIERED_VOL, PriceFractTieredVolPurchase.class),
-            Map.entry(PricingStrategyType.INT_SCALED, PriceIntScaledPurchase.class),
-            Map.entry(PricingStrategyType.INT_TIERED_GRAD, PriceIntTieredGradPurchase.class),
-            Map.entry(PricingStrategyType.INT_TIERED_VOL, PriceIntTieredVolPurchase.class)
-    );
-
-    public PriceListMapStruct(ObjectMapper jsonMapper) {
-        this.jsonMapper = jsonMapper;
+    // Typed per-strategy readers/writers for the strategy columns (no generic Map round-trip)
+    protected final PurchasePricingCodec pricingCodec;
+
+    public PriceListMapStruct(PurchasePricingCodec pricingCodec) {
+        this.pricingCodec = pricingCodec;
     }
 
 
@@ -51,7 +40,7 @@ public abstract class PriceListMapStruct {
     @Mapping(target = "lifecycleState", source = "lifecycleState") // Direct mapping if types match
     @Mapping(target = "optLockVer", source = "version") // Example: using version for optimistic locking
     @Mapping(target = "schemaVer", constant = "1") // Defaulting schema version
-    @Mapping(target = "lastSyncedAt", source = "lastModifiedAt")
+    @Mapping(target = "lastSyncedAt", source = "lastSyncedAt")
     public abstract PriceListAggregate toAggregate(PriceListEntity entity);
 
     @Mapping(target = "id", source = "id.value.value")
@@ -64,8 +53,27 @@ public abstract class PriceListMapStruct {
     @Mapping(target = "createdAt", source = "auditMetadata.createdAt.value")
     @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
     @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    @Mapping(target = "lastSyncedAt", source = "lastSyncedAt")
     public abstract PriceListEntity toEntity(PriceListAggregate aggregate);
 
+    /**
+     * Copies the root columns onto a managed entity. Prices are written per entry (see PriceEntryChanges),
+     * version_count is owned by Hibernate's @Version and last_synced_at by the sync scheduler's UPDATE, so
+     * none of them is touched here.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "prices", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastSyncedAt", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "strategySlug", source = "strategyBoundary", qualifiedByName = "enumToSlug")
+    @Mapping(target = "active", source = "active")
+    @Mapping(target = "createdAt", source = "auditMetadata.createdAt.value")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    public abstract void updateEntity(PriceListAggregate aggregate, @MappingTarget PriceListEntity entity);
+
 
 
     // --- Identity & Version Helpers ---
@@ -109,18 +117,16 @@ public abstract class PriceListMapStruct {
 
     @Named("toPricingMap")
     protected Map<UuId, Map<Currency, PurchasePricing>> toPricingMap(List<PriceEntryEmbeddable> entries) {
-        Map<UuId, Map<Currency, PurchasePricing>> rootMap = new HashMap<>();
+        // Entry order is preserved; per-item rows use the compact CurrencyMap instead of a HashMap
+        Map<UuId, Map<Currency, PurchasePricing>> rootMap = new LinkedHashMap<>();
         if (entries == null) return rootMap;
 
         for (var entry : entries) {
             UuId itemKey = new UuId(entry.getItemId().toString());
             Currency currency = Currency.getInstance(entry.getCurrencyCode());
 
-            PricingStrategyType strategyType = PricingStrategyType.valueOf(entry.getPricingType());
-            Class<? extends PurchasePricing> concreteClass = STRATEGY_MAP.get(strategyType);
-
-            PurchasePricing pricing = jsonMapper.convertValue(entry.getStrategyDetails(), concreteClass);
-            rootMap.computeIfAbsent(itemKey, k -> new HashMap<>()).put(currency, pricing);
+            PurchasePricing pricing = pricingCodec.decode(entry);
+            rootMap.computeIfAbsent(itemKey, k -> new CurrencyMap<>()).put(currency, pricing);
         }
         return rootMap;
     }
@@ -130,25 +136,22 @@ public abstract class PriceListMapStruct {
         List<PriceEntryEmbeddable> flatList = new ArrayList<>();
         if (map == null) return flatList;
 
-        map.forEach((itemId, currencyMap) -> currencyMap.forEach((currency, pricing) -> {
-            PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
-            entry.setItemId(UUID.fromString(itemId.value()));
-            entry.setCurrencyCode(currency.getCurrencyCode());
-
-            String slug = STRATEGY_MAP.entrySet().stream()
-                    .filter(e -> e.getValue().isInstance(pricing))
-                    .map(e -> e.getKey().name())
-                    .findFirst()
-                    .orElse("UNKNOWN");
-
-            entry.setPricingType(slug);
-            entry.setStrategyDetails(jsonMapper.convertValue(pricing, new TypeReference<>() {
-            }));
-            flatList.add(entry);
-        }));
+        map.forEach((itemId, currencyMap) -> currencyMap.forEach((currency, pricing) ->
+                flatList.add(toEntry(itemId, currency, pricing))));
         return flatList;
     }
 
+    /**
+     * One price_list_entries row; shared by the full mapping and the per-entry writer.
+     */
+    public PriceEntryEmbeddable toEntry(UuId itemId, Currency currency, PurchasePricing pricing) {
+        PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+        entry.setItemId(UUID.fromString(itemId.value()));
+        entry.setCurrencyCode(currency.getCurrencyCode());
+        pricingCodec.encode(pricing, entry); // pricing_type slug plus JSON or binary details
+        return entry;
+    }
+
     @Named("toAuditMetadata")
     protected AuditMetadata toAuditMetadata(PriceListEntity entity) {
         return AuditMetadata.reconstitute(
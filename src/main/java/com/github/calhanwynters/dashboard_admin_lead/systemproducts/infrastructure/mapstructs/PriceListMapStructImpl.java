@@ -1,6 +1,5 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
 import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
 import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
@@ -8,6 +7,7 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -22,8 +22,8 @@ import java.util.UUID;
 public class PriceListMapStructImpl extends PriceListMapStruct {
 
     @Autowired
-    public PriceListMapStructImpl(ObjectMapper jsonMapper) {
-        super(jsonMapper);
+    public PriceListMapStructImpl(PurchasePricingCodec pricingCodec) {
+        super(pricingCodec);
     }
 
     @Override
@@ -52,7 +52,7 @@ public class PriceListMapStructImpl extends PriceListMapStruct {
                 lifecycleState,
                 entity.getVersion() != null ? entity.getVersion().longValue() : 0L, // optLockVer
                 1,    // schemaVer
-                entity.getLastModifiedAt() // lastSyncedAt
+                entity.getLastSyncedAt() // lastSyncedAt
         );
     }
 
@@ -84,6 +84,7 @@ public class PriceListMapStructImpl extends PriceListMapStruct {
             entity.setLastModifiedAt(aggregate.getAuditMetadata().lastModified().value());
             entity.setLastModifiedBy(aggregate.getAuditMetadata().lastModifiedBy().identity());
         }
+        entity.setLastSyncedAt(aggregate.getLastSyncedAt());
 
         if (aggregate.getPriceListVersion() != null) {
             entity.setVersion(aggregate.getPriceListVersion().value().value());
@@ -98,4 +99,24 @@ public class PriceListMapStructImpl extends PriceListMapStruct {
         return entity;
     }
 
+    @Override
+    public void updateEntity(PriceListAggregate aggregate, PriceListEntity entity) {
+        if (aggregate == null) return;
+
+        entity.setBusinessUuid(UUID.fromString(aggregate.getBusinessUuId().value().value()));
+        entity.setStrategySlug(enumToSlug(aggregate.getStrategyBoundary()));
+        entity.setActive(aggregate.isActive());
+
+        if (aggregate.getAuditMetadata() != null) {
+            entity.setCreatedAt(aggregate.getAuditMetadata().createdAt().value());
+            entity.setLastModifiedAt(aggregate.getAuditMetadata().lastModified().value());
+            entity.setLastModifiedBy(aggregate.getAuditMetadata().lastModifiedBy().identity());
+        }
+
+        if (aggregate.getLifecycleState() != null) {
+            entity.setArchived(aggregate.getLifecycleState().archived());
+            entity.setSoftDeleted(aggregate.getLifecycleState().softDeleted());
+        }
+    }
+
 }
\ No newline at end of file
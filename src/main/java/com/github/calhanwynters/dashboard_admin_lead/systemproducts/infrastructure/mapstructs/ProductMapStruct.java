@@ -10,6 +10,7 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ProductEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import java.util.Collections;
@@ -66,6 +67,34 @@ public interface ProductMapStruct {
     @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
     ProductEntity toEntity(ProductAggregate aggregate);
 
+    // --- IN-PLACE UPDATE: Aggregate onto the managed Entity (identity and creation time never change) ---
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "status", source = "productStatus.value.name")
+    @Mapping(target = "region", source = "productRegion.value.value")
+    @Mapping(target = "name", source = "manifest.name.value.name")
+    @Mapping(target = "category", source = "manifest.category.value.value")
+    @Mapping(target = "description", source = "manifest.description.value.value")
+    @Mapping(target = "weightAmount", source = "physicalSpecs.value.weight.amount")
+    @Mapping(target = "weightUnit", source = "physicalSpecs.value.weight.weightUnit.name")
+    @Mapping(target = "length", source = "physicalSpecs.value.dimensions.length")
+    @Mapping(target = "width", source = "physicalSpecs.value.dimensions.width")
+    @Mapping(target = "height", source = "physicalSpecs.value.dimensions.height")
+    @Mapping(target = "dimensionUnit", source = "physicalSpecs.value.dimensions.sizeUnit.code")
+    @Mapping(target = "careInstructions", source = "physicalSpecs.value.careInstructions.value.value")
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "thumbnailUrl", source = "productThumbnailUrl.value")
+    @Mapping(target = "galleryUuid", source = "galleryUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "variantListUuid", source = "variantListUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "typeListUuid", source = "typeListUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "priceListUuid", source = "priceListUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(ProductAggregate aggregate, @MappingTarget ProductEntity entity);
+
     // --- Complex Composite Construction ---
 
     @Named("toManifest")
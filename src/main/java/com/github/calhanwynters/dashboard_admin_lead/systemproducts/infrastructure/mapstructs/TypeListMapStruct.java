@@ -5,8 +5,10 @@ import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.Lif
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypeListEntity;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import java.util.HashSet;
@@ -39,6 +41,26 @@ public interface TypeListMapStruct {
     @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
     TypeListEntity toEntity(TypeListAggregate aggregate);
 
+    // --- IN-PLACE UPDATE: Aggregate onto the managed Entity (identity and creation time never change) ---
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "typeUuIds", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(TypeListAggregate aggregate, @MappingTarget TypeListEntity entity);
+
+    @AfterMapping
+    default void syncTypeUuIds(TypeListAggregate aggregate, @MappingTarget TypeListEntity entity) {
+        // Diffed in place, so only the added/removed element rows are written
+        Set<java.util.UUID> target = fromTypeUuIdSet(aggregate.getTypeUuIds());
+        entity.getTypeUuIds().retainAll(target);
+        entity.getTypeUuIds().addAll(target);
+    }
+
     // --- COLLECTION HELPERS ---
 
     @Named("toTypeUuIdSet")
@@ -6,6 +6,7 @@ import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypesEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.*;
@@ -44,6 +45,26 @@ public interface TypesMapStruct {
     @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
     TypesEntity toEntity(TypesAggregate aggregate);
 
+    // --- IN-PLACE UPDATE: Aggregate onto the managed Entity (identity and creation time never change) ---
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "name", source = "typesName.value.name")
+    @Mapping(target = "region", source = "typesRegion.value.value")
+    @Mapping(target = "weightAmount", source = "typesPhysicalSpecs.value.weight.amount")
+    @Mapping(target = "weightUnit", source = "typesPhysicalSpecs.value.weight.weightUnit.name")
+    @Mapping(target = "length", source = "typesPhysicalSpecs.value.dimensions.length")
+    @Mapping(target = "width", source = "typesPhysicalSpecs.value.dimensions.width")
+    @Mapping(target = "height", source = "typesPhysicalSpecs.value.dimensions.height")
+    @Mapping(target = "dimensionUnit", source = "typesPhysicalSpecs.value.dimensions.sizeUnit.code")
+    @Mapping(target = "careInstructions", source = "typesPhysicalSpecs.value.careInstructions.value.value")
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(TypesAggregate aggregate, @MappingTarget TypesEntity entity);
+
     // --- TYPES SPECIFIC HELPERS ---
 
     @Named("toTypesId")
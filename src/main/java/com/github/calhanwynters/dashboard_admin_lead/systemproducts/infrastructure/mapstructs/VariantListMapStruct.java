@@ -5,8 +5,10 @@ import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.Lif
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantListEntity;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import java.util.HashSet;
@@ -39,6 +41,26 @@ public interface VariantListMapStruct {
     @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
     VariantListEntity toEntity(VariantListAggregate aggregate);
 
+    // --- IN-PLACE UPDATE: Aggregate onto the managed Entity (identity and creation time never change) ---
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "variantUuids", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(VariantListAggregate aggregate, @MappingTarget VariantListEntity entity);
+
+    @AfterMapping
+    default void syncVariantUuids(VariantListAggregate aggregate, @MappingTarget VariantListEntity entity) {
+        // Diffed in place, so only the added/removed element rows are written
+        Set<java.util.UUID> target = fromVariantUuIdSet(aggregate.getVariantUuIds());
+        entity.getVariantUuids().retainAll(target);
+        entity.getVariantUuids().addAll(target);
+    }
+
     // --- COLLECTION HELPERS ---
 
     @Named("toVariantUuIdSet")
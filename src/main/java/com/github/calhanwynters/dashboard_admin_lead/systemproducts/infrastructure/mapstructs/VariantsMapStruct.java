@@ -5,8 +5,10 @@ import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.Lif
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.*;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantsEntity;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
 import java.util.HashSet;
@@ -43,6 +45,28 @@ public interface VariantsMapStruct {
     @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
     VariantsEntity toEntity(VariantsAggregate aggregate);
 
+    // --- IN-PLACE UPDATE: Aggregate onto the managed Entity (identity and creation time never change) ---
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "assignedFeatureUuids", ignore = true)
+    @Mapping(target = "businessUuid", source = "businessUuId.value.value", qualifiedByName = "stringToUuid")
+    @Mapping(target = "name", source = "variantsName.value.name")
+    @Mapping(target = "region", source = "variantsRegion.value.value")
+    @Mapping(target = "archived", source = "lifecycleState.archived")
+    @Mapping(target = "softDeleted", source = "lifecycleState.softDeleted")
+    @Mapping(target = "lastModifiedAt", source = "auditMetadata.lastModified.value")
+    @Mapping(target = "lastModifiedBy", source = "auditMetadata.lastModifiedBy.identity")
+    void updateEntity(VariantsAggregate aggregate, @MappingTarget VariantsEntity entity);
+
+    @AfterMapping
+    default void syncAssignedFeatureUuids(VariantsAggregate aggregate, @MappingTarget VariantsEntity entity) {
+        // Diffed in place, so only the added/removed element rows are written
+        Set<java.util.UUID> target = fromFeatureUuIdSet(aggregate.getAssignedFeatureUuIds());
+        entity.getAssignedFeatureUuids().retainAll(target);
+        entity.getAssignedFeatureUuids().addAll(target);
+    }
+
     // --- VARIANTS SPECIFIC HELPERS ---
 
     @Named("toVariantsId")
@@ -0,0 +1,53 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.DomainEventBroker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Broker stand-in that appends each message as one JSON line to a local file. A batch counts as accepted
+ * once it is forced to disk, one fsync per batch.
+ */
+public class FileDomainEventBroker implements DomainEventBroker {
+
+    private final Path file;
+    private final ObjectMapper jsonMapper;
+
+    public FileDomainEventBroker(Path file, ObjectMapper jsonMapper) {
+        this.file = file;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<Message> messages) {
+        StringBuilder lines = new StringBuilder(messages.size() * 256);
+        for (Message message : messages) {
+            try {
+                lines.append(jsonMapper.writeValueAsString(message)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialise outbox message " + message.sequence(), e);
+            }
+        }
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.DomainEventBroker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Broker stand-in that keeps every published message in memory (tests, local runs).
+ */
+public class InMemoryDomainEventBroker implements DomainEventBroker {
+
+    private final List<Message> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<Message> messages) {
+        published.addAll(messages);
+    }
+
+    public synchronized List<Message> published() {
+        return List.copyOf(published);
+    }
+}
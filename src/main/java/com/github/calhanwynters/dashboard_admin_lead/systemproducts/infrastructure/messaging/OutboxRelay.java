@@ -0,0 +1,188 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.DomainEventBroker;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.DomainEventBroker.Message;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.SyncEventEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers event_outbox rows to the DomainEventBroker.
+ *
+ * <p>Each round claims a batch in one autocommitted statement. Events of one aggregate must go out in
+ * order, so a relay claims whole aggregates, never single rows: it may take an aggregate only by locking
+ * that aggregate's oldest remaining row (its head) while the head carries no live lease, and then leases
+ * the aggregate's rows in id order. SKIP LOCKED on the head makes concurrent relays pick disjoint
+ * aggregates, and once the statement commits the leased head keeps the others out until this relay has
+ * deleted it or the lease has expired. An expired aggregate is claimed again from its head, so a relay
+ * that dies mid-publish causes redelivery, never a later row ahead of an earlier one; the lease must
+ * therefore outlast a publish round. The row locks last only for the claim statement.
+ *
+ * <p>A claim looks only at the aggregates of the oldest batch-size unleased rows, so its cost follows the
+ * batch size, not the backlog. Aggregates further back wait until the rows ahead of them are delivered,
+ * which keeps delivery roughly oldest first. The unleased tail of an aggregate that another relay is
+ * publishing can fill a slice on its own; the round then claims nothing and retries after the poll interval.
+ *
+ * <p>Within a batch, sync events (snapshots and deltas) that precede a later snapshot of the same aggregate
+ * are dropped unpublished; deltas after the latest snapshot still go out, in order, since each builds on
+ * the one before. Delivered and dropped rows are then deleted in one statement. Rounds run back to back
+ * while batches come back full and pause for the poll interval otherwise.
+ */
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // Candidates come from the oldest unleased rows (a primary key range scan of at most the slice), each
+    // candidate's head from ix_event_outbox_aggregate; the lease test is repeated on the locked head so a
+    // head leased since the snapshot was taken is skipped
+    static final String CLAIM_SQL = """
+            WITH candidates AS (
+                SELECT DISTINCT aggregate_type, aggregate_uuid FROM (
+                    SELECT aggregate_type, aggregate_uuid FROM event_outbox
+                    WHERE lease_until IS NULL OR lease_until < now()
+                    ORDER BY id
+                    LIMIT ?
+                ) oldest
+            ), heads AS (
+                SELECT (SELECT min(e.id) FROM event_outbox e
+                        WHERE e.aggregate_type = c.aggregate_type AND e.aggregate_uuid = c.aggregate_uuid) AS id
+                FROM candidates c
+            ), owned AS (
+                SELECT aggregate_type, aggregate_uuid FROM event_outbox
+                WHERE id IN (SELECT id FROM heads) AND (lease_until IS NULL OR lease_until < now())
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE event_outbox SET lease_until = now() + make_interval(secs => ?)
+            WHERE id IN (SELECT e.id FROM event_outbox e JOIN owned USING (aggregate_type, aggregate_uuid)
+                         ORDER BY e.id
+                         LIMIT ?)
+            RETURNING id, aggregate_type, aggregate_uuid, event_type, compactable, payload::text, occurred_at
+            """;
+
+    static final String DELETE_SQL = "DELETE FROM event_outbox WHERE id = ANY(?)";
+
+    record Claimed(Message message, boolean compactable) {}
+
+    /**
+     * What a claimed batch turns into: the messages to publish, in sequence order, and every row to delete.
+     */
+    record Batch(List<Message> publish, List<Long> delete) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventBroker broker;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration pollInterval;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, DomainEventBroker broker, int batchSize, Duration lease,
+                       Duration pollInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.broker = broker;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * One claim-publish-delete round; returns the number of rows claimed.
+     */
+    public int relayOnce() {
+        List<Claimed> claimed = jdbcTemplate.query(CLAIM_SQL, (rs, n) -> claimed(rs),
+                batchSize, lease.toMillis() / 1000.0, batchSize);
+        if (claimed.isEmpty()) return 0;
+
+        Batch batch = compact(claimed);
+        if (!batch.publish().isEmpty()) broker.publish(batch.publish());
+        Long[] ids = batch.delete().toArray(Long[]::new);
+        jdbcTemplate.update(DELETE_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+        return claimed.size();
+    }
+
+    static Batch compact(List<Claimed> claimed) {
+        List<Claimed> ordered = new ArrayList<>(claimed);
+        ordered.sort(Comparator.comparingLong(c -> c.message().sequence()));
+
+        // Latest snapshot per aggregate; sync events before it are superseded
+        Map<String, Long> latestSnapshot = new HashMap<>();
+        for (Claimed c : ordered) {
+            if (c.compactable() && SyncEventEncoder.isSyncEvent(c.message().eventType())) {
+                latestSnapshot.put(aggregateKey(c.message()), c.message().sequence());
+            }
+        }
+
+        List<Message> publish = new ArrayList<>(ordered.size());
+        List<Long> delete = new ArrayList<>(ordered.size());
+        for (Claimed c : ordered) {
+            delete.add(c.message().sequence());
+            Long snapshot = latestSnapshot.get(aggregateKey(c.message()));
+            if (c.compactable() && snapshot != null && c.message().sequence() < snapshot) continue;
+            publish.add(c.message());
+        }
+        return new Batch(publish, delete);
+    }
+
+    private static String aggregateKey(Message message) {
+        return message.aggregateType() + '/' + message.aggregateUuId();
+    }
+
+    private static Claimed claimed(ResultSet rs) throws SQLException {
+        Message message = new Message(rs.getLong("id"), rs.getString("aggregate_type"),
+                rs.getString("aggregate_uuid"), rs.getString("event_type"), rs.getString("payload"),
+                rs.getObject("occurred_at", OffsetDateTime.class));
+        return new Claimed(message, rs.getBoolean("compactable"));
+    }
+
+    // --- LIFECYCLE ---
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("outbox-relay").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) worker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (relayOnce() < batchSize) Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The claimed rows keep their lease and are retried once it expires
+                log.warn("Outbox relay round failed", e);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
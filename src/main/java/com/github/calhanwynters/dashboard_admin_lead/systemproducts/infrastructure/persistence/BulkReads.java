@@ -0,0 +1,106 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.validationchecks.DomainGuard;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Shared plumbing for the catalog-wide adapter reads: keyset pages ("WHERE id > :afterId ORDER BY id LIMIT n")
+ * and cursor-backed streams.
+ */
+final class BulkReads {
+
+    private BulkReads() {}
+
+    /**
+     * Cursor value for the query; ids are positive, so 0 starts from the beginning.
+     */
+    static long after(Long afterId) {
+        return afterId == null ? 0L : afterId;
+    }
+
+    static Limit limit(int limit) {
+        DomainGuard.positive(limit, "Page limit");
+        return Limit.of(Math.min(limit, KeysetPage.MAX_LIMIT));
+    }
+
+    /**
+     * Maps one page of rows; a full page carries its last id as the next cursor. The page is at most
+     * hibernate.default_batch_fetch_size rows, so each lazy collection is loaded for all of them at once.
+     */
+    static <E, A> KeysetPage<A> page(List<E> rows, int limit, Function<E, Long> idOf, Function<E, A> toAggregate) {
+        List<A> items = new ArrayList<>(rows.size());
+        for (E row : rows) {
+            items.add(toAggregate.apply(row));
+        }
+        boolean full = !rows.isEmpty() && rows.size() >= Math.min(limit, KeysetPage.MAX_LIMIT);
+        return new KeysetPage<>(items, full ? idOf.apply(rows.getLast()) : null);
+    }
+
+    /**
+     * Rows mapped per stream chunk; kept equal to hibernate.default_batch_fetch_size, so the first lazy
+     * collection touched in a chunk loads that collection for the whole chunk in one statement.
+     */
+    static final int STREAM_CHUNK = KeysetPage.MAX_LIMIT;
+
+    /**
+     * Maps rows a chunk at a time as the consumer pulls them, then detaches the chunk, so the persistence
+     * context does not grow with the number of rows read. The chunk stays managed while it is mapped: a
+     * row detached on its own would leave nothing for the batch fetch of its neighbours.
+     */
+    static <E, A> Stream<A> stream(Stream<E> rows, EntityManager entityManager, Function<E, A> toAggregate) {
+        return stream(rows, STREAM_CHUNK, entityManager, toAggregate);
+    }
+
+    static <E, A> Stream<A> stream(Stream<E> rows, int chunkSize, EntityManager entityManager, Function<E, A> toAggregate) {
+        DomainGuard.positive(chunkSize, "Stream chunk size");
+        Iterator<E> cursor = rows.iterator();
+        Iterator<List<A>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public List<A> next() {
+                List<E> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && cursor.hasNext()) {
+                    chunk.add(cursor.next());
+                }
+                List<A> mapped = new ArrayList<>(chunk.size());
+                for (E row : chunk) {
+                    mapped.add(toAggregate.apply(row));
+                }
+                chunk.forEach(entityManager::detach);
+                return mapped;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(rows::close);
+    }
+
+    /**
+     * Groups the (owner id, value) rows of a collection-table batch read by owner.
+     */
+    @SuppressWarnings("unchecked")
+    static <V> Map<Long, List<V>> byOwner(List<Object[]> pairs) {
+        Map<Long, List<V>> grouped = new HashMap<>();
+        for (Object[] pair : pairs) {
+            grouped.computeIfAbsent((Long) pair[0], k -> new ArrayList<>()).add((V) pair[1]);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.SyncEventEncoder.Baseline;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.SyncEventEncoder.Encoded;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Moves the events registered on saved aggregates into event_outbox, in the caller's transaction, so an
+ * event exists exactly when its state change was committed. The OutboxRelay delivers them from there.
+ * Inserts are JDBC-batched; each event becomes a JSON payload, and sync events are delta-encoded against
+ * the aggregate's previous sync by the SyncEventEncoder.
+ */
+@Component
+public class DomainEventOutbox {
+
+    static final String INSERT_SQL = """
+            INSERT INTO event_outbox (aggregate_type, aggregate_uuid, event_type, compactable, payload, occurred_at)
+            VALUES (?, ?, ?, ?, CAST(? AS jsonb), ?)
+            """;
+
+    /**
+     * The outbox as seen by one adapter: its aggregate type name and how to read an aggregate's UUID.
+     */
+    public record Source<A extends BaseAggregateRoot<A, ?, ?, ?>>(DomainEventOutbox outbox, String aggregateType,
+                                                                  Function<A, String> uuIdText) {
+        public void append(Collection<A> aggregates) {
+            outbox.append(aggregates, aggregateType, uuIdText);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper jsonMapper;
+    private final SyncEventEncoder syncEncoder;
+    private final int batchSize;
+
+    public DomainEventOutbox(JdbcTemplate jdbcTemplate, ObjectMapper jsonMapper, SyncEventEncoder syncEncoder,
+                             @Value("${outbox.insert-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+        this.syncEncoder = syncEncoder;
+        this.batchSize = batchSize;
+    }
+
+    public <A extends BaseAggregateRoot<A, ?, ?, ?>> Source<A> source(String aggregateType, Function<A, String> uuIdText) {
+        return new Source<>(this, aggregateType, uuIdText);
+    }
+
+    /**
+     * Writes and clears the pending events of each aggregate, in registration order.
+     */
+    public <A extends BaseAggregateRoot<A, ?, ?, ?>> void append(Collection<A> aggregates, String aggregateType,
+                                                                 Function<A, String> uuIdText) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        Map<UUID, Baseline> baselines = syncEncoder.lock(aggregateType, syncing(aggregates, uuIdText));
+        Map<UUID, Baseline> synced = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (A aggregate : aggregates) {
+            List<Object> events = aggregate.pendingEvents();
+            if (events.isEmpty()) continue;
+            UUID uuid = UUID.fromString(uuIdText.apply(aggregate));
+            for (Object event : events) {
+                String eventType = event.getClass().getSimpleName();
+                if (SyncEventEncoder.isSyncEvent(eventType)) {
+                    Encoded encoded = syncEncoder.encode(event, baselines.get(uuid));
+                    baselines.put(uuid, encoded.next()); // A second sync in the same call builds on this one
+                    synced.put(uuid, encoded.next());
+                    rows.add(new Object[]{aggregateType, uuid, encoded.eventType(), true, encoded.payload(), now});
+                } else {
+                    rows.add(new Object[]{aggregateType, uuid, eventType, false, toJson(event), now});
+                }
+                if (rows.size() == batchSize) flush(rows);
+            }
+            aggregate.clearPendingEvents();
+        }
+        flush(rows);
+        syncEncoder.save(aggregateType, synced);
+    }
+
+    private static <A extends BaseAggregateRoot<A, ?, ?, ?>> Set<UUID> syncing(Collection<A> aggregates,
+                                                                              Function<A, String> uuIdText) {
+        Set<UUID> uuids = new HashSet<>();
+        for (A aggregate : aggregates) {
+            for (Object event : aggregate.pendingEvents()) {
+                if (SyncEventEncoder.isSyncEvent(event.getClass().getSimpleName())) {
+                    uuids.add(UUID.fromString(uuIdText.apply(aggregate)));
+                    break;
+                }
+            }
+        }
+        return uuids;
+    }
+
+    private String toJson(Object event) {
+        try {
+            return jsonMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private void flush(List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        batch.clear();
+    }
+}
@@ -1,19 +1,25 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.FeaturesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.FeaturesMapper;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.FeaturesEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.FeaturesJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter for Features (2026 Edition).
@@ -24,10 +30,19 @@ public class FeaturesPostgresqlRepositoryImpl implements FeaturesRepository {
 
     private final FeaturesJpaRepository jpaRepository;
     private final FeaturesMapper mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<FeaturesAggregate, FeatureId, FeaturesEntity> writes;
+    private final DomainEventOutbox.Source<FeaturesAggregate> events;
 
-    public FeaturesPostgresqlRepositoryImpl(FeaturesJpaRepository jpaRepository, FeaturesMapper mapper) {
+    public FeaturesPostgresqlRepositoryImpl(FeaturesJpaRepository jpaRepository, FeaturesMapper mapper, EntityManager entityManager,
+                                            DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(FeaturesEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                FeaturesEntity::getId, mapper::toFeatureId, mapper::toEntity, mapper::updateEntity, FeaturesEntity::getVersion);
+        this.events = outbox.source("features", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -47,9 +62,16 @@ public class FeaturesPostgresqlRepositoryImpl implements FeaturesRepository {
     @Override
     @Transactional
     public FeaturesAggregate save(FeaturesAggregate aggregate) {
-        FeaturesEntity entity = mapper.toEntity(aggregate);
-        FeaturesEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<FeaturesAggregate> saveAll(Collection<FeaturesAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<FeaturesAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -60,6 +82,19 @@ public class FeaturesPostgresqlRepositoryImpl implements FeaturesRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<FeaturesAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, FeaturesEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<FeaturesAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(FeatureUuId uuId) {
@@ -0,0 +1,43 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.FeaturesQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.features.dto.FeatureDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.FeaturesJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.FeaturesRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Query adapter for the Features read model (see ProductQueryPostgresqlRepositoryImpl).
+ */
+@Repository
+public class FeaturesQueryPostgresqlRepositoryImpl implements FeaturesQueryRepository {
+
+    private final FeaturesJpaRepository jpaRepository;
+
+    public FeaturesQueryPostgresqlRepositoryImpl(FeaturesJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<FeatureDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(this::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<FeatureDTO> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, FeaturesRow::id, this::toDTO);
+    }
+
+    private FeatureDTO toDTO(FeaturesRow row) {
+        return new FeatureDTO(row.uuid(), row.businessUuid().toString(), row.name(), row.label(),
+                row.archived(), row.softDeleted(), row.version(), row.lastSyncedAt());
+    }
+}
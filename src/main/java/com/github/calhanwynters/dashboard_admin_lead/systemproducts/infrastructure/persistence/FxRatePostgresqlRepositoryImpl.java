@@ -0,0 +1,96 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.FxRateTable;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.FxRateRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.FxRateSnapshotEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.FxRateSnapshotJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Persistence Adapter for FX rate snapshots.
+ * The latest table is held in memory for a short TTL, so quoting does not pay a round-trip per request;
+ * a publish through this adapter replaces it immediately.
+ */
+@Repository
+public class FxRatePostgresqlRepositoryImpl implements FxRateRepository {
+
+    private static final TypeReference<Map<String, String>> RATES_TYPE = new TypeReference<>() {};
+
+    private final FxRateSnapshotJpaRepository jpaRepository;
+    private final ObjectMapper jsonMapper;
+    private final LoadingCache<Boolean, Optional<FxRateTable>> latest; // Single entry
+
+    public FxRatePostgresqlRepositoryImpl(FxRateSnapshotJpaRepository jpaRepository, ObjectMapper jsonMapper,
+                                          @Value("${pricelist.fx.rate-cache-ttl:PT1M}") Duration rateCacheTtl) {
+        this.jpaRepository = jpaRepository;
+        this.jsonMapper = jsonMapper;
+        this.latest = Caffeine.newBuilder()
+                .expireAfterWrite(rateCacheTtl)
+                .build(k -> jpaRepository.findFirstByOrderByRevisionDesc().map(this::toTable));
+    }
+
+    @Override
+    public Optional<FxRateTable> findLatest() {
+        return latest.get(Boolean.TRUE);
+    }
+
+    @Override
+    @Transactional
+    public FxRateTable publish(Currency baseCurrency, Map<Currency, BigDecimal> rates, Actor actor) {
+        // Validate and normalise through the domain record before writing
+        FxRateTable table = new FxRateTable(0L, baseCurrency, rates, OffsetDateTime.now());
+
+        FxRateSnapshotEntity entity = new FxRateSnapshotEntity();
+        entity.setBaseCurrency(baseCurrency.getCurrencyCode());
+        entity.setRates(writeRates(table.rates()));
+        entity.setPublishedAt(table.publishedAt());
+        entity.setPublishedBy(actor.identity());
+        FxRateSnapshotEntity saved = jpaRepository.save(entity);
+
+        FxRateTable published = toTable(saved);
+        latest.put(Boolean.TRUE, Optional.of(published));
+        return published;
+    }
+
+    private FxRateTable toTable(FxRateSnapshotEntity entity) {
+        Map<Currency, BigDecimal> rates = new HashMap<>();
+        readRates(entity.getRates()).forEach((code, rate) -> rates.put(Currency.getInstance(code), new BigDecimal(rate)));
+        return new FxRateTable(entity.getRevision(), Currency.getInstance(entity.getBaseCurrency()), rates,
+                entity.getPublishedAt());
+    }
+
+    private String writeRates(Map<Currency, BigDecimal> rates) {
+        Map<String, String> json = new TreeMap<>();
+        rates.forEach((currency, rate) -> json.put(currency.getCurrencyCode(), rate.toPlainString()));
+        try {
+            return jsonMapper.writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise FX rates", e);
+        }
+    }
+
+    private Map<String, String> readRates(String json) {
+        try {
+            return jsonMapper.readValue(json, RATES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable FX rate snapshot", e);
+        }
+    }
+}
@@ -1,30 +1,45 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.GalleryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.GalleryMapStruct;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.GalleryEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.GalleryJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class GalleryPostgresqlRepositoryImpl implements GalleryRepository {
 
     private final GalleryJpaRepository jpaRepository;
     private final GalleryMapStruct mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<GalleryAggregate, GalleryId, GalleryEntity> writes;
+    private final DomainEventOutbox.Source<GalleryAggregate> events;
 
-    public GalleryPostgresqlRepositoryImpl(GalleryJpaRepository jpaRepository, GalleryMapStruct mapper) {
+    public GalleryPostgresqlRepositoryImpl(GalleryJpaRepository jpaRepository, GalleryMapStruct mapper, EntityManager entityManager,
+                                           DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(GalleryEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                GalleryEntity::getId, mapper::toGalleryId, mapper::toEntity, mapper::updateEntity, entity -> null); // No lock column on this table
+        this.events = outbox.source("galleries", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -53,9 +68,16 @@ public class GalleryPostgresqlRepositoryImpl implements GalleryRepository {
     @Override
     @Transactional
     public GalleryAggregate save(GalleryAggregate aggregate) {
-        GalleryEntity entity = mapper.toEntity(aggregate);
-        GalleryEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<GalleryAggregate> saveAll(Collection<GalleryAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<GalleryAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -66,6 +88,19 @@ public class GalleryPostgresqlRepositoryImpl implements GalleryRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<GalleryAggregate> findAllPublicPage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findPublicPage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, GalleryEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<GalleryAggregate> streamAllPublic() {
+        return BulkReads.stream(jpaRepository.streamAllPublic(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GalleryAggregate> findAllActive() {
@@ -74,6 +109,19 @@ public class GalleryPostgresqlRepositoryImpl implements GalleryRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<GalleryAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, GalleryEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<GalleryAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(GalleryUuId galleryUuId) {
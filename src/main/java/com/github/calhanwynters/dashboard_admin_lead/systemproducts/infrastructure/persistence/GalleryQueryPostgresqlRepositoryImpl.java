@@ -0,0 +1,53 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.GalleryQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.gallery.dto.GalleryDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.GalleryJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.GalleryRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Query adapter for the Gallery read model (see ProductQueryPostgresqlRepositoryImpl).
+ */
+@Repository
+public class GalleryQueryPostgresqlRepositoryImpl implements GalleryQueryRepository {
+
+    private final GalleryJpaRepository jpaRepository;
+
+    public GalleryQueryPostgresqlRepositoryImpl(GalleryJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GalleryDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(row -> toDTO(row, imageUuidsOf(List.of(row))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<GalleryDTO> findAllActivePage(Long afterId, int limit) {
+        List<GalleryRow> rows = jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit));
+        Map<Long, List<UUID>> imageUuids = imageUuidsOf(rows);
+        return BulkReads.page(rows, limit, GalleryRow::id, row -> toDTO(row, imageUuids));
+    }
+
+    // One batch read of the collection table for all headers on the page
+    private Map<Long, List<UUID>> imageUuidsOf(List<GalleryRow> rows) {
+        if (rows.isEmpty()) return Map.of();
+        return BulkReads.byOwner(jpaRepository.findImageUuidsByIdIn(rows.stream().map(GalleryRow::id).toList()));
+    }
+
+    private GalleryDTO toDTO(GalleryRow row, Map<Long, List<UUID>> imageUuids) {
+        return new GalleryDTO(row.uuid(), row.businessUuid().toString(), row.isPublic(),
+                List.copyOf(imageUuids.getOrDefault(row.id(), List.of())),
+                row.archived(), row.softDeleted(), null, row.lastSyncedAt());
+    }
+}
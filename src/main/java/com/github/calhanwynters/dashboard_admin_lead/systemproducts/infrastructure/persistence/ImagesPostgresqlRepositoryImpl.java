@@ -1,30 +1,45 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImageAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImagesBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.images.ImagesDomainWrapper.ImageUrl;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ImagesRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.ImagesMapStruct;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ImagesEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.ImagesJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class ImagesPostgresqlRepositoryImpl implements ImagesRepository {
 
     private final ImagesJpaRepository jpaRepository;
     private final ImagesMapStruct mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<ImageAggregate, ImageId, ImagesEntity> writes;
+    private final DomainEventOutbox.Source<ImageAggregate> events;
 
-    public ImagesPostgresqlRepositoryImpl(ImagesJpaRepository jpaRepository, ImagesMapStruct mapper) {
+    public ImagesPostgresqlRepositoryImpl(ImagesJpaRepository jpaRepository, ImagesMapStruct mapper, EntityManager entityManager,
+                                          DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(ImagesEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                ImagesEntity::getId, mapper::toImageId, mapper::toEntity, mapper::updateEntity, entity -> null); // No lock column on this table
+        this.events = outbox.source("images", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -44,9 +59,16 @@ public class ImagesPostgresqlRepositoryImpl implements ImagesRepository {
     @Override
     @Transactional
     public ImageAggregate save(ImageAggregate aggregate) {
-        ImagesEntity entity = mapper.toEntity(aggregate);
-        ImagesEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<ImageAggregate> saveAll(Collection<ImageAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<ImageAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -64,6 +86,19 @@ public class ImagesPostgresqlRepositoryImpl implements ImagesRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ImageAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, ImagesEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<ImageAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(ImageUuId imagesUuId) {
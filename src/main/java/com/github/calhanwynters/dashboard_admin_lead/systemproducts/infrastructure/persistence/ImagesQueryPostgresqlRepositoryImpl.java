@@ -0,0 +1,44 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.ImagesQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.images.dto.ImagesDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.ImagesJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ImagesRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Query adapter for the Images read model (see ProductQueryPostgresqlRepositoryImpl).
+ */
+@Repository
+public class ImagesQueryPostgresqlRepositoryImpl implements ImagesQueryRepository {
+
+    private final ImagesJpaRepository jpaRepository;
+
+    public ImagesQueryPostgresqlRepositoryImpl(ImagesJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ImagesDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(this::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ImagesDTO> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, ImagesRow::id, this::toDTO);
+    }
+
+    private ImagesDTO toDTO(ImagesRow row) {
+        return new ImagesDTO(row.uuid(), row.businessUuid().toString(), row.name(), row.description(), row.url(),
+                row.archived(), row.softDeleted(),
+                null, row.lastSyncedAt()); // No lock column on this table
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionCheckMode;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Merge-free save path shared by the aggregate adapters.
+ *
+ * <p>New aggregates are persisted; existing ones are copied onto their managed entity by the mapper's
+ * {@code @MappingTarget} update, so there is no merge SELECT and (the entities being {@code @DynamicUpdate})
+ * the UPDATE carries only the changed columns. Rows already loaded in the current transaction are taken
+ * from the persistence context; the rest are fetched in one batch. The caller's aggregates are returned
+ * with the assigned id and lock version patched in, not rebuilt through toAggregate.
+ */
+final class ManagedWrites {
+
+    /**
+     * How one adapter maps its aggregate onto its entity. lockVersion reads the entity's @Version
+     * column and yields null for tables without one.
+     */
+    record Binding<A, ID, E>(Class<E> entityType,
+                             Function<A, Long> aggregateId,
+                             Function<E, Long> entityId,
+                             Function<Long, ID> toId,
+                             Function<A, E> toEntity,
+                             BiConsumer<A, E> updateEntity,
+                             Function<E, Long> lockVersion) {}
+
+    private ManagedWrites() {}
+
+    static <A extends BaseAggregateRoot<A, ID, ?, ?>, ID, E> List<A> saveAll(
+            Collection<A> aggregates, Binding<A, ID, E> binding, EntityManager entityManager) {
+        List<A> ordered = List.copyOf(aggregates);
+        List<Long> ids = ordered.stream().map(binding.aggregateId()).filter(Objects::nonNull).toList();
+        Map<Long, E> current = managed(entityManager, binding.entityType(), ids, binding.entityId());
+
+        List<E> entities = new ArrayList<>(ordered.size());
+        for (A aggregate : ordered) {
+            Long id = binding.aggregateId().apply(aggregate);
+            if (id == null) {
+                // New row: the id comes from the sequence pool, the INSERT is batched at the flush
+                E entity = binding.toEntity().apply(aggregate);
+                entityManager.persist(entity);
+                entities.add(entity);
+                continue;
+            }
+            E entity = current.get(id);
+            if (entity == null) {
+                throw new IllegalArgumentException(binding.entityType().getSimpleName() + " not found: " + id);
+            }
+            Long version = binding.lockVersion().apply(entity);
+            if (version != null && !Objects.equals(aggregate.getOptLockVer(), version)) {
+                throw new ObjectOptimisticLockingFailureException(binding.entityType(), id);
+            }
+            binding.updateEntity().accept(aggregate, entity);
+            entities.add(entity);
+        }
+        entityManager.flush(); // One flush for the whole set; @Version columns are incremented here
+
+        for (int i = 0; i < ordered.size(); i++) {
+            A aggregate = ordered.get(i);
+            E entity = entities.get(i);
+            Long version = binding.lockVersion().apply(entity);
+            aggregate.markPersisted(binding.toId().apply(binding.entityId().apply(entity)),
+                    version != null ? version : aggregate.getOptLockVer());
+        }
+        return ordered;
+    }
+
+    /**
+     * Managed entities by id. Session checking serves rows already in the persistence context without a
+     * query and loads only the missing ones, in one statement.
+     */
+    static <E> Map<Long, E> managed(EntityManager entityManager, Class<E> type, List<Long> ids,
+                                    Function<E, Long> idOf) {
+        Map<Long, E> byId = new HashMap<>();
+        if (ids.isEmpty()) return byId;
+        for (E entity : entityManager.unwrap(Session.class).findMultiple(type, ids, SessionCheckMode.ENABLED)) {
+            if (entity != null) byId.put(idOf.apply(entity), entity);
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync.SyncTarget;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * SyncTarget over one aggregate table.
+ *
+ * <p>Pending rows are found through the (sync_pending, id) index and locked with SKIP LOCKED, so
+ * schedulers on several nodes split the backlog instead of syncing the same rows twice. The claimed
+ * entities are loaded in one statement, each active aggregate emits its sync event into the outbox, and
+ * last_synced_at is then set for the whole batch in a single UPDATE. That UPDATE only matches rows whose
+ * last_modified_at is still the one that was claimed, and never sets a time before it.
+ */
+public class PendingSyncPostgresqlTarget<A extends BaseAggregateRoot<A, ?, ?, ?>, E> implements SyncTarget {
+
+    private final String aggregateType;
+    private final String findSql;
+    private final String markSql;
+    private final Class<E> entityType;
+    private final Function<E, Long> entityId;
+    private final Function<E, A> toAggregate;
+    private final BiConsumer<A, Actor> syncAction;
+    private final Actor actor;
+    private final DomainEventOutbox.Source<A> events;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public PendingSyncPostgresqlTarget(String aggregateType, String table, Class<E> entityType,
+                                       Function<E, Long> entityId, Function<E, A> toAggregate,
+                                       Function<A, String> uuIdText,
+                                       BiConsumer<A, Actor> syncAction, Actor actor, DomainEventOutbox outbox,
+                                       JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.aggregateType = aggregateType;
+        this.findSql = "SELECT id, last_modified_at FROM " + table
+                + " WHERE sync_pending AND id > ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+        this.markSql = "UPDATE " + table + " t SET last_synced_at = GREATEST(now(), CAST(s.seen AS timestamptz))"
+                + " FROM unnest(CAST(? AS bigint[]), CAST(? AS text[])) AS s(id, seen)"
+                + " WHERE t.id = s.id AND t.last_modified_at = CAST(s.seen AS timestamptz)";
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.toAggregate = toAggregate;
+        this.syncAction = syncAction;
+        this.actor = actor;
+        this.events = outbox.source(aggregateType, uuIdText);
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public String aggregateType() {
+        return aggregateType;
+    }
+
+    @Override
+    public List<Pending> findPending(long afterId, int limit) {
+        return jdbcTemplate.query(findSql, (rs, n) -> new Pending(rs.getLong("id"),
+                rs.getObject("last_modified_at", OffsetDateTime.class)), afterId, limit);
+    }
+
+    @Override
+    public int sync(List<Pending> pending) {
+        if (pending.isEmpty()) return 0;
+        List<Long> ids = pending.stream().map(Pending::id).toList();
+        Map<Long, E> entities = ManagedWrites.managed(entityManager, entityType, ids, entityId);
+
+        List<A> synced = new ArrayList<>(entities.size());
+        for (Long id : ids) {
+            E entity = entities.get(id);
+            if (entity == null) continue; // Hard-deleted since it was claimed
+            A aggregate = toAggregate.apply(entity);
+            // A soft delete is a change too, but there is no state left to sync; it is only marked
+            if (aggregate.getLifecycleState() != null && aggregate.getLifecycleState().softDeleted()) continue;
+            syncAction.accept(aggregate, actor);
+            synced.add(aggregate);
+        }
+        events.append(synced);
+
+        Long[] idArray = ids.toArray(Long[]::new);
+        String[] seenArray = pending.stream().map(p -> p.lastModifiedAt().toString()).toArray(String[]::new);
+        return jdbcTemplate.update(markSql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray));
+            ps.setArray(2, ps.getConnection().createArrayOf("text", seenArray));
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceEntryChanges;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceEntryChanges.EntryKey;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.PriceListMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceEntryEmbeddable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes only the price_list_entries rows an aggregate touched, keyed on (price_list_id, item_id, currency_code).
+ * A one-price change is one upsert, not a delete and re-insert of the whole element collection.
+ * Statements are JDBC-batched and run in the caller's transaction.
+ */
+@Component
+public class PriceListEntryWriter {
+
+    static final String UPSERT_SQL = """
+            INSERT INTO price_list_entries (price_list_id, item_id, currency_code, pricing_type, strategy_details, strategy_binary)
+            VALUES (?, ?, ?, ?, CAST(? AS jsonb), ?)
+            ON CONFLICT (price_list_id, item_id, currency_code)
+            DO UPDATE SET pricing_type = EXCLUDED.pricing_type, strategy_details = EXCLUDED.strategy_details,
+                          strategy_binary = EXCLUDED.strategy_binary
+            """;
+
+    static final String DELETE_SQL =
+            "DELETE FROM price_list_entries WHERE price_list_id = ? AND item_id = ? AND currency_code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceListMapStruct mapper;
+    private final int batchSize;
+
+    public PriceListEntryWriter(JdbcTemplate jdbcTemplate, PriceListMapStruct mapper,
+                                @Value("${pricelist.entries.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Applies the aggregate's pending entry changes to the rows of the given price list.
+     */
+    public void write(long priceListId, PriceListAggregate aggregate) {
+        PriceEntryChanges changes = aggregate.getPendingPriceChanges();
+        if (changes.isEmpty()) return;
+
+        // 1. Removals
+        List<Object[]> deletes = new ArrayList<>(Math.min(changes.removals().size(), batchSize));
+        for (EntryKey key : changes.removals()) {
+            deletes.add(new Object[]{priceListId, UUID.fromString(key.targetId().value()), key.currency().getCurrencyCode()});
+            if (deletes.size() == batchSize) flush(DELETE_SQL, deletes);
+        }
+        flush(DELETE_SQL, deletes);
+
+        // 2. Upserts: the touched entries, or every entry after a bulk change
+        Map<UuId, Map<Currency, PurchasePricing>> prices = aggregate.getMultiCurrencyPrices();
+        List<Object[]> upserts = new ArrayList<>(batchSize);
+        if (changes.isAllUpserted()) {
+            prices.forEach((itemId, row) -> row.forEach((currency, pricing) -> {
+                upserts.add(upsertArgs(priceListId, itemId, currency, pricing));
+                if (upserts.size() == batchSize) flush(UPSERT_SQL, upserts);
+            }));
+        } else {
+            for (EntryKey key : changes.upserts()) {
+                Map<Currency, PurchasePricing> row = prices.get(key.targetId());
+                PurchasePricing pricing = row == null ? null : row.get(key.currency());
+                if (pricing == null) continue; // Defensive: tracked as upserted but no longer priced
+                upserts.add(upsertArgs(priceListId, key.targetId(), key.currency(), pricing));
+                if (upserts.size() == batchSize) flush(UPSERT_SQL, upserts);
+            }
+        }
+        flush(UPSERT_SQL, upserts);
+    }
+
+    private Object[] upsertArgs(long priceListId, UuId itemId, Currency currency, PurchasePricing pricing) {
+        PriceEntryEmbeddable entry = mapper.toEntry(itemId, currency, pricing);
+        return new Object[]{priceListId, entry.getItemId(), entry.getCurrencyCode(), entry.getPricingType(),
+                entry.getStrategyDetails(), entry.getStrategyBinary()};
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+    }
+}
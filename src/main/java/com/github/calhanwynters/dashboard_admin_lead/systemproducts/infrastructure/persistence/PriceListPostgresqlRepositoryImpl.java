@@ -1,21 +1,38 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
+import com.github.calhanwynters.dashboard_admin_lead.common.CreatedAt;
+import com.github.calhanwynters.dashboard_admin_lead.common.LastModified;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListVersion;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListSnapshotRepository;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.PriceListMapStruct;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter for Price Lists.
@@ -26,10 +43,23 @@ public class PriceListPostgresqlRepositoryImpl implements PriceListRepository {
 
     private final PriceListJpaRepository jpaRepository;
     private final PriceListMapStruct mapper;
+    private final PriceListEntryWriter entryWriter;
+    private final PriceListSnapshotWriter snapshotWriter;
+    private final PriceListSnapshotRepository snapshotRepository;
+    private final EntityManager entityManager;
+    private final DomainEventOutbox.Source<PriceListAggregate> events;
 
-    public PriceListPostgresqlRepositoryImpl(PriceListJpaRepository jpaRepository, PriceListMapStruct mapper) {
+    public PriceListPostgresqlRepositoryImpl(PriceListJpaRepository jpaRepository, PriceListMapStruct mapper,
+                                             PriceListEntryWriter entryWriter, PriceListSnapshotWriter snapshotWriter,
+                                             PriceListSnapshotRepository snapshotRepository, EntityManager entityManager,
+                                             DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entryWriter = entryWriter;
+        this.snapshotWriter = snapshotWriter;
+        this.snapshotRepository = snapshotRepository;
+        this.entityManager = entityManager;
+        this.events = outbox.source("price-lists", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -49,14 +79,65 @@ public class PriceListPostgresqlRepositoryImpl implements PriceListRepository {
     @Override
     @Transactional
     public PriceListAggregate save(PriceListAggregate aggregate) {
-        // Translate Domain -> Infra
-        PriceListEntity entity = mapper.toEntity(aggregate);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<PriceListAggregate> saveAll(Collection<PriceListAggregate> aggregates) {
+        List<PriceListAggregate> ordered = List.copyOf(aggregates);
+        PriceListEntity[] entities = new PriceListEntity[ordered.size()];
+        boolean[] created = new boolean[ordered.size()];
 
-        // Persist to DB
-        PriceListEntity savedEntity = jpaRepository.save(entity);
+        // Existing price lists: roots already loaded in this transaction are reused, the rest come in one read
+        List<Long> ids = ordered.stream().filter(a -> !isNew(a)).map(a -> a.getId().value().value()).toList();
+        Map<Long, PriceListEntity> current = ManagedWrites.managed(entityManager, PriceListEntity.class, ids, PriceListEntity::getId);
+
+        for (int i = 0; i < ordered.size(); i++) {
+            PriceListAggregate aggregate = ordered.get(i);
+            if (isNew(aggregate)) {
+                // New price list: the root and every entry are inserted at the flush (the id comes from the sequence pool)
+                entities[i] = jpaRepository.save(mapper.toEntity(aggregate));
+                created[i] = true;
+                continue;
+            }
+            // Existing price list: update the root in place; the entry collection is never rewritten
+            Long id = aggregate.getId().value().value();
+            PriceListEntity entity = current.get(id);
+            if (entity == null) {
+                throw new IllegalArgumentException("PriceList not found: " + id);
+            }
+            if (!Objects.equals(aggregate.getOptLockVer(), entity.getVersion().longValue())) {
+                throw new ObjectOptimisticLockingFailureException(PriceListEntity.class, id);
+            }
+            mapper.updateEntity(aggregate, entity);
+            entities[i] = entity;
+        }
+        jpaRepository.flush(); // Batched root INSERTs/UPDATEs and @Version checks before the entry statements
+
+        for (int i = 0; i < ordered.size(); i++) {
+            PriceListAggregate aggregate = ordered.get(i);
+            PriceListEntity entity = entities[i];
+            if (!created[i]) {
+                // Only the entries this aggregate touched (targeted upserts/deletes)
+                entryWriter.write(entity.getId(), aggregate);
+            }
+            // Same changes appended to the immutable history under the version just written
+            snapshotWriter.write(entity, aggregate);
+            aggregate.markPricesPersisted();
+            events.append(List.of(aggregate));
+            // The entries were written around the persistence context; a later read in this transaction reloads them
+            if (!created[i]) entityManager.detach(entity);
+
+            // The caller's aggregate already holds the saved state; only the id and the flushed version_count
+            // (lock and price list version alike) are new
+            aggregate.markPersisted(PriceListId.of(entity.getId()), entity.getVersion().longValue());
+        }
+        return ordered;
+    }
 
-        // Reconstitute Infra -> Domain (to pick up optLockVer and DB timestamps)
-        return mapper.toAggregate(savedEntity);
+    private static boolean isNew(PriceListAggregate aggregate) {
+        return aggregate.getId() == null || aggregate.getId().value() == null;
     }
 
     @Override
@@ -67,6 +148,19 @@ public class PriceListPostgresqlRepositoryImpl implements PriceListRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<PriceListAggregate> findByStrategyPage(PricingStrategyType strategy, Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findByStrategySlugPage(strategy.name(), BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, PriceListEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<PriceListAggregate> streamByStrategy(PricingStrategyType strategy) {
+        return BulkReads.stream(jpaRepository.streamByStrategySlug(strategy.name()), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PriceListAggregate> findAllActive() {
@@ -75,15 +169,70 @@ public class PriceListPostgresqlRepositoryImpl implements PriceListRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<PriceListAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, PriceListEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<PriceListAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<PriceListAggregate> findByBusinessUuIdAndVersion(
             PriceListBusinessUuId businessUuId,
             PriceListVersion version) {
 
-        UUID bId = UUID.fromString(businessUuId.value().value());
-        return jpaRepository.findByBusinessUuidAndVersion(bId, version.value().value())
-                .map(mapper::toAggregate);
+        // version_count is overwritten in place, so past versions come from the append-only snapshot store
+        return snapshotRepository.findAsOf(businessUuId, version).map(snapshot -> {
+            PriceListEntity current = jpaRepository.findByUuid(UUID.fromString(snapshot.priceListUuId().value().value()))
+                    .orElse(null); // Identity and lifecycle only; absent once hard-deleted
+            return new PriceListAggregate(
+                    current == null ? null : PriceListId.of(current.getId()),
+                    snapshot.priceListUuId(),
+                    snapshot.businessUuId(),
+                    snapshot.strategy(),
+                    snapshot.version(),
+                    snapshot.active(),
+                    snapshot.prices(),
+                    AuditMetadata.reconstitute(
+                            new CreatedAt(current == null ? snapshot.capturedAt() : current.getCreatedAt()),
+                            new LastModified(snapshot.capturedAt()),
+                            snapshot.capturedBy()),
+                    current == null ? new LifecycleState(false, false)
+                            : new LifecycleState(current.isArchived(), current.isSoftDeleted()),
+                    (long) snapshot.version().value().value(), // Saving a superseded version fails the lock check
+                    1,
+                    snapshot.capturedAt()
+            );
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PriceListVersion> findVersionByUuId(PriceListUuId priceListUuId) {
+        return jpaRepository.findVersionByUuid(UUID.fromString(priceListUuId.value().value()))
+                .map(v -> new PriceListVersion(new Version(v)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<PriceListUuId, PriceListVersion> findVersionsByUuIds(Collection<PriceListUuId> priceListUuIds) {
+        List<UUID> ids = priceListUuIds.stream()
+                .map(id -> UUID.fromString(id.value().value()))
+                .distinct()
+                .toList();
+        Map<PriceListUuId, PriceListVersion> versions = new HashMap<>();
+        for (Object[] row : jpaRepository.findVersionsByUuidIn(ids)) {
+            versions.put(new PriceListUuId(UuId.fromString(row[0].toString())),
+                    new PriceListVersion(new Version((Integer) row[1])));
+        }
+        return versions;
     }
 
     @Override
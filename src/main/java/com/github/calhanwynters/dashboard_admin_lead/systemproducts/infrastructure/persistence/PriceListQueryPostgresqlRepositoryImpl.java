@@ -0,0 +1,79 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.PriceListQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListDTO.PurchasePricingDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.CurrencyMap;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceEntryEmbeddable;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.PriceListRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Query adapter for the PriceList read model (see ProductQueryPostgresqlRepositoryImpl).
+ * Entries are decoded straight into PurchasePricingDTO rows; the aggregate and its matrix are never built.
+ */
+@Repository
+public class PriceListQueryPostgresqlRepositoryImpl implements PriceListQueryRepository {
+
+    private final PriceListJpaRepository jpaRepository;
+    private final PurchasePricingCodec pricingCodec;
+
+    public PriceListQueryPostgresqlRepositoryImpl(PriceListJpaRepository jpaRepository, PurchasePricingCodec pricingCodec) {
+        this.jpaRepository = jpaRepository;
+        this.pricingCodec = pricingCodec;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PriceListDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(row -> toDTO(row, entriesOf(List.of(row))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<PriceListDTO> findAllActivePage(Long afterId, int limit) {
+        List<PriceListRow> rows = jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit));
+        Map<Long, List<PriceEntryEmbeddable>> entries = entriesOf(rows);
+        return BulkReads.page(rows, limit, PriceListRow::id, row -> toDTO(row, entries));
+    }
+
+    // One batch read of price_list_entries for all headers on the page
+    private Map<Long, List<PriceEntryEmbeddable>> entriesOf(List<PriceListRow> rows) {
+        if (rows.isEmpty()) return Map.of();
+        return BulkReads.byOwner(jpaRepository.findEntriesByIdIn(rows.stream().map(PriceListRow::id).toList()));
+    }
+
+    private PriceListDTO toDTO(PriceListRow row, Map<Long, List<PriceEntryEmbeddable>> entries) {
+        Map<UUID, CurrencyMap<PurchasePricingDTO>> matrix = new LinkedHashMap<>();
+        for (PriceEntryEmbeddable entry : entries.getOrDefault(row.id(), List.of())) {
+            matrix.computeIfAbsent(entry.getItemId(), k -> new CurrencyMap<>())
+                    .put(Currency.getInstance(entry.getCurrencyCode()), PurchasePricingDTO.fromDomain(pricingCodec.decode(entry)));
+        }
+        Map<UUID, Map<String, PurchasePricingDTO>> prices = LinkedHashMap.newLinkedHashMap(matrix.size());
+        matrix.forEach((itemId, dtoRow) -> prices.put(itemId, dtoRow.byCode()));
+
+        return new PriceListDTO(
+                row.uuid(),
+                row.businessUuid().toString(),
+                row.strategySlug(),
+                row.version(),
+                row.active(),
+                prices,
+                row.archived(),
+                row.softDeleted(),
+                row.version().longValue(), // version_count is also the optimistic lock column
+                row.lastSyncedAt()
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.CurrencyMap;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListBusinessUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.PriceListVersion;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListSnapshot;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListSnapshotRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListSnapshotEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListSnapshotEntryEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListSnapshotEntryJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListSnapshotJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence Adapter for PriceList snapshots.
+ * Both lookups are index reads of the rows valid at the version; no change history is replayed.
+ */
+@Repository
+public class PriceListSnapshotPostgresqlRepositoryImpl implements PriceListSnapshotRepository {
+
+    private final PriceListSnapshotJpaRepository snapshotRepository;
+    private final PriceListSnapshotEntryJpaRepository entryRepository;
+    private final PurchasePricingCodec pricingCodec;
+
+    public PriceListSnapshotPostgresqlRepositoryImpl(PriceListSnapshotJpaRepository snapshotRepository,
+                                                     PriceListSnapshotEntryJpaRepository entryRepository,
+                                                     PurchasePricingCodec pricingCodec) {
+        this.snapshotRepository = snapshotRepository;
+        this.entryRepository = entryRepository;
+        this.pricingCodec = pricingCodec;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PriceListSnapshot> findAsOf(PriceListBusinessUuId businessUuId, PriceListVersion version) {
+        UUID bId = UUID.fromString(businessUuId.value().value());
+        return snapshotRepository.findFirstByBusinessUuidAndVersionLessThanEqualOrderByVersionDesc(bId, version.value().value())
+                .map(header -> toSnapshot(header, businessUuId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PurchasePricing> findPriceAsOf(PriceListBusinessUuId businessUuId, PriceListVersion version,
+                                                   UuId targetId, Currency currency) {
+        int v = version.value().value();
+        return entryRepository.findEntryAsOf(UUID.fromString(businessUuId.value().value()),
+                        UUID.fromString(targetId.value()), currency.getCurrencyCode(), v, Limit.of(1))
+                .stream()
+                .findFirst()
+                .filter(entry -> entry.getValidToVersion() == null || entry.getValidToVersion() > v) // Removed by then
+                .map(this::decode);
+    }
+
+    private PriceListSnapshot toSnapshot(PriceListSnapshotEntity header, PriceListBusinessUuId businessUuId) {
+        Map<UuId, Map<Currency, PurchasePricing>> prices = new LinkedHashMap<>();
+        for (PriceListSnapshotEntryEntity entry : entryRepository.findAsOf(header.getBusinessUuid(), header.getVersion())) {
+            prices.computeIfAbsent(new UuId(entry.getItemId().toString()), k -> new CurrencyMap<>())
+                    .put(Currency.getInstance(entry.getCurrencyCode()), decode(entry));
+        }
+        return new PriceListSnapshot(
+                new PriceListUuId(new UuId(header.getPriceListUuid().toString())),
+                businessUuId,
+                new PriceListVersion(new Version(header.getVersion())),
+                PricingStrategyType.valueOf(header.getStrategySlug()),
+                header.isActive(),
+                header.getCapturedAt(),
+                new Actor(header.getCapturedBy(), Collections.emptySet()),
+                prices
+        );
+    }
+
+    private PurchasePricing decode(PriceListSnapshotEntryEntity entry) {
+        return pricingCodec.readBinary(PricingStrategyType.valueOf(entry.getPricingType()), entry.getStrategyBinary());
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceEntryChanges;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceEntryChanges.EntryKey;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListSnapshotJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Appends the snapshot of a saved PriceList version to price_list_snapshots / price_list_snapshot_entries.
+ *
+ * <p>Entries are stored as validity intervals, so unchanged prices are shared by every version they span
+ * instead of being copied per version. Only the entries the aggregate touched are considered; each one
+ * closes the open interval of its (item, currency) and opens a new one, unless the bytes are unchanged.
+ * The first snapshot of a business UUID writes every entry as the baseline. Runs in the caller's transaction.
+ */
+@Component
+public class PriceListSnapshotWriter {
+
+    static final String HEADER_SQL = """
+            INSERT INTO price_list_snapshots (business_uuid, version, price_list_uuid, strategy_slug, is_active,
+                                              captured_at, captured_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (business_uuid, version) DO NOTHING
+            """;
+
+    // Closes the current interval of an entry whose price changed
+    static final String CLOSE_SQL = """
+            UPDATE price_list_snapshot_entries SET valid_to_version = ?
+            WHERE business_uuid = ? AND item_id = ? AND currency_code = ? AND valid_to_version IS NULL
+              AND (pricing_type <> ? OR strategy_binary <> ?)
+            """;
+
+    // Closes the current interval of a removed entry
+    static final String REMOVE_SQL = """
+            UPDATE price_list_snapshot_entries SET valid_to_version = ?
+            WHERE business_uuid = ? AND item_id = ? AND currency_code = ? AND valid_to_version IS NULL
+            """;
+
+    // Opens a new interval unless the unchanged one is still open
+    static final String OPEN_SQL = """
+            INSERT INTO price_list_snapshot_entries (business_uuid, item_id, currency_code, valid_from_version,
+                                                     pricing_type, strategy_binary)
+            SELECT ?, ?, ?, ?, ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM price_list_snapshot_entries
+                              WHERE business_uuid = ? AND item_id = ? AND currency_code = ? AND valid_to_version IS NULL)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceListSnapshotJpaRepository snapshotRepository;
+    private final PurchasePricingCodec pricingCodec;
+    private final int batchSize;
+
+    public PriceListSnapshotWriter(JdbcTemplate jdbcTemplate, PriceListSnapshotJpaRepository snapshotRepository,
+                                   PurchasePricingCodec pricingCodec,
+                                   @Value("${pricelist.entries.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotRepository = snapshotRepository;
+        this.pricingCodec = pricingCodec;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Records the aggregate's pending changes as the snapshot of the saved row's version.
+     * Must run after the root was flushed (so version_count is final) and before the changes are cleared.
+     */
+    public void write(PriceListEntity saved, PriceListAggregate aggregate) {
+        UUID businessUuid = saved.getBusinessUuid();
+        int version = saved.getVersion();
+        boolean baseline = !snapshotRepository.existsByBusinessUuid(businessUuid);
+
+        jdbcTemplate.update(HEADER_SQL, businessUuid, version, saved.getUuid(), saved.getStrategySlug(),
+                saved.isActive(), saved.getLastModifiedAt(), saved.getLastModifiedBy());
+
+        PriceEntryChanges changes = aggregate.getPendingPriceChanges();
+
+        // 1. Removals close the open interval and open nothing
+        if (!baseline) {
+            List<Object[]> removes = new ArrayList<>(Math.min(changes.removals().size(), batchSize));
+            for (EntryKey key : changes.removals()) {
+                removes.add(new Object[]{version, businessUuid, UUID.fromString(key.targetId().value()),
+                        key.currency().getCurrencyCode()});
+                if (removes.size() == batchSize) flush(REMOVE_SQL, removes);
+            }
+            flush(REMOVE_SQL, removes);
+        }
+
+        // 2. Changed entries: every entry for a baseline or after a bulk change, otherwise only the touched ones
+        Map<UuId, Map<Currency, PurchasePricing>> prices = aggregate.getMultiCurrencyPrices();
+        List<Object[]> closes = new ArrayList<>(batchSize);
+        List<Object[]> opens = new ArrayList<>(batchSize);
+        if (baseline || changes.isAllUpserted()) {
+            prices.forEach((itemId, row) -> row.forEach((currency, pricing) ->
+                    add(businessUuid, version, itemId, currency, pricing, closes, opens)));
+        } else {
+            for (EntryKey key : changes.upserts()) {
+                Map<Currency, PurchasePricing> row = prices.get(key.targetId());
+                PurchasePricing pricing = row == null ? null : row.get(key.currency());
+                if (pricing == null) continue; // Defensive: tracked as upserted but no longer priced
+                add(businessUuid, version, key.targetId(), key.currency(), pricing, closes, opens);
+            }
+        }
+        // All closes before any open, so an open sees only the intervals left unchanged
+        flush(CLOSE_SQL, closes);
+        flush(OPEN_SQL, opens);
+    }
+
+    private void add(UUID businessUuid, int version, UuId itemId, Currency currency, PurchasePricing pricing,
+                     List<Object[]> closes, List<Object[]> opens) {
+        UUID item = UUID.fromString(itemId.value());
+        String code = currency.getCurrencyCode();
+        String type = PricingStrategyType.of(pricing).name();
+        byte[] bytes = pricingCodec.writeBinary(pricing);
+
+        closes.add(new Object[]{version, businessUuid, item, code, type, bytes});
+        opens.add(new Object[]{businessUuid, item, code, version, type, bytes, businessUuid, item, code});
+        if (closes.size() == batchSize) flush(CLOSE_SQL, closes);
+        if (opens.size() == batchSize) {
+            flush(CLOSE_SQL, closes); // Keep closes ahead of the opens they guard
+            flush(OPEN_SQL, opens);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+    }
+}
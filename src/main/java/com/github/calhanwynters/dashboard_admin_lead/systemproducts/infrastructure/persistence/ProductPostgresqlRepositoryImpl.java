@@ -1,21 +1,27 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductStatus;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.gallery.GalleryDomainWrapper.GalleryUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ProductRepository;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.ProductMapper;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ProductEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.ProductJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter for Products (2026 Edition).
@@ -26,10 +32,19 @@ public class ProductPostgresqlRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository jpaRepository;
     private final ProductMapper mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<ProductAggregate, ProductId, ProductEntity> writes;
+    private final DomainEventOutbox.Source<ProductAggregate> events;
 
-    public ProductPostgresqlRepositoryImpl(ProductJpaRepository jpaRepository, ProductMapper mapper) {
+    public ProductPostgresqlRepositoryImpl(ProductJpaRepository jpaRepository, ProductMapper mapper, EntityManager entityManager,
+                                           DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(ProductEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                ProductEntity::getId, mapper::toProductId, mapper::toEntity, mapper::updateEntity, entity -> null); // No lock column on this table
+        this.events = outbox.source("products", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -46,12 +61,31 @@ public class ProductPostgresqlRepositoryImpl implements ProductRepository {
                 .map(mapper::toAggregate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductAggregate> findAllByUuIds(Collection<ProductUuId> productUuIds) {
+        List<UUID> ids = productUuIds.stream()
+                .map(id -> UUID.fromString(id.value().value()))
+                .distinct()
+                .toList();
+        return jpaRepository.findAllByUuidIn(ids).stream()
+                .map(mapper::toAggregate)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public ProductAggregate save(ProductAggregate aggregate) {
-        ProductEntity entity = mapper.toEntity(aggregate);
-        ProductEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<ProductAggregate> saveAll(Collection<ProductAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<ProductAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -71,6 +105,20 @@ public class ProductPostgresqlRepositoryImpl implements ProductRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProductAggregate> findAllByStatusPage(ProductStatus status, Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                status.value().name(), BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, ProductEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<ProductAggregate> streamAllByStatus(ProductStatus status) {
+        return BulkReads.stream(jpaRepository.streamByStatus(status.value().name()), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ProductAggregate> findAllActive() {
@@ -79,6 +127,19 @@ public class ProductPostgresqlRepositoryImpl implements ProductRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProductAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, ProductEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<ProductAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(ProductUuId productUuId) {
@@ -0,0 +1,54 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.ProductQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.product.dto.ProductDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.ProductJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ProductRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Query adapter for the product read model.
+ * Selects only the columns ProductDTO needs through constructor-expression projections: no entity enters the
+ * persistence context and no value object is re-validated on the way out.
+ */
+@Repository
+public class ProductQueryPostgresqlRepositoryImpl implements ProductQueryRepository {
+
+    private final ProductJpaRepository jpaRepository;
+
+    public ProductQueryPostgresqlRepositoryImpl(ProductJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProductDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(this::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProductDTO> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, ProductRow::id, this::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProductDTO> findAllByStatusPage(String status, Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findRowPageByStatus(status, BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, ProductRow::id, this::toDTO);
+    }
+
+    private ProductDTO toDTO(ProductRow row) {
+        return new ProductDTO(
+                row.uuid(), row.businessUuid().toString(), row.status(), row.region(), row.version(), row.thumbnailUrl(),
+                row.galleryUuid(), row.variantListUuid(), row.typeListUuid(), row.priceListUuid(),
+                row.archived(), row.softDeleted(), null, row.lastSyncedAt());
+    }
+}
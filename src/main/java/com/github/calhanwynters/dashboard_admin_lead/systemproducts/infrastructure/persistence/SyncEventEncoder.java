@@ -0,0 +1,208 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.JsonDeltaCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.RecordComponent;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Turns full-state sync events into deltas against the aggregate's previous sync (see JsonDeltaCodec).
+ *
+ * <p>The previous sync is the baseline row in sync_baseline, locked for the saving transaction so two
+ * syncs of one aggregate are encoded one after the other. A full snapshot goes out instead when there is
+ * no baseline, when one was requested, every snapshot-every-th version, and whenever the delta would not
+ * be smaller. Snapshots keep the original event type; deltas are named ...DataSyncedDelta. Both carry the
+ * sync version and the checksum of the full state, and a delta the version it applies to.
+ *
+ * <p>The baseline is the last sync <em>encoded</em>, not the last one a consumer acknowledged: nothing
+ * here learns whether an event was delivered or applied. Consumers must therefore check each delta's
+ * baseVersion against the version they hold (and the checksum after applying it); on a gap or a mismatch
+ * they drop the delta and have a snapshot requested through {@link #requestSnapshot} (or
+ * {@link #requestSnapshots} for a whole type), which the next sync of the aggregate then carries.
+ *
+ * <p>Set-typed record components of the event (e.g. variantUuIds, an actor's roles) are diffed as sets;
+ * every other array keeps its order, so tier lists reach consumers exactly as declared.
+ */
+@Component
+public class SyncEventEncoder {
+
+    public static final String SNAPSHOT_SUFFIX = "DataSyncedEvent";
+    public static final String DELTA_SUFFIX = "DataSyncedDelta";
+
+    static final String LOCK_SQL = """
+            SELECT aggregate_uuid, sync_version, checksum, state, snapshot_requested FROM sync_baseline
+            WHERE aggregate_type = ? AND aggregate_uuid = ANY(?)
+            ORDER BY aggregate_uuid
+            FOR UPDATE
+            """;
+
+    static final String UPSERT_SQL = """
+            INSERT INTO sync_baseline (aggregate_type, aggregate_uuid, sync_version, checksum, state,
+                                       snapshot_requested, synced_at)
+            VALUES (?, ?, ?, ?, ?, false, ?)
+            ON CONFLICT (aggregate_type, aggregate_uuid) DO UPDATE
+            SET sync_version = EXCLUDED.sync_version, checksum = EXCLUDED.checksum, state = EXCLUDED.state,
+                snapshot_requested = false, synced_at = EXCLUDED.synced_at
+            """;
+
+    /**
+     * The state an aggregate's latest sync was encoded as.
+     */
+    public record Baseline(long version, String checksum, JsonNode state, boolean snapshotRequested) {}
+
+    /**
+     * One encoded sync event and the baseline it leaves behind.
+     */
+    public record Encoded(String eventType, String payload, Baseline next) {}
+
+    // Names of the Set components of an event record and of the records nested in it
+    private static final ClassValue<Set<String>> SET_FIELDS = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> names = new HashSet<>();
+            collectSetFields(type, names, new HashSet<>());
+            return Set.copyOf(names);
+        }
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper jsonMapper;
+    private final ObjectReader treeReader;
+    private final int snapshotEvery;
+
+    public SyncEventEncoder(JdbcTemplate jdbcTemplate, ObjectMapper jsonMapper,
+                            @Value("${sync.delta.snapshot-every:100}") int snapshotEvery) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+        // Decimals parse the same way from the event and from the stored baseline, so they compare equal
+        this.treeReader = jsonMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    public static boolean isSyncEvent(String eventType) {
+        return eventType.endsWith(SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Locked baselines of the given aggregates, by UUID; aggregates never synced are absent.
+     */
+    public Map<UUID, Baseline> lock(String aggregateType, Collection<UUID> uuids) {
+        Map<UUID, Baseline> baselines = new HashMap<>();
+        if (uuids.isEmpty()) return baselines;
+        UUID[] ids = uuids.toArray(UUID[]::new);
+        jdbcTemplate.query(LOCK_SQL, ps -> {
+            ps.setString(1, aggregateType);
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", ids));
+        }, rs -> {
+            baselines.put(rs.getObject("aggregate_uuid", UUID.class), new Baseline(rs.getLong("sync_version"),
+                    rs.getString("checksum"), parse(rs.getString("state"), Set.of()), rs.getBoolean("snapshot_requested")));
+        });
+        return baselines;
+    }
+
+    public void save(String aggregateType, Map<UUID, Baseline> baselines) {
+        if (baselines.isEmpty()) return;
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Object[]> rows = new ArrayList<>(baselines.size());
+        baselines.forEach((uuid, baseline) -> rows.add(new Object[]{aggregateType, uuid, baseline.version(),
+                baseline.checksum(), baseline.state().toString(), now}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    /**
+     * The next sync of the aggregate goes out as a full snapshot: the resync path for a consumer that
+     * found a gap in the delta chain.
+     */
+    public void requestSnapshot(String aggregateType, UUID aggregateUuid) {
+        jdbcTemplate.update("UPDATE sync_baseline SET snapshot_requested = true WHERE aggregate_type = ? AND aggregate_uuid = ?",
+                aggregateType, aggregateUuid);
+    }
+
+    /**
+     * The next sync of every aggregate of the type goes out as a full snapshot.
+     */
+    public void requestSnapshots(String aggregateType) {
+        jdbcTemplate.update("UPDATE sync_baseline SET snapshot_requested = true WHERE aggregate_type = ?", aggregateType);
+    }
+
+    /**
+     * Encodes a sync event against the aggregate's baseline, null when it was never synced.
+     */
+    public Encoded encode(Object event, Baseline previous) {
+        String eventType = event.getClass().getSimpleName();
+        String full;
+        try {
+            full = jsonMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise " + eventType, e);
+        }
+        Set<String> setFields = SET_FIELDS.get(event.getClass());
+        return encode(eventType, parse(full, setFields), previous, setFields, snapshotEvery);
+    }
+
+    static Set<String> setFields(Class<?> eventType) {
+        return SET_FIELDS.get(eventType);
+    }
+
+    /**
+     * Encodes a state that is canonical for setFields.
+     */
+    static Encoded encode(String eventType, JsonNode state, Baseline previous, Set<String> setFields,
+                          int snapshotEvery) {
+        long version = previous == null ? 1 : previous.version() + 1;
+        String checksum = JsonDeltaCodec.checksum(state);
+        Baseline next = new Baseline(version, checksum, state, false);
+        String stateText = state.toString();
+
+        if (previous != null && !previous.snapshotRequested() && version % snapshotEvery != 0) {
+            ObjectNode delta = JsonNodeFactory.instance.objectNode()
+                    .put("baseVersion", previous.version())
+                    .put("syncVersion", version)
+                    .put("checksum", checksum);
+            delta.set("changes", JsonDeltaCodec.diff(previous.state(), state, setFields));
+            String deltaText = delta.toString();
+            if (deltaText.length() < stateText.length()) {
+                String deltaType = eventType.substring(0, eventType.length() - SNAPSHOT_SUFFIX.length()) + DELTA_SUFFIX;
+                return new Encoded(deltaType, deltaText, next);
+            }
+        }
+        String snapshot = "{\"syncVersion\":" + version + ",\"checksum\":\"" + checksum + "\",\"state\":" + stateText + '}';
+        return new Encoded(eventType, snapshot, next);
+    }
+
+    // A stored baseline is already canonical: parsed with no set fields, its arrays stay as written
+    private JsonNode parse(String json, Set<String> setFields) {
+        try {
+            return JsonDeltaCodec.canonical(treeReader.readTree(json), setFields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable sync state", e);
+        }
+    }
+
+    private static void collectSetFields(Class<?> type, Set<String> names, Set<Class<?>> seen) {
+        if (!type.isRecord() || !seen.add(type)) return;
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (Set.class.isAssignableFrom(component.getType())) names.add(component.getName());
+            else collectSetFields(component.getType(), names, seen);
+        }
+    }
+}
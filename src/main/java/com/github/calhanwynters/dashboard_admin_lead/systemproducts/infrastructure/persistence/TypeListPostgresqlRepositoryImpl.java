@@ -1,20 +1,26 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListDomainWrapper.TypeListId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListDomainWrapper.TypeListUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.typelist.TypeListDomainWrapper.TypeListBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.TypeListRepository;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.TypeListMapStruct;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypeListEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.TypeListJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter for Type Lists.
@@ -25,10 +31,19 @@ public class TypeListPostgresqlRepositoryImpl implements TypeListRepository {
 
     private final TypeListJpaRepository jpaRepository;
     private final TypeListMapStruct mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<TypeListAggregate, TypeListId, TypeListEntity> writes;
+    private final DomainEventOutbox.Source<TypeListAggregate> events;
 
-    public TypeListPostgresqlRepositoryImpl(TypeListJpaRepository jpaRepository, TypeListMapStruct mapper) {
+    public TypeListPostgresqlRepositoryImpl(TypeListJpaRepository jpaRepository, TypeListMapStruct mapper, EntityManager entityManager,
+                                            DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(TypeListEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                TypeListEntity::getId, mapper::toTypeListId, mapper::toEntity, mapper::updateEntity, entity -> null); // No lock column on this table
+        this.events = outbox.source("type-lists", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -48,9 +63,16 @@ public class TypeListPostgresqlRepositoryImpl implements TypeListRepository {
     @Override
     @Transactional
     public TypeListAggregate save(TypeListAggregate aggregate) {
-        TypeListEntity entity = mapper.toEntity(aggregate);
-        TypeListEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<TypeListAggregate> saveAll(Collection<TypeListAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<TypeListAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -70,6 +92,19 @@ public class TypeListPostgresqlRepositoryImpl implements TypeListRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TypeListAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, TypeListEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<TypeListAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(TypeListUuId typeListUuId) {
@@ -0,0 +1,54 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.TypeListQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.typelist.dto.TypeListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.TypeListJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query adapter for the TypeList read model (see ProductQueryPostgresqlRepositoryImpl).
+ */
+@Repository
+public class TypeListQueryPostgresqlRepositoryImpl implements TypeListQueryRepository {
+
+    private final TypeListJpaRepository jpaRepository;
+
+    public TypeListQueryPostgresqlRepositoryImpl(TypeListJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TypeListDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(row -> toDTO(row, typeUuidsOf(List.of(row))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TypeListDTO> findAllActivePage(Long afterId, int limit) {
+        List<MembershipListRow> rows = jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit));
+        Map<Long, List<UUID>> typeUuids = typeUuidsOf(rows);
+        return BulkReads.page(rows, limit, MembershipListRow::id, row -> toDTO(row, typeUuids));
+    }
+
+    // One batch read of the collection table for all headers on the page
+    private Map<Long, List<UUID>> typeUuidsOf(List<MembershipListRow> rows) {
+        if (rows.isEmpty()) return Map.of();
+        return BulkReads.byOwner(jpaRepository.findTypeUuidsByIdIn(rows.stream().map(MembershipListRow::id).toList()));
+    }
+
+    private TypeListDTO toDTO(MembershipListRow row, Map<Long, List<UUID>> typeUuids) {
+        return new TypeListDTO(row.uuid(), row.businessUuid().toString(),
+                Set.copyOf(typeUuids.getOrDefault(row.id(), List.of())),
+                row.archived(), row.softDeleted(), null, row.lastSyncedAt());
+    }
+}
@@ -1,20 +1,26 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.types.TypesDomainWrapper.TypesName;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.TypesRepository;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.TypesMapper;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypesEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.TypesJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter for Product Types (2026 Edition).
@@ -25,10 +31,19 @@ public class TypesPostgresqlRepositoryImpl implements TypesRepository {
 
     private final TypesJpaRepository jpaRepository;
     private final TypesMapper mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<TypesAggregate, TypesId, TypesEntity> writes;
+    private final DomainEventOutbox.Source<TypesAggregate> events;
 
-    public TypesPostgresqlRepositoryImpl(TypesJpaRepository jpaRepository, TypesMapper mapper) {
+    public TypesPostgresqlRepositoryImpl(TypesJpaRepository jpaRepository, TypesMapper mapper, EntityManager entityManager,
+                                         DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(TypesEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                TypesEntity::getId, mapper::toTypesId, mapper::toEntity, mapper::updateEntity, entity -> null); // No lock column on this table
+        this.events = outbox.source("types", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -48,9 +63,16 @@ public class TypesPostgresqlRepositoryImpl implements TypesRepository {
     @Override
     @Transactional
     public TypesAggregate save(TypesAggregate aggregate) {
-        TypesEntity entity = mapper.toEntity(aggregate);
-        TypesEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<TypesAggregate> saveAll(Collection<TypesAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<TypesAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -69,9 +91,23 @@ public class TypesPostgresqlRepositoryImpl implements TypesRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TypesAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, TypesEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<TypesAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(TypesAggregate aggregate) {
+        events.append(List.of(aggregate));
         // Convert domain UUID to standard Java UUID for the JPA call
         UUID uuid = UUID.fromString(aggregate.getUuId().value().value());
         jpaRepository.deleteByUuid(uuid);
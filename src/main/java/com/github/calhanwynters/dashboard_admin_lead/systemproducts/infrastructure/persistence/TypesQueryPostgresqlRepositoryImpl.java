@@ -0,0 +1,47 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.TypesQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.types.dto.TypesDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.TypesJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.TypesRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Query adapter for the Types read model (see ProductQueryPostgresqlRepositoryImpl).
+ */
+@Repository
+public class TypesQueryPostgresqlRepositoryImpl implements TypesQueryRepository {
+
+    private final TypesJpaRepository jpaRepository;
+
+    public TypesQueryPostgresqlRepositoryImpl(TypesJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TypesDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(this::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TypesDTO> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, TypesRow::id, this::toDTO);
+    }
+
+    private TypesDTO toDTO(TypesRow row) {
+        TypesDTO.PhysicalSpecsData specs = new TypesDTO.PhysicalSpecsData(
+                row.weightAmount(), row.weightUnit(),
+                row.length(), row.width(), row.height(), row.dimensionUnit(),
+                row.careInstructions());
+        return new TypesDTO(row.uuid(), row.businessUuid().toString(), row.name(), row.region(), specs,
+                row.archived(), row.softDeleted(), null, row.lastSyncedAt());
+    }
+}
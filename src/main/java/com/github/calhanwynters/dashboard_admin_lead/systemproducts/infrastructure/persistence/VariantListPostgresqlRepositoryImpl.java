@@ -1,21 +1,27 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListDomainWrapper.VariantListId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListDomainWrapper.VariantListUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.VariantListDomainWrapper.VariantListBusinessUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsAggregate;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.VariantListRepository;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.VariantListMapper;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantListEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.VariantListJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter for Variant Lists.
@@ -26,10 +32,19 @@ public class VariantListPostgresqlRepositoryImpl implements VariantListRepositor
 
     private final VariantListJpaRepository jpaRepository;
     private final VariantListMapper mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<VariantListAggregate, VariantListId, VariantListEntity> writes;
+    private final DomainEventOutbox.Source<VariantListAggregate> events;
 
-    public VariantListPostgresqlRepositoryImpl(VariantListJpaRepository jpaRepository, VariantListMapper mapper) {
+    public VariantListPostgresqlRepositoryImpl(VariantListJpaRepository jpaRepository, VariantListMapper mapper, EntityManager entityManager,
+                                               DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(VariantListEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                VariantListEntity::getId, mapper::toVariantListId, mapper::toEntity, mapper::updateEntity, entity -> null); // No lock column on this table
+        this.events = outbox.source("variant-lists", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -49,9 +64,16 @@ public class VariantListPostgresqlRepositoryImpl implements VariantListRepositor
     @Override
     @Transactional
     public VariantListAggregate save(VariantListAggregate aggregate) {
-        VariantListEntity entity = mapper.toEntity(aggregate);
-        VariantListEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<VariantListAggregate> saveAll(Collection<VariantListAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<VariantListAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -71,9 +93,23 @@ public class VariantListPostgresqlRepositoryImpl implements VariantListRepositor
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<VariantListAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, VariantListEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<VariantListAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(VariantListAggregate aggregate) {
+        events.append(List.of(aggregate));
         // Extract the raw UUID from the hardened Domain Wrapper
         UUID uuid = UUID.fromString(aggregate.getUuId().value().value());
         jpaRepository.deleteByUuid(uuid);
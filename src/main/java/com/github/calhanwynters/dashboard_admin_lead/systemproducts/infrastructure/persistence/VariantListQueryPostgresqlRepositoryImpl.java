@@ -0,0 +1,54 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.VariantListQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.variantlist.dto.VariantListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.VariantListJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query adapter for the VariantList read model (see ProductQueryPostgresqlRepositoryImpl).
+ */
+@Repository
+public class VariantListQueryPostgresqlRepositoryImpl implements VariantListQueryRepository {
+
+    private final VariantListJpaRepository jpaRepository;
+
+    public VariantListQueryPostgresqlRepositoryImpl(VariantListJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VariantListDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(row -> toDTO(row, variantUuidsOf(List.of(row))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<VariantListDTO> findAllActivePage(Long afterId, int limit) {
+        List<MembershipListRow> rows = jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit));
+        Map<Long, List<UUID>> variantUuids = variantUuidsOf(rows);
+        return BulkReads.page(rows, limit, MembershipListRow::id, row -> toDTO(row, variantUuids));
+    }
+
+    // One batch read of the collection table for all headers on the page
+    private Map<Long, List<UUID>> variantUuidsOf(List<MembershipListRow> rows) {
+        if (rows.isEmpty()) return Map.of();
+        return BulkReads.byOwner(jpaRepository.findVariantUuidsByIdIn(rows.stream().map(MembershipListRow::id).toList()));
+    }
+
+    private VariantListDTO toDTO(MembershipListRow row, Map<Long, List<UUID>> variantUuids) {
+        return new VariantListDTO(row.uuid(), row.businessUuid().toString(),
+                Set.copyOf(variantUuids.getOrDefault(row.id(), List.of())),
+                row.archived(), row.softDeleted(), null, row.lastSyncedAt());
+    }
+}
@@ -2,19 +2,25 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastruct
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.features.FeaturesDomainWrapper.FeatureUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsUuId;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variants.VariantsDomainWrapper.VariantsBusinessUuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.VariantsRepository;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.VariantsMapStruct;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantsEntity;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.VariantsJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter for Individual Variants (2026 Edition).
@@ -25,10 +31,19 @@ public class VariantsPostgresqlRepositoryImpl implements VariantsRepository {
 
     private final VariantsJpaRepository jpaRepository;
     private final VariantsMapStruct mapper;
+    private final EntityManager entityManager;
+    private final ManagedWrites.Binding<VariantsAggregate, VariantsId, VariantsEntity> writes;
+    private final DomainEventOutbox.Source<VariantsAggregate> events;
 
-    public VariantsPostgresqlRepositoryImpl(VariantsJpaRepository jpaRepository, VariantsMapStruct mapper) {
+    public VariantsPostgresqlRepositoryImpl(VariantsJpaRepository jpaRepository, VariantsMapStruct mapper, EntityManager entityManager,
+                                            DomainEventOutbox outbox) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.writes = new ManagedWrites.Binding<>(VariantsEntity.class,
+                aggregate -> aggregate.getId() == null ? null : aggregate.getId().value().value(),
+                VariantsEntity::getId, mapper::toVariantsId, mapper::toEntity, mapper::updateEntity, entity -> null); // No lock column on this table
+        this.events = outbox.source("variants", aggregate -> aggregate.getUuId().value().value());
     }
 
     @Override
@@ -48,9 +63,16 @@ public class VariantsPostgresqlRepositoryImpl implements VariantsRepository {
     @Override
     @Transactional
     public VariantsAggregate save(VariantsAggregate aggregate) {
-        VariantsEntity entity = mapper.toEntity(aggregate);
-        VariantsEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toAggregate(savedEntity);
+        return saveAll(List.of(aggregate)).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<VariantsAggregate> saveAll(Collection<VariantsAggregate> aggregates) {
+        // Changes land on the managed entities and the same aggregates come back (see ManagedWrites)
+        List<VariantsAggregate> saved = ManagedWrites.saveAll(aggregates, writes, entityManager);
+        events.append(saved); // Same transaction: the events commit with the rows
+        return saved;
     }
 
     @Override
@@ -70,9 +92,23 @@ public class VariantsPostgresqlRepositoryImpl implements VariantsRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<VariantsAggregate> findAllActivePage(Long afterId, int limit) {
+        return BulkReads.page(jpaRepository.findActivePage(BulkReads.after(afterId), BulkReads.limit(limit)),
+                limit, VariantsEntity::getId, mapper::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<VariantsAggregate> streamAllActive() {
+        return BulkReads.stream(jpaRepository.streamAllActive(), entityManager, mapper::toAggregate);
+    }
+
     @Override
     @Transactional
     public void hardDelete(VariantsAggregate aggregate) {
+        events.append(List.of(aggregate));
         // Extract the raw UUID from the hardened Domain Wrapper
         UUID uuid = UUID.fromString(aggregate.getUuId().value().value());
         jpaRepository.deleteByUuid(uuid);
@@ -0,0 +1,54 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.VariantsQueryRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.variants.dto.VariantsDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.VariantsJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.VariantsRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query adapter for the Variants read model (see ProductQueryPostgresqlRepositoryImpl).
+ */
+@Repository
+public class VariantsQueryPostgresqlRepositoryImpl implements VariantsQueryRepository {
+
+    private final VariantsJpaRepository jpaRepository;
+
+    public VariantsQueryPostgresqlRepositoryImpl(VariantsJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VariantsDTO> findByUuId(UUID uuid) {
+        return jpaRepository.findRowByUuid(uuid).map(row -> toDTO(row, featureUuidsOf(List.of(row))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<VariantsDTO> findAllActivePage(Long afterId, int limit) {
+        List<VariantsRow> rows = jpaRepository.findActiveRowPage(BulkReads.after(afterId), BulkReads.limit(limit));
+        Map<Long, List<UUID>> featureUuids = featureUuidsOf(rows);
+        return BulkReads.page(rows, limit, VariantsRow::id, row -> toDTO(row, featureUuids));
+    }
+
+    // One batch read of the collection table for all headers on the page
+    private Map<Long, List<UUID>> featureUuidsOf(List<VariantsRow> rows) {
+        if (rows.isEmpty()) return Map.of();
+        return BulkReads.byOwner(jpaRepository.findFeatureUuidsByIdIn(rows.stream().map(VariantsRow::id).toList()));
+    }
+
+    private VariantsDTO toDTO(VariantsRow row, Map<Long, List<UUID>> featureUuids) {
+        return new VariantsDTO(row.uuid(), row.businessUuid().toString(), row.name(), row.region(),
+                Set.copyOf(featureUuids.getOrDefault(row.id(), List.of())),
+                row.archived(), row.softDeleted(), null, row.lastSyncedAt());
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Compact binary form of every PurchasePricing subtype, for the optional strategy_binary column.
+ *
+ * <p>Layout: format version, strategy ordinal, then the subtype's fields. Money is written as currency code,
+ * precision, rounding mode and the unscaled amount (its scale always equals its precision);
+ * other decimals as scale plus unscaled value. Unscaled values fit a long in practice and fall back to
+ * two's-complement bytes otherwise. A typical entry is a few dozen bytes instead of a jsonb document.
+ */
+final class BinaryPricingCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte LONG_VALUE = 0;
+    private static final byte BIG_VALUE = 1;
+    private static final RoundingMode[] ROUNDING_MODES = RoundingMode.values();
+
+    private BinaryPricingCodec() {}
+
+    // --- Encoding ---
+
+    static byte[] encode(PurchasePricing pricing) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(PricingStrategyType.of(pricing).ordinal());
+            switch (pricing) {
+                case PriceFixedPurchase p -> writeMoney(out, p.fixedPrice());
+                case PriceNonePurchase p -> writeCurrency(out, p.currency());
+                case PriceIntScaledPurchase p -> {
+                    writeMoney(out, p.basePrice());
+                    writeMoney(out, p.scalingFactorPerUnit());
+                }
+                case PriceFractScaledPurchase p -> {
+                    writeMoney(out, p.basePrice());
+                    writeMoney(out, p.ratePerUnit());
+                }
+                case PriceIntTieredVolPurchase p -> writeTiers(out, p.buckets());
+                case PriceFractTieredVolPurchase p -> writeTiers(out, p.buckets());
+                case PriceIntTieredGradPurchase p -> writeTiers(out, p.buckets());
+                case PriceFractTieredGradPurchase p -> writeTiers(out, p.buckets());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory stream: cannot happen
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeTiers(DataOutputStream out, List<? extends PricingTier> tiers) throws IOException {
+        out.writeInt(tiers.size());
+        for (PricingTier tier : tiers) {
+            writeDecimal(out, tier.minQty());
+            out.writeBoolean(tier.maxQty() != null);
+            if (tier.maxQty() != null) writeDecimal(out, tier.maxQty());
+            writeMoney(out, tier.pricePerUnit());
+        }
+    }
+
+    private static void writeMoney(DataOutputStream out, Money money) throws IOException {
+        writeCurrency(out, money.currency());
+        out.writeShort(money.precision());
+        out.writeByte(money.roundingMode().ordinal());
+        writeUnscaled(out, money.amount().unscaledValue());
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeInt(value.scale());
+        writeUnscaled(out, value.unscaledValue());
+    }
+
+    private static void writeUnscaled(DataOutputStream out, BigInteger unscaled) throws IOException {
+        if (unscaled.bitLength() < Long.SIZE) {
+            out.writeByte(LONG_VALUE);
+            out.writeLong(unscaled.longValue());
+        } else {
+            byte[] magnitude = unscaled.toByteArray();
+            out.writeByte(BIG_VALUE);
+            out.writeInt(magnitude.length);
+            out.write(magnitude);
+        }
+    }
+
+    private static void writeCurrency(DataOutputStream out, Currency currency) throws IOException {
+        out.write(currency.getCurrencyCode().getBytes(StandardCharsets.US_ASCII)); // ISO 4217: always 3 letters
+    }
+
+    // --- Decoding ---
+
+    static PurchasePricing decode(PricingStrategyType expected, byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported pricing binary format: " + version);
+        }
+        PricingStrategyType type = PricingStrategyType.values()[in.get()];
+        if (type != expected) {
+            throw new IllegalArgumentException("Pricing binary holds " + type + " but the entry is typed " + expected);
+        }
+        return switch (type) {
+            case FIXED -> new PriceFixedPurchase(readMoney(in));
+            case NONE -> new PriceNonePurchase(readCurrency(in));
+            case INT_SCALED -> new PriceIntScaledPurchase(readMoney(in), readMoney(in));
+            case FRACT_SCALED -> new PriceFractScaledPurchase(readMoney(in), readMoney(in));
+            case INT_TIERED_VOL -> new PriceIntTieredVolPurchase(readTiers(in, PriceIntTieredVolPurchase.TierBucket::new));
+            case FRACT_TIERED_VOL -> new PriceFractTieredVolPurchase(readTiers(in, PriceFractTieredVolPurchase.TierBucket::new));
+            case INT_TIERED_GRAD -> new PriceIntTieredGradPurchase(readTiers(in, PriceIntTieredGradPurchase.TierBucket::new));
+            case FRACT_TIERED_GRAD -> new PriceFractTieredGradPurchase(readTiers(in, PriceFractTieredGradPurchase.TierBucket::new));
+        };
+    }
+
+    @FunctionalInterface
+    private interface BucketFactory<B> {
+        B create(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit);
+    }
+
+    private static <B> List<B> readTiers(ByteBuffer in, BucketFactory<B> factory) {
+        int count = in.getInt();
+        List<B> buckets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigDecimal min = readDecimal(in);
+            BigDecimal max = in.get() != 0 ? readDecimal(in) : null;
+            buckets.add(factory.create(min, max, readMoney(in)));
+        }
+        return buckets;
+    }
+
+    private static Money readMoney(ByteBuffer in) {
+        Currency currency = readCurrency(in);
+        int precision = in.getShort();
+        RoundingMode roundingMode = ROUNDING_MODES[in.get()];
+        BigDecimal amount = readUnscaled(in, precision);
+        return new Money(amount, currency, precision, roundingMode);
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        int scale = in.getInt();
+        return readUnscaled(in, scale);
+    }
+
+    private static BigDecimal readUnscaled(ByteBuffer in, int scale) {
+        if (in.get() == LONG_VALUE) {
+            return BigDecimal.valueOf(in.getLong(), scale);
+        }
+        byte[] magnitude = new byte[in.getInt()];
+        in.get(magnitude);
+        return new BigDecimal(new BigInteger(magnitude), scale);
+    }
+
+    private static Currency readCurrency(ByteBuffer in) {
+        byte[] code = new byte[3];
+        in.get(code);
+        return Currency.getInstance(new String(code, StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Structural diff of sync-event payloads, the format consumers apply to rebuild the full state.
+ *
+ * <p>Sync payloads are records of scalars, maps, lists and sets, so the codec works on a canonical tree:
+ * object fields sorted by name, numbers without trailing zeros (whole numbers as integers). Arrays keep
+ * their order (a tier list is matched first to last), except the arrays of the set fields the caller names
+ * (e.g. variantUuIds), whose elements are sorted by their JSON text. A delta is a list of changes addressed
+ * by JSON pointer:
+ * <ul>
+ *   <li>{@code replace} sets the value at path (the whole state when path is empty), so an ordered array
+ *       that changed is sent whole;</li>
+ *   <li>{@code remove} drops the field at path;</li>
+ *   <li>{@code union} / {@code subtract} add or remove the listed elements of the set array at path.</li>
+ * </ul>
+ * The checksum is the SHA-256 of the canonical JSON text, so a consumer that applied every delta can
+ * verify it holds exactly the producer's state.
+ */
+public final class JsonDeltaCodec {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final Comparator<JsonNode> BY_TEXT = Comparator.comparing(JsonNode::toString);
+
+    private JsonDeltaCodec() {}
+
+    // --- Canonical form ---
+
+    /**
+     * Canonical form with every array ordered.
+     */
+    public static JsonNode canonical(JsonNode node) {
+        return canonical(node, Set.of());
+    }
+
+    /**
+     * Canonical form where the arrays held by fields named in setFields, at any depth, are sets.
+     */
+    public static JsonNode canonical(JsonNode node, Set<String> setFields) {
+        return canonical(node, false, setFields);
+    }
+
+    private static JsonNode canonical(JsonNode node, boolean set, Set<String> setFields) {
+        if (node.isObject()) {
+            Map<String, JsonNode> sorted = new TreeMap<>();
+            node.fields().forEachRemaining(field -> sorted.put(field.getKey(),
+                    canonical(field.getValue(), setFields.contains(field.getKey()), setFields)));
+            ObjectNode object = NODES.objectNode();
+            object.setAll(sorted);
+            return object;
+        }
+        if (node.isArray()) {
+            List<JsonNode> elements = new ArrayList<>(node.size());
+            node.forEach(element -> elements.add(canonical(element, false, setFields)));
+            if (set) elements.sort(BY_TEXT);
+            return NODES.arrayNode(elements.size()).addAll(elements);
+        }
+        if (node.isNumber()) {
+            BigDecimal value = node.decimalValue().stripTrailingZeros();
+            return value.scale() <= 0 ? NODES.numberNode(value.toBigIntegerExact()) : NODES.numberNode(value);
+        }
+        return node;
+    }
+
+    public static String checksum(JsonNode canonical) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    // --- Diff ---
+
+    /**
+     * Changes that turn base into next, with every array ordered; both must be canonical.
+     */
+    public static ArrayNode diff(JsonNode base, JsonNode next) {
+        return diff(base, next, Set.of());
+    }
+
+    /**
+     * Changes that turn base into next; both must be canonical for the same setFields.
+     */
+    public static ArrayNode diff(JsonNode base, JsonNode next, Set<String> setFields) {
+        ArrayNode changes = NODES.arrayNode();
+        diff(base, next, "", false, setFields, changes);
+        return changes;
+    }
+
+    private static void diff(JsonNode base, JsonNode next, String path, boolean set, Set<String> setFields,
+                             ArrayNode changes) {
+        if (base.equals(next)) return;
+        if (base.isObject() && next.isObject()) {
+            for (Iterator<Map.Entry<String, JsonNode>> it = next.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                JsonNode before = base.get(field.getKey());
+                String fieldPath = path + '/' + escape(field.getKey());
+                if (before == null) change(changes, "replace", fieldPath).set("value", field.getValue());
+                else diff(before, field.getValue(), fieldPath, setFields.contains(field.getKey()), setFields, changes);
+            }
+            for (Iterator<String> it = base.fieldNames(); it.hasNext(); ) {
+                String name = it.next();
+                if (!next.has(name)) change(changes, "remove", path + '/' + escape(name));
+            }
+            return;
+        }
+        // Ordered arrays fall through to a replace: positions matter and tier lists are short
+        if (set && base.isArray() && next.isArray()) {
+            Set<JsonNode> before = elements(base);
+            Set<JsonNode> after = elements(next);
+            if (before.size() == base.size() && after.size() == next.size()) {
+                ArrayNode added = NODES.arrayNode();
+                after.stream().filter(e -> !before.contains(e)).forEach(added::add);
+                ArrayNode removed = NODES.arrayNode();
+                before.stream().filter(e -> !after.contains(e)).forEach(removed::add);
+                if (!added.isEmpty()) change(changes, "union", path).set("values", added);
+                if (!removed.isEmpty()) change(changes, "subtract", path).set("values", removed);
+                return;
+            }
+        }
+        change(changes, "replace", path).set("value", next);
+    }
+
+    // --- Apply ---
+
+    /**
+     * The canonical state after applying changes to base; base is left untouched. Needs no set fields:
+     * only set arrays receive union/subtract, and their result is sorted as the producer sorts it.
+     */
+    public static JsonNode apply(JsonNode base, JsonNode changes) {
+        JsonNode state = base.deepCopy();
+        for (JsonNode change : changes) {
+            String path = change.path("path").asText();
+            String op = change.path("op").asText();
+            if (path.isEmpty()) {
+                if (!op.equals("replace")) throw new IllegalArgumentException("Only replace applies to the root");
+                state = change.get("value").deepCopy();
+                continue;
+            }
+            JsonPointer pointer = JsonPointer.compile(path);
+            JsonNode parent = state.at(pointer.head());
+            if (!(parent instanceof ObjectNode object)) {
+                throw new IllegalArgumentException("No object at " + pointer.head() + " for " + path);
+            }
+            String field = pointer.last().getMatchingProperty();
+            switch (op) {
+                case "replace" -> object.set(field, change.get("value").deepCopy());
+                case "remove" -> object.remove(field);
+                case "union", "subtract" -> {
+                    Set<JsonNode> values = elements(object.path(field));
+                    if (op.equals("union")) change.get("values").forEach(values::add);
+                    else change.get("values").forEach(values::remove);
+                    List<JsonNode> sorted = new ArrayList<>(values);
+                    sorted.sort(BY_TEXT);
+                    object.set(field, NODES.arrayNode(sorted.size()).addAll(sorted));
+                }
+                default -> throw new IllegalArgumentException("Unknown delta op: " + op);
+            }
+        }
+        return canonical(state);
+    }
+
+    private static ObjectNode change(ArrayNode changes, String op, String path) {
+        return changes.addObject().put("op", op).put("path", path);
+    }
+
+    private static Set<JsonNode> elements(JsonNode array) {
+        Set<JsonNode> elements = new LinkedHashSet<>();
+        array.forEach(elements::add);
+        return elements;
+    }
+
+    private static String escape(String field) {
+        return field.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.*;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceEntryEmbeddable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Typed codec for PriceEntryEmbeddable strategy columns.
+ *
+ * <p>Each PurchasePricing subtype gets a prebuilt Jackson reader and writer bound to its concrete class,
+ * so entries bind straight from/to JSON text instead of round-tripping through a generic Map tree.
+ * The slug comes from the exhaustive sealed switch in PricingStrategyType.of. With the BINARY format,
+ * entries are written to the compact strategy_binary column instead (see BinaryPricingCodec);
+ * reads accept either column, so a table can hold both while it is migrated.
+ */
+@Component
+public class PurchasePricingCodec {
+
+    public enum Format { JSON, BINARY }
+
+    private final Format format;
+    private final Map<PricingStrategyType, ObjectReader> readers = new EnumMap<>(PricingStrategyType.class);
+    private final Map<PricingStrategyType, ObjectWriter> writers = new EnumMap<>(PricingStrategyType.class);
+
+    public PurchasePricingCodec(ObjectMapper jsonMapper, @Value("${pricelist.entries.codec:JSON}") Format format) {
+        this.format = format;
+        for (PricingStrategyType type : PricingStrategyType.values()) {
+            // Serialised models carry derived properties (e.g. Money "zero"), so binding must ignore unknowns
+            readers.put(type, jsonMapper.readerFor(modelClass(type))
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+            writers.put(type, jsonMapper.writerFor(modelClass(type)));
+        }
+    }
+
+    /**
+     * Concrete value object class stored under a strategy slug.
+     */
+    public static Class<? extends PurchasePricing> modelClass(PricingStrategyType type) {
+        return switch (type) {
+            case FIXED -> PriceFixedPurchase.class;
+            case NONE -> PriceNonePurchase.class;
+            case FRACT_TIERED_GRAD -> PriceFractTieredGradPurchase.class;
+            case FRACT_SCALED -> PriceFractScaledPurchase.class;
+            case FRACT_TIERED_VOL -> PriceFractTieredVolPurchase.class;
+            case INT_SCALED -> PriceIntScaledPurchase.class;
+            case INT_TIERED_GRAD -> PriceIntTieredGradPurchase.class;
+            case INT_TIERED_VOL -> PriceIntTieredVolPurchase.class;
+        };
+    }
+
+    public Format format() {
+        return format;
+    }
+
+    /**
+     * Fills the strategy columns of an entry (pricing_type plus strategy_details or strategy_binary).
+     */
+    public void encode(PurchasePricing pricing, PriceEntryEmbeddable entry) {
+        PricingStrategyType type = PricingStrategyType.of(pricing);
+        entry.setPricingType(type.name());
+        if (format == Format.BINARY) {
+            entry.setStrategyBinary(BinaryPricingCodec.encode(pricing));
+            entry.setStrategyDetails(null);
+        } else {
+            entry.setStrategyDetails(writeJson(pricing));
+            entry.setStrategyBinary(null);
+        }
+    }
+
+    public PurchasePricing decode(PriceEntryEmbeddable entry) {
+        PricingStrategyType type = PricingStrategyType.valueOf(entry.getPricingType());
+        try {
+            return entry.getStrategyBinary() != null
+                    ? BinaryPricingCodec.decode(type, entry.getStrategyBinary())
+                    : readJson(type, entry.getStrategyDetails());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Unreadable " + type + " price entry for item " + entry.getItemId()
+                    + " in " + entry.getCurrencyCode(), e);
+        }
+    }
+
+    /**
+     * Compact binary form regardless of the configured format; equal models always encode to equal bytes.
+     */
+    public byte[] writeBinary(PurchasePricing pricing) {
+        return BinaryPricingCodec.encode(pricing);
+    }
+
+    public PurchasePricing readBinary(PricingStrategyType type, byte[] data) {
+        return BinaryPricingCodec.decode(type, data);
+    }
+
+    public String writeJson(PurchasePricing pricing) {
+        try {
+            return writers.get(PricingStrategyType.of(pricing)).writeValueAsString(pricing);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise " + pricing.getClass().getSimpleName(), e);
+        }
+    }
+
+    public PurchasePricing readJson(PricingStrategyType type, String json) throws IOException {
+        return readers.get(type).readValue(json);
+    }
+
+    public PurchasePricing readJson(PricingStrategyType type, JsonNode json) throws IOException {
+        return readers.get(type).readValue(json);
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One published FX rate table. A rate update appends a row; rows are never updated.
+ */
+@Entity
+@Table(name = "fx_rate_snapshots")
+public class FxRateSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revision")
+    private Long revision;
+
+    @Column(name = "base_currency", nullable = false, updatable = false, length = 3)
+    private String baseCurrency;
+
+    // {"EUR": "0.9213", ...}: rates as decimal strings so no precision is lost
+    @ColumnTransformer(write = "?::jsonb")
+    @Column(name = "rates", nullable = false, updatable = false, columnDefinition = "jsonb")
+    private String rates;
+
+    @Column(name = "published_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime publishedAt;
+
+    @Column(name = "published_by", nullable = false, updatable = false)
+    private String publishedBy;
+
+    // --- Standard Getters & Setters ---
+
+    public Long getRevision() { return revision; }
+    public void setRevision(Long revision) { this.revision = revision; }
+
+    public String getBaseCurrency() { return baseCurrency; }
+    public void setBaseCurrency(String baseCurrency) { this.baseCurrency = baseCurrency; }
+
+    public String getRates() { return rates; }
+    public void setRates(String rates) { this.rates = rates; }
+
+    public OffsetDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(OffsetDateTime publishedAt) { this.publishedAt = publishedAt; }
+
+    public String getPublishedBy() { return publishedBy; }
+    public void setPublishedBy(String publishedBy) { this.publishedBy = publishedBy; }
+}
@@ -1,17 +1,21 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "system_galleries")
+@DynamicUpdate
+@Table(name = "system_galleries",
+        indexes = @Index(name = "ix_system_galleries_sync_pending", columnList = "sync_pending, id"))
 public class GalleryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "system_galleries_seq")
+    @SequenceGenerator(name = "system_galleries_seq", sequenceName = "system_galleries_seq", allocationSize = IdAllocation.POOL_SIZE)
     private Long id;
 
     @Column(name = "uuid", nullable = false, unique = true)
@@ -44,6 +48,14 @@ public class GalleryEntity {
     @Column(name = "last_modified_by", nullable = false)
     private String lastModifiedBy;
 
+    @Column(name = "last_synced_at")
+    private OffsetDateTime lastSyncedAt;
+
+    // Maintained by the database; indexed so the sync scheduler finds pending rows without a scan
+    @Column(name = "sync_pending", insertable = false, updatable = false,
+            columnDefinition = "boolean GENERATED ALWAYS AS (last_synced_at IS NULL OR last_modified_at > last_synced_at) STORED")
+    private boolean syncPending;
+
     public GalleryEntity() {}
 
     // Standard Getters and Setters
@@ -67,4 +79,7 @@ public class GalleryEntity {
     public void setLastModifiedAt(OffsetDateTime lastModifiedAt) { this.lastModifiedAt = lastModifiedAt; }
     public String getLastModifiedBy() { return lastModifiedBy; }
     public void setLastModifiedBy(String lastModifiedBy) { this.lastModifiedBy = lastModifiedBy; }
+    public OffsetDateTime getLastSyncedAt() { return lastSyncedAt; }
+    public void setLastSyncedAt(OffsetDateTime lastSyncedAt) { this.lastSyncedAt = lastSyncedAt; }
+    public boolean isSyncPending() { return syncPending; }
 }
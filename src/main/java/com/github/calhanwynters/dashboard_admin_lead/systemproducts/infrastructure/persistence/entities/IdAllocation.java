@@ -0,0 +1,14 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
+
+/**
+ * Id allocation for the aggregate root tables.
+ * Ids come from per-table sequences (INCREMENT BY POOL_SIZE) through Hibernate's pooled optimiser, so a
+ * persist needs no round-trip and inserts can be JDBC-batched (which IDENTITY rules out). Kept equal to
+ * hibernate.jdbc.batch_size: one sequence call per batch.
+ */
+public final class IdAllocation {
+
+    public static final int POOL_SIZE = 1000;
+
+    private IdAllocation() {}
+}
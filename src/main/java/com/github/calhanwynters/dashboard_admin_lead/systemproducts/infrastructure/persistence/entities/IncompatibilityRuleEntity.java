@@ -9,7 +9,8 @@ import java.util.UUID;
 public class IncompatibilityRuleEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feature_incompatibility_rules_seq")
+    @SequenceGenerator(name = "feature_incompatibility_rules_seq", sequenceName = "feature_incompatibility_rules_seq", allocationSize = IdAllocation.POOL_SIZE)
     private Long id;
 
     @Column(name = "trigger_uuid", nullable = false)
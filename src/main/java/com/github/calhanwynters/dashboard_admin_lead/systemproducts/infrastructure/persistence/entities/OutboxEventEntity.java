@@ -0,0 +1,70 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One domain event awaiting delivery, appended by DomainEventOutbox in the transaction that saved its
+ * aggregate and deleted by the OutboxRelay once the broker has accepted it. Rows are written and claimed
+ * through JDBC only; the mapping defines the table.
+ */
+@Entity
+// Indexed by aggregate so the relay finds each aggregate's oldest row (its head) without a sort
+@Table(name = "event_outbox",
+        indexes = @Index(name = "ix_event_outbox_aggregate", columnList = "aggregate_type, aggregate_uuid, id"))
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, updatable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_uuid", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID aggregateUuid;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    // Sync events, snapshot or delta: a later snapshot of the same aggregate supersedes them
+    @Column(name = "compactable", nullable = false, updatable = false)
+    private boolean compactable;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "jsonb")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime occurredAt;
+
+    // Set while a relay is publishing the row; expired leases are claimed again
+    @Column(name = "lease_until", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime leaseUntil;
+
+    // --- Standard Getters & Setters ---
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+
+    public UUID getAggregateUuid() { return aggregateUuid; }
+    public void setAggregateUuid(UUID aggregateUuid) { this.aggregateUuid = aggregateUuid; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public boolean isCompactable() { return compactable; }
+    public void setCompactable(boolean compactable) { this.compactable = compactable; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public OffsetDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(OffsetDateTime occurredAt) { this.occurredAt = occurredAt; }
+
+    public OffsetDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(OffsetDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
+}
@@ -2,22 +2,29 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastruct
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.ColumnTransformer;
 
-import java.util.Map;
 import java.util.UUID;
 
 @Embeddable
 public class PriceEntryEmbeddable {
 
+    @Column(name = "item_id", nullable = false, columnDefinition = "uuid")
     private UUID itemId;
+
+    @Column(name = "currency_code", nullable = false, length = 3)
     private String currencyCode;
+
+    @Column(name = "pricing_type", nullable = false)
     private String pricingType;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    // Written by PurchasePricingCodec as JSON text, or left null when the binary column is used
+    @ColumnTransformer(write = "?::jsonb")
     @Column(name = "strategy_details", columnDefinition = "jsonb")
-    private Map<String, Object> strategyDetails;
+    private String strategyDetails;
+
+    @Column(name = "strategy_binary", columnDefinition = "bytea")
+    private byte[] strategyBinary;
 
     // --- Standard Getters and Setters ---
 
@@ -30,6 +37,9 @@ public class PriceEntryEmbeddable {
     public String getPricingType() { return pricingType; }
     public void setPricingType(String pricingType) { this.pricingType = pricingType; }
 
-    public Map<String, Object> getStrategyDetails() { return strategyDetails; }
-    public void setStrategyDetails(Map<String, Object> strategyDetails) { this.strategyDetails = strategyDetails; }
+    public String getStrategyDetails() { return strategyDetails; }
+    public void setStrategyDetails(String strategyDetails) { this.strategyDetails = strategyDetails; }
+
+    public byte[] getStrategyBinary() { return strategyBinary; }
+    public void setStrategyBinary(byte[] strategyBinary) { this.strategyBinary = strategyBinary; }
 }
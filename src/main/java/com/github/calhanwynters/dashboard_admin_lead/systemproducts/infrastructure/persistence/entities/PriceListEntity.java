@@ -1,15 +1,19 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.OffsetDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "system_price_lists")
+@DynamicUpdate
+@Table(name = "system_price_lists",
+        indexes = @Index(name = "ix_system_price_lists_sync_pending", columnList = "sync_pending, id"))
 public class PriceListEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "system_price_lists_seq")
+    @SequenceGenerator(name = "system_price_lists_seq", sequenceName = "system_price_lists_seq", allocationSize = IdAllocation.POOL_SIZE)
     private Long id;
 
     @Column(name = "uuid", nullable = false, unique = true, columnDefinition = "uuid")
@@ -34,8 +38,11 @@ public class PriceListEntity {
     @Column(name = "is_soft_deleted", nullable = false)
     private boolean softDeleted = false;
 
+    // Read through JPA; updates are written per entry by PriceListEntryWriter, keyed on the unique constraint
     @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "price_list_entries", joinColumns = @JoinColumn(name = "price_list_id"))
+    @CollectionTable(name = "price_list_entries", joinColumns = @JoinColumn(name = "price_list_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_price_list_entries_item_currency",
+                    columnNames = {"price_list_id", "item_id", "currency_code"}))
     private List<PriceEntryEmbeddable> prices = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
@@ -47,7 +54,13 @@ public class PriceListEntity {
     @Column(name = "last_modified_by", nullable = false)
     private String lastModifiedBy;
 
+    @Column(name = "last_synced_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime lastSyncedAt;
 
+    // Maintained by the database; indexed so the sync scheduler finds pending rows without a scan
+    @Column(name = "sync_pending", insertable = false, updatable = false,
+            columnDefinition = "boolean GENERATED ALWAYS AS (last_synced_at IS NULL OR last_modified_at > last_synced_at) STORED")
+    private boolean syncPending;
 
     // --- Standard Getters & Setters ---
 
@@ -86,4 +99,8 @@ public class PriceListEntity {
 
     public String getLastModifiedBy() { return lastModifiedBy; }
     public void setLastModifiedBy(String lastModifiedBy) { this.lastModifiedBy = lastModifiedBy; }
+
+    public OffsetDateTime getLastSyncedAt() { return lastSyncedAt; }
+    public void setLastSyncedAt(OffsetDateTime lastSyncedAt) { this.lastSyncedAt = lastSyncedAt; }
+    public boolean isSyncPending() { return syncPending; }
 }
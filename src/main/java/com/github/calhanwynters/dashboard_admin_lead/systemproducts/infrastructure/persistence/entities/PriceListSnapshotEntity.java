@@ -0,0 +1,67 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One immutable snapshot header per (business UUID, version), appended by PriceListSnapshotWriter on save.
+ * The prices of a snapshot live in price_list_snapshot_entries as validity intervals.
+ */
+@Entity
+@Table(name = "price_list_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_price_list_snapshots_business_version",
+                columnNames = {"business_uuid", "version"}))
+public class PriceListSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_uuid", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID businessUuid;
+
+    @Column(name = "version", nullable = false, updatable = false)
+    private Integer version;
+
+    @Column(name = "price_list_uuid", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID priceListUuid;
+
+    @Column(name = "strategy_slug", nullable = false, updatable = false)
+    private String strategySlug;
+
+    @Column(name = "is_active", nullable = false, updatable = false)
+    private boolean active;
+
+    @Column(name = "captured_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime capturedAt;
+
+    @Column(name = "captured_by", nullable = false, updatable = false)
+    private String capturedBy;
+
+    // --- Standard Getters & Setters ---
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public UUID getBusinessUuid() { return businessUuid; }
+    public void setBusinessUuid(UUID businessUuid) { this.businessUuid = businessUuid; }
+
+    public Integer getVersion() { return version; }
+    public void setVersion(Integer version) { this.version = version; }
+
+    public UUID getPriceListUuid() { return priceListUuid; }
+    public void setPriceListUuid(UUID priceListUuid) { this.priceListUuid = priceListUuid; }
+
+    public String getStrategySlug() { return strategySlug; }
+    public void setStrategySlug(String strategySlug) { this.strategySlug = strategySlug; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public OffsetDateTime getCapturedAt() { return capturedAt; }
+    public void setCapturedAt(OffsetDateTime capturedAt) { this.capturedAt = capturedAt; }
+
+    public String getCapturedBy() { return capturedBy; }
+    public void setCapturedBy(String capturedBy) { this.capturedBy = capturedBy; }
+}
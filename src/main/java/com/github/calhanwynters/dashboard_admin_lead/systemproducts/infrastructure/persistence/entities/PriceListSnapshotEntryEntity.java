@@ -0,0 +1,72 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.util.UUID;
+
+/**
+ * One price of a business PriceList, valid from valid_from_version up to (excluding) valid_to_version.
+ * A row is written only when the price actually changed, and is never rewritten afterwards apart from
+ * closing its interval, so an as-of read selects exactly the rows whose interval contains the version.
+ */
+@Entity
+@Table(name = "price_list_snapshot_entries", indexes = {
+        @Index(name = "ix_price_list_snapshot_entries_as_of",
+                columnList = "business_uuid, valid_from_version, valid_to_version"),
+        @Index(name = "ix_price_list_snapshot_entries_item",
+                columnList = "business_uuid, item_id, currency_code, valid_from_version DESC")
+})
+public class PriceListSnapshotEntryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_uuid", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID businessUuid;
+
+    @Column(name = "item_id", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID itemId;
+
+    @Column(name = "currency_code", nullable = false, updatable = false, length = 3)
+    private String currencyCode;
+
+    @Column(name = "valid_from_version", nullable = false, updatable = false)
+    private Integer validFromVersion;
+
+    // Null while this is the current price
+    @Column(name = "valid_to_version")
+    private Integer validToVersion;
+
+    @Column(name = "pricing_type", nullable = false, updatable = false)
+    private String pricingType;
+
+    // Always the compact binary form (see BinaryPricingCodec), whatever the live table's codec
+    @Column(name = "strategy_binary", nullable = false, updatable = false, columnDefinition = "bytea")
+    private byte[] strategyBinary;
+
+    // --- Standard Getters & Setters ---
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public UUID getBusinessUuid() { return businessUuid; }
+    public void setBusinessUuid(UUID businessUuid) { this.businessUuid = businessUuid; }
+
+    public UUID getItemId() { return itemId; }
+    public void setItemId(UUID itemId) { this.itemId = itemId; }
+
+    public String getCurrencyCode() { return currencyCode; }
+    public void setCurrencyCode(String currencyCode) { this.currencyCode = currencyCode; }
+
+    public Integer getValidFromVersion() { return validFromVersion; }
+    public void setValidFromVersion(Integer validFromVersion) { this.validFromVersion = validFromVersion; }
+
+    public Integer getValidToVersion() { return validToVersion; }
+    public void setValidToVersion(Integer validToVersion) { this.validToVersion = validToVersion; }
+
+    public String getPricingType() { return pricingType; }
+    public void setPricingType(String pricingType) { this.pricingType = pricingType; }
+
+    public byte[] getStrategyBinary() { return strategyBinary; }
+    public void setStrategyBinary(byte[] strategyBinary) { this.strategyBinary = strategyBinary; }
+}
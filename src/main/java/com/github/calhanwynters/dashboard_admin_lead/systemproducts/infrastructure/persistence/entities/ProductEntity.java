@@ -1,16 +1,20 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "system_products")
+@DynamicUpdate
+@Table(name = "system_products",
+        indexes = @Index(name = "ix_system_products_sync_pending", columnList = "sync_pending, id"))
 public class ProductEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "system_products_seq")
+    @SequenceGenerator(name = "system_products_seq", sequenceName = "system_products_seq", allocationSize = IdAllocation.POOL_SIZE)
     private Long id;
 
     @Column(name = "uuid", nullable = false, unique = true)
@@ -93,6 +97,14 @@ public class ProductEntity {
     @Column(name = "last_modified_by", nullable = false)
     private String lastModifiedBy;
 
+    @Column(name = "last_synced_at")
+    private OffsetDateTime lastSyncedAt;
+
+    // Maintained by the database; indexed so the sync scheduler finds pending rows without a scan
+    @Column(name = "sync_pending", insertable = false, updatable = false,
+            columnDefinition = "boolean GENERATED ALWAYS AS (last_synced_at IS NULL OR last_modified_at > last_synced_at) STORED")
+    private boolean syncPending;
+
     public ProductEntity() {}
 
     // --- Getters and Setters ---
@@ -174,4 +186,7 @@ public class ProductEntity {
 
     public String getLastModifiedBy() { return lastModifiedBy; }
     public void setLastModifiedBy(String lastModifiedBy) { this.lastModifiedBy = lastModifiedBy; }
+    public OffsetDateTime getLastSyncedAt() { return lastSyncedAt; }
+    public void setLastSyncedAt(OffsetDateTime lastSyncedAt) { this.lastSyncedAt = lastSyncedAt; }
+    public boolean isSyncPending() { return syncPending; }
 }
@@ -0,0 +1,70 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * The last sync state written to the outbox for one aggregate, which the next sync event is encoded
+ * against. Rows are read and upserted through JDBC by SyncEventEncoder; the mapping defines the table.
+ */
+@Entity
+@Table(name = "sync_baseline",
+        uniqueConstraints = @UniqueConstraint(name = "uq_sync_baseline_aggregate",
+                columnNames = {"aggregate_type", "aggregate_uuid"}))
+public class SyncBaselineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, updatable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_uuid", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID aggregateUuid;
+
+    // Counts the sync events of the aggregate; a delta names the version it applies to
+    @Column(name = "sync_version", nullable = false)
+    private long syncVersion;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    // Canonical JSON text, kept verbatim so it parses back to the tree it was diffed as
+    @Column(name = "state", nullable = false, columnDefinition = "text")
+    private String state;
+
+    // Set to force a full snapshot on the next sync
+    @Column(name = "snapshot_requested", nullable = false)
+    private boolean snapshotRequested;
+
+    @Column(name = "synced_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime syncedAt;
+
+    // --- Standard Getters & Setters ---
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+
+    public UUID getAggregateUuid() { return aggregateUuid; }
+    public void setAggregateUuid(UUID aggregateUuid) { this.aggregateUuid = aggregateUuid; }
+
+    public long getSyncVersion() { return syncVersion; }
+    public void setSyncVersion(long syncVersion) { this.syncVersion = syncVersion; }
+
+    public String getChecksum() { return checksum; }
+    public void setChecksum(String checksum) { this.checksum = checksum; }
+
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+
+    public boolean isSnapshotRequested() { return snapshotRequested; }
+    public void setSnapshotRequested(boolean snapshotRequested) { this.snapshotRequested = snapshotRequested; }
+
+    public OffsetDateTime getSyncedAt() { return syncedAt; }
+    public void setSyncedAt(OffsetDateTime syncedAt) { this.syncedAt = syncedAt; }
+}
@@ -1,13 +1,20 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.FeaturesEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.FeaturesRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository for Features.
@@ -26,6 +33,28 @@ public interface FeaturesJpaRepository extends JpaRepository<FeaturesEntity, Lon
     @Query("SELECT f FROM FeaturesEntity f WHERE f.archived = false AND f.softDeleted = false")
     List<FeaturesEntity> findAllActive();
 
+    @Query("SELECT f FROM FeaturesEntity f WHERE f.archived = false AND f.softDeleted = false AND f.id > :afterId ORDER BY f.id")
+    List<FeaturesEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT f FROM FeaturesEntity f WHERE f.archived = false AND f.softDeleted = false ORDER BY f.id")
+    Stream<FeaturesEntity> streamAllActive();
+
     // Deletion by UUID
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.FeaturesRow(
+            f.id, f.uuid, f.businessUuid, f.name, f.label, f.archived, f.softDeleted, f.version, f.lastSyncedAt)
+            FROM FeaturesEntity f WHERE f.uuid = :uuid""")
+    Optional<FeaturesRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.FeaturesRow(
+            f.id, f.uuid, f.businessUuid, f.name, f.label, f.archived, f.softDeleted, f.version, f.lastSyncedAt)
+            FROM FeaturesEntity f
+            WHERE f.archived = false AND f.softDeleted = false AND f.id > :afterId ORDER BY f.id""")
+    List<FeaturesRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
     void deleteByUuid(UUID uuid);
 }
@@ -0,0 +1,13 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.FxRateSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FxRateSnapshotJpaRepository extends JpaRepository<FxRateSnapshotEntity, Long> {
+
+    Optional<FxRateSnapshotEntity> findFirstByOrderByRevisionDesc();
+}
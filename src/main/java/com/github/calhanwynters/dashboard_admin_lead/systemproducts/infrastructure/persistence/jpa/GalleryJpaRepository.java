@@ -1,14 +1,21 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.GalleryEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.GalleryRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface GalleryJpaRepository extends JpaRepository<GalleryEntity, Long> {
@@ -25,8 +32,42 @@ public interface GalleryJpaRepository extends JpaRepository<GalleryEntity, Long>
     @Query("SELECT g FROM GalleryEntity g WHERE g.archived = false AND g.softDeleted = false")
     List<GalleryEntity> findAllActive();
 
+    @Query("SELECT g FROM GalleryEntity g WHERE g.archived = false AND g.softDeleted = false AND g.id > :afterId ORDER BY g.id")
+    List<GalleryEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT g FROM GalleryEntity g WHERE g.archived = false AND g.softDeleted = false ORDER BY g.id")
+    Stream<GalleryEntity> streamAllActive();
+
     @Query("SELECT g FROM GalleryEntity g WHERE g.status = 'PUBLIC' AND g.archived = false")
     List<GalleryEntity> findAllPublic();
 
+    @Query("SELECT g FROM GalleryEntity g WHERE g.status = 'PUBLIC' AND g.archived = false AND g.id > :afterId ORDER BY g.id")
+    List<GalleryEntity> findPublicPage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT g FROM GalleryEntity g WHERE g.status = 'PUBLIC' AND g.archived = false ORDER BY g.id")
+    Stream<GalleryEntity> streamAllPublic();
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.GalleryRow(
+            g.id, g.uuid, g.businessUuid, g.isPublic, g.archived, g.softDeleted, g.lastSyncedAt)
+            FROM GalleryEntity g WHERE g.uuid = :uuid""")
+    Optional<GalleryRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.GalleryRow(
+            g.id, g.uuid, g.businessUuid, g.isPublic, g.archived, g.softDeleted, g.lastSyncedAt)
+            FROM GalleryEntity g
+            WHERE g.archived = false AND g.softDeleted = false AND g.id > :afterId ORDER BY g.id""")
+    List<GalleryRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
+    // Batch read for the projected headers: rows of (gallery id, image uuid)
+    @Query("SELECT g.id, m FROM GalleryEntity g JOIN g.imageUuids m WHERE g.id IN :ids")
+    List<Object[]> findImageUuidsByIdIn(@Param("ids") Collection<Long> ids);
+
     void deleteByUuid(UUID uuid);
 }
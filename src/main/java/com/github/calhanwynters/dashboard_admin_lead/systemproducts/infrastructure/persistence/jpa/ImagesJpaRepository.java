@@ -1,13 +1,20 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ImagesEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ImagesRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ImagesJpaRepository extends JpaRepository<ImagesEntity, Long> {
@@ -22,5 +29,27 @@ public interface ImagesJpaRepository extends JpaRepository<ImagesEntity, Long> {
     @Query("SELECT i FROM ImagesEntity i WHERE i.archived = false AND i.softDeleted = false")
     List<ImagesEntity> findAllActive();
 
+    @Query("SELECT i FROM ImagesEntity i WHERE i.archived = false AND i.softDeleted = false AND i.id > :afterId ORDER BY i.id")
+    List<ImagesEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT i FROM ImagesEntity i WHERE i.archived = false AND i.softDeleted = false ORDER BY i.id")
+    Stream<ImagesEntity> streamAllActive();
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ImagesRow(
+            i.id, i.uuid, i.businessUuid, i.name, i.description, i.url, i.archived, i.softDeleted, i.lastSyncedAt)
+            FROM ImagesEntity i WHERE i.uuid = :uuid""")
+    Optional<ImagesRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ImagesRow(
+            i.id, i.uuid, i.businessUuid, i.name, i.description, i.url, i.archived, i.softDeleted, i.lastSyncedAt)
+            FROM ImagesEntity i
+            WHERE i.archived = false AND i.softDeleted = false AND i.id > :afterId ORDER BY i.id""")
+    List<ImagesRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
     void deleteByUuid(UUID uuid);
 }
@@ -2,14 +2,21 @@ package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastruct
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.PriceListRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PriceListJpaRepository extends JpaRepository<PriceListEntity, Long> {
@@ -22,11 +29,50 @@ public interface PriceListJpaRepository extends JpaRepository<PriceListEntity, L
     @Query("SELECT p FROM PriceListEntity p WHERE p.strategySlug = :strategy")
     List<PriceListEntity> findByStrategySlug(@Param("strategy") String strategy);
 
+    @Query("SELECT p FROM PriceListEntity p WHERE p.strategySlug = :strategy AND p.id > :afterId ORDER BY p.id")
+    List<PriceListEntity> findByStrategySlugPage(@Param("strategy") String strategy, @Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM PriceListEntity p WHERE p.strategySlug = :strategy ORDER BY p.id")
+    Stream<PriceListEntity> streamByStrategySlug(@Param("strategy") String strategy);
+
     @Query("SELECT p FROM PriceListEntity p WHERE p.archived = false AND p.softDeleted = false")
     List<PriceListEntity> findAllActive();
 
-    // Mapping version_count (from @Version) to the business version query
-    Optional<PriceListEntity> findByBusinessUuidAndVersion(UUID businessUuid, Integer version);
+    @Query("SELECT p FROM PriceListEntity p WHERE p.archived = false AND p.softDeleted = false AND p.id > :afterId ORDER BY p.id")
+    List<PriceListEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM PriceListEntity p WHERE p.archived = false AND p.softDeleted = false ORDER BY p.id")
+    Stream<PriceListEntity> streamAllActive();
+
+    // Scalar read of the current version; lets quote caches validate without loading the entries
+    @Query("SELECT p.version FROM PriceListEntity p WHERE p.uuid = :uuid")
+    Optional<Integer> findVersionByUuid(@Param("uuid") UUID uuid);
+
+    // Batch scalar read: rows of (uuid, version)
+    @Query("SELECT p.uuid, p.version FROM PriceListEntity p WHERE p.uuid IN :uuids")
+    List<Object[]> findVersionsByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.PriceListRow(
+            p.id, p.uuid, p.businessUuid, p.strategySlug, p.version, p.active, p.archived, p.softDeleted, p.lastSyncedAt)
+            FROM PriceListEntity p WHERE p.uuid = :uuid""")
+    Optional<PriceListRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.PriceListRow(
+            p.id, p.uuid, p.businessUuid, p.strategySlug, p.version, p.active, p.archived, p.softDeleted, p.lastSyncedAt)
+            FROM PriceListEntity p
+            WHERE p.archived = false AND p.softDeleted = false AND p.id > :afterId ORDER BY p.id""")
+    List<PriceListRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
+    // Batch read for the projected headers: rows of (price list id, PriceEntryEmbeddable)
+    @Query("SELECT p.id, e FROM PriceListEntity p JOIN p.prices e WHERE p.id IN :ids")
+    List<Object[]> findEntriesByIdIn(@Param("ids") Collection<Long> ids);
 
     void deleteByUuid(UUID uuid);
 }
@@ -0,0 +1,39 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListSnapshotEntryEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PriceListSnapshotEntryJpaRepository extends JpaRepository<PriceListSnapshotEntryEntity, Long> {
+
+    // Rows whose validity interval contains the version: the full price matrix as of that version
+    @Query("""
+            SELECT e FROM PriceListSnapshotEntryEntity e
+            WHERE e.businessUuid = :businessUuid
+              AND e.validFromVersion <= :version
+              AND (e.validToVersion IS NULL OR e.validToVersion > :version)
+            ORDER BY e.id
+            """)
+    List<PriceListSnapshotEntryEntity> findAsOf(@Param("businessUuid") UUID businessUuid,
+                                                @Param("version") Integer version);
+
+    // Newest row of one entry at or before the version; an index seek, however long its history
+    @Query("""
+            SELECT e FROM PriceListSnapshotEntryEntity e
+            WHERE e.businessUuid = :businessUuid AND e.itemId = :itemId AND e.currencyCode = :currencyCode
+              AND e.validFromVersion <= :version
+            ORDER BY e.validFromVersion DESC, e.id DESC
+            """)
+    List<PriceListSnapshotEntryEntity> findEntryAsOf(@Param("businessUuid") UUID businessUuid,
+                                                     @Param("itemId") UUID itemId,
+                                                     @Param("currencyCode") String currencyCode,
+                                                     @Param("version") Integer version,
+                                                     Limit limit);
+}
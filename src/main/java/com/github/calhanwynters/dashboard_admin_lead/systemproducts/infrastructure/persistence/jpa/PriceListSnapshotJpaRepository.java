@@ -0,0 +1,18 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PriceListSnapshotJpaRepository extends JpaRepository<PriceListSnapshotEntity, Long> {
+
+    // Latest snapshot at or before the requested version (served by the unique business_uuid, version key)
+    Optional<PriceListSnapshotEntity> findFirstByBusinessUuidAndVersionLessThanEqualOrderByVersionDesc(
+            UUID businessUuid, Integer version);
+
+    boolean existsByBusinessUuid(UUID businessUuid);
+}
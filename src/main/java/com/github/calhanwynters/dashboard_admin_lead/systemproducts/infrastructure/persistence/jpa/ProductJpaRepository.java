@@ -1,13 +1,21 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.ProductEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ProductRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
@@ -16,14 +24,56 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long>
 
     Optional<ProductEntity> findByBusinessUuid(UUID businessUuid);
 
+    // Batch lookup (bundle components)
+    List<ProductEntity> findAllByUuidIn(Collection<UUID> uuids);
+
     // Reference Lookup for dependency validation
     List<ProductEntity> findAllByGalleryUuid(UUID galleryUuid);
 
     // Status filtering for Admin Dashboards
     List<ProductEntity> findAllByStatus(String status);
 
+    List<ProductEntity> findByStatusAndIdGreaterThanOrderByIdAsc(String status, Long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM ProductEntity p WHERE p.status = :status ORDER BY p.id")
+    Stream<ProductEntity> streamByStatus(@Param("status") String status);
+
     @Query("SELECT p FROM ProductEntity p WHERE p.archived = false AND p.softDeleted = false")
     List<ProductEntity> findAllActive();
 
+    @Query("SELECT p FROM ProductEntity p WHERE p.archived = false AND p.softDeleted = false AND p.id > :afterId ORDER BY p.id")
+    List<ProductEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM ProductEntity p WHERE p.archived = false AND p.softDeleted = false ORDER BY p.id")
+    Stream<ProductEntity> streamAllActive();
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ProductRow(
+            p.id, p.uuid, p.businessUuid, p.status, p.region, p.version, p.thumbnailUrl,
+            p.galleryUuid, p.variantListUuid, p.typeListUuid, p.priceListUuid, p.archived, p.softDeleted, p.lastSyncedAt)
+            FROM ProductEntity p WHERE p.uuid = :uuid""")
+    Optional<ProductRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ProductRow(
+            p.id, p.uuid, p.businessUuid, p.status, p.region, p.version, p.thumbnailUrl,
+            p.galleryUuid, p.variantListUuid, p.typeListUuid, p.priceListUuid, p.archived, p.softDeleted, p.lastSyncedAt)
+            FROM ProductEntity p
+            WHERE p.archived = false AND p.softDeleted = false AND p.id > :afterId ORDER BY p.id""")
+    List<ProductRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.ProductRow(
+            p.id, p.uuid, p.businessUuid, p.status, p.region, p.version, p.thumbnailUrl,
+            p.galleryUuid, p.variantListUuid, p.typeListUuid, p.priceListUuid, p.archived, p.softDeleted, p.lastSyncedAt)
+            FROM ProductEntity p
+            WHERE p.status = :status AND p.id > :afterId ORDER BY p.id""")
+    List<ProductRow> findRowPageByStatus(@Param("status") String status, @Param("afterId") long afterId, Limit limit);
+
     void deleteByUuid(UUID uuid);
 }
@@ -0,0 +1,13 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
+
+/**
+ * Query hint values shared by the Stream-returning repository methods.
+ * With a fetch size, the PostgreSQL driver reads the result through a cursor in chunks instead of
+ * buffering all rows; read-only entities skip Hibernate's dirty-checking snapshots.
+ */
+public final class StreamingHints {
+
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingHints() {}
+}
@@ -1,14 +1,21 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypeListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TypeListJpaRepository extends JpaRepository<TypeListEntity, Long> {
@@ -23,5 +30,31 @@ public interface TypeListJpaRepository extends JpaRepository<TypeListEntity, Lon
     @Query("SELECT tl FROM TypeListEntity tl WHERE tl.archived = false AND tl.softDeleted = false")
     List<TypeListEntity> findAllActive();
 
+    @Query("SELECT tl FROM TypeListEntity tl WHERE tl.archived = false AND tl.softDeleted = false AND tl.id > :afterId ORDER BY tl.id")
+    List<TypeListEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT tl FROM TypeListEntity tl WHERE tl.archived = false AND tl.softDeleted = false ORDER BY tl.id")
+    Stream<TypeListEntity> streamAllActive();
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow(
+            tl.id, tl.uuid, tl.businessUuid, tl.archived, tl.softDeleted, tl.lastSyncedAt)
+            FROM TypeListEntity tl WHERE tl.uuid = :uuid""")
+    Optional<MembershipListRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow(
+            tl.id, tl.uuid, tl.businessUuid, tl.archived, tl.softDeleted, tl.lastSyncedAt)
+            FROM TypeListEntity tl
+            WHERE tl.archived = false AND tl.softDeleted = false AND tl.id > :afterId ORDER BY tl.id""")
+    List<MembershipListRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
+    // Batch read for the projected headers: rows of (type list id, type uuid)
+    @Query("SELECT tl.id, m FROM TypeListEntity tl JOIN tl.typeUuIds m WHERE tl.id IN :ids")
+    List<Object[]> findTypeUuidsByIdIn(@Param("ids") Collection<Long> ids);
+
     void deleteByUuid(UUID uuid);
 }
@@ -1,13 +1,20 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.TypesEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.TypesRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TypesJpaRepository extends JpaRepository<TypesEntity, Long> {
@@ -22,5 +29,29 @@ public interface TypesJpaRepository extends JpaRepository<TypesEntity, Long> {
     @Query("SELECT t FROM TypesEntity t WHERE t.archived = false AND t.softDeleted = false")
     List<TypesEntity> findAllActive();
 
+    @Query("SELECT t FROM TypesEntity t WHERE t.archived = false AND t.softDeleted = false AND t.id > :afterId ORDER BY t.id")
+    List<TypesEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT t FROM TypesEntity t WHERE t.archived = false AND t.softDeleted = false ORDER BY t.id")
+    Stream<TypesEntity> streamAllActive();
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.TypesRow(
+            t.id, t.uuid, t.businessUuid, t.name, t.region, t.weightAmount, t.weightUnit,
+            t.length, t.width, t.height, t.dimensionUnit, t.careInstructions, t.archived, t.softDeleted, t.lastSyncedAt)
+            FROM TypesEntity t WHERE t.uuid = :uuid""")
+    Optional<TypesRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.TypesRow(
+            t.id, t.uuid, t.businessUuid, t.name, t.region, t.weightAmount, t.weightUnit,
+            t.length, t.width, t.height, t.dimensionUnit, t.careInstructions, t.archived, t.softDeleted, t.lastSyncedAt)
+            FROM TypesEntity t
+            WHERE t.archived = false AND t.softDeleted = false AND t.id > :afterId ORDER BY t.id""")
+    List<TypesRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
     void deleteByUuid(UUID uuid);
 }
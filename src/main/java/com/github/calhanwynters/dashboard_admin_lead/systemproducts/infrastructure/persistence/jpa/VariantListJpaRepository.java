@@ -1,14 +1,21 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface VariantListJpaRepository extends JpaRepository<VariantListEntity, Long> {
@@ -23,5 +30,31 @@ public interface VariantListJpaRepository extends JpaRepository<VariantListEntit
     @Query("SELECT v FROM VariantListEntity v WHERE v.archived = false AND v.softDeleted = false")
     List<VariantListEntity> findAllActive();
 
+    @Query("SELECT v FROM VariantListEntity v WHERE v.archived = false AND v.softDeleted = false AND v.id > :afterId ORDER BY v.id")
+    List<VariantListEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT v FROM VariantListEntity v WHERE v.archived = false AND v.softDeleted = false ORDER BY v.id")
+    Stream<VariantListEntity> streamAllActive();
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow(
+            v.id, v.uuid, v.businessUuid, v.archived, v.softDeleted, v.lastSyncedAt)
+            FROM VariantListEntity v WHERE v.uuid = :uuid""")
+    Optional<MembershipListRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.MembershipListRow(
+            v.id, v.uuid, v.businessUuid, v.archived, v.softDeleted, v.lastSyncedAt)
+            FROM VariantListEntity v
+            WHERE v.archived = false AND v.softDeleted = false AND v.id > :afterId ORDER BY v.id""")
+    List<MembershipListRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
+    // Batch read for the projected headers: rows of (variant list id, variant uuid)
+    @Query("SELECT v.id, m FROM VariantListEntity v JOIN v.variantUuids m WHERE v.id IN :ids")
+    List<Object[]> findVariantUuidsByIdIn(@Param("ids") Collection<Long> ids);
+
     void deleteByUuid(UUID uuid);
 }
@@ -1,14 +1,21 @@
 package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa;
 
 import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.VariantsEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.VariantsRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface VariantsJpaRepository extends JpaRepository<VariantsEntity, Long> {
@@ -24,5 +31,31 @@ public interface VariantsJpaRepository extends JpaRepository<VariantsEntity, Lon
     @Query("SELECT v FROM VariantsEntity v WHERE v.archived = false AND v.softDeleted = false")
     List<VariantsEntity> findAllActive();
 
+    @Query("SELECT v FROM VariantsEntity v WHERE v.archived = false AND v.softDeleted = false AND v.id > :afterId ORDER BY v.id")
+    List<VariantsEntity> findActivePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT v FROM VariantsEntity v WHERE v.archived = false AND v.softDeleted = false ORDER BY v.id")
+    Stream<VariantsEntity> streamAllActive();
+
+    // Read model: constructor-expression projections, no entity or aggregate is materialised
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.VariantsRow(
+            v.id, v.uuid, v.businessUuid, v.name, v.region, v.archived, v.softDeleted, v.lastSyncedAt)
+            FROM VariantsEntity v WHERE v.uuid = :uuid""")
+    Optional<VariantsRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    @Query("""
+            SELECT new com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.VariantsRow(
+            v.id, v.uuid, v.businessUuid, v.name, v.region, v.archived, v.softDeleted, v.lastSyncedAt)
+            FROM VariantsEntity v
+            WHERE v.archived = false AND v.softDeleted = false AND v.id > :afterId ORDER BY v.id""")
+    List<VariantsRow> findActiveRowPage(@Param("afterId") long afterId, Limit limit);
+
+    // Batch read for the projected headers: rows of (variant id, feature uuid)
+    @Query("SELECT v.id, m FROM VariantsEntity v JOIN v.assignedFeatureUuids m WHERE v.id IN :ids")
+    List<Object[]> findFeatureUuidsByIdIn(@Param("ids") Collection<Long> ids);
+
     void deleteByUuid(UUID uuid);
 }
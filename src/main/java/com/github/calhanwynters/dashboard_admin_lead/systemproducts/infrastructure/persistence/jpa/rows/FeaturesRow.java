@@ -0,0 +1,19 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Flat feature columns for the dashboard read model (JPQL constructor expression).
+ */
+public record FeaturesRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        String name,
+        String label,
+        boolean archived,
+        boolean softDeleted,
+        Long version,
+        OffsetDateTime lastSyncedAt
+) {}
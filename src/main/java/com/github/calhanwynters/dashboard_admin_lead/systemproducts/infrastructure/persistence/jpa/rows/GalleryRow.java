@@ -0,0 +1,17 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Gallery header columns for the dashboard read model; the image uuids are read in a second batch query.
+ */
+public record GalleryRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        boolean isPublic,
+        boolean archived,
+        boolean softDeleted,
+        OffsetDateTime lastSyncedAt
+) {}
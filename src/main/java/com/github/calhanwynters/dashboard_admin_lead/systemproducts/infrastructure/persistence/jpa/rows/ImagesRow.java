@@ -0,0 +1,19 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Flat image columns for the dashboard read model (JPQL constructor expression).
+ */
+public record ImagesRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        String name,
+        String description,
+        String url,
+        boolean archived,
+        boolean softDeleted,
+        OffsetDateTime lastSyncedAt
+) {}
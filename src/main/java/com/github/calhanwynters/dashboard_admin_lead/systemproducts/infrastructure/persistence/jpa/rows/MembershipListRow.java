@@ -0,0 +1,16 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Header columns shared by TypeList and VariantList for the dashboard read model; the member uuids are read in a second batch query.
+ */
+public record MembershipListRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        boolean archived,
+        boolean softDeleted,
+        OffsetDateTime lastSyncedAt
+) {}
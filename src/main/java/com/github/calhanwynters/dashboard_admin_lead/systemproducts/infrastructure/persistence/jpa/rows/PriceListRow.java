@@ -0,0 +1,19 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Price list header columns for the dashboard read model; the entries are read in a second batch query.
+ */
+public record PriceListRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        String strategySlug,
+        Integer version,
+        boolean active,
+        boolean archived,
+        boolean softDeleted,
+        OffsetDateTime lastSyncedAt
+) {}
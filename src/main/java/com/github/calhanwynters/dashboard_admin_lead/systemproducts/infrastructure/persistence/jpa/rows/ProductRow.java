@@ -0,0 +1,24 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Flat product columns for the dashboard read model (JPQL constructor expression).
+ */
+public record ProductRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        String status,
+        String region,
+        Integer version,
+        String thumbnailUrl,
+        UUID galleryUuid,
+        UUID variantListUuid,
+        UUID typeListUuid,
+        UUID priceListUuid,
+        boolean archived,
+        boolean softDeleted,
+        OffsetDateTime lastSyncedAt
+) {}
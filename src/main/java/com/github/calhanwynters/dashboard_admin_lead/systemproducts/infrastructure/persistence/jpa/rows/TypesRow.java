@@ -0,0 +1,26 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Flat type columns, physical specs included, for the dashboard read model (JPQL constructor expression).
+ */
+public record TypesRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        String name,
+        String region,
+        BigDecimal weightAmount,
+        String weightUnit,
+        BigDecimal length,
+        BigDecimal width,
+        BigDecimal height,
+        String dimensionUnit,
+        String careInstructions,
+        boolean archived,
+        boolean softDeleted,
+        OffsetDateTime lastSyncedAt
+) {}
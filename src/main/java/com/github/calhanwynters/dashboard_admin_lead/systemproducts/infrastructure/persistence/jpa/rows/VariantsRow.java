@@ -0,0 +1,18 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Variant header columns for the dashboard read model; the assigned feature uuids are read in a second batch query.
+ */
+public record VariantsRow(
+        Long id,
+        UUID uuid,
+        UUID businessUuid,
+        String name,
+        String region,
+        boolean archived,
+        boolean softDeleted,
+        OffsetDateTime lastSyncedAt
+) {}
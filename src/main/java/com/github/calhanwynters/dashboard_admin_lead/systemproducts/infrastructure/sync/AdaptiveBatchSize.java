@@ -0,0 +1,37 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync;
+
+import java.time.Duration;
+
+/**
+ * Batch size steered by additive increase, multiplicative decrease against a target batch latency:
+ * a full batch that finished under target grows the size by min, a batch over target halves it.
+ * Partial batches say nothing about capacity and leave the size alone. Not thread-safe; each target
+ * owns one.
+ */
+public class AdaptiveBatchSize {
+
+    private final int min;
+    private final int max;
+    private final long targetNanos;
+    private int current;
+
+    public AdaptiveBatchSize(int min, int max, Duration targetLatency) {
+        if (min < 1 || max < min) throw new IllegalArgumentException("Need 1 <= min <= max: " + min + ".." + max);
+        this.min = min;
+        this.max = max;
+        this.targetNanos = targetLatency.toNanos();
+        this.current = min;
+    }
+
+    public int current() {
+        return current;
+    }
+
+    public void record(int rows, long elapsedNanos) {
+        if (elapsedNanos > targetNanos) {
+            current = Math.max(min, current / 2);
+        } else if (rows >= current) {
+            current = Math.min(max, current + min);
+        }
+    }
+}
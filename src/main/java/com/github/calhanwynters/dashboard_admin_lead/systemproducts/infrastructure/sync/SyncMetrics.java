@@ -0,0 +1,62 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-aggregate-type counters of the SyncScheduler. Throughput is an exponentially weighted average of
+ * rows per second over batches; lag is how old the oldest change seen in the latest drain was when it was
+ * picked up, zero once a drain finds nothing pending.
+ */
+public class SyncMetrics {
+
+    private static final double SMOOTHING = 0.2;
+
+    public record Snapshot(long synced, long batches, Duration lastBatch, double rowsPerSecond, Duration lag) {}
+
+    private static final class Counters {
+        long synced;
+        long batches;
+        long lastBatchNanos;
+        double rowsPerSecond;
+        Duration lag = Duration.ZERO;
+    }
+
+    private final Map<String, Counters> byType = new ConcurrentHashMap<>();
+
+    public void recordBatch(String aggregateType, int rows, long elapsedNanos) {
+        Counters counters = byType.computeIfAbsent(aggregateType, t -> new Counters());
+        synchronized (counters) {
+            counters.synced += rows;
+            counters.batches++;
+            counters.lastBatchNanos = elapsedNanos;
+            double rate = rows * 1_000_000_000.0 / Math.max(1, elapsedNanos);
+            counters.rowsPerSecond = counters.batches == 1 ? rate
+                    : SMOOTHING * rate + (1 - SMOOTHING) * counters.rowsPerSecond;
+        }
+    }
+
+    /**
+     * Lag of one drain: null oldest means nothing was pending.
+     */
+    public void recordDrain(String aggregateType, OffsetDateTime oldest, OffsetDateTime now) {
+        Counters counters = byType.computeIfAbsent(aggregateType, t -> new Counters());
+        synchronized (counters) {
+            counters.lag = oldest == null || oldest.isAfter(now) ? Duration.ZERO : Duration.between(oldest, now);
+        }
+    }
+
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> snapshot = new TreeMap<>();
+        byType.forEach((type, counters) -> {
+            synchronized (counters) {
+                snapshot.put(type, new Snapshot(counters.synced, counters.batches,
+                        Duration.ofNanos(counters.lastBatchNanos), counters.rowsPerSecond, counters.lag));
+            }
+        });
+        return snapshot;
+    }
+}
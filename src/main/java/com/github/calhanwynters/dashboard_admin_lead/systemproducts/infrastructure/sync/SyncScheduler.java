@@ -0,0 +1,146 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync.SyncTarget.Pending;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Syncs aggregates whose last change has not been synced yet.
+ *
+ * <p>Every interval each target is drained on its own virtual thread. A drain walks the pending rows in
+ * id order, one keyset batch per transaction, so every row is visited at most once per round and a
+ * failed batch only rolls back itself. Batch sizes adapt per target (see AdaptiveBatchSize) and are kept
+ * across rounds.
+ */
+public class SyncScheduler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncScheduler.class);
+
+    private final List<SyncTarget> targets;
+    private final TransactionOperations transactions;
+    private final SyncMetrics metrics;
+    private final Duration interval;
+    private final Map<String, AdaptiveBatchSize> batchSizes = new HashMap<>();
+    private final Clock clock;
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread worker;
+
+    public SyncScheduler(List<SyncTarget> targets, TransactionOperations transactions, SyncMetrics metrics,
+                         Duration interval, int minBatch, int maxBatch, Duration targetBatchLatency) {
+        this(targets, transactions, metrics, interval, minBatch, maxBatch, targetBatchLatency, Clock.systemUTC());
+    }
+
+    SyncScheduler(List<SyncTarget> targets, TransactionOperations transactions, SyncMetrics metrics,
+                  Duration interval, int minBatch, int maxBatch, Duration targetBatchLatency, Clock clock) {
+        this.targets = List.copyOf(targets);
+        this.transactions = transactions;
+        this.metrics = metrics;
+        this.interval = interval;
+        this.clock = clock;
+        for (SyncTarget target : this.targets) {
+            batchSizes.put(target.aggregateType(), new AdaptiveBatchSize(minBatch, maxBatch, targetBatchLatency));
+        }
+    }
+
+    /**
+     * One round over every target, in parallel; returns the rows synced per aggregate type.
+     */
+    public Map<String, Integer> syncOnce() {
+        Map<String, Future<Integer>> drains = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (SyncTarget target : targets) drains.put(target.aggregateType(), executor.submit(() -> drain(target)));
+        }
+        Map<String, Integer> synced = new HashMap<>();
+        drains.forEach((type, drain) -> {
+            try {
+                synced.put(type, drain.resultNow());
+            } catch (IllegalStateException e) {
+                log.warn("Sync of {} failed", type, drain.exceptionNow());
+                synced.put(type, 0);
+            }
+        });
+        return synced;
+    }
+
+    int drain(SyncTarget target) {
+        AdaptiveBatchSize batchSize = batchSizes.get(target.aggregateType());
+        OffsetDateTime startedAt = OffsetDateTime.now(clock);
+        OffsetDateTime oldest = null;
+        long afterId = 0;
+        int total = 0;
+        while (!stopped) {
+            int limit = batchSize.current();
+            long after = afterId;
+            long start = System.nanoTime();
+            List<Pending> batch = transactions.execute(status -> {
+                List<Pending> pending = target.findPending(after, limit);
+                target.sync(pending);
+                return pending;
+            });
+            long elapsed = System.nanoTime() - start;
+            if (batch == null || batch.isEmpty()) break;
+
+            for (Pending pending : batch) {
+                if (oldest == null || pending.lastModifiedAt().isBefore(oldest)) oldest = pending.lastModifiedAt();
+            }
+            afterId = batch.getLast().id();
+            total += batch.size();
+            batchSize.record(batch.size(), elapsed);
+            metrics.recordBatch(target.aggregateType(), batch.size(), elapsed);
+            if (batch.size() < limit) break;
+        }
+        metrics.recordDrain(target.aggregateType(), oldest, startedAt);
+        return total;
+    }
+
+    public SyncMetrics metrics() {
+        return metrics;
+    }
+
+    // --- LIFECYCLE ---
+
+    @Override
+    public void start() {
+        running = true;
+        stopped = false;
+        worker = Thread.ofPlatform().daemon().name("sync-scheduler").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped = true; // Drains in flight finish their current batch
+        if (worker != null) worker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                syncOnce();
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
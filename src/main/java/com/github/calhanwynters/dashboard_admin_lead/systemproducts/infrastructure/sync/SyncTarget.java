@@ -0,0 +1,28 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * One aggregate table as seen by the SyncScheduler. Both calls run inside the scheduler's batch
+ * transaction, so rows returned by findPending stay claimed until sync has committed them.
+ */
+public interface SyncTarget {
+
+    /**
+     * A row whose last change has not been synced yet, with the modification time it was claimed at.
+     */
+    record Pending(long id, OffsetDateTime lastModifiedAt) {}
+
+    String aggregateType();
+
+    /**
+     * Up to limit pending rows with an id above afterId, in id order.
+     */
+    List<Pending> findPending(long afterId, int limit);
+
+    /**
+     * Emits the sync events of the given rows and marks them synced; returns the number of rows marked.
+     */
+    int sync(List<Pending> pending);
+}
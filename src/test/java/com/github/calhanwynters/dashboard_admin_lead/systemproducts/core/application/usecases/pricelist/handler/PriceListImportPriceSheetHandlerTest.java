@@ -0,0 +1,151 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListImportPriceSheetCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceSheetImportDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceSheetRow;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFractScaledPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PriceListImportPriceSheetHandlerTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+
+    private final PriceListUuId uuId = PriceListUuId.generate();
+    private final PriceListRepository repository = mock(PriceListRepository.class);
+    private final PriceSheetParser parser = mock(PriceSheetParser.class);
+    private final List<PriceSheetRow> rows = new ArrayList<>();
+    private final List<Long> savedAt = new ArrayList<>();
+    private PriceListAggregate aggregate;
+
+    @BeforeEach
+    public void setUp() {
+        aggregate = new PriceListAggregate(PriceListId.of(1L), uuId,
+                new PriceListBusinessUuId(UuId.generate()), PricingStrategyType.FIXED,
+                new PriceListVersion(new Version(1)), true, new HashMap<>(), AuditMetadata.create(ADMIN),
+                new LifecycleState(false, false), 1L, 1, null);
+        when(repository.findByUuId(uuId)).thenReturn(Optional.of(aggregate));
+        // As the adapter does: the caller's instance comes back with the flushed lock version
+        when(repository.save(any())).thenAnswer(call -> {
+            PriceListAggregate saved = call.getArgument(0);
+            assertSame(aggregate, saved);
+            savedAt.add(saved.getOptLockVer());
+            saved.markPersisted(saved.getId(), saved.getOptLockVer() + 1);
+            return saved;
+        });
+        when(parser.parse(any(), any(), any())).thenAnswer(call -> rows.stream());
+    }
+
+    private void fixed(int count) {
+        for (int i = 0; i < count; i++) {
+            rows.add(new PriceSheetRow(rows.size() + 1, UuId.generate(), EUR,
+                    PriceFixedPurchase.of(BigDecimal.valueOf(100 + rows.size(), 2), EUR)));
+        }
+    }
+
+    private void fractScaled() {
+        rows.add(new PriceSheetRow(rows.size() + 1, UuId.generate(), EUR,
+                PriceFractScaledPurchase.of(BigDecimal.ONE, BigDecimal.TEN, EUR)));
+    }
+
+    private PriceSheetImportDTO importSheet(int chunkSize) {
+        return new PriceListImportPriceSheetHandler(repository, parser, chunkSize).handle(
+                new PriceListImportPriceSheetCommand(uuId, new StringReader(""), PriceSheetParser.Format.CSV, ADMIN));
+    }
+
+    @Nested
+    class Chunking {
+
+        @Test
+        public void testLoadsOnceAndSavesTheSameInstancePerChunk() {
+            fixed(5);
+
+            PriceSheetImportDTO result = importSheet(2);
+
+            verify(repository, times(1)).findByUuId(any());
+            verify(repository, times(3)).save(any());
+            assertEquals(3, result.chunksCommitted());
+            assertEquals(5, result.rowsApplied());
+        }
+
+        @Test
+        public void testEachSaveStartsFromThePreviousLockVersion() {
+            fixed(5);
+
+            PriceSheetImportDTO result = importSheet(2);
+
+            assertEquals(List.of(1L, 2L, 3L), savedAt);
+            assertEquals(4, result.priceListVersion());
+        }
+
+        @Test
+        public void testEmptySheetSavesNothing() {
+            PriceSheetImportDTO result = importSheet(2);
+
+            verify(repository, never()).save(any());
+            assertEquals(0, result.chunksCommitted());
+            assertEquals(1, result.priceListVersion());
+        }
+    }
+
+    @Nested
+    class Rejections {
+
+        @Test
+        public void testRowsOutsideTheStrategyAreRejected() {
+            fixed(2);
+            fractScaled();
+            fixed(1);
+
+            PriceSheetImportDTO result = importSheet(10);
+
+            assertEquals(3, result.rowsApplied());
+            assertEquals(1, result.rejectedRows());
+            assertEquals(1, result.chunksCommitted());
+        }
+
+        @Test
+        public void testRejectedRowsDoNotFillAChunk() {
+            fixed(2);
+            fractScaled();
+            fractScaled();
+            fixed(2);
+
+            PriceSheetImportDTO result = importSheet(2);
+
+            assertEquals(2, result.chunksCommitted());
+            assertEquals(2, result.rejectedRows());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.handler;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.command.PriceListQuoteCommand;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListQuoteDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceQuoteRequest;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ConvertedPricingCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.FxRateRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceQuoteCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.DerivedCurrencyPricingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PriceListQuoteHandlerTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+
+    private static final class MapQuoteCache implements PriceQuoteCache {
+        final Map<QuoteKey, Money> entries = new HashMap<>();
+
+        @Override
+        public Optional<Money> get(QuoteKey key) {
+            return Optional.ofNullable(entries.get(key));
+        }
+
+        @Override
+        public void put(QuoteKey key, Money quote) {
+            entries.put(key, quote);
+        }
+
+        @Override
+        public QuoteCacheStats stats() {
+            return new QuoteCacheStats(0, 0, 0, entries.size());
+        }
+    }
+
+    private final PriceListUuId uuId = PriceListUuId.generate();
+    private final UuId itemA = UuId.generate();
+    private final UuId itemB = UuId.generate();
+    private final PriceListRepository repository = mock(PriceListRepository.class);
+    private final MapQuoteCache cache = new MapQuoteCache();
+    private PriceListQuoteHandler handler;
+
+    /**
+     * A price list at the given version with fixed EUR prices for items A and B, whatever the quantity.
+     */
+    private PriceListAggregate priceList(int version, String priceA, String priceB) {
+        Map<UuId, Map<Currency, PurchasePricing>> prices = new HashMap<>();
+        prices.put(itemA, new HashMap<>(Map.of(EUR, PriceFixedPurchase.of(new BigDecimal(priceA), EUR))));
+        prices.put(itemB, new HashMap<>(Map.of(EUR, PriceFixedPurchase.of(new BigDecimal(priceB), EUR))));
+        return new PriceListAggregate(PriceListId.of(1L), uuId, new PriceListBusinessUuId(UuId.generate()),
+                PricingStrategyType.FIXED, new PriceListVersion(new Version(version)), true, prices,
+                AuditMetadata.create(ADMIN), new LifecycleState(false, false), (long) version, 1, null);
+    }
+
+    private void stored(PriceListAggregate versionRead, PriceListAggregate loaded) {
+        when(repository.findVersionByUuId(uuId)).thenReturn(Optional.of(versionRead.getPriceListVersion()));
+        when(repository.findByUuId(uuId)).thenReturn(Optional.of(loaded));
+    }
+
+    private static PriceQuoteRequest line(UuId item, int quantity) {
+        return new PriceQuoteRequest(item, EUR, BigDecimal.valueOf(quantity));
+    }
+
+    private PriceListQuoteDTO quote(List<PriceQuoteRequest> lines) {
+        return handler.handle(new PriceListQuoteCommand(uuId, lines));
+    }
+
+    private static void assertAmounts(PriceListQuoteDTO result, String... amounts) {
+        assertEquals(amounts.length, result.lines().size());
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals(0, new BigDecimal(amounts[i]).compareTo(result.lines().get(i).amount()), "Line " + i);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        FxRateRepository fxRates = mock(FxRateRepository.class);
+        when(fxRates.findLatest()).thenReturn(Optional.empty());
+        handler = new PriceListQuoteHandler(repository, cache, fxRates,
+                new DerivedCurrencyPricingService(mock(ConvertedPricingCache.class)));
+    }
+
+    @Nested
+    class Caching {
+
+        @Test
+        public void testColdRequestLoadsOnceAndQuotesEveryLine() {
+            PriceListAggregate priceList = priceList(3, "2.50", "10.00");
+            stored(priceList, priceList);
+
+            PriceListQuoteDTO result = quote(List.of(line(itemA, 4), line(itemB, 1), line(itemA, 2)));
+
+            assertAmounts(result, "2.50", "10.00", "2.50");
+            assertEquals(3, result.priceListVersion());
+            assertTrue(result.lines().stream().noneMatch(PriceListQuoteDTO.QuoteLineDTO::cached));
+            verify(repository, times(1)).findByUuId(uuId);
+        }
+
+        @Test
+        public void testWarmRequestIsServedFromTheCacheWithoutALoad() {
+            PriceListAggregate priceList = priceList(3, "2.50", "10.00");
+            stored(priceList, priceList);
+            List<PriceQuoteRequest> lines = List.of(line(itemA, 4), line(itemB, 1));
+            quote(lines);
+
+            PriceListQuoteDTO result = quote(lines);
+
+            assertAmounts(result, "2.50", "10.00");
+            assertTrue(result.lines().stream().allMatch(PriceListQuoteDTO.QuoteLineDTO::cached));
+            verify(repository, times(1)).findByUuId(uuId);
+        }
+
+        @Test
+        public void testFullyCachedRequestNeverLoads() {
+            PriceListAggregate priceList = priceList(3, "2.50", "10.00");
+            when(repository.findVersionByUuId(uuId)).thenReturn(Optional.of(priceList.getPriceListVersion()));
+            List<PriceQuoteRequest> lines = List.of(line(itemA, 4), line(itemB, 1));
+            Money[] quotes = priceList.quoteAll(lines);
+            for (int i = 0; i < lines.size(); i++) {
+                cache.put(new PriceQuoteCache.QuoteKey(uuId, priceList.getPriceListVersion(), 0L,
+                        lines.get(i).targetId(), EUR, lines.get(i).quantity()), quotes[i]);
+            }
+
+            PriceListQuoteDTO result = quote(lines);
+
+            assertAmounts(result, "2.50", "10.00");
+            verify(repository, never()).findByUuId(any());
+        }
+    }
+
+    /**
+     * A writer commits between the version read and the load: every line must be quoted from the loaded
+     * version, none served from the cache entries of the older one.
+     */
+    @Nested
+    class ConcurrentWrite {
+
+        @Test
+        public void testVersionChangeBetweenReadsRequotesEveryLine() {
+            PriceListAggregate before = priceList(3, "2.50", "10.00");
+            PriceListAggregate after = priceList(4, "3.00", "12.00");
+            stored(before, before);
+            quote(List.of(line(itemA, 4))); // Warms the older version for item A
+
+            when(repository.findByUuId(uuId)).thenReturn(Optional.of(after));
+            PriceListQuoteDTO result = quote(List.of(line(itemA, 4), line(itemB, 1)));
+
+            assertAmounts(result, "3.00", "12.00");
+            assertEquals(4, result.priceListVersion());
+            assertTrue(result.lines().stream().noneMatch(PriceListQuoteDTO.QuoteLineDTO::cached));
+        }
+
+        @Test
+        public void testRequotedLinesAreCachedUnderTheLoadedVersion() {
+            PriceListAggregate before = priceList(3, "2.50", "10.00");
+            PriceListAggregate after = priceList(4, "3.00", "12.00");
+            stored(before, after);
+
+            quote(List.of(line(itemA, 4), line(itemB, 1)));
+
+            assertEquals(2, cache.entries.size());
+            assertTrue(cache.entries.keySet().stream()
+                    .allMatch(key -> key.version().equals(after.getPriceListVersion())));
+        }
+
+        @Test
+        public void testUnpricedItemQuotesNothingAndKeepsTheOtherLines() {
+            PriceListAggregate before = priceList(3, "2.50", "10.00");
+            PriceListAggregate after = priceList(4, "3.00", "12.00");
+            stored(before, after);
+
+            PriceListQuoteDTO result = quote(List.of(line(itemB, 2), line(UuId.generate(), 1)));
+
+            assertEquals(0, new BigDecimal("12.00").compareTo(result.lines().getFirst().amount()));
+            assertNull(result.lines().getLast().amount());
+        }
+    }
+}
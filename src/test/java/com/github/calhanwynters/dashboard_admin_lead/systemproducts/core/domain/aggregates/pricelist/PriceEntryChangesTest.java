@@ -0,0 +1,154 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceEntryChanges.EntryKey;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property test: replaying the tracked entry changes onto the loaded rows must yield exactly the
+ * aggregate's final prices, which is what the per-entry writer relies on.
+ */
+public class PriceEntryChangesTest {
+
+    private static final Currency[] CURRENCIES = {
+            Currency.getInstance("EUR"), Currency.getInstance("USD"), Currency.getInstance("GBP")
+    };
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+
+    private static PurchasePricing price(Random rnd, Currency currency) {
+        return PriceFixedPurchase.of(BigDecimal.valueOf(1 + rnd.nextInt(100_000), 2), currency);
+    }
+
+    private static Map<EntryKey, PurchasePricing> rows(Map<UuId, Map<Currency, PurchasePricing>> prices) {
+        Map<EntryKey, PurchasePricing> rows = new HashMap<>();
+        prices.forEach((item, row) -> row.forEach((currency, pricing) -> rows.put(new EntryKey(item, currency), pricing)));
+        return rows;
+    }
+
+    private static PriceListAggregate loaded(Map<UuId, Map<Currency, PurchasePricing>> prices) {
+        return new PriceListAggregate(PriceListId.of(1L), PriceListUuId.generate(),
+                new PriceListBusinessUuId(UuId.generate()), PricingStrategyType.FIXED,
+                new PriceListVersion(new Version(1)), true, prices, AuditMetadata.create(ADMIN),
+                new LifecycleState(false, false), 1L, 1, null);
+    }
+
+    @Test
+    public void testReplayedChangesReproduceFinalState() {
+        Random rnd = new Random(21L);
+        for (int round = 0; round < 50; round++) {
+            List<UuId> ids = new ArrayList<>();
+            for (int i = 0; i < 40; i++) ids.add(UuId.generate());
+
+            Map<UuId, Map<Currency, PurchasePricing>> initial = new HashMap<>();
+            for (UuId id : ids) {
+                if (rnd.nextBoolean()) initial.computeIfAbsent(id, k -> new HashMap<>()).put(CURRENCIES[0], price(rnd, CURRENCIES[0]));
+            }
+            PriceListAggregate aggregate = loaded(initial);
+            assertTrue(aggregate.getPendingPriceChanges().isEmpty());
+
+            for (int step = 0; step < 60; step++) {
+                UuId item = ids.get(rnd.nextInt(ids.size()));
+                Currency currency = CURRENCIES[rnd.nextInt(CURRENCIES.length)];
+                switch (rnd.nextInt(10)) {
+                    case 0, 1, 2, 3 -> aggregate.addOrUpdatePrice(item, currency, price(rnd, currency), ADMIN);
+                    case 4, 5, 6 -> aggregate.removePrice(item, currency, ADMIN);
+                    case 7, 8 -> aggregate.importPriceSheetChunk(step, List.of(
+                            new PriceSheetRow(1, item, currency, price(rnd, currency)),
+                            new PriceSheetRow(2, ids.get(rnd.nextInt(ids.size())), currency, price(rnd, currency))), ADMIN);
+                    default -> {
+                        if (rnd.nextInt(4) == 0) aggregate.applyBulkAdjustment("inflation", 5.0, ADMIN);
+                        else aggregate.applyBulkAdjustment("promotion", -5.0, PriceAdjustmentScope.ofCurrencies(currency),
+                                PriceAdjustmentProgress.NONE, ADMIN);
+                    }
+                }
+            }
+
+            // Replay the delta onto the loaded rows, as the adapter does against price_list_entries
+            Map<EntryKey, PurchasePricing> expected = rows(aggregate.getMultiCurrencyPrices());
+            Map<EntryKey, PurchasePricing> replayed = rows(initial);
+            PriceEntryChanges changes = aggregate.getPendingPriceChanges();
+            changes.removals().forEach(replayed::remove);
+            if (changes.isAllUpserted()) {
+                replayed.putAll(expected);
+            } else {
+                changes.upserts().forEach(key -> replayed.put(key, expected.get(key)));
+            }
+
+            assertEquals(expected, replayed);
+            assertTrue(changes.upserts().stream().noneMatch(changes.removals()::contains));
+
+            aggregate.markPricesPersisted();
+            assertTrue(aggregate.getPendingPriceChanges().isEmpty());
+        }
+    }
+
+    @Test
+    public void testSinglePriceChangeTouchesOneEntry() {
+        Random rnd = new Random(22L);
+        Map<UuId, Map<Currency, PurchasePricing>> initial = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            initial.put(UuId.generate(), Map.of(CURRENCIES[0], price(rnd, CURRENCIES[0])));
+        }
+        PriceListAggregate aggregate = loaded(initial);
+        UuId item = initial.keySet().iterator().next();
+
+        aggregate.addOrUpdatePrice(item, CURRENCIES[0], price(rnd, CURRENCIES[0]), ADMIN);
+
+        PriceEntryChanges changes = aggregate.getPendingPriceChanges();
+        assertEquals(Set.of(new EntryKey(item, CURRENCIES[0])), changes.upserts());
+        assertTrue(changes.removals().isEmpty());
+    }
+
+    @Test
+    public void testScopedBulkAdjustmentTouchesOnlyTheAdjustedEntries() {
+        Random rnd = new Random(23L);
+        Map<UuId, Map<Currency, PurchasePricing>> initial = new HashMap<>();
+        Set<EntryKey> inScope = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            UuId item = UuId.generate();
+            Map<Currency, PurchasePricing> row = new HashMap<>();
+            for (Currency currency : CURRENCIES) {
+                if (rnd.nextInt(3) == 0) row.put(currency, price(rnd, currency));
+            }
+            if (row.isEmpty()) continue;
+            initial.put(item, row);
+            if (row.containsKey(CURRENCIES[1])) inScope.add(new EntryKey(item, CURRENCIES[1]));
+        }
+        PriceListAggregate aggregate = loaded(initial);
+
+        aggregate.applyBulkAdjustment("usd promotion", -10.0, PriceAdjustmentScope.ofCurrencies(CURRENCIES[1]),
+                PriceAdjustmentProgress.NONE, ADMIN);
+
+        PriceEntryChanges changes = aggregate.getPendingPriceChanges();
+        assertFalse(changes.isAllUpserted());
+        assertEquals(inScope, changes.upserts());
+        assertTrue(changes.removals().isEmpty());
+
+        // Unscoped, every entry is rewritten
+        aggregate.applyBulkAdjustment("inflation", 5.0, ADMIN);
+        assertTrue(changes.isAllUpserted());
+        assertTrue(changes.upserts().isEmpty());
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests: the columnar matrix must behave like the nested LinkedHashMap it replaces,
+ * including iteration order.
+ */
+public class PriceMatrixTest {
+
+    private static final Currency[] CURRENCIES = {
+            Currency.getInstance("EUR"), Currency.getInstance("USD"), Currency.getInstance("GBP"),
+            Currency.getInstance("JPY"), Currency.getInstance("CHF"), Currency.getInstance("SEK")
+    };
+
+    private static PurchasePricing price(Random rnd, Currency currency) {
+        return PriceFixedPurchase.of(BigDecimal.valueOf(1 + rnd.nextInt(100_000), 2), currency);
+    }
+
+    private static List<List<Object>> order(Map<UuId, Map<Currency, PurchasePricing>> map) {
+        List<List<Object>> order = new ArrayList<>();
+        map.forEach((item, row) -> row.forEach((currency, pricing) -> order.add(List.of(item, currency, pricing))));
+        return order;
+    }
+
+    @Nested
+    class MatchesNestedMap {
+
+        @Test
+        public void testRandomOperationsMatchLinkedHashMap() {
+            Random rnd = new Random(7L);
+            List<UuId> ids = new ArrayList<>();
+            for (int i = 0; i < 400; i++) ids.add(UuId.generate());
+
+            PriceMatrix matrix = new PriceMatrix(0);
+            Map<UuId, Map<Currency, PurchasePricing>> model = new LinkedHashMap<>();
+
+            for (int step = 0; step < 200_000; step++) {
+                UuId item = ids.get(rnd.nextInt(ids.size()));
+                Currency currency = CURRENCIES[rnd.nextInt(CURRENCIES.length)];
+                // Bias toward removals in bursts so rows die and compaction kicks in
+                boolean remove = rnd.nextInt(100) < ((step / 20_000) % 2 == 0 ? 35 : 70);
+
+                if (remove) {
+                    Map<Currency, PurchasePricing> row = model.get(item);
+                    PurchasePricing expected = row == null ? null : row.remove(currency);
+                    if (row != null && row.isEmpty()) model.remove(item);
+                    assertEquals(expected, matrix.remove(item, currency));
+                } else {
+                    PurchasePricing pricing = price(rnd, currency);
+                    PurchasePricing expected = model.computeIfAbsent(item, k -> new LinkedHashMap<>()).put(currency, pricing);
+                    assertEquals(expected, matrix.put(item, currency, pricing));
+                }
+
+                assertEquals(model.get(item) == null ? null : model.get(item).get(currency), matrix.get(item, currency));
+                if (step % 5_000 == 0) {
+                    assertEquals(model, matrix.asMap());
+                    assertEquals(model.size(), matrix.itemCount());
+                }
+            }
+            assertEquals(model, matrix.asMap());
+            assertEquals(model.keySet().stream().toList(), matrix.asMap().keySet().stream().toList());
+        }
+
+        @Test
+        public void testCopyOfPreservesOrderAndContent() {
+            Random rnd = new Random(8L);
+            Map<UuId, Map<Currency, PurchasePricing>> source = new LinkedHashMap<>();
+            for (int i = 0; i < 1_000; i++) {
+                Map<Currency, PurchasePricing> row = new LinkedHashMap<>();
+                for (Currency currency : CURRENCIES) {
+                    if (rnd.nextBoolean()) row.put(currency, price(rnd, currency));
+                }
+                if (!row.isEmpty()) source.put(UuId.generate(), row);
+            }
+
+            PriceMatrix matrix = PriceMatrix.copyOf(source);
+            assertEquals(source, matrix.asMap());
+            assertEquals(source.keySet().stream().toList(), matrix.asMap().keySet().stream().toList());
+            assertEquals(order(matrix.asMap()), order(matrix.asMap())); // Stable across iterations
+        }
+    }
+
+    @Nested
+    class BulkReplace {
+
+        private PriceMatrix largeMatrix(Map<UuId, Map<Currency, PurchasePricing>> model) {
+            Random rnd = new Random(9L);
+            for (int i = 0; i < PriceMatrix.CHUNK_ROWS * 5 + 123; i++) {
+                Map<Currency, PurchasePricing> row = new LinkedHashMap<>();
+                for (Currency currency : CURRENCIES) {
+                    if (rnd.nextInt(3) == 0) row.put(currency, price(rnd, currency));
+                }
+                if (!row.isEmpty()) model.put(UuId.generate(), row);
+            }
+            return PriceMatrix.copyOf(model);
+        }
+
+        @Test
+        public void testParallelScopedReplaceMatchesSequential() {
+            Map<UuId, Map<Currency, PurchasePricing>> model = new LinkedHashMap<>();
+            PriceMatrix matrix = largeMatrix(model);
+            Currency eur = CURRENCIES[0];
+
+            int expectedCount = 0;
+            List<UuId> expectedCells = new ArrayList<>();
+            for (Map.Entry<UuId, Map<Currency, PurchasePricing>> entry : model.entrySet()) {
+                Map<Currency, PurchasePricing> row = entry.getValue();
+                if (row.containsKey(eur)) {
+                    row.put(eur, row.get(eur).adjustedBy(1.1));
+                    expectedCount++;
+                    expectedCells.add(entry.getKey());
+                }
+            }
+
+            long[] last = new long[2];
+            List<UuId> reported = new ArrayList<>();
+            int replaced = matrix.replaceAll(eur::equals, p -> true, p -> p.adjustedBy(1.1), (done, total) -> {
+                assertTrue(done > last[0]);
+                last[0] = done;
+                last[1] = total;
+            }, (item, currency) -> {
+                assertEquals(eur, currency);
+                reported.add(item);
+            });
+
+            assertEquals(expectedCount, replaced);
+            assertEquals(expectedCells, reported); // Every replaced cell, in iteration order
+            assertEquals(model, matrix.asMap());
+            assertEquals(model.keySet().stream().toList(), matrix.asMap().keySet().stream().toList());
+            assertEquals(last[1], last[0]); // Progress reached the total
+        }
+
+        @Test
+        public void testFailureLeavesMatrixUntouched() {
+            Map<UuId, Map<Currency, PurchasePricing>> model = new LinkedHashMap<>();
+            PriceMatrix matrix = largeMatrix(model);
+
+            // The failure comes from the last row, after earlier chunks have replaced their cells
+            UuId last = List.copyOf(model.keySet()).getLast();
+            List<UuId> reported = new ArrayList<>();
+            IllegalStateException failure = assertThrows(IllegalStateException.class, () ->
+                    matrix.replaceAll(c -> true, p -> true, p -> {
+                        if (p.equals(model.get(last).values().iterator().next())) throw new IllegalStateException("boom");
+                        return p.adjustedBy(2.0);
+                    }, PriceAdjustmentProgress.NONE, (item, currency) -> reported.add(item)));
+
+            assertEquals("boom", failure.getMessage());
+            assertEquals(model, matrix.asMap());
+            assertTrue(reported.isEmpty());
+        }
+    }
+
+    @Nested
+    class Views {
+
+        @Test
+        public void testViewIsReadThroughAndUnmodifiable() {
+            Currency eur = CURRENCIES[0];
+            UuId item = UuId.generate();
+            PriceMatrix matrix = new PriceMatrix(0);
+            Map<UuId, Map<Currency, PurchasePricing>> view = matrix.asMap();
+
+            PurchasePricing first = PriceFixedPurchase.of(BigDecimal.TEN, eur);
+            matrix.put(item, eur, first);
+            Map<Currency, PurchasePricing> row = view.get(item);
+            assertEquals(first, row.get(eur));
+
+            PurchasePricing second = PriceFixedPurchase.of(BigDecimal.ONE, eur);
+            matrix.replaceAll(p -> second);
+            assertEquals(second, row.get(eur));
+
+            assertThrows(UnsupportedOperationException.class, () -> view.put(item, Map.of()));
+            assertThrows(UnsupportedOperationException.class, () -> row.put(eur, first));
+            assertThrows(UnsupportedOperationException.class, () -> view.entrySet().iterator().next().setValue(Map.of()));
+
+            matrix.remove(item, eur);
+            assertNull(view.get(item));
+            assertEquals(0, row.size());
+        }
+    }
+}
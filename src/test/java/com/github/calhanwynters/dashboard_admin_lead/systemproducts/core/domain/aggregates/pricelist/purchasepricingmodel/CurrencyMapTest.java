@@ -0,0 +1,87 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Property tests: CurrencyMap must behave like a HashMap across the inline/spilled boundary.
+ */
+public class CurrencyMapTest {
+
+    private static final List<Currency> CURRENCIES = List.of(
+            Currency.getInstance("EUR"), Currency.getInstance("USD"), Currency.getInstance("GBP"),
+            Currency.getInstance("JPY"), Currency.getInstance("CHF"), Currency.getInstance("SEK"),
+            Currency.getInstance("NOK"), Currency.getInstance("DKK"), Currency.getInstance("PLN")
+    );
+
+    @Nested
+    class MatchesHashMap {
+
+        @Test
+        public void testRandomOperationsMatchHashMap() {
+            Random rnd = new Random(11L);
+            CurrencyMap<Integer> map = new CurrencyMap<>();
+            Map<Currency, Integer> model = new HashMap<>();
+
+            for (int step = 0; step < 100_000; step++) {
+                Currency currency = CURRENCIES.get(rnd.nextInt(CURRENCIES.size()));
+                if (rnd.nextInt(100) < 45) {
+                    assertEquals(model.remove(currency), map.remove(currency));
+                } else {
+                    Integer value = rnd.nextInt();
+                    assertEquals(model.put(currency, value), map.put(currency, value));
+                }
+                assertEquals(model.get(currency), map.get(currency));
+                assertEquals(model.size(), map.size());
+                if (step % 100 == 0) {
+                    assertEquals(model, map);
+                }
+            }
+        }
+
+        @Test
+        public void testIterationOrderIsIndependentOfInsertionOrder() {
+            Random rnd = new Random(12L);
+            for (int size = 1; size <= CURRENCIES.size(); size++) {
+                List<Currency> keys = new ArrayList<>(CURRENCIES.subList(0, size));
+                CurrencyMap<String> first = new CurrencyMap<>();
+                keys.forEach(c -> first.put(c, c.getCurrencyCode()));
+
+                Collections.shuffle(keys, rnd);
+                CurrencyMap<String> second = new CurrencyMap<>();
+                keys.forEach(c -> second.put(c, c.getCurrencyCode()));
+
+                assertEquals(List.copyOf(first.keySet()), List.copyOf(second.keySet()));
+            }
+        }
+    }
+
+    @Nested
+    class CodeView {
+
+        @Test
+        public void testByCodeReadsThrough() {
+            CurrencyMap<Integer> map = new CurrencyMap<>();
+            Map<String, Integer> byCode = map.byCode();
+            map.put(Currency.getInstance("EUR"), 1);
+
+            assertEquals(Map.of("EUR", 1), byCode);
+            assertNull(byCode.get("XYZ-not-a-code"));
+
+            CURRENCIES.forEach(c -> map.put(c, 2)); // Spill beyond the inline slots
+            assertEquals(CURRENCIES.size(), byCode.size());
+            assertEquals(2, byCode.get("PLN"));
+        }
+    }
+}
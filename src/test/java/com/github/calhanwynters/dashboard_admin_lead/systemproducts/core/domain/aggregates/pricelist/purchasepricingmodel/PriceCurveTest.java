@@ -0,0 +1,163 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests: a materialised curve must price every non-negative quantity exactly as the model's
+ * calculate does, and must have no segment wherever the model has no price.
+ */
+public class PriceCurveTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final int RUNS = 300;
+    private static final int QUOTES_PER_RUN = 60;
+
+    private record Tier(BigDecimal min, BigDecimal max, Money price) {}
+
+    private static List<Tier> randomTiers(Random rnd, boolean fractional, boolean messy) {
+        int count = 1 + rnd.nextInt(rnd.nextBoolean() ? 4 : 30);
+        List<Tier> tiers = new ArrayList<>();
+        BigDecimal start = BigDecimal.ZERO;
+        for (int i = 0; i < count; i++) {
+            BigDecimal width = fractional
+                    ? BigDecimal.valueOf(1 + rnd.nextInt(5000), rnd.nextInt(3))
+                    : BigDecimal.valueOf(1 + rnd.nextInt(50));
+            if (messy && rnd.nextInt(5) == 0) {
+                // Gap, overlap or empty tier
+                start = start.add(BigDecimal.valueOf(rnd.nextInt(7) - 3));
+                if (start.signum() < 0) start = BigDecimal.ZERO;
+            }
+            boolean last = i == count - 1;
+            BigDecimal max = (last && rnd.nextBoolean()) ? null : start.add(width);
+            tiers.add(new Tier(start, max, new Money(BigDecimal.valueOf(rnd.nextInt(100_000), 3), EUR)));
+            start = (max == null) ? start : max;
+        }
+        if (messy && rnd.nextBoolean()) Collections.shuffle(tiers, rnd);
+        return tiers;
+    }
+
+    private static PurchasePricing randomModel(Random rnd) {
+        boolean messy = rnd.nextBoolean();
+        return switch (rnd.nextInt(8)) {
+            case 0 -> PriceFixedPurchase.of(BigDecimal.valueOf(1 + rnd.nextInt(10_000), 2), EUR);
+            case 1 -> new PriceNonePurchase(EUR);
+            case 2 -> PriceFractScaledPurchase.of(BigDecimal.valueOf(rnd.nextInt(10_000), 2),
+                    BigDecimal.valueOf(rnd.nextInt(100_000), 3), EUR);
+            case 3 -> PriceIntScaledPurchase.of(BigDecimal.valueOf(rnd.nextInt(10_000), 2),
+                    BigDecimal.valueOf(rnd.nextInt(100_000), 3), EUR);
+            case 4 -> new PriceIntTieredVolPurchase(randomTiers(rnd, false, messy).stream()
+                    .map(t -> new PriceIntTieredVolPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+            case 5 -> new PriceFractTieredVolPurchase(randomTiers(rnd, true, messy).stream()
+                    .map(t -> new PriceFractTieredVolPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+            case 6 -> new PriceIntTieredGradPurchase(randomTiers(rnd, false, messy).stream()
+                    .map(t -> new PriceIntTieredGradPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+            default -> new PriceFractTieredGradPurchase(randomTiers(rnd, true, messy).stream()
+                    .map(t -> new PriceFractTieredGradPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+        };
+    }
+
+    private static BigDecimal randomQuantity(Random rnd, PriceCurve curve) {
+        int pick = rnd.nextInt(4);
+        if (pick == 0) {
+            // Exactly on a breakpoint, or just below one
+            PriceCurve.Segment segment = curve.segments().get(rnd.nextInt(curve.segments().size()));
+            BigDecimal at = (segment.toQty() != null && rnd.nextBoolean()) ? segment.toQty() : segment.fromQty();
+            return curve.wholeUnits() || rnd.nextBoolean() ? at : at.subtract(new BigDecimal("0.001")).max(BigDecimal.ZERO);
+        }
+        if (pick == 1) return BigDecimal.valueOf(rnd.nextInt(100_000));
+        return curve.wholeUnits()
+                ? BigDecimal.valueOf(rnd.nextInt(3_000))
+                : BigDecimal.valueOf(rnd.nextInt(400_000), rnd.nextInt(4));
+    }
+
+    /**
+     * Either the quoted Money or "no price" (any exception).
+     */
+    private static Object outcome(Supplier<Money> quote) {
+        try {
+            return quote.get();
+        } catch (RuntimeException e) {
+            return "no price";
+        }
+    }
+
+    @Nested
+    class MatchesModel {
+
+        @Test
+        public void testPriceAtMatchesCalculate() {
+            Random rnd = new Random(12_001L);
+            for (int run = 0; run < RUNS; run++) {
+                PurchasePricing model = randomModel(rnd);
+                PriceCurve curve = PriceCurve.of(model);
+                for (int q = 0; q < QUOTES_PER_RUN; q++) {
+                    BigDecimal qty = randomQuantity(rnd, curve);
+                    assertEquals(outcome(() -> model.calculate(qty)), outcome(() -> curve.priceAt(qty)),
+                            () -> "Mismatch for quantity " + qty + " on " + model);
+                }
+            }
+        }
+
+        @Test
+        public void testPriceAllMatchesPriceAtOnAscendingAxis() {
+            Random rnd = new Random(12_002L);
+            for (int run = 0; run < RUNS; run++) {
+                PurchasePricing model = randomModel(rnd);
+                PriceCurve curve = PriceCurve.of(model);
+                BigDecimal[] axis = new BigDecimal[QUOTES_PER_RUN];
+                for (int q = 0; q < axis.length; q++) axis[q] = randomQuantity(rnd, curve);
+                if (rnd.nextBoolean()) Arrays.sort(axis);
+
+                Object expected;
+                try {
+                    Money[] each = new Money[axis.length];
+                    for (int q = 0; q < axis.length; q++) each[q] = curve.priceAt(axis[q]);
+                    expected = each;
+                } catch (RuntimeException e) {
+                    expected = "no price";
+                }
+                if (expected instanceof Money[] each) {
+                    assertArrayEquals(each, curve.priceAll(axis));
+                } else {
+                    assertEquals(expected, outcome(() -> curve.priceAll(axis)[0]));
+                }
+            }
+        }
+    }
+
+    @Nested
+    class Shape {
+
+        @Test
+        public void testSegmentsAreOrderedAndDisjoint() {
+            Random rnd = new Random(12_003L);
+            for (int run = 0; run < RUNS; run++) {
+                PriceCurve curve = PriceCurve.of(randomModel(rnd));
+                List<PriceCurve.Segment> segments = curve.segments();
+                for (int i = 0; i < segments.size(); i++) {
+                    PriceCurve.Segment segment = segments.get(i);
+                    if (segment.toQty() != null) {
+                        assertTrue(segment.fromQty().compareTo(segment.toQty()) < 0);
+                    } else {
+                        assertEquals(segments.size() - 1, i, "Only the last segment may be open-ended");
+                    }
+                    if (i > 0) assertTrue(segments.get(i - 1).toQty().compareTo(segment.fromQty()) <= 0);
+                }
+            }
+        }
+    }
+}
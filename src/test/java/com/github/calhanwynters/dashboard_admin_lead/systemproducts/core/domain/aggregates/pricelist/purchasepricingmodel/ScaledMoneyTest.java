@@ -0,0 +1,91 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Property tests: fixed-point arithmetic must round exactly like the BigDecimal-backed Money.
+ */
+public class ScaledMoneyTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final RoundingMode[] MODES = {
+            RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+    };
+
+    private static Money randomMoney(Random rnd, int precision, RoundingMode mode) {
+        return new Money(BigDecimal.valueOf(rnd.nextLong(1_000_000_000L), precision), EUR, precision, mode);
+    }
+
+    @Nested
+    class Rounding {
+
+        @Test
+        public void testDivideAndRoundMatchesSetScale() {
+            Random rnd = new Random(42L);
+            for (int i = 0; i < 100_000; i++) {
+                long dividend = rnd.nextLong(-10_000_000L, 10_000_000L);
+                int scale = 1 + rnd.nextInt(4);
+                RoundingMode mode = MODES[rnd.nextInt(MODES.length)];
+                long expected = BigDecimal.valueOf(dividend, scale).setScale(0, mode).longValueExact();
+                assertEquals(expected, ScaledMoney.divideAndRound(dividend, (long) Math.pow(10, scale), mode),
+                        () -> dividend + " / 10^" + scale + " " + mode);
+            }
+        }
+
+        @Test
+        public void testFractionalMultiplyMatchesMoney() {
+            Random rnd = new Random(43L);
+            for (int i = 0; i < 50_000; i++) {
+                int precision = rnd.nextInt(5);
+                Money money = randomMoney(rnd, precision, MODES[rnd.nextInt(MODES.length)]);
+                BigDecimal factor = BigDecimal.valueOf(rnd.nextInt(1_000_000), rnd.nextInt(7) - 1);
+                assertEquals(money.multiply(factor), ScaledMoney.of(money).multiply(factor).toMoney(),
+                        () -> money + " x " + factor);
+            }
+        }
+
+        @Test
+        public void testWholeMultiplyAndAddMatchMoney() {
+            Random rnd = new Random(44L);
+            for (int i = 0; i < 50_000; i++) {
+                Money base = randomMoney(rnd, 2, RoundingMode.HALF_UP);
+                Money rate = randomMoney(rnd, 2, RoundingMode.HALF_EVEN);
+                int quantity = rnd.nextInt(10_000);
+                assertEquals(base.add(rate.multiply(quantity)),
+                        ScaledMoney.of(base).add(ScaledMoney.of(rate).multiply(quantity)).toMoney());
+            }
+        }
+    }
+
+    @Nested
+    class OverflowFallback {
+
+        @Test
+        public void testOverflowIsSignalled() {
+            ScaledMoney large = new ScaledMoney(Long.MAX_VALUE / 2, EUR, 2, RoundingMode.HALF_UP);
+            assertThrows(ArithmeticException.class, () -> large.multiply(3));
+            assertThrows(ArithmeticException.class, () -> large.add(large).add(large));
+        }
+
+        @Test
+        public void testScaledModelsFallBackToBigDecimal() {
+            Money huge = new Money(new BigDecimal("9000000000000000.00"), EUR);
+            PriceIntScaledPurchase model = new PriceIntScaledPurchase(huge, huge);
+            // 9e15 * 1000 overflows a long of minor units; the BigDecimal path still answers
+            assertEquals(new Money(new BigDecimal("9009000000000000000.00"), EUR), model.calculate(BigDecimal.valueOf(1000)));
+
+            PriceFractScaledPurchase fract = new PriceFractScaledPurchase(huge, huge);
+            assertEquals(new Money(new BigDecimal("22500000000000000.00"), EUR), fract.calculate(new BigDecimal("1.5")));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests: the compiled tier tables must quote exactly what the original
+ * bucket-by-bucket / first-match implementations quoted, including failures.
+ */
+public class TierTableTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int RUNS = 400;
+    private static final int QUOTES_PER_RUN = 40;
+
+    // --- Random tier generation ---
+
+    private record Tier(BigDecimal min, BigDecimal max, Money price) {}
+
+    private static List<Tier> randomTiers(Random rnd, boolean fractional, boolean messy) {
+        int count = 1 + rnd.nextInt(rnd.nextBoolean() ? 5 : 60);
+        List<Tier> tiers = new ArrayList<>();
+        BigDecimal start = BigDecimal.ZERO;
+        for (int i = 0; i < count; i++) {
+            BigDecimal width = fractional
+                    ? BigDecimal.valueOf(1 + rnd.nextInt(5000), rnd.nextInt(3))
+                    : BigDecimal.valueOf(1 + rnd.nextInt(50));
+            if (messy && rnd.nextInt(6) == 0) {
+                // Gap, overlap or empty tier
+                start = start.add(BigDecimal.valueOf(rnd.nextInt(7) - 3));
+                if (start.signum() < 0) start = BigDecimal.ZERO;
+            }
+            boolean last = i == count - 1;
+            BigDecimal max = (last && rnd.nextBoolean()) ? null : start.add(width);
+            BigDecimal amount = BigDecimal.valueOf(rnd.nextInt(100_000), 3);
+            Money price = (messy && rnd.nextInt(40) == 0)
+                    ? new Money(amount, USD, 3, RoundingMode.HALF_EVEN) // Precision mismatch
+                    : new Money(amount, USD);
+            tiers.add(new Tier(start, max, price));
+            start = (max == null) ? start : max;
+        }
+        if (messy && rnd.nextBoolean()) Collections.shuffle(tiers, rnd);
+        return tiers;
+    }
+
+    private static BigDecimal randomQuantity(Random rnd, List<Tier> tiers, boolean fractional) {
+        int pick = rnd.nextInt(5);
+        if (pick == 0) {
+            // Exactly on a breakpoint
+            Tier tier = tiers.get(rnd.nextInt(tiers.size()));
+            return (tier.max() != null && rnd.nextBoolean()) ? tier.max() : tier.min();
+        }
+        if (pick == 1) return BigDecimal.valueOf(rnd.nextInt(100_000));
+        if (pick == 2) return BigDecimal.valueOf(-rnd.nextInt(20));
+        return fractional
+                ? BigDecimal.valueOf(rnd.nextInt(400_000), rnd.nextInt(4))
+                : BigDecimal.valueOf(rnd.nextInt(3_000));
+    }
+
+    /**
+     * Either the quoted Money or the type of exception raised.
+     */
+    private static Object outcome(Supplier<Money> quote) {
+        try {
+            return quote.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static <P extends PurchasePricing> void assertMatches(
+            boolean fractional, boolean messy, Function<List<Tier>, P> build,
+            LegacyQuote<P> legacy) {
+        Random rnd = new Random(fractional ? 7_001L : 7_002L);
+        for (int run = 0; run < RUNS; run++) {
+            List<Tier> tiers = randomTiers(rnd, fractional, messy);
+            P model = build.apply(tiers);
+            for (int q = 0; q < QUOTES_PER_RUN; q++) {
+                BigDecimal qty = randomQuantity(rnd, tiers, fractional);
+                assertEquals(outcome(() -> legacy.calculate(model, qty)), outcome(() -> model.calculate(qty)),
+                        () -> "Mismatch for quantity " + qty + " on " + tiers);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface LegacyQuote<P> {
+        Money calculate(P model, BigDecimal quantity);
+    }
+
+    // --- Verbatim copies of the pre-compilation algorithms ---
+
+    private static Money legacyIntVol(PriceIntTieredVolPurchase model, BigDecimal quantity) {
+        BigDecimal qty = (quantity == null) ? BigDecimal.ZERO : quantity;
+        PriceIntTieredVolPurchase.TierBucket selectedBucket = model.buckets().stream()
+                .filter(bucket -> bucket.contains(qty))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No pricing tier found for quantity: " + qty));
+        return selectedBucket.pricePerUnit().multiply(qty.intValueExact());
+    }
+
+    private static Money legacyFractVol(PriceFractTieredVolPurchase model, BigDecimal quantity) {
+        BigDecimal qty = (quantity == null) ? BigDecimal.ZERO : quantity;
+        if (qty.signum() < 0) {
+            throw new IllegalArgumentException("Quantity cannot be negative.");
+        }
+        PriceFractTieredVolPurchase.TierBucket selectedBucket = model.buckets().stream()
+                .filter(bucket -> bucket.contains(qty))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No pricing tier defined for quantity: " + qty));
+        return selectedBucket.pricePerUnit().multiply(qty);
+    }
+
+    private static Money legacyGrad(List<? extends PricingTier> buckets, BigDecimal quantity, boolean wholeUnits) {
+        BigDecimal remaining = (quantity == null) ? BigDecimal.ZERO : quantity;
+        if (!wholeUnits && remaining.signum() < 0) {
+            throw new IllegalArgumentException("Quantity cannot be negative.");
+        }
+        Money total = Money.zero(buckets.getFirst().pricePerUnit().currency());
+        for (PricingTier bucket : buckets) {
+            if (remaining.signum() <= 0) break;
+            BigDecimal contribution = (bucket.maxQty() == null)
+                    ? remaining
+                    : remaining.min(bucket.maxQty().subtract(bucket.minQty()));
+            if (contribution.signum() > 0) {
+                Money bucketCost = wholeUnits
+                        ? bucket.pricePerUnit().multiply(contribution.intValueExact())
+                        : bucket.pricePerUnit().multiply(contribution);
+                total = total.add(bucketCost);
+                remaining = remaining.subtract(contribution);
+            }
+        }
+        return total;
+    }
+
+    // --- Builders ---
+
+    private static PriceIntTieredVolPurchase intVol(List<Tier> tiers) {
+        return new PriceIntTieredVolPurchase(tiers.stream()
+                .map(t -> new PriceIntTieredVolPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+    }
+
+    private static PriceFractTieredVolPurchase fractVol(List<Tier> tiers) {
+        return new PriceFractTieredVolPurchase(tiers.stream()
+                .map(t -> new PriceFractTieredVolPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+    }
+
+    private static PriceIntTieredGradPurchase intGrad(List<Tier> tiers) {
+        return new PriceIntTieredGradPurchase(tiers.stream()
+                .map(t -> new PriceIntTieredGradPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+    }
+
+    private static PriceFractTieredGradPurchase fractGrad(List<Tier> tiers) {
+        return new PriceFractTieredGradPurchase(tiers.stream()
+                .map(t -> new PriceFractTieredGradPurchase.TierBucket(t.min(), t.max(), t.price())).toList());
+    }
+
+    @Nested
+    class VolumePricing {
+
+        @Test
+        public void testIntVolumeMatchesLinearScan() {
+            assertMatches(false, false, TierTableTest::intVol, TierTableTest::legacyIntVol);
+            assertMatches(false, true, TierTableTest::intVol, TierTableTest::legacyIntVol);
+        }
+
+        @Test
+        public void testFractVolumeMatchesLinearScan() {
+            assertMatches(true, false, TierTableTest::fractVol, TierTableTest::legacyFractVol);
+            assertMatches(true, true, TierTableTest::fractVol, TierTableTest::legacyFractVol);
+        }
+
+        @Test
+        public void testContiguousTiersAreIndexed() {
+            PriceIntTieredVolPurchase model = intVol(List.of(
+                    new Tier(new BigDecimal("10"), null, new Money(new BigDecimal("1.00"), USD)),
+                    new Tier(BigDecimal.ZERO, new BigDecimal("10"), new Money(new BigDecimal("2.00"), USD))));
+            assertTrue(((VolumeTierTable<?>) model.buckets()).isIndexed());
+            // Declaration order is preserved for the record accessor
+            assertEquals(new BigDecimal("10"), model.buckets().getFirst().minQty());
+            assertEquals(new Money(new BigDecimal("12.00"), USD), model.calculate(new BigDecimal("12")));
+        }
+    }
+
+    @Nested
+    class GraduatedPricing {
+
+        @Test
+        public void testIntGraduatedMatchesBucketWalk() {
+            assertMatches(false, false, TierTableTest::intGrad, (m, q) -> legacyGrad(m.buckets(), q, true));
+            assertMatches(false, true, TierTableTest::intGrad, (m, q) -> legacyGrad(m.buckets(), q, true));
+        }
+
+        @Test
+        public void testFractGraduatedMatchesBucketWalk() {
+            assertMatches(true, false, TierTableTest::fractGrad, (m, q) -> legacyGrad(m.buckets(), q, false));
+            assertMatches(true, true, TierTableTest::fractGrad, (m, q) -> legacyGrad(m.buckets(), q, false));
+        }
+
+        @Test
+        public void testPrefixSumAcrossTiers() {
+            PriceFractTieredGradPurchase model = fractGrad(List.of(
+                    new Tier(BigDecimal.ZERO, new BigDecimal("10"), new Money(new BigDecimal("2.00"), USD)),
+                    new Tier(new BigDecimal("10"), null, new Money(new BigDecimal("1.00"), USD))));
+            assertTrue(((GraduatedTierTable<?>) model.buckets()).isCompiled());
+            // 10 x 2.00 + 2.5 x 1.00
+            assertEquals(new Money(new BigDecimal("22.50"), USD), model.calculate(new BigDecimal("12.5")));
+        }
+    }
+
+    @Nested
+    class BatchQuotes {
+
+        private void assertBatchMatches(PurchasePricing model, BigDecimal[] quantities) {
+            Object batch = outcome(() -> {
+                Money[] all = model.calculateAll(quantities);
+                return all.length == 0 ? null : all[all.length - 1];
+            });
+            if (batch instanceof Class<?>) {
+                // A failing batch must fail on some individual quantity as well
+                boolean anyFails = false;
+                for (BigDecimal qty : quantities) anyFails |= outcome(() -> model.calculate(qty)) instanceof Class<?>;
+                assertTrue(anyFails, () -> "Batch failed but every single quote succeeded on " + model);
+                return;
+            }
+            Money[] all = model.calculateAll(quantities);
+            for (int i = 0; i < quantities.length; i++) {
+                assertEquals(model.calculate(quantities[i]), all[i], "Quantity " + quantities[i]);
+            }
+        }
+
+        @Test
+        public void testCalculateAllMatchesCalculate() {
+            Random rnd = new Random(7_003L);
+            for (int run = 0; run < RUNS; run++) {
+                boolean fractional = rnd.nextBoolean();
+                List<Tier> tiers = randomTiers(rnd, fractional, false);
+                BigDecimal[] quantities = new BigDecimal[QUOTES_PER_RUN];
+                for (int q = 0; q < quantities.length; q++) {
+                    quantities[q] = randomQuantity(rnd, tiers, fractional).abs();
+                }
+                // Ascending ladders exercise the resumed search; the raw order exercises restarts
+                if (rnd.nextBoolean()) Arrays.sort(quantities);
+
+                Money rate = tiers.getFirst().price();
+                List<PurchasePricing> models = fractional
+                        ? List.of(fractVol(tiers), fractGrad(tiers), new PriceFractScaledPurchase(rate, rate))
+                        : List.of(intVol(tiers), intGrad(tiers), new PriceIntScaledPurchase(rate, rate),
+                                  new PriceFixedPurchase(new Money(BigDecimal.ONE, USD)), new PriceNonePurchase(USD));
+                for (PurchasePricing model : models) {
+                    assertBatchMatches(model, quantities);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.Money;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceIntScaledPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.BundleQuoteCache;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ProductRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.Component;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.FixedPrice;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.ListPrice;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services.BundleDefinition.PercentOff;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.product.ProductDomainWrapper.ProductUuId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Property tests: concurrent bundle pricing must equal a sequential per-component evaluation,
+ * cached results must only be served while every component PriceList is at the same version,
+ * and PriceList loads must overlap without exceeding the configured bound, which holds across all the
+ * bundles being quoted at once.
+ */
+public class BundlePricingServiceTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+
+    /**
+     * In-memory catalogue behind mocked ports: products spread over several PriceLists.
+     */
+    private static final class Catalogue {
+        final Map<ProductUuId, ProductAggregate> products = new LinkedHashMap<>();
+        final Map<PriceListUuId, PriceListAggregate> priceLists = new ConcurrentHashMap<>();
+        final Map<PriceListUuId, Integer> versions = new ConcurrentHashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final Map<BundleQuoteCache.BundleKey, BundleQuote> cached = new ConcurrentHashMap<>();
+        long loadDelayMillis;
+
+        Catalogue(Random rnd, int priceListCount, int productsPerList) {
+            for (int l = 0; l < priceListCount; l++) {
+                PriceListUuId priceListUuId = PriceListUuId.generate();
+                Map<UuId, Map<Currency, PurchasePricing>> prices = new LinkedHashMap<>();
+                for (int p = 0; p < productsPerList; p++) {
+                    ProductUuId productUuId = ProductUuId.generate();
+                    PurchasePricing pricing = rnd.nextBoolean()
+                            ? PriceFixedPurchase.of(BigDecimal.valueOf(1 + rnd.nextInt(100_000), 2), EUR)
+                            : PriceIntScaledPurchase.of(BigDecimal.valueOf(rnd.nextInt(10_000), 2),
+                            BigDecimal.valueOf(rnd.nextInt(10_000), 2), EUR);
+                    prices.put(productUuId.value(), new HashMap<>(Map.of(EUR, pricing)));
+
+                    ProductAggregate product = mock(ProductAggregate.class);
+                    when(product.getUuId()).thenReturn(productUuId);
+                    when(product.getPriceListUuId()).thenReturn(priceListUuId);
+                    products.put(productUuId, product);
+                }
+                versions.put(priceListUuId, 1);
+                priceLists.put(priceListUuId, priceList(priceListUuId, 1, prices));
+            }
+        }
+
+        static PriceListAggregate priceList(PriceListUuId uuId, int version, Map<UuId, Map<Currency, PurchasePricing>> prices) {
+            return new PriceListAggregate(PriceListId.of(1L), uuId, new PriceListBusinessUuId(UuId.generate()),
+                    PricingStrategyType.FIXED, new PriceListVersion(new Version(version)), true, prices,
+                    AuditMetadata.create(ADMIN), new LifecycleState(false, false), 1L, 1, null);
+        }
+
+        void bump(PriceListUuId uuId) {
+            PriceListAggregate current = priceLists.get(uuId);
+            int next = versions.get(uuId) + 1;
+            Map<UuId, Map<Currency, PurchasePricing>> prices = new LinkedHashMap<>();
+            current.getMultiCurrencyPrices().forEach((item, row) -> {
+                Map<Currency, PurchasePricing> adjusted = new HashMap<>();
+                row.forEach((currency, pricing) -> adjusted.put(currency, pricing.adjustedBy(1.1)));
+                prices.put(item, adjusted);
+            });
+            priceLists.put(uuId, priceList(uuId, next, prices));
+            versions.put(uuId, next);
+        }
+
+        BundlePricingService service(int maxConcurrentLoads) {
+            ProductRepository productRepository = mock(ProductRepository.class);
+            when(productRepository.findAllByUuIds(any())).thenAnswer(call -> {
+                List<ProductAggregate> found = new ArrayList<>();
+                for (Object id : (Iterable<?>) call.getArgument(0)) {
+                    if (products.containsKey(id)) found.add(products.get(id));
+                }
+                return found;
+            });
+
+            PriceListRepository priceListRepository = mock(PriceListRepository.class);
+            when(priceListRepository.findVersionsByUuIds(any())).thenAnswer(call -> {
+                Map<PriceListUuId, PriceListVersion> found = new HashMap<>();
+                for (Object id : (Iterable<?>) call.getArgument(0)) {
+                    Integer version = versions.get(id);
+                    if (version != null) found.put((PriceListUuId) id, new PriceListVersion(new Version(version)));
+                }
+                return found;
+            });
+            when(priceListRepository.findByUuId(any())).thenAnswer(call -> {
+                loads.incrementAndGet();
+                int now = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(now, Math::max);
+                try {
+                    if (loadDelayMillis > 0) Thread.sleep(loadDelayMillis);
+                    return Optional.ofNullable(priceLists.get((PriceListUuId) call.getArgument(0)));
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+
+            BundleQuoteCache cache = new BundleQuoteCache() {
+                @Override
+                public Optional<BundleQuote> get(BundleKey key) {
+                    return Optional.ofNullable(cached.get(key));
+                }
+
+                @Override
+                public void put(BundleKey key, BundleQuote quote) {
+                    cached.put(key, quote);
+                }
+            };
+            return new BundlePricingService(productRepository, priceListRepository, cache, maxConcurrentLoads);
+        }
+
+        BundleDefinition randomBundle(Random rnd, int size) {
+            List<ProductUuId> ids = new ArrayList<>(products.keySet());
+            List<Component> components = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                BundleDefinition.PriceOverride override = switch (rnd.nextInt(3)) {
+                    case 0 -> new ListPrice();
+                    case 1 -> new FixedPrice(new Money(BigDecimal.valueOf(rnd.nextInt(5_000), 2), EUR));
+                    default -> new PercentOff(BigDecimal.valueOf(rnd.nextInt(1_001), 1));
+                };
+                components.add(new Component(ids.get(rnd.nextInt(ids.size())), BigDecimal.valueOf(1 + rnd.nextInt(20)), override));
+            }
+            return new BundleDefinition(EUR, components, BigDecimal.valueOf(rnd.nextInt(300), 1));
+        }
+
+        /**
+         * Reference: every component priced one after the other straight from its PriceList.
+         */
+        Money sequentialTotal(BundleDefinition bundle) {
+            Money sum = Money.zero(EUR);
+            for (Component component : bundle.components()) {
+                PriceListAggregate priceList = priceLists.get(products.get(component.productUuId()).getPriceListUuId());
+                Money list = priceList.getMultiCurrencyPrices().get(component.productUuId().value()).get(EUR)
+                        .calculate(component.quantity());
+                Money price = switch (component.override()) {
+                    case ListPrice rule -> list;
+                    case FixedPrice rule -> rule.price();
+                    case PercentOff rule -> list.multiply(BigDecimal.ONE.subtract(rule.percent().movePointLeft(2)));
+                };
+                sum = sum.add(price);
+            }
+            return sum.multiply(BigDecimal.ONE.subtract(bundle.bundleDiscountPercent().movePointLeft(2)));
+        }
+    }
+
+    @Nested
+    class MatchesSequential {
+
+        @Test
+        public void testConcurrentQuoteMatchesSequentialEvaluation() {
+            Random rnd = new Random(13_001L);
+            Catalogue catalogue = new Catalogue(rnd, 20, 10);
+            BundlePricingService service = catalogue.service(4);
+
+            for (int round = 0; round < 200; round++) {
+                BundleDefinition bundle = catalogue.randomBundle(rnd, 1 + rnd.nextInt(80));
+                BundleQuote quote = service.quote(bundle);
+                assertEquals(catalogue.sequentialTotal(bundle), quote.total());
+                assertEquals(bundle.components().size(), quote.components().size());
+            }
+        }
+
+        @Test
+        public void testUnknownProductIsRejected() {
+            Catalogue catalogue = new Catalogue(new Random(13_002L), 2, 2);
+            BundleDefinition bundle = new BundleDefinition(EUR,
+                    List.of(new Component(ProductUuId.generate(), BigDecimal.ONE, null)), BigDecimal.ZERO);
+            assertThrows(IllegalArgumentException.class, () -> catalogue.service(4).quote(bundle));
+        }
+    }
+
+    @Nested
+    class VersionKeyedCache {
+
+        @Test
+        public void testCachedUntilAnyComponentVersionChanges() {
+            Random rnd = new Random(13_003L);
+            Catalogue catalogue = new Catalogue(rnd, 10, 5);
+            BundlePricingService service = catalogue.service(4);
+            BundleDefinition bundle = catalogue.randomBundle(rnd, 50);
+
+            BundleQuote first = service.quote(bundle);
+            int loadsAfterFirst = catalogue.loads.get();
+            assertFalse(first.cached());
+
+            BundleQuote second = service.quote(bundle);
+            assertTrue(second.cached());
+            assertEquals(first.total(), second.total());
+            assertEquals(loadsAfterFirst, catalogue.loads.get(), "A hit must not load any PriceList");
+
+            // One component PriceList moves on: the bundle is re-priced from the new version
+            PriceListUuId changed = first.components().stream()
+                    .filter(c -> c.listPrice() != null)
+                    .findFirst().orElseThrow().priceListUuId();
+            catalogue.bump(changed);
+            BundleQuote third = service.quote(bundle);
+            assertFalse(third.cached());
+            assertEquals(catalogue.sequentialTotal(bundle), third.total());
+            assertEquals(2, third.priceListVersions().get(changed).value().value());
+        }
+    }
+
+    @Nested
+    class Concurrency {
+
+        @Test
+        public void testPriceListLoadsOverlapWithinBound() {
+            Random rnd = new Random(13_004L);
+            Catalogue catalogue = new Catalogue(rnd, 60, 1);
+            catalogue.loadDelayMillis = 20;
+            BundlePricingService service = catalogue.service(8);
+
+            List<Component> components = new ArrayList<>();
+            for (ProductUuId productUuId : catalogue.products.keySet()) {
+                components.add(new Component(productUuId, BigDecimal.ONE, new ListPrice()));
+            }
+            BundleDefinition bundle = new BundleDefinition(EUR, components, BigDecimal.ZERO);
+
+            BundleQuote quote = service.quote(bundle);
+            assertEquals(catalogue.sequentialTotal(bundle), quote.total());
+            assertEquals(60, catalogue.loads.get());
+            assertTrue(catalogue.maxInFlight.get() > 1, "PriceLists should load concurrently");
+            assertTrue(catalogue.maxInFlight.get() <= 8, "Concurrent loads must respect the bound");
+        }
+
+        @Test
+        public void testBoundIsSharedByConcurrentQuotes() throws Exception {
+            Random rnd = new Random(13_005L);
+            Catalogue catalogue = new Catalogue(rnd, 48, 1);
+            catalogue.loadDelayMillis = 20;
+            BundlePricingService service = catalogue.service(4);
+
+            // Six bundles over disjoint PriceLists, so none is served from another's cache entry
+            List<ProductUuId> ids = new ArrayList<>(catalogue.products.keySet());
+            List<BundleDefinition> bundles = new ArrayList<>();
+            for (int b = 0; b < 6; b++) {
+                List<Component> components = new ArrayList<>();
+                for (ProductUuId productUuId : ids.subList(b * 8, b * 8 + 8)) {
+                    components.add(new Component(productUuId, BigDecimal.ONE, new ListPrice()));
+                }
+                bundles.add(new BundleDefinition(EUR, components, BigDecimal.ZERO));
+            }
+
+            List<Future<BundleQuote>> quotes = new ArrayList<>();
+            try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (BundleDefinition bundle : bundles) quotes.add(callers.submit(() -> service.quote(bundle)));
+                for (int b = 0; b < bundles.size(); b++) {
+                    assertEquals(catalogue.sequentialTotal(bundles.get(b)), quotes.get(b).get().total());
+                }
+            }
+            assertEquals(48, catalogue.loads.get());
+            assertTrue(catalogue.maxInFlight.get() <= 4, "Concurrent quotes together must respect the bound");
+        }
+    }
+}
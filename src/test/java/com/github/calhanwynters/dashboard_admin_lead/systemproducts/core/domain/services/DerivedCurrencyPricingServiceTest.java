@@ -0,0 +1,181 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.services;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.FxRateTable;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceQuoteRequest;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.*;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.ConvertedPricingCache;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Property tests: an unpriced currency quotes exactly like the base model converted at the table's rate,
+ * explicit entries always win, and each (target, currency) is converted once per version and rate revision.
+ */
+public class DerivedCurrencyPricingServiceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency GBP = Currency.getInstance("GBP");
+    private static final Currency JPY = Currency.getInstance("JPY"); // Never in the rate table
+    private static final Currency[] QUOTED = {USD, EUR, GBP, JPY};
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+
+    /**
+     * Map-backed cache that counts conversions stored.
+     */
+    private static final class CountingCache implements ConvertedPricingCache {
+        final Map<ConversionKey, PurchasePricing> entries = new HashMap<>();
+        int puts;
+
+        @Override
+        public Optional<PurchasePricing> get(ConversionKey key) {
+            return Optional.ofNullable(entries.get(key));
+        }
+
+        @Override
+        public void put(ConversionKey key, PurchasePricing converted) {
+            puts++;
+            entries.put(key, converted);
+        }
+    }
+
+    private static List<PriceFractTieredGradPurchase.TierBucket> tiers(Random rnd, Currency currency) {
+        List<PriceFractTieredGradPurchase.TierBucket> tiers = new ArrayList<>();
+        BigDecimal start = BigDecimal.ZERO;
+        for (int i = 0, count = 1 + rnd.nextInt(5); i < count; i++) {
+            BigDecimal max = i == count - 1 ? null : start.add(BigDecimal.valueOf(1 + rnd.nextInt(20)));
+            tiers.add(new PriceFractTieredGradPurchase.TierBucket(start, max,
+                    new Money(BigDecimal.valueOf(1 + rnd.nextInt(50_000), 3), currency)));
+            start = max;
+        }
+        return tiers;
+    }
+
+    private static PurchasePricing randomModel(Random rnd, Currency currency) {
+        return switch (rnd.nextInt(4)) {
+            case 0 -> PriceFixedPurchase.of(BigDecimal.valueOf(100 + rnd.nextInt(10_000), 2), currency);
+            case 1 -> PriceFractScaledPurchase.of(BigDecimal.valueOf(rnd.nextInt(10_000), 2),
+                    BigDecimal.valueOf(rnd.nextInt(100_000), 3), currency);
+            case 2 -> new PriceNonePurchase(currency);
+            default -> new PriceFractTieredGradPurchase(tiers(rnd, currency));
+        };
+    }
+
+    private static FxRateTable randomRates(Random rnd, long revision) {
+        return new FxRateTable(revision, USD, Map.of(
+                EUR, BigDecimal.valueOf(5_000 + rnd.nextInt(10_000), 4),
+                GBP, BigDecimal.valueOf(5_000 + rnd.nextInt(10_000), 4)), OffsetDateTime.now());
+    }
+
+    private static PriceListAggregate priceList(Map<UuId, Map<Currency, PurchasePricing>> prices) {
+        return new PriceListAggregate(PriceListId.of(1L), PriceListUuId.generate(),
+                new PriceListBusinessUuId(UuId.generate()), PricingStrategyType.FIXED,
+                new PriceListVersion(new Version(1)), true, prices, AuditMetadata.create(ADMIN),
+                new LifecycleState(false, false), 1L, 1, null);
+    }
+
+    @Nested
+    class Derivation {
+
+        @Test
+        public void testDerivedQuotesMatchConvertedBaseModel() {
+            Random rnd = new Random(15_001L);
+            for (int run = 0; run < 200; run++) {
+                List<UuId> ids = new ArrayList<>();
+                Map<UuId, Map<Currency, PurchasePricing>> prices = new HashMap<>();
+                for (int i = 0; i < 8; i++) {
+                    UuId id = UuId.generate();
+                    ids.add(id);
+                    Map<Currency, PurchasePricing> row = new HashMap<>();
+                    if (rnd.nextInt(5) != 0) row.put(USD, randomModel(rnd, USD));     // Base price, usually
+                    if (rnd.nextInt(4) == 0) row.put(EUR, randomModel(rnd, EUR));     // Hand-maintained override
+                    if (!row.isEmpty()) prices.put(id, row);
+                }
+                PriceListAggregate priceList = priceList(prices);
+                FxRateTable rates = randomRates(rnd, 1 + run);
+
+                List<PriceQuoteRequest> requests = new ArrayList<>();
+                for (int q = 0; q < 40; q++) {
+                    requests.add(new PriceQuoteRequest(ids.get(rnd.nextInt(ids.size())), QUOTED[rnd.nextInt(QUOTED.length)],
+                            BigDecimal.valueOf(rnd.nextInt(5_000), rnd.nextInt(3))));
+                }
+                Money[] quoted = new DerivedCurrencyPricingService(new CountingCache()).quoteAll(priceList, requests, rates);
+
+                for (int q = 0; q < requests.size(); q++) {
+                    PriceQuoteRequest request = requests.get(q);
+                    Map<Currency, PurchasePricing> row = prices.getOrDefault(request.targetId(), Map.of());
+                    PurchasePricing explicit = row.get(request.currency());
+                    PurchasePricing base = row.get(USD);
+                    if (explicit != null) {
+                        assertEquals(explicit.calculate(request.quantity()), quoted[q], "Explicit entry must win");
+                    } else if (base == null || rates.rate(request.currency()) == null) {
+                        assertNull(quoted[q], "No base price or no rate: unpriced");
+                    } else {
+                        Money expected = base.convertedTo(request.currency(), rates.rate(request.currency()))
+                                .calculate(request.quantity());
+                        assertEquals(expected, quoted[q]);
+                        assertEquals(request.currency(), quoted[q].currency());
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void testIdentityRateLeavesModelUnchanged() {
+            Random rnd = new Random(15_002L);
+            for (int run = 0; run < 500; run++) {
+                PurchasePricing model = randomModel(rnd, USD);
+                assertEquals(model, model.convertedTo(USD, BigDecimal.ONE));
+            }
+        }
+    }
+
+    @Nested
+    class Caching {
+
+        @Test
+        public void testEachEntryConvertedOncePerRateRevision() {
+            Random rnd = new Random(15_003L);
+            UuId id = UuId.generate();
+            PriceListAggregate priceList = priceList(Map.of(id, Map.of(USD, randomModel(rnd, USD))));
+            CountingCache cache = new CountingCache();
+            DerivedCurrencyPricingService service = new DerivedCurrencyPricingService(cache);
+
+            List<PriceQuoteRequest> requests = List.of(
+                    new PriceQuoteRequest(id, EUR, BigDecimal.ONE),
+                    new PriceQuoteRequest(id, EUR, BigDecimal.TEN),
+                    new PriceQuoteRequest(id, GBP, BigDecimal.ONE));
+            FxRateTable rates = randomRates(rnd, 7L);
+
+            Money[] first = service.quoteAll(priceList, requests, rates);
+            assertEquals(2, cache.puts, "One conversion per (target, currency)");
+            assertArrayEquals(first, service.quoteAll(priceList, requests, rates));
+            assertEquals(2, cache.puts, "Same version and revision: served from the cache");
+
+            service.quoteAll(priceList, requests, randomRates(rnd, 8L));
+            assertEquals(4, cache.puts, "New rate revision: converted again");
+        }
+    }
+}
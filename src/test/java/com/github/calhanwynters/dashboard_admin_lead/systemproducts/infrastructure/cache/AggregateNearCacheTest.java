@@ -0,0 +1,239 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests: against a store that other writers keep committing to, a read through the cache must
+ * never return a state older than the last eviction (even when the commit lands while a load is in flight),
+ * must hand out copies that callers can mutate freely, batch reads must load only the misses, and state read
+ * inside a writing transaction must not outlive its rollback.
+ */
+public class AggregateNearCacheTest {
+
+    private static final int RUNS = 200;
+    private static final int STEPS = 300;
+
+    private static final class Thing extends BaseAggregateRoot<Thing, Long, String, String> {
+        String state;
+
+        Thing(String uuId, Long optLockVer, String state) {
+            super(1L, uuId, "bus-" + uuId, null, optLockVer, 1, null);
+            this.state = state;
+        }
+
+        Thing copy() {
+            return new Thing(uuId, optLockVer, state);
+        }
+    }
+
+    /**
+     * Committed rows; every commit bumps the version and evicts, as the decorators do after commit.
+     */
+    private static final class Store {
+        final Map<String, Thing> rows = new HashMap<>();
+        final boolean versioned;
+        int loads;
+        long commits;
+
+        Store(boolean versioned) {
+            this.versioned = versioned;
+        }
+
+        Optional<Thing> load(String key) {
+            loads++;
+            return Optional.ofNullable(rows.get(key)).map(Thing::copy);
+        }
+
+        void commit(AggregateNearCache<String, Thing> cache, String key, String state) {
+            Long version = versioned ? commits++ : null;
+            rows.put(key, new Thing(key, version, state));
+            cache.evict(key, version);
+        }
+    }
+
+    private static AggregateNearCache<String, Thing> newCache(int maximumSize) {
+        return new AggregateNearCache<>("things", maximumSize, Duration.ofHours(1), Thing::copy);
+    }
+
+    @Test
+    public void testReadsNeverGoBehindTheLastCommit() {
+        Random rnd = new Random(20_001L);
+        for (int run = 0; run < RUNS; run++) {
+            Store store = new Store(rnd.nextBoolean());
+            AggregateNearCache<String, Thing> cache = newCache(1 + rnd.nextInt(50));
+            int keys = 1 + rnd.nextInt(20);
+
+            for (int step = 0; step < STEPS; step++) {
+                String key = "k" + rnd.nextInt(keys);
+                int op = rnd.nextInt(4);
+                if (op == 0) {
+                    store.commit(cache, key, "s" + step);
+                } else if (op == 1) {
+                    // Another writer commits while this read is between its SELECT and its cache put
+                    String racing = "k" + rnd.nextInt(keys);
+                    int at = step;
+                    cache.get(key, k -> {
+                        Optional<Thing> read = store.load(k);
+                        store.commit(cache, racing, "race" + at);
+                        return read;
+                    });
+                } else {
+                    Optional<Thing> read = cache.get(key, store::load);
+                    assertEquals(Optional.ofNullable(store.rows.get(key)).map(t -> t.state), read.map(t -> t.state),
+                            "Stale read of " + key);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testHitsAreIndependentCopies() {
+        Random rnd = new Random(20_002L);
+        for (int run = 0; run < RUNS; run++) {
+            Store store = new Store(true);
+            AggregateNearCache<String, Thing> cache = newCache(100);
+            store.commit(cache, "k", "original");
+
+            Thing first = cache.get("k", store::load).orElseThrow();
+            int reads = 1 + rnd.nextInt(10);
+            for (int i = 0; i < reads; i++) {
+                Thing hit = cache.get("k", store::load).orElseThrow();
+                assertNotSame(first, hit);
+                assertEquals("original", hit.state);
+                hit.state = "mutated by caller " + i; // A handler changing its aggregate without saving
+            }
+            assertEquals(1, store.loads, "Only the first read may reach the store");
+        }
+    }
+
+    @Test
+    public void testBatchReadLoadsOnlyMisses() {
+        Random rnd = new Random(20_003L);
+        for (int run = 0; run < RUNS; run++) {
+            Store store = new Store(false);
+            AggregateNearCache<String, Thing> cache = newCache(1_000);
+            int keys = 1 + rnd.nextInt(40);
+            for (int k = 0; k < keys; k++) store.commit(cache, "k" + k, "s" + k);
+
+            List<String> warm = new ArrayList<>();
+            for (int k = 0; k < keys; k++) {
+                if (rnd.nextBoolean()) {
+                    warm.add("k" + k);
+                    cache.get("k" + k, store::load);
+                }
+            }
+
+            List<String> requested = new ArrayList<>();
+            for (int k = 0; k < keys; k++) requested.add("k" + k);
+            requested.add("absent");
+            List<List<String>> loaderCalls = new ArrayList<>();
+            List<Thing> found = cache.getAll(requested, misses -> {
+                loaderCalls.add(misses);
+                return misses.stream().map(store::load).flatMap(Optional::stream).toList();
+            });
+
+            assertEquals(keys, found.size());
+            assertTrue(loaderCalls.size() == 1, "Misses are loaded in one call");
+            assertTrue(loaderCalls.getFirst().stream().noneMatch(warm::contains), "Hits must not be reloaded");
+            // The batch warmed the rest: every key is now a hit
+            int loadsBefore = store.loads;
+            for (int k = 0; k < keys; k++) cache.get("k" + k, store::load);
+            assertEquals(loadsBefore, store.loads);
+        }
+    }
+
+    /**
+     * Runs work as if in a Spring-managed transaction, then completes it the way the transaction manager does.
+     */
+    private static void inTransaction(boolean readOnly, boolean commit, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            work.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(s -> s.afterCompletion(commit
+                    ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    @Test
+    public void testUncommittedReadsAreNotCachedPastARollback() {
+        Random rnd = new Random(20_004L);
+        for (int run = 0; run < RUNS; run++) {
+            Store store = new Store(rnd.nextBoolean());
+            AggregateNearCache<String, Thing> cache = newCache(100);
+            int keys = 1 + rnd.nextInt(5);
+            for (int k = 0; k < keys; k++) store.commit(cache, "k" + k, "s" + k);
+
+            for (int step = 0; step < 50; step++) {
+                String key = "k" + rnd.nextInt(keys);
+                boolean readOnly = rnd.nextInt(3) == 0;
+                boolean commit = rnd.nextBoolean();
+                Map<String, Thing> written = new HashMap<>(); // This transaction's own, uncommitted rows
+                String state = "tx" + step;
+                inTransaction(readOnly, commit, () -> {
+                    boolean writeFirst = !readOnly && rnd.nextBoolean();
+                    Long version = store.versioned ? store.commits : null;
+                    if (writeFirst) {
+                        written.put(key, new Thing(key, version, state));
+                        cache.evictAfterCommit(key, version);
+                    }
+                    // Reads see the transaction's own writes, as the database does
+                    Thing read = cache.get(key, k -> Optional.ofNullable(written.get(k)).or(() -> store.load(k)))
+                            .orElseThrow();
+                    if (!readOnly && !writeFirst) {
+                        read.state = state;
+                        written.put(key, read);
+                        cache.evictAfterCommit(key, version);
+                    }
+                });
+                if (commit && !written.isEmpty()) {
+                    Thing row = written.get(key);
+                    store.rows.put(key, new Thing(key, row.getOptLockVer(), row.state));
+                    if (store.versioned) store.commits++;
+                }
+
+                String probe = "k" + rnd.nextInt(keys);
+                assertEquals(store.rows.get(probe).state, cache.get(probe, store::load).orElseThrow().state,
+                        "Stale read of " + probe + " after " + (commit ? "commit" : "rollback"));
+            }
+        }
+    }
+
+    @Test
+    public void testReadOnlyTransactionsStillWarmTheCache() {
+        Store store = new Store(true);
+        AggregateNearCache<String, Thing> cache = newCache(100);
+        store.commit(cache, "k", "original");
+
+        inTransaction(true, true, () -> cache.get("k", store::load));
+        assertEquals(1, cache.size());
+        cache.get("k", store::load);
+        assertEquals(1, store.loads);
+
+        cache.invalidateAll();
+        inTransaction(false, false, () -> cache.get("k", store::load));
+        assertEquals(0, cache.size(), "A rolled-back writing transaction must leave nothing behind");
+    }
+}
@@ -0,0 +1,233 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.CacheInvalidationBus;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.CacheInvalidationBus.Invalidation;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGNotification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Property tests: a transaction's invalidations reach subscribers once, after commit, with one entry per
+ * aggregate carrying the highest version (or null if any was unversioned), and never on rollback; the
+ * NOTIFY payloads stay under the size limit and decode back to the same invalidations; a listener under
+ * steady traffic still dispatches within the coalesce window or MAX_BURST; and a peer node's near cache stops
+ * serving an entry once the writer's commit is delivered.
+ */
+public class CacheInvalidationBusTest {
+
+    private static final int RUNS = 300;
+
+    private static final class Recorder implements CacheInvalidationBus.Subscriber {
+        final List<List<Invalidation>> batches = new ArrayList<>();
+        int resyncs;
+
+        @Override
+        public void onInvalidations(List<Invalidation> invalidations) {
+            batches.add(invalidations);
+        }
+
+        @Override
+        public void onResync() {
+            resyncs++;
+        }
+    }
+
+    private static final class Thing extends BaseAggregateRoot<Thing, Long, String, String> {
+        Thing(String uuId, Long optLockVer) {
+            super(1L, uuId, "bus-" + uuId, null, optLockVer, 1, null);
+        }
+
+        Thing copy() {
+            return new Thing(uuId, optLockVer);
+        }
+    }
+
+    private static Invalidation randomInvalidation(Random rnd) {
+        return new Invalidation("t" + rnd.nextInt(3), "u" + rnd.nextInt(8), rnd.nextInt(5) == 0 ? null : (long) rnd.nextInt(20));
+    }
+
+    /**
+     * Runs the body inside a simulated transaction and completes it the way the transaction manager would.
+     */
+    private static void inTransaction(boolean commit, Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) {
+                synchronizations.forEach(s -> s.beforeCommit(false));
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            int status = commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+            synchronizations.forEach(s -> s.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testTransactionDeliversOneCoalescedBatchOnCommitOnly() {
+        Random rnd = new Random(21_001L);
+        for (int run = 0; run < RUNS; run++) {
+            InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+            Recorder recorder = new Recorder();
+            bus.subscribe(recorder);
+
+            boolean commit = rnd.nextBoolean();
+            List<Invalidation> published = new ArrayList<>();
+            int count = 1 + rnd.nextInt(30);
+            inTransaction(commit, () -> {
+                for (int i = 0; i < count; i++) {
+                    Invalidation invalidation = randomInvalidation(rnd);
+                    published.add(invalidation);
+                    bus.publish(invalidation);
+                }
+                assertTrue(recorder.batches.isEmpty(), "Nothing may be delivered before the commit");
+            });
+
+            if (!commit) {
+                assertTrue(recorder.batches.isEmpty(), "A rollback must not invalidate anything");
+                continue;
+            }
+            assertEquals(1, recorder.batches.size());
+            Map<String, Invalidation> expected = new LinkedHashMap<>();
+            Map<String, Boolean> unversioned = new HashMap<>();
+            for (Invalidation p : published) {
+                String key = p.aggregateType() + "/" + p.uuId();
+                unversioned.merge(key, p.optLockVer() == null, Boolean::logicalOr);
+                expected.merge(key, p, (a, b) -> new Invalidation(a.aggregateType(), a.uuId(),
+                        a.optLockVer() == null || b.optLockVer() == null ? null : Math.max(a.optLockVer(), b.optLockVer())));
+            }
+            List<Invalidation> batch = recorder.batches.getFirst();
+            assertEquals(List.copyOf(expected.values()), batch);
+            for (Invalidation delivered : batch) {
+                assertEquals(unversioned.get(delivered.aggregateType() + "/" + delivered.uuId()), delivered.optLockVer() == null);
+            }
+        }
+    }
+
+    @Test
+    public void testPayloadsFitAndRoundTrip() {
+        Random rnd = new Random(21_002L);
+        for (int run = 0; run < RUNS; run++) {
+            List<Invalidation> invalidations = new ArrayList<>();
+            int count = rnd.nextInt(600);
+            for (int i = 0; i < count; i++) {
+                invalidations.add(new Invalidation("type-" + rnd.nextInt(8), java.util.UUID.randomUUID().toString(),
+                        rnd.nextBoolean() ? null : rnd.nextLong(Long.MAX_VALUE)));
+            }
+
+            List<String> payloads = PostgresCacheInvalidationBus.payloads(invalidations);
+            List<Invalidation> decoded = new ArrayList<>();
+            for (String payload : payloads) {
+                assertTrue(payload.getBytes(StandardCharsets.UTF_8).length < 8_000, "NOTIFY payload over the server limit");
+                decoded.addAll(PostgresCacheInvalidationBus.decode(payload));
+            }
+            assertEquals(invalidations, decoded);
+        }
+    }
+
+    @Test
+    public void testPeerCacheStopsServingCommittedEntries() {
+        Random rnd = new Random(21_003L);
+        for (int run = 0; run < RUNS; run++) {
+            InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+            AggregateNearCache<String, Thing> writer = new AggregateNearCache<>("things", 100, Duration.ofHours(1),
+                    Thing::copy, k -> k, s -> s, bus);
+            AggregateNearCache<String, Thing> peer = new AggregateNearCache<>("things", 100, Duration.ofHours(1),
+                    Thing::copy, k -> k, s -> s, bus);
+            bus.subscribe(new NearCacheInvalidationListener(List.of(peer)));
+
+            Map<String, Thing> rows = new HashMap<>();
+            int keys = 1 + rnd.nextInt(10);
+            for (int step = 0; step < 100; step++) {
+                String key = "k" + rnd.nextInt(keys);
+                int op = rnd.nextInt(3);
+                if (op == 0) {
+                    long version = step;
+                    inTransaction(true, () -> {
+                        rows.put(key, new Thing(key, version));
+                        writer.evictAfterCommit(key, version);
+                    });
+                } else if (op == 1 && rnd.nextInt(10) == 0) {
+                    bus.resync();
+                    assertEquals(0, peer.size());
+                } else {
+                    Optional<Thing> read = peer.get(key, k -> Optional.ofNullable(rows.get(k)).map(Thing::copy));
+                    assertEquals(Optional.ofNullable(rows.get(key)).map(Thing::getOptLockVer), read.map(Thing::getOptLockVer),
+                            "Peer served a stale " + key);
+                }
+            }
+        }
+    }
+
+    private static PGNotification[] notification(String channel, Random rnd, int entries) {
+        List<Invalidation> invalidations = new ArrayList<>();
+        for (int i = 0; i < entries; i++) invalidations.add(randomInvalidation(rnd));
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getName()).thenReturn(channel);
+        when(notification.getParameter()).thenReturn(String.join("\n", PostgresCacheInvalidationBus.payloads(invalidations)));
+        return new PGNotification[]{notification};
+    }
+
+    @Test
+    public void testBurstIsBoundedUnderSteadyTraffic() throws Exception {
+        Random rnd = new Random(21_004L);
+        for (int run = 0; run < 50; run++) {
+            long windowMillis = 1 + rnd.nextInt(100);
+            PostgresCacheInvalidationBus bus = new PostgresCacheInvalidationBus(null, null, "near_cache",
+                    Duration.ofMillis(windowMillis), Duration.ofSeconds(1));
+            long[] clock = {rnd.nextLong(1L << 40)};
+            long started = clock[0];
+            int[] polls = {0};
+            boolean quietAt = rnd.nextInt(4) == 0;
+            int quietAfter = rnd.nextInt(20);
+            // Notifications keep arriving faster than the window, unless the channel goes quiet
+            List<Invalidation> burst = bus.drainBurst(notification("near_cache", rnd, 1), timeout -> {
+                assertTrue(timeout > 0, "A zero timeout blocks forever");
+                assertTrue(clock[0] + timeout * 1_000_000L <= started + windowMillis * 1_000_000L, "Waits past the window");
+                if (quietAt && polls[0] == quietAfter) return new PGNotification[0];
+                polls[0]++;
+                clock[0] += rnd.nextInt(3) * 1_000_000L + rnd.nextInt(1_000_000);
+                return notification("near_cache", rnd, 1 + rnd.nextInt(3));
+            }, () -> clock[0]);
+
+            assertTrue(clock[0] - started < (windowMillis + 3) * 1_000_000L, "Burst outlived the window");
+            assertTrue(burst.size() >= 1 + polls[0]);
+            if (quietAt && quietAfter * 3L < windowMillis / 2) assertEquals(quietAfter, polls[0]);
+        }
+    }
+
+    @Test
+    public void testBurstIsBoundedBySizeWhenTimeStandsStill() throws Exception {
+        Random rnd = new Random(21_005L);
+        PostgresCacheInvalidationBus bus = new PostgresCacheInvalidationBus(null, null, "near_cache",
+                Duration.ofSeconds(10), Duration.ofSeconds(1));
+        int[] polls = {0};
+        List<Invalidation> burst = bus.drainBurst(notification("near_cache", rnd, 1), timeout -> {
+            polls[0]++;
+            return notification(rnd.nextInt(10) == 0 ? "other_channel" : "near_cache", rnd, 5);
+        }, () -> 0L);
+
+        assertTrue(burst.size() >= PostgresCacheInvalidationBus.MAX_BURST);
+        assertTrue(burst.size() < PostgresCacheInvalidationBus.MAX_BURST + 5);
+        assertTrue(polls[0] < PostgresCacheInvalidationBus.MAX_BURST, "Polled " + polls[0] + " times");
+    }
+}
@@ -0,0 +1,223 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.datasource;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.cache.AggregateNearCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(1);
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+
+    private static final class ManualClock extends Clock {
+        long millis = 1_000_000;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private record Node(DataSource dataSource, Connection connection) {
+        static Node mocked() throws SQLException {
+            DataSource dataSource = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            return new Node(dataSource, connection);
+        }
+    }
+
+    private final ManualClock clock = new ManualClock();
+    private final ReadYourWritesWindow window = new ReadYourWritesWindow(WINDOW, clock);
+    private Node primary;
+    private Node replicaA;
+    private Node replicaB;
+    private ReplicaLagMonitor monitor;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        primary = Node.mocked();
+        replicaA = Node.mocked();
+        replicaB = Node.mocked();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", replicaA.dataSource());
+        replicas.put("replica-b", replicaB.dataSource());
+        monitor = new ReplicaLagMonitor(replicas, MAX_LAG, Duration.ofSeconds(1));
+        routing = new ReadWriteRoutingDataSource(primary.dataSource(), replicas, monitor, window);
+    }
+
+    @AfterEach
+    public void resetReadOnlyFlag() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private static void readOnly(boolean readOnly) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void commitWrite() {
+        TransactionExecution execution = mock(TransactionExecution.class);
+        when(execution.isReadOnly()).thenReturn(false);
+        window.afterCommit(execution, null);
+    }
+
+    @Nested
+    class Routing {
+
+        @Test
+        public void testWritesGoToThePrimary() throws SQLException {
+            monitor.record("replica-a", 0);
+            readOnly(false);
+            assertSame(primary.connection(), routing.getConnection());
+        }
+
+        @Test
+        public void testReadOnlyTransactionGoesToAUsableReplica() throws SQLException {
+            monitor.record("replica-a", 0);
+            readOnly(true);
+            assertSame(replicaA.connection(), routing.getConnection());
+        }
+
+        @Test
+        public void testLaggingReplicaIsSkipped() throws SQLException {
+            monitor.record("replica-a", MAX_LAG.toMillis() + 1);
+            monitor.record("replica-b", 10);
+            readOnly(true);
+            assertSame(replicaB.connection(), routing.getConnection());
+            assertSame(replicaB.connection(), routing.getConnection());
+        }
+
+        @Test
+        public void testNoUsableReplicaFallsBackToThePrimary() throws SQLException {
+            monitor.record("replica-a", Long.MAX_VALUE);
+            readOnly(true);
+            assertSame(primary.connection(), routing.getConnection());
+        }
+
+        @Test
+        public void testReadsAlternateBetweenUsableReplicas() throws SQLException {
+            monitor.record("replica-a", 0);
+            monitor.record("replica-b", 0);
+            readOnly(true);
+            Connection first = routing.getConnection();
+            Connection second = routing.getConnection();
+            assertEquals(2, Set.of(first, second).size());
+            assertSame(first, routing.getConnection());
+        }
+    }
+
+    @Nested
+    class ReadYourWrites {
+
+        @Test
+        public void testReadsStayOnThePrimaryUntilTheWindowCloses() throws SQLException {
+            monitor.record("replica-a", 0);
+            readOnly(true);
+            commitWrite();
+
+            clock.millis += WINDOW.toMillis() - 1;
+            assertSame(primary.connection(), routing.getConnection());
+
+            clock.millis += 1;
+            assertSame(replicaA.connection(), routing.getConnection());
+        }
+    }
+
+    @Nested
+    class PinnedToPrimary {
+
+        @Test
+        public void testOnPrimaryRoutesReadOnlyReadsToThePrimary() throws SQLException {
+            monitor.record("replica-a", 0);
+            readOnly(true);
+
+            Connection pinned = ReadWriteRoutingDataSource.onPrimary(() -> connection());
+            Connection nested = ReadWriteRoutingDataSource.onPrimary(() -> {
+                ReadWriteRoutingDataSource.onPrimary(() -> connection());
+                return connection();
+            });
+
+            assertSame(primary.connection(), pinned);
+            assertSame(primary.connection(), nested, "The outer pin must survive the inner one");
+            assertSame(replicaA.connection(), routing.getConnection(), "The pin ends with the work");
+        }
+
+        /**
+         * Another node commits and its eviction arrives here while the replica has not replayed the commit:
+         * the miss that follows must not cache the replica's old row.
+         */
+        @Test
+        public void testNearCacheMissAfterRemoteEvictionReadsThePrimary() throws SQLException {
+            monitor.record("replica-a", 0);
+            Map<Connection, String> rows = new LinkedHashMap<>();
+            rows.put(primary.connection(), "new");
+            rows.put(replicaA.connection(), "old");
+            Function<String, Optional<Thing>> adapter = key -> Optional.of(new Thing(key, rows.get(connection())));
+            AggregateNearCache<String, Thing> cache = new AggregateNearCache<>("things", 100, Duration.ofMinutes(10),
+                    Thing::copy, Function.identity(), Function.identity(), null);
+            readOnly(true);
+
+            cache.evictRemote("k", null);
+
+            assertEquals("old", adapter.apply("k").orElseThrow().state, "A plain read-only read sees the replica");
+            assertEquals("new", cache.get("k", adapter).orElseThrow().state);
+            assertEquals("new", cache.get("k", key -> Optional.empty()).orElseThrow().state, "The primary's row is cached");
+        }
+    }
+
+    private Connection connection() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Thing extends BaseAggregateRoot<Thing, Long, String, String> {
+        final String state;
+
+        Thing(String uuId, String state) {
+            super(1L, uuId, "bus-" + uuId, null, null, 1, null);
+            this.state = state;
+        }
+
+        Thing copy() {
+            return new Thing(uuId, state);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceSheetRow;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser.Format;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceSheetParser.Rejection;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Property tests: rows written in either sheet format parse back to the same rows, bad rows are
+ * reported with their line and skipped, and the source is consumed lazily.
+ */
+public class JacksonPriceSheetParserTest {
+
+    private static final Currency[] CURRENCIES = {
+            Currency.getInstance("EUR"), Currency.getInstance("USD"), Currency.getInstance("JPY")
+    };
+
+    private final ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+    private final JacksonPriceSheetParser parser = new JacksonPriceSheetParser(jsonMapper,
+            new PurchasePricingCodec(jsonMapper, PurchasePricingCodec.Format.JSON));
+
+    private static List<PriceSheetRow> randomRows(Random rnd, int count) {
+        List<PriceSheetRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Currency currency = CURRENCIES[rnd.nextInt(CURRENCIES.length)];
+            PurchasePricing pricing = PriceFixedPurchase.of(BigDecimal.valueOf(1 + rnd.nextInt(1_000_000), 2), currency);
+            rows.add(new PriceSheetRow(0, UuId.generate(), currency, pricing));
+        }
+        return rows;
+    }
+
+    private String details(PurchasePricing pricing) throws Exception {
+        return jsonMapper.writeValueAsString(pricing);
+    }
+
+    private static String csvQuote(String field) {
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    private List<PriceSheetRow> parseAll(String sheet, Format format, List<Rejection> rejections) {
+        try (Stream<PriceSheetRow> rows = parser.parse(new StringReader(sheet), format, rejections::add)) {
+            return rows.toList();
+        }
+    }
+
+    private static void assertSameRows(List<PriceSheetRow> expected, List<PriceSheetRow> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).targetId(), actual.get(i).targetId());
+            assertEquals(expected.get(i).currency(), actual.get(i).currency());
+            assertEquals(expected.get(i).pricing(), actual.get(i).pricing());
+        }
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        public void testCsvRoundTrip() throws Exception {
+            List<PriceSheetRow> expected = randomRows(new Random(11L), 500);
+            StringBuilder sheet = new StringBuilder("strategy_details,item_id,pricing_type,currency_code\n");
+            for (PriceSheetRow row : expected) {
+                sheet.append(csvQuote(details(row.pricing()))).append(',')
+                        .append(row.targetId().value()).append(",FIXED,")
+                        .append(row.currency().getCurrencyCode()).append('\n');
+            }
+
+            List<Rejection> rejections = new ArrayList<>();
+            List<PriceSheetRow> parsed = parseAll(sheet.toString(), Format.CSV, rejections);
+
+            assertTrue(rejections.isEmpty(), rejections::toString);
+            assertSameRows(expected, parsed);
+            assertEquals(2, parsed.getFirst().line());
+            assertEquals(501, parsed.getLast().line());
+        }
+
+        @Test
+        public void testJsonLinesRoundTrip() throws Exception {
+            List<PriceSheetRow> expected = randomRows(new Random(12L), 500);
+            StringBuilder sheet = new StringBuilder();
+            for (PriceSheetRow row : expected) {
+                sheet.append("{\"itemId\":\"").append(row.targetId().value())
+                        .append("\",\"currencyCode\":\"").append(row.currency().getCurrencyCode())
+                        .append("\",\"pricingType\":\"").append(PricingStrategyType.of(row.pricing()))
+                        .append("\",\"strategyDetails\":").append(details(row.pricing())).append("}\n");
+                sheet.append('\n'); // Blank lines are ignored but still counted
+            }
+
+            List<Rejection> rejections = new ArrayList<>();
+            List<PriceSheetRow> parsed = parseAll(sheet.toString(), Format.JSONL, rejections);
+
+            assertTrue(rejections.isEmpty(), rejections::toString);
+            assertSameRows(expected, parsed);
+            assertEquals(999, parsed.getLast().line());
+        }
+
+        @Test
+        public void testQuotedFieldMaySpanLines() throws Exception {
+            PriceSheetRow row = randomRows(new Random(13L), 1).getFirst();
+            String pretty = jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(row.pricing());
+            String sheet = "item_id,currency_code,pricing_type,strategy_details\n"
+                    + row.targetId().value() + "," + row.currency().getCurrencyCode() + ",FIXED," + csvQuote(pretty) + "\n"
+                    + "not-a-uuid,EUR,FIXED,{}\n";
+
+            List<Rejection> rejections = new ArrayList<>();
+            List<PriceSheetRow> parsed = parseAll(sheet, Format.CSV, rejections);
+
+            assertSameRows(List.of(row), parsed);
+            assertEquals(1, rejections.size());
+            assertEquals(2 + pretty.split("\n").length, rejections.getFirst().line());
+        }
+    }
+
+    @Nested
+    class Rejections {
+
+        @Test
+        public void testBadRowsAreReportedAndSkipped() throws Exception {
+            PriceSheetRow good = randomRows(new Random(14L), 1).getFirst();
+            String goodLine = "{\"itemId\":\"" + good.targetId().value() + "\",\"currencyCode\":\"" + good.currency().getCurrencyCode()
+                    + "\",\"pricingType\":\"FIXED\",\"strategyDetails\":" + details(good.pricing()) + "}";
+            String sheet = String.join("\n",
+                    "{not json",
+                    goodLine.replace("\"FIXED\"", "\"NO_SUCH_STRATEGY\""),
+                    goodLine.replace(good.currency().getCurrencyCode(), "XXXX"),
+                    goodLine.replace("\"itemId\"", "\"item\""),
+                    goodLine);
+
+            List<Rejection> rejections = new ArrayList<>();
+            List<PriceSheetRow> parsed = parseAll(sheet, Format.JSONL, rejections);
+
+            assertSameRows(List.of(good), parsed);
+            assertEquals(List.of(1L, 2L, 3L, 4L), rejections.stream().map(Rejection::line).toList());
+        }
+
+        @Test
+        public void testCsvHeaderIsRequired() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> parseAll("item_id,currency_code,pricing_type\n", Format.CSV, new ArrayList<>()));
+        }
+
+        @Test
+        public void testUnbalancedQuoteIsBounded() {
+            String sheet = "item_id,currency_code,pricing_type,strategy_details\n\"" + "x,".repeat(JacksonPriceSheetParser.MAX_RECORD_CHARS);
+            assertThrows(IllegalArgumentException.class, () -> parseAll(sheet, Format.CSV, new ArrayList<>()));
+        }
+    }
+
+    @Nested
+    class Streaming {
+
+        @Test
+        public void testSourceIsReadLazily() throws Exception {
+            String line = "{\"itemId\":\"" + UuId.generate().value() + "\",\"currencyCode\":\"EUR\",\"pricingType\":\"FIXED\","
+                    + "\"strategyDetails\":" + details(PriceFixedPurchase.of(BigDecimal.TEN, CURRENCIES[0])) + "}\n";
+            long[] charsRead = new long[1];
+            Reader endless = new Reader() {
+                private int offset;
+
+                @Override
+                public int read(char[] buffer, int off, int len) {
+                    for (int i = 0; i < len; i++) {
+                        buffer[off + i] = line.charAt(offset);
+                        offset = (offset + 1) % line.length();
+                    }
+                    charsRead[0] += len;
+                    return len;
+                }
+
+                @Override
+                public void close() {}
+            };
+
+            try (Stream<PriceSheetRow> rows = parser.parse(endless, Format.JSONL, r -> fail(r.reason()))) {
+                assertEquals(10_000, rows.limit(10_000).count());
+            }
+            // Only what the buffered reader pulled ahead of the 10,000th row, not an endless sheet
+            assertTrue(charsRead[0] < (long) line.length() * 10_000 + 65_536);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PriceListMapStructImplTest {
+
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+    private static final OffsetDateTime MODIFIED = OffsetDateTime.of(2026, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime SYNCED = OffsetDateTime.of(2026, 2, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final PriceListMapStructImpl mapper = new PriceListMapStructImpl(
+            new PurchasePricingCodec(new ObjectMapper().findAndRegisterModules(), PurchasePricingCodec.Format.JSON));
+
+    private static PriceListEntity entity(OffsetDateTime lastSyncedAt) {
+        PriceListEntity entity = new PriceListEntity();
+        entity.setId(7L);
+        entity.setUuid(UUID.randomUUID());
+        entity.setBusinessUuid(UUID.randomUUID());
+        entity.setStrategySlug(PricingStrategyType.FIXED.name());
+        entity.setVersion(3);
+        entity.setActive(true);
+        entity.setCreatedAt(MODIFIED.minusDays(90));
+        entity.setLastModifiedAt(MODIFIED);
+        entity.setLastModifiedBy("admin");
+        entity.setLastSyncedAt(lastSyncedAt);
+        return entity;
+    }
+
+    private static PriceListAggregate aggregate(OffsetDateTime lastSyncedAt) {
+        return new PriceListAggregate(null, PriceListUuId.generate(),
+                new PriceListBusinessUuId(UuId.generate()), PricingStrategyType.FIXED,
+                new PriceListVersion(new Version(1)), true, new HashMap<>(), AuditMetadata.create(ADMIN),
+                new LifecycleState(false, false), 0L, 1, lastSyncedAt);
+    }
+
+    @Nested
+    class ToAggregate {
+
+        @Test
+        public void testLastSyncedAtIsReadFromItsOwnColumn() {
+            PriceListAggregate aggregate = mapper.toAggregate(entity(SYNCED));
+
+            assertEquals(SYNCED, aggregate.getLastSyncedAt());
+            assertEquals(MODIFIED, aggregate.getAuditMetadata().lastModified().value());
+        }
+
+        @Test
+        public void testNeverSyncedRowHasNoLastSyncedAt() {
+            assertNull(mapper.toAggregate(entity(null)).getLastSyncedAt());
+        }
+    }
+
+    @Nested
+    class ToEntity {
+
+        @Test
+        public void testNewRowCarriesTheAggregatesLastSyncedAt() {
+            assertEquals(SYNCED, mapper.toEntity(aggregate(SYNCED)).getLastSyncedAt());
+            assertNull(mapper.toEntity(aggregate(null)).getLastSyncedAt());
+        }
+
+        @Test
+        public void testUpdateLeavesLastSyncedAtToTheScheduler() {
+            // The scheduler has marked the row since the aggregate was loaded
+            PriceListEntity managed = entity(MODIFIED.plusMinutes(5));
+
+            mapper.updateEntity(aggregate(SYNCED), managed);
+
+            assertEquals(MODIFIED.plusMinutes(5), managed.getLastSyncedAt());
+        }
+
+        @Test
+        public void testUpdateDoesNotClearAMarkedRow() {
+            PriceListEntity managed = entity(SYNCED);
+
+            mapper.updateEntity(aggregate(null), managed);
+
+            assertEquals(SYNCED, managed.getLastSyncedAt());
+        }
+    }
+}
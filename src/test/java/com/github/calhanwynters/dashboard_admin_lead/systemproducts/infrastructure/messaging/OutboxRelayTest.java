@@ -0,0 +1,297 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.DomainEventBroker;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.ports.out.DomainEventBroker.Message;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging.OutboxRelay.Batch;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.messaging.OutboxRelay.Claimed;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Property tests: compacting a claimed batch deletes every claimed row, publishes in sequence order,
+ * never drops a non-sync event, keeps exactly the latest sync event of each aggregate, and with deltas keeps
+ * the latest snapshot of each aggregate plus every sync delta after it; relays claiming concurrently, failing
+ * and re-claiming expired leases still publish each aggregate's events once and in order.
+ */
+public class OutboxRelayTest {
+
+    private static final int RUNS = 500;
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static String key(Message message) {
+        return message.aggregateType() + "/" + message.aggregateUuId();
+    }
+
+    @Test
+    public void testCompactionKeepsLatestSyncAndEveryOtherEvent() {
+        Random rnd = new Random(23_001L);
+        for (int run = 0; run < RUNS; run++) {
+            List<Claimed> claimed = new ArrayList<>();
+            int rows = rnd.nextInt(200);
+            long sequence = rnd.nextInt(1_000);
+            for (int i = 0; i < rows; i++) {
+                sequence += 1 + rnd.nextInt(3); // Gaps: other relays hold the rows in between
+                boolean sync = rnd.nextBoolean();
+                Message message = new Message(sequence, "t" + rnd.nextInt(2), "u" + rnd.nextInt(6),
+                        sync ? "ThingDataSyncedEvent" : "ThingRenamedEvent", "{}", NOW);
+                claimed.add(new Claimed(message, sync));
+            }
+            Collections.shuffle(claimed, rnd); // RETURNING gives no order
+
+            Batch batch = OutboxRelay.compact(claimed);
+
+            Set<Long> claimedIds = new HashSet<>();
+            claimed.forEach(c -> claimedIds.add(c.message().sequence()));
+            assertEquals(claimedIds, new HashSet<>(batch.delete()));
+            assertEquals(claimed.size(), batch.delete().size());
+
+            for (int i = 1; i < batch.publish().size(); i++) {
+                assertTrue(batch.publish().get(i - 1).sequence() < batch.publish().get(i).sequence(), "Out of order");
+            }
+
+            Map<String, Long> latestSync = new HashMap<>();
+            int others = 0;
+            for (Claimed c : claimed) {
+                if (c.compactable()) latestSync.merge(key(c.message()), c.message().sequence(), Math::max);
+                else others++;
+            }
+            Map<String, Long> publishedSync = new HashMap<>();
+            int publishedOthers = 0;
+            for (Message m : batch.publish()) {
+                if (m.eventType().endsWith("DataSyncedEvent")) {
+                    assertEquals(null, publishedSync.put(key(m), m.sequence()), "Two syncs of " + key(m));
+                } else {
+                    publishedOthers++;
+                }
+            }
+            assertEquals(others, publishedOthers);
+            assertEquals(latestSync, publishedSync);
+        }
+    }
+
+    @Test
+    public void testCompactionKeepsDeltasAfterTheLatestSnapshot() {
+        Random rnd = new Random(25_201L);
+        for (int run = 0; run < RUNS; run++) {
+            List<Claimed> claimed = new ArrayList<>();
+            long sequence = 0;
+            for (int i = 0; i < rnd.nextInt(200); i++) {
+                sequence += 1 + rnd.nextInt(3);
+                String eventType = switch (rnd.nextInt(4)) {
+                    case 0 -> "ThingDataSyncedEvent";
+                    case 1, 2 -> "ThingDataSyncedDelta";
+                    default -> "ThingRenamedEvent";
+                };
+                Message message = new Message(sequence, "t", "u" + rnd.nextInt(5), eventType, "{}", NOW);
+                claimed.add(new Claimed(message, !eventType.equals("ThingRenamedEvent")));
+            }
+            Collections.shuffle(claimed, rnd);
+
+            Batch batch = OutboxRelay.compact(claimed);
+
+            Map<String, Long> latestSnapshot = new HashMap<>();
+            for (Claimed c : claimed) {
+                if (c.message().eventType().equals("ThingDataSyncedEvent")) {
+                    latestSnapshot.merge(key(c.message()), c.message().sequence(), Math::max);
+                }
+            }
+            Set<Long> expected = new HashSet<>();
+            for (Claimed c : claimed) {
+                Long snapshot = latestSnapshot.get(key(c.message()));
+                if (!c.compactable() || snapshot == null || c.message().sequence() >= snapshot) {
+                    expected.add(c.message().sequence());
+                }
+            }
+            Set<Long> published = new HashSet<>();
+            batch.publish().forEach(m -> published.add(m.sequence()));
+            assertEquals(expected, published);
+            assertEquals(claimed.size(), batch.delete().size());
+        }
+    }
+
+    /**
+     * event_outbox in memory, claimed by the rule CLAIM_SQL states: the candidates are the aggregates of the
+     * oldest unleased rows up to the slice, a candidate is claimable while its oldest row carries no live
+     * lease, and a claim leases the rows of claimable aggregates in id order up to the limit. Statements are
+     * atomic here, so relays interleave between statements.
+     */
+    private static final class Outbox {
+        record Row(long id, String aggregateUuId) {}
+
+        final TreeMap<Long, Row> rows = new TreeMap<>();
+        final Map<Long, Long> leases = new HashMap<>(); // id -> lease end, in clock millis
+        final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        long clock;
+        long sequence;
+        int scanned; // Rows read by the last claim's slice scan
+
+        @SuppressWarnings("unchecked")
+        Outbox() {
+            when(jdbcTemplate.query(eq(OutboxRelay.CLAIM_SQL), any(RowMapper.class), any(), any(), any())).thenAnswer(call ->
+                    claim(call.getArgument(2), Math.round((Double) call.getArgument(3) * 1000), call.getArgument(4)));
+            doAnswer(call -> {
+                PreparedStatement ps = mock(PreparedStatement.class);
+                Connection connection = mock(Connection.class);
+                when(ps.getConnection()).thenReturn(connection);
+                when(connection.createArrayOf(anyString(), any())).thenAnswer(array -> {
+                    for (Object id : (Object[]) array.getArgument(1)) {
+                        rows.remove((Long) id);
+                        leases.remove((Long) id);
+                    }
+                    return null;
+                });
+                ((PreparedStatementSetter) call.getArgument(1)).setValues(ps);
+                return 1;
+            }).when(jdbcTemplate).update(eq(OutboxRelay.DELETE_SQL), any(PreparedStatementSetter.class));
+        }
+
+        void append(String aggregateUuId) {
+            long id = ++sequence;
+            rows.put(id, new Row(id, aggregateUuId));
+        }
+
+        private boolean leased(long id) {
+            Long lease = leases.get(id);
+            return lease != null && lease >= clock;
+        }
+
+        private List<Claimed> claim(int slice, long leaseMillis, int limit) {
+            Set<String> candidates = new HashSet<>();
+            int sliced = 0;
+            scanned = 0;
+            for (Row row : rows.values()) {
+                if (sliced == slice) break;
+                scanned++;
+                if (leased(row.id())) continue;
+                candidates.add(row.aggregateUuId());
+                sliced++;
+            }
+            Map<String, Long> heads = new HashMap<>();
+            rows.values().forEach(row -> heads.merge(row.aggregateUuId(), row.id(), Math::min));
+            Set<String> owned = new HashSet<>();
+            for (String aggregate : candidates) {
+                if (!leased(heads.get(aggregate))) owned.add(aggregate);
+            }
+            List<Claimed> claimed = new ArrayList<>();
+            for (Row row : rows.values()) {
+                if (claimed.size() == limit) break;
+                if (!owned.contains(row.aggregateUuId())) continue;
+                leases.put(row.id(), clock + leaseMillis);
+                claimed.add(new Claimed(new Message(row.id(), "t", row.aggregateUuId(), "ThingRenamedEvent", "{}", NOW), false));
+            }
+            Collections.reverse(claimed); // RETURNING gives no order
+            return claimed;
+        }
+    }
+
+    @Test
+    public void testConcurrentRelaysPublishEachAggregateInOrder() {
+        Random rnd = new Random(23_101L);
+        Duration lease = Duration.ofSeconds(30);
+        for (int run = 0; run < 50; run++) {
+            Outbox outbox = new Outbox();
+            List<Message> delivered = new ArrayList<>();
+            OutboxRelay[] relays = new OutboxRelay[2];
+            int[] overlaps = {0};
+            for (int r = 0; r < relays.length; r++) {
+                int self = r;
+                DomainEventBroker broker = messages -> {
+                    // While this relay holds its claim, the other one may run whole rounds
+                    if (rnd.nextInt(3) == 0) {
+                        overlaps[0]++;
+                        relays[1 - self].relayOnce();
+                    }
+                    if (rnd.nextInt(6) == 0) {
+                        // Rejected: the rows keep their lease, and another relay takes them once it expires
+                        outbox.clock += rnd.nextBoolean() ? lease.toMillis() + 1 : 0;
+                        throw new IllegalStateException("broker unavailable");
+                    }
+                    delivered.addAll(messages);
+                };
+                relays[r] = new OutboxRelay(outbox.jdbcTemplate, broker, 1 + rnd.nextInt(8), lease, Duration.ZERO);
+            }
+
+            for (int step = 0; step < 400; step++) {
+                for (int i = 0; i < rnd.nextInt(4); i++) outbox.append("u" + rnd.nextInt(5));
+                try {
+                    relays[rnd.nextInt(2)].relayOnce();
+                } catch (IllegalStateException rejected) {
+                    // Retried on a later round
+                }
+                outbox.clock += rnd.nextInt(1_000);
+            }
+            // Drain: every lease expires and nothing fails any more
+            outbox.clock += lease.toMillis() + 1;
+            while (!outbox.rows.isEmpty()) {
+                try {
+                    relays[0].relayOnce();
+                } catch (IllegalStateException rejected) {
+                    outbox.clock += lease.toMillis() + 1;
+                }
+            }
+
+            assertTrue(overlaps[0] > 0, "Relays never overlapped");
+            Map<String, Long> last = new HashMap<>();
+            Set<Long> seen = new HashSet<>();
+            for (Message message : delivered) {
+                assertTrue(seen.add(message.sequence()), "Delivered twice: " + message.sequence());
+                Long previous = last.put(message.aggregateUuId(), message.sequence());
+                assertTrue(previous == null || previous < message.sequence(),
+                        message.aggregateUuId() + ": " + message.sequence() + " after " + previous);
+            }
+            assertEquals(outbox.sequence, seen.size());
+        }
+    }
+
+    @Test
+    public void testLargeBacklogIsClaimedFromTheOldestRows() {
+        Outbox outbox = new Outbox();
+        for (int i = 0; i < 200_000; i++) outbox.append("u" + (i % 50_000));
+        List<Message> delivered = new ArrayList<>();
+        OutboxRelay first = new OutboxRelay(outbox.jdbcTemplate, delivered::addAll, 1_000, Duration.ofSeconds(30), Duration.ZERO);
+
+        assertEquals(1_000, first.relayOnce());
+        assertEquals(1_000, outbox.scanned, "The scan stops at the slice");
+        for (int i = 0; i < 1_000; i++) assertEquals(i + 1L, delivered.get(i).sequence());
+
+        // A second relay skips the leased rows of the first and claims the next oldest ones
+        OutboxRelay second = new OutboxRelay(outbox.jdbcTemplate, messages -> {
+            delivered.addAll(messages);
+            first.relayOnce();
+        }, 1_000, Duration.ofSeconds(30), Duration.ZERO);
+        delivered.clear();
+        second.relayOnce();
+        assertEquals(2_000, delivered.size());
+        assertEquals(1_001L, delivered.getFirst().sequence());
+        assertEquals(2_000, outbox.scanned, "Rows leased by the second relay are skipped, the slice is still 1000");
+
+        while (!outbox.rows.isEmpty()) first.relayOnce();
+        assertEquals(0, outbox.leases.size());
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Property tests: following nextCursor from a null start must visit every matching row exactly once, in id order,
+ * with no page larger than the capped limit.
+ */
+public class BulkReadsTest {
+
+    private static final int RUNS = 200;
+
+    /**
+     * Executes "WHERE id > :afterId ORDER BY id LIMIT n" over an id set, as the keyset queries do.
+     */
+    private static List<Long> query(TreeSet<Long> table, long afterId, Limit limit) {
+        return table.tailSet(afterId, false).stream().limit(limit.max()).toList();
+    }
+
+    @Test
+    public void testCursorVisitsEveryRowOnceInOrder() {
+        Random rnd = new Random(16_001L);
+        for (int run = 0; run < RUNS; run++) {
+            TreeSet<Long> table = new TreeSet<>();
+            int rows = rnd.nextInt(rnd.nextBoolean() ? 20 : 3_000);
+            while (table.size() < rows) table.add(1L + rnd.nextInt(1_000_000));
+            int limit = 1 + rnd.nextInt(rnd.nextBoolean() ? 10 : 2 * KeysetPage.MAX_LIMIT);
+
+            List<Long> visited = new ArrayList<>();
+            Long cursor = null;
+            int pages = 0;
+            do {
+                KeysetPage<String> page = BulkReads.page(query(table, BulkReads.after(cursor), BulkReads.limit(limit)),
+                        limit, id -> id, id -> "agg-" + id);
+                assertTrue(page.items().size() <= Math.min(limit, KeysetPage.MAX_LIMIT));
+                page.items().forEach(item -> visited.add(Long.parseLong(item.substring(4))));
+                cursor = page.nextCursor();
+                assertTrue(++pages <= table.size() + 1, "Cursor must always advance");
+            } while (cursor != null);
+
+            assertEquals(new ArrayList<>(table), visited);
+        }
+    }
+
+    @Nested
+    class Streams {
+
+        private final EntityManager entityManager = mock(EntityManager.class);
+        private final List<Long> mapped = new ArrayList<>();
+
+        private Stream<String> stream(Stream<Long> rows, int chunkSize) {
+            return BulkReads.stream(rows, chunkSize, entityManager, id -> {
+                mapped.add(id);
+                return "agg-" + id;
+            });
+        }
+
+        @Test
+        public void testNothingIsMappedBeforeTheFirstPull() {
+            stream(Stream.of(1L, 2L, 3L), 2);
+
+            assertTrue(mapped.isEmpty());
+            verifyNoInteractions(entityManager);
+        }
+
+        @Test
+        public void testRowsAreMappedAndDetachedAChunkAtATime() {
+            assertEquals(List.of("agg-1"), stream(Stream.of(1L, 2L, 3L, 4L, 5L), 2).limit(1).toList());
+
+            assertEquals(List.of(1L, 2L), mapped);
+            InOrder order = inOrder(entityManager);
+            order.verify(entityManager).detach(1L);
+            order.verify(entityManager).detach(2L);
+            verify(entityManager, never()).detach(3L);
+        }
+
+        @Test
+        public void testEveryRowIsMappedOnceInOrder() {
+            assertEquals(List.of("agg-1", "agg-2", "agg-3", "agg-4", "agg-5"),
+                    stream(Stream.of(1L, 2L, 3L, 4L, 5L), 2).toList());
+
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L), mapped);
+            verify(entityManager, times(5)).detach(any());
+        }
+
+        @Test
+        public void testClosingTheStreamClosesTheRows() {
+            boolean[] closed = {false};
+
+            stream(Stream.of(1L).onClose(() -> closed[0] = true), 2).close();
+
+            assertTrue(closed[0]);
+        }
+
+        @Test
+        public void testDefaultChunkMatchesTheLargestPage() {
+            assertEquals(KeysetPage.MAX_LIMIT, BulkReads.STREAM_CHUNK);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.abstractclasses.BaseAggregateRoot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FindOption;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ManagedWritesTest {
+
+    private static final class Thing extends BaseAggregateRoot<Thing, Long, String, String> {
+        private final String name;
+
+        Thing(Long id, Long optLockVer, String name) {
+            super(id, "uuid-" + name, "bus-" + name, null, optLockVer, 1, null);
+            this.name = name;
+        }
+    }
+
+    private static final class Row {
+        Long id;
+        Long version;
+        String name;
+        boolean dirty;
+    }
+
+    /**
+     * An in-memory table behind a mocked EntityManager: persist takes ids from a sequence, flush bumps the
+     * version of every new or modified row, and findMultiple answers in id order with nulls for missing rows.
+     */
+    private static final class Store {
+        final Map<Long, Row> rows = new HashMap<>();
+        final List<Row> persisted = new ArrayList<>();
+        final EntityManager entityManager = mock(EntityManager.class);
+        long sequence = 1_000;
+
+        Store() {
+            Session session = mock(Session.class);
+            when(entityManager.unwrap(Session.class)).thenReturn(session);
+            when(session.findMultiple(eq(Row.class), anyList(), any(FindOption.class))).thenAnswer(call -> {
+                List<?> ids = call.getArgument(1);
+                List<Row> found = new ArrayList<>();
+                for (Object id : ids) found.add(rows.get((Long) id));
+                return found;
+            });
+            doAnswer(call -> {
+                Row row = call.getArgument(0);
+                row.id = ++sequence;
+                row.dirty = true;
+                rows.put(row.id, row);
+                persisted.add(row);
+                return null;
+            }).when(entityManager).persist(any());
+            doAnswer(call -> {
+                for (Row row : rows.values()) {
+                    if (!row.dirty) continue;
+                    row.version = row.version == null ? 0L : row.version + 1;
+                    row.dirty = false;
+                }
+                return null;
+            }).when(entityManager).flush();
+        }
+
+        Row row(long id, Long version, String name) {
+            Row row = new Row();
+            row.id = id;
+            row.version = version;
+            row.name = name;
+            rows.put(id, row);
+            return row;
+        }
+
+        ManagedWrites.Binding<Thing, Long, Row> binding(boolean versioned) {
+            return new ManagedWrites.Binding<>(Row.class,
+                    Thing::getId,
+                    row -> row.id,
+                    id -> id,
+                    thing -> {
+                        Row row = new Row();
+                        row.name = thing.name;
+                        return row;
+                    },
+                    (thing, row) -> {
+                        if (!thing.name.equals(row.name)) {
+                            row.name = thing.name;
+                            row.dirty = true;
+                        }
+                    },
+                    versioned ? row -> row.version : row -> null);
+        }
+    }
+
+    private final Store store = new Store();
+
+    private List<Thing> save(boolean versioned, Thing... things) {
+        return ManagedWrites.saveAll(List.of(things), store.binding(versioned), store.entityManager);
+    }
+
+    @Nested
+    class SaveAll {
+
+        @Test
+        public void testCallersAggregatesComeBackInOrder() {
+            store.row(1L, 3L, "a");
+            store.row(2L, 5L, "b");
+            Thing first = new Thing(2L, 5L, "b");
+            Thing fresh = new Thing(null, null, "c");
+            Thing last = new Thing(1L, 3L, "a");
+
+            List<Thing> saved = save(true, first, fresh, last);
+
+            assertEquals(3, saved.size());
+            assertSame(first, saved.get(0), "The caller's aggregate is returned, not a rebuilt one");
+            assertSame(fresh, saved.get(1));
+            assertSame(last, saved.get(2));
+        }
+
+        @Test
+        public void testNewAggregateGetsASequenceIdAndItsFirstVersion() {
+            Thing fresh = new Thing(null, null, "new");
+
+            save(true, fresh);
+
+            assertEquals(1_001L, fresh.getId());
+            assertEquals(0L, fresh.getOptLockVer());
+            assertEquals("new", store.rows.get(1_001L).name);
+        }
+
+        @Test
+        public void testChangedRowIsUpdatedInPlaceWithTheFlushedVersion() {
+            Row row = store.row(1L, 3L, "before");
+            Thing thing = new Thing(1L, 3L, "after");
+
+            save(true, thing);
+
+            assertEquals("after", row.name);
+            assertEquals(4L, thing.getOptLockVer());
+            assertTrue(store.persisted.isEmpty(), "Only new aggregates are persisted");
+            verify(store.entityManager, never()).merge(any());
+        }
+
+        @Test
+        public void testUnchangedRowKeepsItsVersion() {
+            store.row(1L, 3L, "same");
+            Thing thing = new Thing(1L, 3L, "same");
+
+            save(true, thing);
+
+            assertEquals(3L, thing.getOptLockVer());
+        }
+
+        @Test
+        public void testTableWithoutVersionLeavesTheLockVersionUnset() {
+            store.row(1L, null, "before");
+            Thing existing = new Thing(1L, null, "after");
+            Thing fresh = new Thing(null, null, "new");
+
+            save(false, existing, fresh);
+
+            assertNull(existing.getOptLockVer());
+            assertNull(fresh.getOptLockVer());
+            assertEquals(1_001L, fresh.getId());
+        }
+    }
+
+    @Nested
+    class Rejections {
+
+        @Test
+        public void testLockVersionBehindTheRowIsRejectedBeforeFlush() {
+            Row row = store.row(1L, 4L, "n");
+
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> save(true, new Thing(1L, 3L, "changed")));
+            verify(store.entityManager, never()).flush();
+            assertEquals("n", row.name);
+        }
+
+        @Test
+        public void testLockVersionAheadOfTheRowIsRejectedBeforeFlush() {
+            store.row(1L, 4L, "n");
+
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> save(true, new Thing(1L, 6L, "changed")));
+            verify(store.entityManager, never()).flush();
+        }
+
+        @Test
+        public void testUnknownIdIsRejected() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> save(false, new Thing(42L, null, "ghost")));
+            assertTrue(e.getMessage().contains("42"));
+        }
+    }
+}
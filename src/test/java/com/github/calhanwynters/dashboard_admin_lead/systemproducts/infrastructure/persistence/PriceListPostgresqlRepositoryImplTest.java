@@ -0,0 +1,178 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.PriceListSnapshotRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.mapstructs.PriceListMapStruct;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FindOption;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PriceListPostgresqlRepositoryImplTest {
+
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+
+    private final Map<Long, PriceListEntity> table = new HashMap<>();
+    private final List<PriceListEntity> dirty = new ArrayList<>();
+    private final PriceListMapStruct mapper = mock(PriceListMapStruct.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private PriceListPostgresqlRepositoryImpl repository;
+
+    /**
+     * A price list as the mapper loads it: version_count is both the lock and the price list version.
+     */
+    private static PriceListAggregate loaded(long id, int versionCount) {
+        return new PriceListAggregate(PriceListId.of(id), PriceListUuId.generate(),
+                new PriceListBusinessUuId(UuId.generate()), PricingStrategyType.FIXED,
+                new PriceListVersion(new Version(versionCount)), true, new HashMap<>(), AuditMetadata.create(ADMIN),
+                new LifecycleState(false, false), (long) versionCount, 1, null);
+    }
+
+    private static PriceListAggregate created() {
+        return PriceListAggregate.create(PriceListUuId.generate(), new PriceListBusinessUuId(UuId.generate()),
+                PricingStrategyType.FIXED, ADMIN);
+    }
+
+    private void stored(long id, int versionCount) {
+        PriceListEntity entity = new PriceListEntity();
+        entity.setId(id);
+        entity.setVersion(versionCount);
+        table.put(id, entity);
+        dirty.add(entity);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        PriceListJpaRepository jpaRepository = mock(PriceListJpaRepository.class);
+        Session session = mock(Session.class);
+        DomainEventOutbox outbox = mock(DomainEventOutbox.class);
+        long[] sequence = {500};
+
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.findMultiple(eq(PriceListEntity.class), anyList(), any(FindOption.class))).thenAnswer(call -> {
+            List<PriceListEntity> found = new ArrayList<>();
+            for (Object id : (List<?>) call.getArgument(1)) found.add(table.get((Long) id));
+            return found;
+        });
+        when(mapper.toEntity(any())).thenAnswer(call -> {
+            PriceListEntity entity = new PriceListEntity();
+            entity.setVersion(((PriceListAggregate) call.getArgument(0)).getPriceListVersion().value().value());
+            return entity;
+        });
+        when(jpaRepository.save(any(PriceListEntity.class))).thenAnswer(call -> {
+            PriceListEntity entity = call.getArgument(0);
+            entity.setId(++sequence[0]);
+            return entity;
+        });
+        // The flush inserts new roots with their version and bumps the updated ones
+        doAnswer(call -> {
+            for (PriceListEntity entity : dirty) entity.setVersion(entity.getVersion() + 1);
+            return null;
+        }).when(jpaRepository).flush();
+        when(outbox.source(anyString(), any())).thenAnswer(call ->
+                new DomainEventOutbox.Source<>(outbox, call.getArgument(0), call.getArgument(1)));
+
+        repository = new PriceListPostgresqlRepositoryImpl(jpaRepository, mapper,
+                mock(PriceListEntryWriter.class), mock(PriceListSnapshotWriter.class),
+                mock(PriceListSnapshotRepository.class), entityManager, outbox);
+    }
+
+    @Nested
+    class SaveAll {
+
+        @Test
+        public void testReturnsTheCallersInstancesInOrder() {
+            stored(1L, 4);
+            PriceListAggregate existing = loaded(1L, 4);
+            PriceListAggregate fresh = created();
+
+            List<PriceListAggregate> saved = repository.saveAll(List.of(existing, fresh));
+
+            assertEquals(2, saved.size());
+            assertSame(existing, saved.get(0));
+            assertSame(fresh, saved.get(1));
+            assertEquals(501L, fresh.getId().value().value());
+            verify(mapper, never()).toAggregate(any());
+            verify(entityManager, never()).refresh(any());
+        }
+
+        @Test
+        public void testExistingRowCarriesTheFlushedLockVersion() {
+            stored(1L, 4);
+            PriceListAggregate existing = loaded(1L, 4);
+
+            repository.save(existing);
+
+            assertEquals(5L, existing.getOptLockVer());
+            assertEquals(table.get(1L).getVersion().longValue(), existing.getOptLockVer());
+        }
+
+        @Test
+        public void testNewRowKeepsItsFirstVersion() {
+            PriceListAggregate fresh = created();
+
+            repository.save(fresh);
+
+            assertEquals(1, fresh.getPriceListVersion().value().value());
+            assertEquals(1L, fresh.getOptLockVer());
+        }
+    }
+
+    /**
+     * Root-only changes bump version_count at the flush without incrementing the price list version in the
+     * domain; the saved aggregate must still report what a reload would.
+     */
+    @Nested
+    class RootOnlyChanges {
+
+        @Test
+        public void testDeactivationReportsTheFlushedPriceListVersion() {
+            stored(1L, 4);
+            PriceListAggregate priceList = loaded(1L, 4);
+            priceList.toggleActivation(false, ADMIN);
+
+            PriceListAggregate saved = repository.save(priceList);
+
+            assertEquals(5, saved.getPriceListVersion().value().value());
+            assertEquals(saved.getOptLockVer(), (long) saved.getPriceListVersion().value().value());
+        }
+
+        @Test
+        public void testArchiveReportsTheFlushedPriceListVersion() {
+            stored(1L, 7);
+            PriceListAggregate priceList = loaded(1L, 7);
+            priceList.archive(ADMIN);
+
+            assertEquals(8, repository.save(priceList).getPriceListVersion().value().value());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.application.usecases.pricelist.dto.PriceListDTO;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFractScaledPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.ports.out.KeysetPage;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceEntryEmbeddable;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListJpaRepository;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.rows.PriceListRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Property test: the projected read model must equal PriceListDTO.fromAggregate for the same stored state,
+ * last sync time included, whichever codec format the entries were written in.
+ */
+public class PriceListQueryPostgresqlRepositoryImplTest {
+
+    private static final Currency[] CURRENCIES = {
+            Currency.getInstance("EUR"), Currency.getInstance("USD"), Currency.getInstance("JPY")
+    };
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+
+    private static PurchasePricing randomModel(Random rnd, Currency currency) {
+        return rnd.nextBoolean()
+                ? PriceFixedPurchase.of(BigDecimal.valueOf(1 + rnd.nextInt(100_000), 2), currency)
+                : PriceFractScaledPurchase.of(BigDecimal.valueOf(rnd.nextInt(10_000), 2),
+                        BigDecimal.valueOf(1 + rnd.nextInt(100_000), 3), currency);
+    }
+
+    @Test
+    public void testProjectionMatchesAggregateMapping() {
+        Random rnd = new Random(18_001L);
+        for (int run = 0; run < 100; run++) {
+            PurchasePricingCodec codec = new PurchasePricingCodec(new ObjectMapper().findAndRegisterModules(),
+                    rnd.nextBoolean() ? PurchasePricingCodec.Format.JSON : PurchasePricingCodec.Format.BINARY);
+
+            Map<UuId, Map<Currency, PurchasePricing>> prices = new HashMap<>();
+            List<Object[]> entryRows = new ArrayList<>();
+            for (int i = 0, items = rnd.nextInt(12); i < items; i++) {
+                UuId itemId = UuId.generate();
+                Map<Currency, PurchasePricing> row = new HashMap<>();
+                for (Currency currency : CURRENCIES) {
+                    if (rnd.nextInt(3) == 0) continue;
+                    PurchasePricing model = randomModel(rnd, currency);
+                    row.put(currency, model);
+                    PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+                    entry.setItemId(itemId.asUUID());
+                    entry.setCurrencyCode(currency.getCurrencyCode());
+                    codec.encode(model, entry);
+                    entryRows.add(new Object[]{7L, entry});
+                }
+                if (!row.isEmpty()) prices.put(itemId, row);
+            }
+            int version = 1 + rnd.nextInt(50);
+            boolean active = rnd.nextBoolean();
+            LifecycleState lifecycle = new LifecycleState(rnd.nextBoolean(), rnd.nextBoolean());
+            OffsetDateTime lastSyncedAt = rnd.nextInt(4) == 0 ? null
+                    : OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).plusSeconds(rnd.nextInt(1_000_000));
+            PriceListAggregate aggregate = new PriceListAggregate(PriceListId.of(7L), PriceListUuId.generate(),
+                    new PriceListBusinessUuId(UuId.generate()), PricingStrategyType.FIXED,
+                    new PriceListVersion(new Version(version)), active, prices, AuditMetadata.create(ADMIN),
+                    lifecycle, (long) version, 1, lastSyncedAt);
+
+            PriceListRow header = new PriceListRow(7L, aggregate.getUuId().value().asUUID(),
+                    aggregate.getBusinessUuId().value().asUUID(), PricingStrategyType.FIXED.name(), version, active,
+                    lifecycle.archived(), lifecycle.softDeleted(), lastSyncedAt);
+            PriceListJpaRepository jpaRepository = mock(PriceListJpaRepository.class);
+            when(jpaRepository.findRowByUuid(header.uuid())).thenReturn(Optional.of(header));
+            when(jpaRepository.findActiveRowPage(anyLong(), any())).thenReturn(List.of(header));
+            when(jpaRepository.findEntriesByIdIn(anyCollection())).thenReturn(entryRows);
+            PriceListQueryPostgresqlRepositoryImpl adapter = new PriceListQueryPostgresqlRepositoryImpl(jpaRepository, codec);
+
+            PriceListDTO expected = PriceListDTO.fromAggregate(aggregate);
+            assertEquals(expected, adapter.findByUuId(header.uuid()).orElseThrow());
+            KeysetPage<PriceListDTO> page = adapter.findAllActivePage(null, 10);
+            assertEquals(List.of(expected), page.items());
+            assertNull(page.nextCursor());
+        }
+    }
+}
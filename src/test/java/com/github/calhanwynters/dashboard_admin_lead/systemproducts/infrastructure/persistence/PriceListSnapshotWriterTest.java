@@ -0,0 +1,216 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.common.Actor;
+import com.github.calhanwynters.dashboard_admin_lead.common.UuId;
+import com.github.calhanwynters.dashboard_admin_lead.common.Version;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.AuditMetadata;
+import com.github.calhanwynters.dashboard_admin_lead.common.compositeclasses.LifecycleState;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceEntryChanges.EntryKey;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListAggregate;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PriceFixedPurchase;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PricingStrategyType;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.PurchasePricing;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.PurchasePricingCodec;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceListEntity;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.jpa.PriceListSnapshotJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.PriceListDomainWrapper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Property test: the interval rows the writer appends, interpreted the way PostgreSQL executes its statements,
+ * must reproduce every saved version exactly, and must hold one row per actual price change (none for
+ * re-saving an unchanged price).
+ */
+public class PriceListSnapshotWriterTest {
+
+    private static final Currency[] CURRENCIES = {
+            Currency.getInstance("EUR"), Currency.getInstance("USD"), Currency.getInstance("GBP")
+    };
+    private static final Actor ADMIN = Actor.of("admin", Set.of(Actor.ROLE_ADMIN, Actor.ROLE_MANAGER));
+    private static final PurchasePricingCodec CODEC =
+            new PurchasePricingCodec(new ObjectMapper().findAndRegisterModules(), PurchasePricingCodec.Format.JSON);
+
+    private static final class Row {
+        final UUID item;
+        final String currency;
+        final int from;
+        Integer to;
+        final String type;
+        final byte[] bytes;
+
+        Row(UUID item, String currency, int from, String type, byte[] bytes) {
+            this.item = item;
+            this.currency = currency;
+            this.from = from;
+            this.type = type;
+            this.bytes = bytes;
+        }
+
+        boolean open(UUID item, String currency) {
+            return to == null && this.item.equals(item) && this.currency.equals(currency);
+        }
+    }
+
+    /**
+     * In-memory price_list_snapshot_entries driven by the writer's own statements (single business UUID).
+     */
+    private static final class Store {
+        final List<Row> rows = new ArrayList<>();
+        boolean hasHeader;
+
+        int batch(String sql, List<Object[]> args) {
+            for (Object[] a : args) {
+                if (sql.equals(PriceListSnapshotWriter.CLOSE_SQL)) {
+                    for (Row row : rows) {
+                        if (row.open((UUID) a[2], (String) a[3])
+                                && (!row.type.equals(a[4]) || !Arrays.equals(row.bytes, (byte[]) a[5]))) {
+                            row.to = (Integer) a[0];
+                        }
+                    }
+                } else if (sql.equals(PriceListSnapshotWriter.REMOVE_SQL)) {
+                    for (Row row : rows) {
+                        if (row.open((UUID) a[2], (String) a[3])) row.to = (Integer) a[0];
+                    }
+                } else if (sql.equals(PriceListSnapshotWriter.OPEN_SQL)) {
+                    if (rows.stream().noneMatch(row -> row.open((UUID) a[1], (String) a[2]))) {
+                        rows.add(new Row((UUID) a[1], (String) a[2], (Integer) a[3], (String) a[4], (byte[]) a[5]));
+                    }
+                } else {
+                    throw new AssertionError("Unexpected statement " + sql);
+                }
+            }
+            return args.size();
+        }
+
+        Map<EntryKey, PurchasePricing> asOf(int version) {
+            Map<EntryKey, PurchasePricing> state = new HashMap<>();
+            for (Row row : rows) {
+                if (row.from <= version && (row.to == null || row.to > version)) {
+                    EntryKey key = new EntryKey(new UuId(row.item.toString()), Currency.getInstance(row.currency));
+                    PurchasePricing previous = state.put(key, CODEC.readBinary(PricingStrategyType.valueOf(row.type), row.bytes));
+                    assertEquals(null, previous, "Two rows valid for " + key + " at version " + version);
+                }
+            }
+            return state;
+        }
+    }
+
+    private static PurchasePricing price(Random rnd, Currency currency) {
+        return PriceFixedPurchase.of(BigDecimal.valueOf(1 + rnd.nextInt(20), 2), currency); // Few values: many no-op updates
+    }
+
+    private static Map<EntryKey, PurchasePricing> rows(Map<UuId, Map<Currency, PurchasePricing>> prices) {
+        Map<EntryKey, PurchasePricing> rows = new HashMap<>();
+        prices.forEach((item, row) -> row.forEach((currency, pricing) -> rows.put(new EntryKey(item, currency), pricing)));
+        return rows;
+    }
+
+    private static PriceListAggregate loaded(PriceListBusinessUuId businessUuId, int version,
+                                             Map<UuId, Map<Currency, PurchasePricing>> prices) {
+        return new PriceListAggregate(PriceListId.of(1L), PriceListUuId.generate(), businessUuId, PricingStrategyType.FIXED,
+                new PriceListVersion(new Version(version)), true, prices, AuditMetadata.create(ADMIN),
+                new LifecycleState(false, false), (long) version, 1, null);
+    }
+
+    private static PriceListEntity saved(PriceListBusinessUuId businessUuId, int version) {
+        PriceListEntity entity = new PriceListEntity();
+        entity.setUuid(UUID.randomUUID());
+        entity.setBusinessUuid(UUID.fromString(businessUuId.value().value()));
+        entity.setStrategySlug(PricingStrategyType.FIXED.name());
+        entity.setVersion(version);
+        entity.setActive(true);
+        entity.setLastModifiedAt(OffsetDateTime.now());
+        entity.setLastModifiedBy("admin");
+        return entity;
+    }
+
+    @Test
+    public void testIntervalsReproduceEverySavedVersion() {
+        Random rnd = new Random(14_001L);
+        for (int round = 0; round < 40; round++) {
+            Store store = new Store();
+            JdbcTemplate jdbc = mock(JdbcTemplate.class);
+            when(jdbc.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+                int count = store.batch(inv.getArgument(0), new ArrayList<>(inv.<List<Object[]>>getArgument(1)));
+                return new int[count];
+            });
+            when(jdbc.update(anyString(), any(Object[].class))).thenAnswer(inv -> {
+                store.hasHeader = true;
+                return 1;
+            });
+            PriceListSnapshotJpaRepository headers = mock(PriceListSnapshotJpaRepository.class);
+            when(headers.existsByBusinessUuid(any())).thenAnswer(inv -> store.hasHeader);
+            PriceListSnapshotWriter writer = new PriceListSnapshotWriter(jdbc, headers, CODEC, 1 + rnd.nextInt(8));
+
+            List<UuId> ids = new ArrayList<>();
+            for (int i = 0; i < 15; i++) ids.add(UuId.generate());
+            PriceListBusinessUuId businessUuId = new PriceListBusinessUuId(UuId.generate());
+
+            // Loaded with prices already present, as for a list saved before snapshots existed
+            Map<UuId, Map<Currency, PurchasePricing>> current = new HashMap<>();
+            for (UuId id : ids) {
+                if (rnd.nextBoolean()) current.computeIfAbsent(id, k -> new HashMap<>()).put(CURRENCIES[0], price(rnd, CURRENCIES[0]));
+            }
+
+            List<Map<EntryKey, PurchasePricing>> expected = new ArrayList<>();
+            int changes = 0;
+            Map<EntryKey, PurchasePricing> previous = Map.of();
+            for (int version = 1; version <= 25; version++) {
+                PriceListAggregate aggregate = loaded(businessUuId, version, current);
+                for (int step = rnd.nextInt(6); step > 0; step--) {
+                    UuId item = ids.get(rnd.nextInt(ids.size()));
+                    Currency currency = CURRENCIES[rnd.nextInt(CURRENCIES.length)];
+                    switch (rnd.nextInt(8)) {
+                        case 0, 1, 2, 3 -> aggregate.addOrUpdatePrice(item, currency, price(rnd, currency), ADMIN);
+                        case 4, 5 -> aggregate.removePrice(item, currency, ADMIN);
+                        case 6 -> {
+                            if (rnd.nextInt(3) == 0) aggregate.applyBulkAdjustment("inflation", 5.0, ADMIN);
+                        }
+                        default -> { } // Root-only save
+                    }
+                }
+                writer.write(saved(businessUuId, version), aggregate);
+                aggregate.markPricesPersisted();
+
+                Map<EntryKey, PurchasePricing> state = rows(aggregate.getMultiCurrencyPrices());
+                expected.add(state);
+                for (Map.Entry<EntryKey, PurchasePricing> entry : state.entrySet()) {
+                    if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) changes++;
+                }
+                previous = state;
+                current = new HashMap<>();
+                for (Map.Entry<EntryKey, PurchasePricing> entry : state.entrySet()) {
+                    current.computeIfAbsent(entry.getKey().targetId(), k -> new HashMap<>())
+                            .put(entry.getKey().currency(), entry.getValue());
+                }
+            }
+
+            for (int version = 1; version <= expected.size(); version++) {
+                assertEquals(expected.get(version - 1), store.asOf(version), "State as of version " + version);
+            }
+            assertEquals(changes, store.rows.size(), "One row per actual price change");
+        }
+    }
+}
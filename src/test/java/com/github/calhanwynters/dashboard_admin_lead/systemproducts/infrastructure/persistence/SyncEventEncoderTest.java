@@ -0,0 +1,200 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.variantlist.events.VariantListDataSyncedEvent;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.SyncEventEncoder.Baseline;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.SyncEventEncoder.Encoded;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec.JsonDeltaCodec;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests: a consumer that applies every encoded sync in order holds the producer's state and can
+ * verify it by checksum; versions run consecutively with each delta naming its predecessor; snapshots go
+ * out first, on request and every snapshot-every-th version; a delta is never larger than the snapshot; and
+ * ordered arrays such as tier lists arrive in their declared order while set fields may be reordered.
+ */
+public class SyncEventEncoderTest {
+
+    private static final int RUNS = 200;
+    private static final int SYNCS = 60;
+    private static final String TYPE = "PriceListDataSyncedEvent";
+
+    // Consumers read decimals exactly, as the encoder does
+    private final ObjectReader payloadReader = new ObjectMapper().reader()
+            .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private static JsonNode state(Random rnd, ObjectNode prices) {
+        // Mostly one price changes between syncs, sometimes many, sometimes none
+        int changes = rnd.nextInt(10) == 0 ? rnd.nextInt(prices.size() + 1) : rnd.nextInt(2);
+        for (int i = 0; i < changes; i++) {
+            prices.putObject("item-" + rnd.nextInt(prices.size() + 2))
+                    .put("EUR", BigDecimal.valueOf(rnd.nextInt(100_000), 2));
+        }
+        ObjectNode state = JsonNodeFactory.instance.objectNode().put("isActive", rnd.nextInt(5) != 0);
+        state.set("multiCurrencyPrices", prices.deepCopy());
+        return JsonDeltaCodec.canonical(state);
+    }
+
+    @Test
+    public void testConsumerReplayMatchesProducerState() throws Exception {
+        Random rnd = new Random(25_101L);
+        for (int run = 0; run < RUNS; run++) {
+            int snapshotEvery = 2 + rnd.nextInt(20);
+            ObjectNode prices = JsonNodeFactory.instance.objectNode();
+            for (int i = 0; i < 1 + rnd.nextInt(200); i++) prices.putObject("item-" + i).put("EUR", i);
+
+            Baseline baseline = null;
+            JsonNode consumer = null;
+            long consumerVersion = 0;
+            for (int sync = 0; sync < SYNCS; sync++) {
+                JsonNode state = state(rnd, prices);
+                boolean requested = baseline != null && rnd.nextInt(15) == 0;
+                if (requested) baseline = new Baseline(baseline.version(), baseline.checksum(), baseline.state(), true);
+
+                Encoded encoded = SyncEventEncoder.encode(TYPE, state, baseline, Set.of(), snapshotEvery);
+                JsonNode payload = payloadReader.readTree(encoded.payload());
+                long version = payload.get("syncVersion").asLong();
+                assertEquals(consumerVersion + 1, version);
+
+                boolean mustSnapshot = baseline == null || requested || version % snapshotEvery == 0;
+                if (encoded.eventType().equals(TYPE)) {
+                    consumer = JsonDeltaCodec.canonical(payload.get("state"));
+                } else {
+                    assertFalse(mustSnapshot, "Delta where a snapshot was due at version " + version);
+                    assertEquals("PriceListDataSyncedDelta", encoded.eventType());
+                    assertEquals(consumerVersion, payload.get("baseVersion").asLong());
+                    assertTrue(encoded.payload().length() < state.toString().length(), "Delta larger than state");
+                    consumer = JsonDeltaCodec.apply(consumer, payload.get("changes"));
+                }
+                consumerVersion = version;
+
+                assertEquals(state, consumer);
+                assertEquals(payload.get("checksum").asText(), JsonDeltaCodec.checksum(consumer));
+                baseline = encoded.next();
+                assertEquals(version, baseline.version());
+            }
+        }
+    }
+
+    @Test
+    public void testMissedDeltaIsDetectedByBaseVersionAndHealedBySnapshot() throws Exception {
+        Random rnd = new Random(25_103L);
+        for (int run = 0; run < RUNS; run++) {
+            ObjectNode prices = JsonNodeFactory.instance.objectNode();
+            for (int i = 0; i < 50; i++) prices.putObject("item-" + i).put("EUR", i);
+
+            Baseline baseline = null;
+            JsonNode consumer = null;
+            long consumerVersion = 0;
+            boolean requested = false;
+            for (int sync = 0; sync < SYNCS; sync++) {
+                JsonNode state = state(rnd, prices);
+                if (requested) {
+                    // What requestSnapshot leaves in sync_baseline
+                    baseline = new Baseline(baseline.version(), baseline.checksum(), baseline.state(), true);
+                    requested = false;
+                }
+                Encoded encoded = SyncEventEncoder.encode(TYPE, state, baseline, Set.of(), 1_000);
+                baseline = encoded.next();
+                // The producer moved on whether or not the event got through
+                if (sync > 0 && rnd.nextInt(8) == 0) continue;
+
+                JsonNode payload = payloadReader.readTree(encoded.payload());
+                if (encoded.eventType().equals(TYPE)) {
+                    consumer = JsonDeltaCodec.canonical(payload.get("state"));
+                } else if (payload.get("baseVersion").asLong() != consumerVersion) {
+                    requested = true; // Gap: drop the delta and ask for a snapshot
+                    continue;
+                } else {
+                    consumer = JsonDeltaCodec.apply(consumer, payload.get("changes"));
+                }
+                consumerVersion = payload.get("syncVersion").asLong();
+                assertEquals(state, consumer);
+            }
+        }
+    }
+
+    /**
+     * A volume tier list in declaration order: overlapping tiers, first match wins, so order is meaningful.
+     */
+    private static ObjectNode tiers(Random rnd) {
+        ObjectNode pricing = JsonNodeFactory.instance.objectNode();
+        ArrayNode buckets = pricing.putArray("buckets");
+        for (int i = 0; i < 2 + rnd.nextInt(4); i++) {
+            int min = rnd.nextInt(50);
+            buckets.addObject().put("minQty", min).put("maxQty", min + 1 + rnd.nextInt(100))
+                    .putObject("pricePerUnit").put("amount", BigDecimal.valueOf(rnd.nextInt(10_000), 2)).put("currency", "EUR");
+        }
+        return pricing;
+    }
+
+    @Test
+    public void testTieredPricingRoundTripKeepsTierOrder() throws Exception {
+        Random rnd = new Random(25_102L);
+        Set<String> setFields = SyncEventEncoder.setFields(VariantListDataSyncedEvent.class);
+        assertTrue(setFields.containsAll(Set.of("variantUuIds", "roles")), "Set fields: " + setFields);
+        assertFalse(setFields.contains("buckets"));
+
+        ObjectNode prices = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < 30; i++) prices.putObject("item-" + i).set("EUR", tiers(rnd));
+        List<String> variants = new ArrayList<>();
+        for (int i = 0; i < 20; i++) variants.add("variant-" + i);
+
+        Baseline baseline = null;
+        JsonNode consumer = null;
+        for (int sync = 0; sync < SYNCS * 5; sync++) {
+            ObjectNode item = (ObjectNode) prices.get("item-" + rnd.nextInt(prices.size()));
+            switch (rnd.nextInt(4)) {
+                case 0 -> item.set("EUR", tiers(rnd));
+                case 1 -> {
+                    // Same tiers, different order: a different price for overlapping quantities
+                    List<JsonNode> buckets = new ArrayList<>();
+                    item.get("EUR").get("buckets").forEach(buckets::add);
+                    Collections.swap(buckets, 0, buckets.size() - 1);
+                    ((ObjectNode) item.get("EUR")).putArray("buckets").addAll(buckets);
+                }
+                case 2 -> variants.add("variant-" + (20 + sync));
+                default -> { if (variants.size() > 1) variants.remove(rnd.nextInt(variants.size())); }
+            }
+            // Set elements come in any order, as a HashSet would hand them out
+            List<String> shuffled = new ArrayList<>(variants);
+            Collections.shuffle(shuffled, rnd);
+            ObjectNode event = JsonNodeFactory.instance.objectNode();
+            shuffled.forEach(event.putArray("variantUuIds")::add);
+            event.putObject("actor").put("identity", "admin").putArray("roles").add("ROLE_MANAGER").add("ROLE_ADMIN");
+            event.set("multiCurrencyPrices", prices.deepCopy());
+            JsonNode state = JsonDeltaCodec.canonical(event, setFields);
+
+            Encoded encoded = SyncEventEncoder.encode(TYPE, state, baseline, setFields, 1_000);
+            JsonNode payload = payloadReader.readTree(encoded.payload());
+            consumer = encoded.eventType().equals(TYPE)
+                    ? JsonDeltaCodec.canonical(payload.get("state"))
+                    : JsonDeltaCodec.apply(consumer, payload.get("changes"));
+
+            assertEquals(state, consumer);
+            assertEquals(payload.get("checksum").asText(), JsonDeltaCodec.checksum(consumer));
+            for (int i = 0; i < prices.size(); i++) {
+                assertEquals(JsonDeltaCodec.canonical(prices.get("item-" + i).get("EUR").get("buckets")),
+                        consumer.at("/multiCurrencyPrices/item-" + i + "/EUR/buckets"), "Tier order changed");
+            }
+            baseline = encoded.next();
+        }
+    }
+}
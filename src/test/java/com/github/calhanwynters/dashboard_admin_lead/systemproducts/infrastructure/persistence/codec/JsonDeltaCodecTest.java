@@ -0,0 +1,179 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests: applying diff(base, next) to base yields next, checksums agree exactly when the canonical
+ * states do, field order and set order do not matter while list order does, and a small change to a large
+ * state yields a small delta.
+ */
+public class JsonDeltaCodecTest {
+
+    private static final int RUNS = 1_000;
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    // Arrays under these names are sets; under the other names (f4..f7, n2, n3) they are lists
+    private static final Set<String> SETS = Set.of("f0", "f1", "f2", "f3", "f0/~", "n0", "n1");
+
+    private static JsonNode scalar(Random rnd) {
+        return switch (rnd.nextInt(4)) {
+            case 0 -> NODES.numberNode(rnd.nextInt(100));
+            case 1 -> NODES.numberNode(BigDecimal.valueOf(rnd.nextInt(10_000), 2));
+            case 2 -> NODES.booleanNode(rnd.nextBoolean());
+            default -> NODES.textNode("s/" + rnd.nextInt(20) + (rnd.nextBoolean() ? "~" : ""));
+        };
+    }
+
+    private static ArrayNode set(Random rnd) {
+        ArrayNode array = NODES.arrayNode();
+        List<String> seen = new ArrayList<>();
+        for (int i = 0; i < rnd.nextInt(6); i++) {
+            String element = "u" + rnd.nextInt(15);
+            if (seen.contains(element)) continue;
+            seen.add(element);
+            array.add(rnd.nextBoolean() ? NODES.textNode(element) : NODES.objectNode().put("value", element));
+        }
+        return array;
+    }
+
+    private static JsonNode value(Random rnd, int depth) {
+        int kind = rnd.nextInt(depth > 2 ? 2 : 3);
+        return switch (kind) {
+            case 0 -> scalar(rnd);
+            case 1 -> set(rnd);
+            default -> object(rnd, depth + 1);
+        };
+    }
+
+    private static ObjectNode object(Random rnd, int depth) {
+        ObjectNode object = NODES.objectNode();
+        for (int i = 0; i < rnd.nextInt(6); i++) {
+            // Some names need escaping in a JSON pointer
+            object.set("f" + rnd.nextInt(8) + (rnd.nextInt(6) == 0 ? "/~" : ""), value(rnd, depth));
+        }
+        return object;
+    }
+
+    /**
+     * A copy of the tree with a few random edits at random depths.
+     */
+    private static JsonNode mutate(Random rnd, JsonNode node, int depth) {
+        if (!node.isObject()) return rnd.nextInt(3) == 0 ? value(rnd, depth) : node;
+        ObjectNode copy = (ObjectNode) node.deepCopy();
+        List<String> names = new ArrayList<>();
+        copy.fieldNames().forEachRemaining(names::add);
+        for (String name : names) {
+            int action = rnd.nextInt(10);
+            if (action == 0) copy.remove(name);
+            else if (action < 4) copy.set(name, mutate(rnd, copy.get(name), depth + 1));
+        }
+        if (rnd.nextInt(3) == 0) copy.set("n" + rnd.nextInt(4), value(rnd, depth));
+        return copy;
+    }
+
+    @Test
+    public void testApplyingTheDiffRebuildsTheNextState() {
+        Random rnd = new Random(25_001L);
+        for (int run = 0; run < RUNS; run++) {
+            JsonNode base = JsonDeltaCodec.canonical(rnd.nextInt(20) == 0 ? value(rnd, 0) : object(rnd, 0), SETS);
+            JsonNode next = JsonDeltaCodec.canonical(mutate(rnd, base, 0), SETS);
+
+            ArrayNode changes = JsonDeltaCodec.diff(base, next, SETS);
+            assertEquals(next, JsonDeltaCodec.apply(base, changes));
+            assertEquals(0, JsonDeltaCodec.diff(next, next, SETS).size());
+            assertEquals(base.equals(next), changes.isEmpty());
+            assertEquals(base.equals(next), JsonDeltaCodec.checksum(base).equals(JsonDeltaCodec.checksum(next)));
+        }
+    }
+
+    @Test
+    public void testCanonicalFormIgnoresFieldAndSetOrder() {
+        Random rnd = new Random(25_002L);
+        for (int run = 0; run < RUNS; run++) {
+            ObjectNode state = object(rnd, 0);
+            List<String> names = new ArrayList<>();
+            state.fieldNames().forEachRemaining(names::add);
+            Collections.shuffle(names, rnd);
+            ObjectNode reordered = NODES.objectNode();
+            for (String name : names) {
+                JsonNode field = state.get(name);
+                if (field.isArray() && SETS.contains(name)) {
+                    List<JsonNode> elements = new ArrayList<>();
+                    field.forEach(elements::add);
+                    Collections.shuffle(elements, rnd);
+                    reordered.set(name, NODES.arrayNode().addAll(elements));
+                } else {
+                    reordered.set(name, field);
+                }
+            }
+            assertEquals(JsonDeltaCodec.checksum(JsonDeltaCodec.canonical(state, SETS)),
+                    JsonDeltaCodec.checksum(JsonDeltaCodec.canonical(reordered, SETS)));
+        }
+    }
+
+    @Test
+    public void testListOrderIsKeptAndDiffedAsAWhole() {
+        Random rnd = new Random(25_004L);
+        for (int run = 0; run < RUNS; run++) {
+            ArrayNode tiers = NODES.arrayNode();
+            for (int i = 0; i < 2 + rnd.nextInt(5); i++) {
+                tiers.addObject().put("minQty", i * 10).put("price", BigDecimal.valueOf(rnd.nextInt(10_000), 2));
+            }
+            ArrayNode reversed = NODES.arrayNode();
+            for (int i = tiers.size() - 1; i >= 0; i--) reversed.add(tiers.get(i));
+
+            ObjectNode base = NODES.objectNode();
+            base.putObject("pricing").set("buckets", tiers);
+            ObjectNode next = NODES.objectNode();
+            next.putObject("pricing").set("buckets", reversed);
+
+            JsonNode before = JsonDeltaCodec.canonical(base, SETS);
+            JsonNode after = JsonDeltaCodec.canonical(next, SETS);
+            assertEquals(tiers.get(0).get("minQty").asInt(), before.at("/pricing/buckets/0/minQty").asInt());
+            assertNotEquals(JsonDeltaCodec.checksum(before), JsonDeltaCodec.checksum(after));
+
+            ArrayNode changes = JsonDeltaCodec.diff(before, after, SETS);
+            assertEquals(1, changes.size());
+            assertEquals("replace", changes.get(0).get("op").asText());
+            assertEquals("/pricing/buckets", changes.get(0).get("path").asText());
+            assertEquals(after, JsonDeltaCodec.apply(before, changes));
+        }
+    }
+
+    @Test
+    public void testOneChangedEntryOfALargeMapGivesASmallDelta() {
+        Random rnd = new Random(25_003L);
+        ObjectNode prices = NODES.objectNode();
+        for (int i = 0; i < 5_000; i++) {
+            prices.putObject("item-" + i).putObject("EUR").put("amount", BigDecimal.valueOf(rnd.nextInt(100_000), 2));
+        }
+        ObjectNode base = NODES.objectNode();
+        base.set("multiCurrencyPrices", prices);
+        JsonNode before = JsonDeltaCodec.canonical(base);
+
+        ObjectNode changed = (ObjectNode) before.deepCopy();
+        ((ObjectNode) changed.at("/multiCurrencyPrices/item-42/EUR")).put("amount", new BigDecimal("1.23"));
+        JsonNode after = JsonDeltaCodec.canonical(changed);
+
+        ArrayNode changes = JsonDeltaCodec.diff(before, after);
+        assertEquals(1, changes.size());
+        assertEquals("/multiCurrencyPrices/item-42/EUR/amount", changes.get(0).get("path").asText());
+        assertTrue(changes.toString().length() * 1_000 < after.toString().length(), "Delta not small: " + changes);
+        assertNotEquals(JsonDeltaCodec.checksum(before), JsonDeltaCodec.checksum(after));
+        assertEquals(after, JsonDeltaCodec.apply(before, changes));
+    }
+}
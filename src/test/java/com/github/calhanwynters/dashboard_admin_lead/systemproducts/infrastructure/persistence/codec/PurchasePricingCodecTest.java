@@ -0,0 +1,167 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.core.domain.aggregates.pricelist.purchasepricingmodel.*;
+import com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.persistence.entities.PriceEntryEmbeddable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests: every PurchasePricing subtype survives both codec formats unchanged,
+ * and rows written by the previous generic-Map mapping still decode.
+ */
+public class PurchasePricingCodecTest {
+
+    private static final Currency[] CURRENCIES = {
+            Currency.getInstance("EUR"), Currency.getInstance("JPY"), Currency.getInstance("BHD")
+    };
+
+    private final ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+    private final PurchasePricingCodec jsonCodec = new PurchasePricingCodec(jsonMapper, PurchasePricingCodec.Format.JSON);
+    private final PurchasePricingCodec binaryCodec = new PurchasePricingCodec(jsonMapper, PurchasePricingCodec.Format.BINARY);
+
+    private static Money money(Random rnd, Currency currency, int precision, RoundingMode roundingMode) {
+        // Mostly ordinary amounts, sometimes one too large for a long once unscaled
+        BigInteger unscaled = rnd.nextInt(10) == 0
+                ? new BigInteger(90, rnd)
+                : BigInteger.valueOf(rnd.nextInt(10_000_000));
+        return new Money(new BigDecimal(unscaled, precision), currency, precision, roundingMode);
+    }
+
+    @FunctionalInterface
+    private interface BucketFactory<B> {
+        B create(BigDecimal minQty, BigDecimal maxQty, Money pricePerUnit);
+    }
+
+    private static <B> List<B> tiers(Random rnd, Currency currency, int precision, RoundingMode roundingMode,
+                                     boolean fractional, BucketFactory<B> factory) {
+        int count = 1 + rnd.nextInt(6);
+        List<B> buckets = new ArrayList<>(count);
+        BigDecimal min = BigDecimal.ZERO;
+        for (int i = 0; i < count; i++) {
+            BigDecimal width = fractional
+                    ? BigDecimal.valueOf(1 + rnd.nextInt(100_000), 3)
+                    : BigDecimal.valueOf(1 + rnd.nextInt(100));
+            BigDecimal max = (i == count - 1) ? null : min.add(width);
+            buckets.add(factory.create(min, max, money(rnd, currency, precision, roundingMode)));
+            min = max;
+        }
+        return buckets;
+    }
+
+    private static PurchasePricing randomModel(Random rnd, PricingStrategyType type) {
+        Currency currency = CURRENCIES[rnd.nextInt(CURRENCIES.length)];
+        // Graduated models only accumulate at the default precision (see GraduatedTierTable)
+        boolean graduated = type == PricingStrategyType.INT_TIERED_GRAD || type == PricingStrategyType.FRACT_TIERED_GRAD;
+        int precision = graduated ? 2 : rnd.nextInt(5);
+        RoundingMode roundingMode = graduated ? RoundingMode.HALF_UP : RoundingMode.values()[rnd.nextInt(3)];
+
+        return switch (type) {
+            case FIXED -> new PriceFixedPurchase(new Money(BigDecimal.valueOf(1 + rnd.nextInt(1_000_000), 2), currency,
+                    precision, roundingMode));
+            case NONE -> new PriceNonePurchase(currency);
+            case INT_SCALED -> new PriceIntScaledPurchase(money(rnd, currency, precision, roundingMode),
+                    money(rnd, currency, precision, roundingMode));
+            case FRACT_SCALED -> new PriceFractScaledPurchase(money(rnd, currency, precision, roundingMode),
+                    money(rnd, currency, precision, roundingMode));
+            case INT_TIERED_VOL -> new PriceIntTieredVolPurchase(tiers(rnd, currency, precision, roundingMode, false,
+                    PriceIntTieredVolPurchase.TierBucket::new));
+            case FRACT_TIERED_VOL -> new PriceFractTieredVolPurchase(tiers(rnd, currency, precision, roundingMode, true,
+                    PriceFractTieredVolPurchase.TierBucket::new));
+            case INT_TIERED_GRAD -> new PriceIntTieredGradPurchase(tiers(rnd, currency, precision, roundingMode, false,
+                    PriceIntTieredGradPurchase.TierBucket::new));
+            case FRACT_TIERED_GRAD -> new PriceFractTieredGradPurchase(tiers(rnd, currency, precision, roundingMode, true,
+                    PriceFractTieredGradPurchase.TierBucket::new));
+        };
+    }
+
+    private static PurchasePricing roundTrip(PurchasePricingCodec codec, PurchasePricing pricing) {
+        PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+        codec.encode(pricing, entry);
+        return codec.decode(entry);
+    }
+
+    @Nested
+    class RoundTrip {
+
+        @Test
+        public void testJsonRoundTripEverySubtype() {
+            Random rnd = new Random(31L);
+            for (PricingStrategyType type : PricingStrategyType.values()) {
+                for (int i = 0; i < 500; i++) {
+                    PurchasePricing pricing = randomModel(rnd, type);
+                    assertEquals(pricing, roundTrip(jsonCodec, pricing));
+                }
+            }
+        }
+
+        @Test
+        public void testBinaryRoundTripEverySubtype() {
+            Random rnd = new Random(32L);
+            for (PricingStrategyType type : PricingStrategyType.values()) {
+                for (int i = 0; i < 500; i++) {
+                    PurchasePricing pricing = randomModel(rnd, type);
+                    PurchasePricing decoded = roundTrip(binaryCodec, pricing);
+                    assertEquals(pricing, decoded);
+                    assertEquals(pricing.calculate(BigDecimal.ONE), decoded.calculate(BigDecimal.ONE));
+                }
+            }
+        }
+
+        @Test
+        public void testEncodeFillsExactlyOneDetailsColumn() {
+            PurchasePricing pricing = randomModel(new Random(33L), PricingStrategyType.INT_TIERED_VOL);
+            PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+
+            binaryCodec.encode(pricing, entry);
+            assertEquals("INT_TIERED_VOL", entry.getPricingType());
+            assertNull(entry.getStrategyDetails());
+
+            jsonCodec.encode(pricing, entry);
+            assertNull(entry.getStrategyBinary());
+            assertTrue(entry.getStrategyDetails().startsWith("{"));
+        }
+    }
+
+    @Nested
+    class Compatibility {
+
+        @Test
+        public void testDecodesRowsWrittenAsGenericMap() throws Exception {
+            // What the previous mapper stored: convertValue(pricing, Map) serialised into jsonb
+            Random rnd = new Random(34L);
+            for (PricingStrategyType type : PricingStrategyType.values()) {
+                PurchasePricing pricing = randomModel(rnd, type);
+                Map<String, Object> legacy = jsonMapper.convertValue(pricing, new TypeReference<>() {});
+
+                PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+                entry.setPricingType(type.name());
+                entry.setStrategyDetails(jsonMapper.writeValueAsString(legacy));
+                assertEquals(pricing, jsonCodec.decode(entry));
+            }
+        }
+
+        @Test
+        public void testBinaryTypeMismatchIsRejected() {
+            PriceEntryEmbeddable entry = new PriceEntryEmbeddable();
+            binaryCodec.encode(randomModel(new Random(35L), PricingStrategyType.FIXED), entry);
+            entry.setPricingType(PricingStrategyType.NONE.name());
+            assertThrows(IllegalStateException.class, () -> binaryCodec.decode(entry));
+        }
+    }
+}
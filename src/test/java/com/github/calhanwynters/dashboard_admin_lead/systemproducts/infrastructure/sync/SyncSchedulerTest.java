@@ -0,0 +1,179 @@
+package com.github.calhanwynters.dashboard_admin_lead.systemproducts.infrastructure.sync;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncSchedulerTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final Duration FAST = Duration.ofMinutes(1);
+
+    /**
+     * Table stand-in: id to last modification time; a row is pending until sync marks it.
+     */
+    private static final class InMemoryTarget implements SyncTarget {
+        final String type;
+        final TreeMap<Long, OffsetDateTime> pending = new TreeMap<>();
+        final Map<Long, Integer> syncCount = new HashMap<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+        long lastSynced = 0;
+
+        InMemoryTarget(String type, int rows) {
+            this.type = type;
+            // Ids with gaps, each row changed a minute before the next
+            for (int i = 0; i < rows; i++) {
+                pending.put(3L * i + 1, NOW.minusMinutes(rows - i));
+            }
+        }
+
+        @Override
+        public String aggregateType() {
+            return type;
+        }
+
+        @Override
+        public synchronized List<Pending> findPending(long afterId, int limit) {
+            return pending.tailMap(afterId, false).entrySet().stream().limit(limit)
+                    .map(e -> new Pending(e.getKey(), e.getValue())).toList();
+        }
+
+        @Override
+        public synchronized int sync(List<Pending> batch) {
+            if (!batch.isEmpty()) batchSizes.add(batch.size());
+            for (Pending p : batch) {
+                assertTrue(p.id() > lastSynced, "Out of id order");
+                lastSynced = p.id();
+                syncCount.merge(p.id(), 1, Integer::sum);
+                pending.remove(p.id());
+            }
+            return batch.size();
+        }
+    }
+
+    private static SyncScheduler scheduler(List<SyncTarget> targets, SyncMetrics metrics, int min, int max,
+                                           Duration targetLatency) {
+        return new SyncScheduler(targets, TransactionOperations.withoutTransaction(), metrics,
+                Duration.ofSeconds(1), min, max, targetLatency, Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+    }
+
+    @Nested
+    class Rounds {
+
+        @Test
+        public void testRoundSyncsEveryPendingRowOnceInIdOrder() {
+            InMemoryTarget prices = new InMemoryTarget("prices", 12);
+            InMemoryTarget galleries = new InMemoryTarget("galleries", 0);
+
+            Map<String, Integer> synced = scheduler(List.of(prices, galleries), new SyncMetrics(), 5, 20, FAST).syncOnce();
+
+            assertEquals(Map.of("prices", 12, "galleries", 0), synced);
+            assertTrue(prices.pending.isEmpty());
+            prices.syncCount.values().forEach(count -> assertEquals(1, count));
+        }
+
+        @Test
+        public void testFullFastBatchesGrowTheNextBatch() {
+            InMemoryTarget prices = new InMemoryTarget("prices", 12);
+
+            scheduler(List.of(prices), new SyncMetrics(), 5, 20, FAST).syncOnce();
+
+            assertEquals(List.of(5, 7), prices.batchSizes);
+        }
+
+        @Test
+        public void testSlowBatchesStayAtTheMinimum() {
+            InMemoryTarget prices = new InMemoryTarget("prices", 12);
+
+            scheduler(List.of(prices), new SyncMetrics(), 5, 20, Duration.ZERO).syncOnce();
+
+            assertEquals(12, prices.batchSizes.stream().mapToInt(Integer::intValue).sum());
+            prices.batchSizes.forEach(size -> assertTrue(size <= 5, "Batch of " + size));
+        }
+
+        @Test
+        public void testMetricsCountSyncedRowsAndReportTheOldestChange() {
+            InMemoryTarget prices = new InMemoryTarget("prices", 12);
+            SyncMetrics metrics = new SyncMetrics();
+
+            scheduler(List.of(prices), metrics, 5, 20, FAST).syncOnce();
+
+            SyncMetrics.Snapshot snapshot = metrics.snapshot().get("prices");
+            assertEquals(12L, snapshot.synced());
+            assertEquals(2, snapshot.batches());
+            assertEquals(Duration.ofMinutes(12), snapshot.lag());
+        }
+
+        @Test
+        public void testRoundWithNothingPendingReportsNoLag() {
+            InMemoryTarget prices = new InMemoryTarget("prices", 3);
+            SyncMetrics metrics = new SyncMetrics();
+            SyncScheduler scheduler = scheduler(List.of(prices), metrics, 5, 20, FAST);
+            scheduler.syncOnce();
+
+            assertEquals(Map.of("prices", 0), scheduler.syncOnce());
+            assertEquals(Duration.ZERO, metrics.snapshot().get("prices").lag());
+        }
+    }
+
+    @Nested
+    class AdaptiveBatchSizes {
+
+        private static final long TARGET = Duration.ofMillis(100).toNanos();
+        private static final long UNDER = TARGET / 2;
+        private static final long OVER = TARGET * 2;
+
+        private final AdaptiveBatchSize size = new AdaptiveBatchSize(10, 35, Duration.ofNanos(TARGET));
+
+        @Test
+        public void testStartsAtTheMinimum() {
+            assertEquals(10, size.current());
+        }
+
+        @Test
+        public void testFullFastBatchGrowsByTheMinimumUpToTheMaximum() {
+            size.record(10, UNDER);
+            assertEquals(20, size.current());
+            size.record(20, UNDER);
+            size.record(30, UNDER);
+            assertEquals(35, size.current());
+        }
+
+        @Test
+        public void testSlowBatchHalvesDownToTheMinimum() {
+            size.record(10, UNDER);
+            size.record(20, UNDER);
+            size.record(30, OVER);
+            assertEquals(15, size.current());
+            size.record(15, OVER);
+            assertEquals(10, size.current());
+        }
+
+        @Test
+        public void testPartialFastBatchLeavesTheSizeAlone() {
+            size.record(10, UNDER);
+            size.record(7, UNDER);
+            assertEquals(20, size.current());
+        }
+
+        @Test
+        public void testInvalidBoundsAreRejected() {
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSize(0, 10, Duration.ofNanos(TARGET)));
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSize(10, 5, Duration.ofNanos(TARGET)));
+        }
+    }
+}